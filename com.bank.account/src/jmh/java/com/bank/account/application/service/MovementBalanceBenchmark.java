@@ -0,0 +1,53 @@
+package com.bank.account.application.service;
+
+import com.bank.account.domain.model.Account;
+import com.bank.account.domain.model.Money;
+import com.bank.account.domain.model.Movement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the balance calculation executed inside every movement transaction.
+ * The ports are not touched by {@code calculateNewBalance}, so they are left null.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MovementBalanceBenchmark {
+
+    private MovementUseCaseImpl movementUseCase;
+    private Account account;
+    private Movement credit;
+    private Movement debit;
+
+    @Setup
+    public void setUp() {
+        movementUseCase = new MovementUseCaseImpl(null, null, null, null, null, null);
+        account = Account.builder()
+                .id(1L)
+                .accountNumber("4787581234")
+                .initialBalance(Money.parse("1000.00"))
+                .status(true)
+                .customerId(1L)
+                .build();
+        credit = Movement.builder().accountId(1L).amount(Money.parse("575.00")).build();
+        debit = Movement.builder().accountId(1L).amount(Money.parse("-575.00")).build();
+    }
+
+    @Benchmark
+    public Money credit() {
+        return movementUseCase.calculateNewBalance(account, credit);
+    }
+
+    @Benchmark
+    public Money debit() {
+        return movementUseCase.calculateNewBalance(account, debit);
+    }
+}
@@ -0,0 +1,55 @@
+package com.bank.account.application.service;
+
+import com.bank.account.benchmark.BenchmarkData;
+import com.bank.account.domain.model.Account;
+import com.bank.account.domain.model.AccountStatement;
+import com.bank.account.domain.model.Customer;
+import com.bank.account.domain.model.LedgerEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the in-memory statement assembly that runs after the ledger query:
+ * grouping by account, sorting and conversion into report rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReportStatementBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int entries;
+
+    @Param({"3"})
+    public int accounts;
+
+    private ReportUseCaseImpl reportUseCase;
+    private ReportUseCaseImpl.ReportData reportData;
+    // Shared across invocations: grouping by account builds new lists and only those are sorted
+    private List<LedgerEntry> ledger;
+
+    @Setup
+    public void setUp() {
+        reportUseCase = new ReportUseCaseImpl(null, null, null);
+        List<Account> accountList = BenchmarkData.accounts(accounts);
+        reportData = new ReportUseCaseImpl.ReportData(
+                Customer.builder().customerId(1L).name("Jose Lema").build(), accountList);
+        ledger = BenchmarkData.ledger(accountList, entries);
+    }
+
+    @Benchmark
+    public AccountStatement buildFullStatementFromLedger() {
+        return reportUseCase.buildFullStatementFromLedger(
+                reportData, ledger, Map.of(), BenchmarkData.START_DATE, BenchmarkData.END_DATE);
+    }
+}
@@ -0,0 +1,55 @@
+package com.bank.account.benchmark;
+
+import com.bank.account.infrastructure.output.adapter.cache.support.BalanceIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Balance lookup by account id: a {@code ConcurrentHashMap<Long, BigDecimal>} (boxed key, one
+ * object per balance) against {@link BalanceIndex} (primitive arrays). Run with {@code -prof gc}
+ * to compare allocation as well as latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BalanceIndexBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int accounts;
+
+    private BalanceIndex index;
+    private Map<Long, BigDecimal> map;
+
+    @Setup
+    public void setUp() {
+        index = new BalanceIndex(accounts, accounts);
+        map = new ConcurrentHashMap<>(accounts * 2);
+        for (long id = 1; id <= accounts; id++) {
+            long cents = id * 137 % 10_000_000;
+            index.put(id, cents, 0);
+            map.put(id, BigDecimal.valueOf(cents, 2));
+        }
+    }
+
+    @Benchmark
+    public BigDecimal concurrentHashMap() {
+        return map.get(ThreadLocalRandom.current().nextLong(1, accounts + 1L));
+    }
+
+    @Benchmark
+    public long balanceIndex() {
+        return index.get(ThreadLocalRandom.current().nextLong(1, accounts + 1L));
+    }
+}
@@ -0,0 +1,113 @@
+package com.bank.account.benchmark;
+
+import com.bank.account.domain.model.Account;
+import com.bank.account.domain.model.AccountStatement;
+import com.bank.account.domain.model.LedgerEntry;
+import com.bank.account.domain.model.Money;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic fixtures shared by the benchmarks.
+ * A fixed seed keeps the generated data identical between runs and commits.
+ */
+public final class BenchmarkData {
+
+    public static final LocalDateTime START_DATE = LocalDateTime.of(2025, 1, 1, 0, 0);
+    public static final LocalDateTime END_DATE = LocalDateTime.of(2025, 12, 31, 23, 59);
+
+    private static final long SEED = 42L;
+
+    private BenchmarkData() {
+    }
+
+    public static List<Account> accounts(int count) {
+        List<Account> accounts = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            accounts.add(Account.builder()
+                    .id((long) i)
+                    .accountNumber(String.valueOf(4787580000L + i))
+                    .accountType("SAVINGS")
+                    .initialBalance(Money.parse("1000.00"))
+                    .status(true)
+                    .customerId(1L)
+                    .build());
+        }
+        return accounts;
+    }
+
+    /**
+     * Generates a chronologically ordered ledger spread across the given accounts,
+     * with a running balance per account as the real ledger would have.
+     */
+    public static List<LedgerEntry> ledger(List<Account> accounts, int entries) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        Money[] balances = new Money[accounts.size()];
+        for (int i = 0; i < balances.length; i++) {
+            balances[i] = accounts.get(i).getInitialBalance();
+        }
+
+        List<LedgerEntry> ledger = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            int accountIndex = random.nextInt(accounts.size());
+            Money amount = Money.ofMinor(random.nextInt(1, 50_000));
+            boolean debit = random.nextBoolean() && balances[accountIndex].compareTo(amount) >= 0;
+            Money before = balances[accountIndex];
+            Money after = debit ? before.minus(amount) : before.plus(amount);
+            balances[accountIndex] = after;
+
+            ledger.add(LedgerEntry.builder()
+                    .id((long) i + 1)
+                    .timestamp(START_DATE.plusSeconds(i))
+                    .movementId((long) i + 1)
+                    .accountId(accounts.get(accountIndex).getId())
+                    .entryType(debit ? LedgerEntry.LedgerEntryType.DEBIT : LedgerEntry.LedgerEntryType.CREDIT)
+                    .amount(amount)
+                    .balanceBefore(before)
+                    .balanceAfter(after)
+                    .description("Benchmark entry " + i)
+                    .initiatedBy("SYSTEM")
+                    .build());
+        }
+        return ledger;
+    }
+
+    /**
+     * Builds a statement with the given number of movements, split evenly across accounts.
+     */
+    public static AccountStatement statement(int accountCount, int movements) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<AccountStatement.AccountReportDetail> details = new ArrayList<>(accountCount);
+        int perAccount = movements / accountCount;
+        for (int a = 0; a < accountCount; a++) {
+            Money balance = Money.parse("1000.00");
+            List<AccountStatement.MovementReportDetail> rows = new ArrayList<>(perAccount);
+            for (int m = 0; m < perAccount; m++) {
+                Money amount = Money.ofMinor(random.nextInt(-20_000, 50_000));
+                balance = balance.plus(amount);
+                rows.add(AccountStatement.MovementReportDetail.builder()
+                        .date(START_DATE.plusMinutes(m))
+                        .movementType(amount.signum() < 0 ? "Debit" : "Credit")
+                        .amount(amount)
+                        .balanceAfterMovement(balance)
+                        .build());
+            }
+            details.add(AccountStatement.AccountReportDetail.builder()
+                    .accountNumber(String.valueOf(4787580000L + a))
+                    .accountType("SAVINGS")
+                    .initialBalance(Money.parse("1000.00"))
+                    .finalBalance(balance)
+                    .movements(rows)
+                    .build());
+        }
+        return AccountStatement.builder()
+                .clientName("Jose Lema")
+                .startDate(START_DATE)
+                .endDate(END_DATE)
+                .accounts(details)
+                .build();
+    }
+}
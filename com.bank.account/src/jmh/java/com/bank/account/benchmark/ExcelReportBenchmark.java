@@ -0,0 +1,46 @@
+package com.bank.account.benchmark;
+
+import com.bank.account.domain.model.AccountStatement;
+import com.bank.account.infrastructure.output.excel.ExcelReportGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures rendering of the Excel statement with Apache POI.
+ * Row counts stop at 100k: an in-memory XSSF workbook of a million rows does not fit a default heap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class ExcelReportBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int movements;
+
+    private ExcelReportGenerator generator;
+    private AccountStatement statement;
+
+    @Setup
+    public void setUp() {
+        generator = new ExcelReportGenerator();
+        statement = BenchmarkData.statement(3, movements);
+    }
+
+    @Benchmark
+    public byte[] generateStatement() throws IOException {
+        return generator.generateStatement(statement);
+    }
+}
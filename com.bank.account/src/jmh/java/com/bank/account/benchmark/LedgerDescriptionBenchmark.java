@@ -0,0 +1,35 @@
+package com.bank.account.benchmark;
+
+import com.bank.account.domain.model.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the ledger entry description written on every movement: {@code String.format} (before)
+ * against plain concatenation (what MovementUseCaseImpl does now).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LedgerDescriptionBenchmark {
+
+    private String movementType = "Debit";
+    private Money amount = Money.parse("-575.00");
+    private String accountNumber = "4787581234";
+
+    @Benchmark
+    public String format() {
+        return String.format("%s of %s on account %s", movementType, amount, accountNumber);
+    }
+
+    @Benchmark
+    public String concatenation() {
+        return movementType + " of " + amount + " on account " + accountNumber;
+    }
+}
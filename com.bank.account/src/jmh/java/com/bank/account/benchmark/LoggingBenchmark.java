@@ -0,0 +1,178 @@
+package com.bank.account.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+import com.bank.account.domain.model.Money;
+import com.bank.account.infrastructure.logging.LogSamplingTurboFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Throughput of the log lines one movement emits, from 4 threads, with the file appender used
+ * before ({@code sync}), behind a bounded AsyncAppender that blocks when its queue is full
+ * ({@code async}), and with rate sampling on top ({@code async-sampled}). {@code async-lossy} uses
+ * the non-blocking settings of logback-spring.xml, which discard INFO lines once the queue is nearly
+ * full, so its throughput partly counts lines that were never written.
+ *
+ * After each iteration the async modes print how many events the appender discarded next to the
+ * score; the blocking modes should always report 0.
+ *
+ * {@code hotPathBefore} emits the six INFO lines a movement used to log; {@code hotPathAfter} the
+ * two INFO and four DEBUG lines it logs now (DEBUG is disabled, as in production).
+ * Each mode runs in its own LoggerContext, so the benchmark does not touch the global logging setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class LoggingBenchmark {
+
+    private static final String LOGGER_NAME = "com.bank.account.application.service.MovementUseCaseImpl";
+    private static final Money AMOUNT = Money.parse("-575.00");
+    private static final Money PREVIOUS_BALANCE = Money.parse("2000.00");
+    private static final Money NEW_BALANCE = Money.parse("1425.00");
+    private static final Long ACCOUNT_ID = 1L;
+    private static final Long MOVEMENT_ID = 42L;
+
+    private static final int QUEUE_SIZE = 8192;
+    private static final long DRAIN_POLL_MILLIS = 20;
+
+    @Param({"sync", "async", "async-sampled", "async-lossy"})
+    public String mode;
+
+    private LoggerContext context;
+    private Logger log;
+    private Path logFile;
+    private AsyncAppender async;
+    private final LongAdder offered = new LongAdder();
+    private final LongAdder written = new LongAdder();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        logFile = Files.createTempFile("logging-benchmark", ".log");
+        context = new LoggerContext();
+        context.setName("benchmark-" + mode);
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss} - %msg%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setName("FILE");
+        file.setFile(logFile.toString());
+        file.setEncoder(encoder);
+        file.addFilter(counting(written));
+        file.start();
+
+        Appender<ILoggingEvent> appender = file;
+        if (!"sync".equals(mode)) {
+            boolean lossy = "async-lossy".equals(mode);
+            async = new AsyncAppender();
+            async.setContext(context);
+            async.setName("ASYNC_FILE");
+            async.setQueueSize(QUEUE_SIZE);
+            // Sin pérdidas, salvo async-lossy (valores de logback-spring.xml): el hilo espera si la cola se llena
+            async.setDiscardingThreshold(lossy ? QUEUE_SIZE / 5 : 0);
+            async.setNeverBlock(lossy);
+            async.addFilter(counting(offered));
+            async.addAppender(file);
+            async.start();
+            appender = async;
+        }
+        if ("async-sampled".equals(mode)) {
+            LogSamplingTurboFilter sampling = new LogSamplingTurboFilter();
+            sampling.setContext(context);
+            sampling.setLoggers(LOGGER_NAME);
+            sampling.setMaxPerSecond(100);
+            sampling.start();
+            context.addTurboFilter(sampling);
+        }
+
+        log = context.getLogger(LOGGER_NAME);
+        log.setAdditive(false);
+        log.setLevel(ch.qos.logback.classic.Level.INFO);
+        log.addAppender(appender);
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportDiscarded() throws InterruptedException {
+        if (async == null) {
+            return;
+        }
+        // Lo que sigue en la cola no se ha descartado: se espera a que el worker lo escriba
+        long lastWritten = -1;
+        while (async.getNumberOfElementsInQueue() > 0 || written.sum() != lastWritten) {
+            lastWritten = written.sum();
+            Thread.sleep(DRAIN_POLL_MILLIS);
+        }
+        long total = offered.sumThenReset();
+        long discarded = total - written.sumThenReset();
+        System.out.printf("discarded %d of %d events (%.2f %%)%n",
+                discarded, total, total == 0 ? 0.0 : 100.0 * discarded / total);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.stop();
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public void hotPathBefore() {
+        log.info("Attempting to register a movement of amount {} for account id: {}", AMOUNT, ACCOUNT_ID);
+        log.info("Debit movement processed. Previous balance: {}, New balance: {}", PREVIOUS_BALANCE, NEW_BALANCE);
+        log.info("Movement successfully registered with id: {}. Previous balance: {}, New balance: {}",
+                MOVEMENT_ID, PREVIOUS_BALANCE, NEW_BALANCE);
+        log.info("Recording ledger entry for account: {}, type: {}, amount: {}", ACCOUNT_ID, "DEBIT", AMOUNT);
+        log.info("Ledger entry saved with ID: {}", MOVEMENT_ID);
+        log.info("Ledger entry recorded for movement ID: {} on account: {}", MOVEMENT_ID, ACCOUNT_ID);
+    }
+
+    @Benchmark
+    public void hotPathAfter() {
+        log.info("Attempting to register a movement of amount {} for account id: {}", AMOUNT, ACCOUNT_ID);
+        log.debug("Debit movement processed. Previous balance: {}, New balance: {}", PREVIOUS_BALANCE, NEW_BALANCE);
+        log.info("Movement successfully registered with id: {}. Previous balance: {}, New balance: {}",
+                MOVEMENT_ID, PREVIOUS_BALANCE, NEW_BALANCE);
+        log.debug("Recording ledger entry for account: {}, type: {}, amount: {}", ACCOUNT_ID, "DEBIT", AMOUNT);
+        log.debug("Ledger entry saved with ID: {}", MOVEMENT_ID);
+        log.debug("Ledger entry recorded for movement ID: {} on account: {}", MOVEMENT_ID, ACCOUNT_ID);
+    }
+
+    private Filter<ILoggingEvent> counting(LongAdder counter) {
+        Filter<ILoggingEvent> filter = new Filter<>() {
+            @Override
+            public FilterReply decide(ILoggingEvent event) {
+                counter.increment();
+                return FilterReply.NEUTRAL;
+            }
+        };
+        filter.setContext(context);
+        filter.start();
+        return filter;
+    }
+}
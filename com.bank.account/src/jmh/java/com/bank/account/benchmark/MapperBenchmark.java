@@ -0,0 +1,97 @@
+package com.bank.account.benchmark;
+
+import com.bank.account.domain.model.Account;
+import com.bank.account.domain.model.LedgerEntry;
+import com.bank.account.domain.model.Money;
+import com.bank.account.domain.model.Movement;
+import com.bank.account.infrastructure.input.adapter.rest.dto.request.MovementRequest;
+import com.bank.account.infrastructure.input.adapter.rest.dto.response.MovementResponse;
+import com.bank.account.infrastructure.input.adapter.rest.mapper.MovementRestMapper;
+import com.bank.account.infrastructure.output.adapter.jpa.entity.AccountEntity;
+import com.bank.account.infrastructure.output.adapter.jpa.entity.LedgerEntryEntity;
+import com.bank.account.infrastructure.output.adapter.jpa.mapper.AccountJpaMapper;
+import com.bank.account.infrastructure.output.adapter.jpa.mapper.LedgerJpaMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the MapStruct conversions executed on every request (entity <-> domain <-> DTO).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+
+    private AccountJpaMapper accountJpaMapper;
+    private LedgerJpaMapper ledgerJpaMapper;
+    private MovementRestMapper movementRestMapper;
+
+    private Account account;
+    private AccountEntity accountEntity;
+    private LedgerEntry ledgerEntry;
+    private LedgerEntryEntity ledgerEntryEntity;
+    private Movement movement;
+    private MovementRequest movementRequest;
+
+    @Setup
+    public void setUp() {
+        accountJpaMapper = Mappers.getMapper(AccountJpaMapper.class);
+        ledgerJpaMapper = Mappers.getMapper(LedgerJpaMapper.class);
+        movementRestMapper = Mappers.getMapper(MovementRestMapper.class);
+
+        account = BenchmarkData.accounts(1).get(0);
+        accountEntity = accountJpaMapper.toEntity(account);
+        ledgerEntry = BenchmarkData.ledger(BenchmarkData.accounts(1), 1).get(0);
+        ledgerEntryEntity = ledgerJpaMapper.toEntity(ledgerEntry);
+        movement = Movement.builder()
+                .id(1L)
+                .date(LocalDateTime.of(2025, 10, 12, 9, 0))
+                .movementType("Debit")
+                .amount(Money.parse("-575.00"))
+                .balance(Money.parse("1425.00"))
+                .accountId(1L)
+                .build();
+        movementRequest = new MovementRequest();
+        movementRequest.setAccountId(1L);
+        movementRequest.setAmount(Money.parse("-575.00"));
+    }
+
+    @Benchmark
+    public AccountEntity accountToEntity() {
+        return accountJpaMapper.toEntity(account);
+    }
+
+    @Benchmark
+    public Account accountToDomain() {
+        return accountJpaMapper.toDomain(accountEntity);
+    }
+
+    @Benchmark
+    public LedgerEntryEntity ledgerToEntity() {
+        return ledgerJpaMapper.toEntity(ledgerEntry);
+    }
+
+    @Benchmark
+    public LedgerEntry ledgerToDomain() {
+        return ledgerJpaMapper.toDomain(ledgerEntryEntity);
+    }
+
+    @Benchmark
+    public Movement movementRequestToDomain() {
+        return movementRestMapper.toDomain(movementRequest);
+    }
+
+    @Benchmark
+    public MovementResponse movementToResponse() {
+        return movementRestMapper.toResponse(movement);
+    }
+}
@@ -0,0 +1,47 @@
+package com.bank.account.benchmark;
+
+import com.bank.account.domain.model.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The arithmetic of one debit movement (sign check, new balance, funds check, ledger amount) with
+ * {@code BigDecimal} (before) against {@link Money}. Run with {@code -prof gc} and compare
+ * {@code gc.alloc.rate.norm}: the bytes allocated per movement.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoneyArithmeticBenchmark {
+
+    private BigDecimal bigDecimalBalance = new BigDecimal("2000.00");
+    private BigDecimal bigDecimalAmount = new BigDecimal("-575.00");
+    private Money moneyBalance = Money.parse("2000.00");
+    private Money moneyAmount = Money.parse("-575.00");
+
+    @Benchmark
+    public void bigDecimal(Blackhole blackhole) {
+        boolean debit = bigDecimalAmount.compareTo(BigDecimal.ZERO) < 0;
+        BigDecimal newBalance = bigDecimalBalance.add(bigDecimalAmount);
+        blackhole.consume(debit && newBalance.compareTo(BigDecimal.ZERO) < 0);
+        blackhole.consume(newBalance);
+        blackhole.consume(bigDecimalAmount.abs());
+    }
+
+    @Benchmark
+    public void money(Blackhole blackhole) {
+        boolean debit = moneyAmount.isNegative();
+        Money newBalance = moneyBalance.plus(moneyAmount);
+        blackhole.consume(debit && newBalance.isNegative());
+        blackhole.consume(newBalance);
+        blackhole.consume(moneyAmount.abs());
+    }
+}
@@ -1,13 +1,19 @@
 package com.bank.account.application.input.port;
 import com.bank.account.domain.model.Account;
+import com.bank.account.domain.model.AccountBalance;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface AccountUseCase {
     Mono<Account> createAccount(Account account);
+    Flux<Account> createAccounts(Flux<Account> accounts);
     Mono<Account> findAccountById(Long id);
     Mono<Account> findAccountByNumber(String accountNumber);
+    // Desde memoria cuando el saldo está en BalanceCachePort; si no, desde la base de datos
+    Mono<AccountBalance> findAccountBalance(Long id);
     Flux<Account> findAllAccounts();
     Mono<Account> updateAccount(Long id, Account account);
     Mono<Void> deleteAccount(Long id);
+    // Reparte el saldo en N filas para que hasta N créditos a la cuenta avancen en paralelo
+    Mono<Account> configureBalanceSlots(Long id, int slots);
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.bank.account.application.input.port;
+
+import com.bank.account.domain.model.Transfer;
+import reactor.core.publisher.Mono;
+
+public interface TransferUseCase {
+
+    /**
+     * Debits the source account and credits the target account in one transaction.
+     *
+     * @param transfer Source account, target account and a positive amount
+     * @return A Mono that emits the booked transfer, with its id, movement ids and resulting balances
+     */
+    Mono<Transfer> transfer(Transfer transfer);
+}
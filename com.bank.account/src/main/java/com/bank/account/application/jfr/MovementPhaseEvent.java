@@ -0,0 +1,47 @@
+package com.bank.account.application.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one phase of posting a movement (concurrent credit, account lock, account fetch,
+ * balance calculation, account save, movement insert, ledger insert). When no recording has the event enabled,
+ * {@code begin()} and {@code commit()} reduce to a flag check, so the instrumentation stays on in
+ * production.
+ */
+@Name("com.bank.account.MovementPhase")
+@Label("Movement Phase")
+@Category({"Bank", "Movements"})
+@Description("Duration of one phase of MovementUseCaseImpl.executeMovementTransaction")
+@StackTrace(false)
+public class MovementPhaseEvent extends Event {
+
+    public static final String CONCURRENT_CREDIT = "concurrent-credit";
+    public static final String LOCK_ACCOUNT = "lock-account";
+    public static final String FETCH_ACCOUNT = "fetch-account";
+    public static final String CALCULATE_BALANCE = "calculate-balance";
+    public static final String SAVE_ACCOUNT = "save-account";
+    public static final String INSERT_MOVEMENT = "insert-movement";
+    public static final String INSERT_LEDGER = "insert-ledger";
+
+    @Label("Phase")
+    final String phase;
+
+    @Label("Account Id")
+    final long accountId;
+
+    private MovementPhaseEvent(String phase, Long accountId) {
+        this.phase = phase;
+        this.accountId = accountId != null ? accountId : 0L;
+    }
+
+    public static MovementPhaseEvent start(String phase, Long accountId) {
+        MovementPhaseEvent event = new MovementPhaseEvent(phase, accountId);
+        event.begin();
+        return event;
+    }
+}
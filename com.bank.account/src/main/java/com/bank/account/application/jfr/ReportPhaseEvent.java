@@ -0,0 +1,59 @@
+package com.bank.account.application.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import reactor.core.publisher.Mono;
+
+/**
+ * JFR event for one stage of statement generation: loading customer and accounts, loading the
+ * ledger range, building the statement and rendering/writing the Excel workbook.
+ */
+@Name("com.bank.account.ReportPhase")
+@Label("Report Phase")
+@Category({"Bank", "Reports"})
+@Description("Duration of one stage of ReportUseCaseImpl or ExcelReportGenerator")
+@StackTrace(false)
+public class ReportPhaseEvent extends Event {
+
+    public static final String FETCH_REPORT_DATA = "fetch-report-data";
+    public static final String FETCH_LEDGER = "fetch-ledger";
+    public static final String BUILD_STATEMENT = "build-statement";
+    public static final String RENDER_WORKBOOK = "render-workbook";
+    public static final String WRITE_WORKBOOK = "write-workbook";
+
+    @Label("Phase")
+    final String phase;
+
+    @Label("Items")
+    @Description("Ledger entries or movements handled by the stage, or bytes written for write-workbook")
+    long items;
+
+    private ReportPhaseEvent(String phase) {
+        this.phase = phase;
+    }
+
+    public static ReportPhaseEvent start(String phase) {
+        ReportPhaseEvent event = new ReportPhaseEvent(phase);
+        event.begin();
+        return event;
+    }
+
+    public ReportPhaseEvent items(long items) {
+        this.items = items;
+        return this;
+    }
+
+    /**
+     * Records the time from subscription to termination (or cancellation) of {@code source}.
+     */
+    public static <T> Mono<T> timed(String phase, Mono<T> source) {
+        return Mono.defer(() -> {
+            ReportPhaseEvent event = start(phase);
+            return source.doFinally(signal -> event.commit());
+        });
+    }
+}
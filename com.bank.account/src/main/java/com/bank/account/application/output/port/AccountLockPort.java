@@ -0,0 +1,23 @@
+package com.bank.account.application.output.port;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Output port for serializing balance changes per account, across every instance of the service.
+ * Must be called inside {@link TransactionPort#inTransaction}; the locks are released when that
+ * transaction commits or rolls back.
+ */
+public interface AccountLockPort {
+
+    /**
+     * Locks the given accounts, always in ascending id order so concurrent callers cannot deadlock.
+     * Call it before reading the balances the transaction is going to change.
+     *
+     * @param accountIds The accounts whose balances the current transaction will change
+     * @return A Mono that completes once every lock is held, or fails with
+     *         AccountLockTimeoutException when one is not granted in time
+     */
+    Mono<Void> lockAccounts(Collection<Long> accountIds);
+}
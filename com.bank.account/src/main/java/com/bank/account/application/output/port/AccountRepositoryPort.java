@@ -1,15 +1,56 @@
 package com.bank.account.application.output.port;
 
 import com.bank.account.domain.model.Account;
+import com.bank.account.domain.model.Money;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 public interface AccountRepositoryPort {
     Mono<Account> saveAccount(Account account);
+    Flux<Account> saveAllAccounts(List<Account> accounts);
+    Mono<Set<String>> findExistingAccountNumbers(Collection<String> accountNumbers);
+    /** Reads the account with its current balance; for callers that show the balance. */
     Mono<Account> findAccountByNumber(String accountNumber);
+    /**
+     * Resolves an account number to the account id without reading the balance, so repeated
+     * lookups can be served from a cache without SQL. For existence checks such as account number
+     * uniqueness; the database constraint stays the final check.
+     */
+    Mono<Long> findAccountIdByNumber(String accountNumber);
     Mono<Account> findAccountById(Long id);
+    /**
+     * Reads an account whose balance the current transaction is about to change, after
+     * {@link AccountLockPort#lockAccounts}. The returned balance is exact and stays so until the
+     * transaction ends, also for accounts that take concurrent credits.
+     */
+    Mono<Account> findAccountForBalanceChange(Long id);
+    /**
+     * Adds a credit without {@link AccountLockPort}, for accounts configured to take concurrent
+     * credits (see {@link #configureBalanceSlots}). Emits the credited account without a balance
+     * ({@code initialBalance} is null): other slots take credits at the same time, so no balance
+     * before or after this one is well defined. Completes empty when the account does not take
+     * them (or does not exist); the caller then follows the locked path.
+     */
+    Mono<Account> addConcurrentCredit(Long accountId, Money amount);
+    /**
+     * Splits the balance of an account across {@code slots} rows so that up to that many credits
+     * proceed in parallel; 1 restores a single row. Must run inside a transaction holding the
+     * account lock.
+     */
+    Mono<Account> configureBalanceSlots(Long accountId, int slots);
+    /**
+     * Writes the account number, type and status of an existing account in one statement, without
+     * reading or writing its balance, so it cannot undo a movement committed meanwhile. Emits the
+     * account as stored afterwards, or completes empty when it does not exist.
+     */
+    Mono<Account> updateAccountDetails(Long id, Account details);
+    /** Marks the account inactive, leaving its balance alone. Emits whether the account exists. */
+    Mono<Boolean> deactivateAccount(Long id);
     Mono<Void> deleteAccountById(Long id);
     Flux<Account> findAll();
     Flux<Account> findByCustomerId(Long customerId);
-    Mono<Account> findAccountByAccountNumberAndIdNot(String accountNumber, Long accountId);
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.bank.account.application.output.port;
+
+import com.bank.account.domain.model.Account;
+
+/**
+ * Output port for the in-memory balance of each account, in cents. Lookups return a primitive so
+ * read-only balance queries and insufficient-funds pre-checks allocate nothing.
+ *
+ * The values are authoritative only while this instance is the single writer of the accounts it
+ * serves; when the cache is disabled every lookup misses.
+ */
+public interface BalanceCachePort {
+
+    /** Returned by {@link #findBalanceCents(Long)} when the balance is not known in memory. */
+    long NOT_CACHED = Long.MIN_VALUE;
+
+    /**
+     * @param accountId The account to look up
+     * @return The balance in cents, or {@link #NOT_CACHED}
+     */
+    long findBalanceCents(Long accountId);
+
+    /**
+     * Records a balance just read from the database. It never replaces a value written by
+     * {@link #balanceChanged(Account)}, so a slow read cannot bring back an older balance.
+     */
+    void balanceLoaded(Account account);
+
+    /**
+     * Records the new balance of an account. Must be called inside the transaction that changes it,
+     * while holding the account lock; the value is applied once the transaction commits and
+     * discarded if it rolls back.
+     */
+    void balanceChanged(Account account);
+}
@@ -1,8 +1,11 @@
 package com.bank.account.application.output.port;
 
 import com.bank.account.domain.model.Customer;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 /**
  * Output port for communicating with the Customer microservice.
  * This defines the contract for fetching customer data from an external source.
@@ -14,4 +17,12 @@ public interface CustomerClientPort {
      * @return A Mono that emits the found customer, or an error if not found or service is unavailable.
      */
     Mono<Customer> findCustomerById(Long customerId);
+
+    /**
+     * Resolves several customers with a single call to the Customer microservice.
+     * Unknown IDs are simply absent from the result.
+     * @param customerIds The IDs of the customers to find.
+     * @return A Flux that emits the customers that exist, or an error if the service is unavailable.
+     */
+    Flux<Customer> findCustomersByIds(Collection<Long> customerIds);
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.bank.account.application.output.port;
 
 import com.bank.account.domain.model.LedgerEntry;
+import com.bank.account.domain.model.Money;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import java.time.LocalDateTime;
@@ -54,6 +55,16 @@ public interface LedgerRepositoryPort {
      */
     Flux<LedgerEntry> findByAccountIdsAndDateRange(List<Long> accountIds, LocalDateTime startDate, LocalDateTime endDate);
 
+    /**
+     * Derives the balance of an account just before one of its entries, from the current balance
+     * and the amounts of the entries from that one on (ordered by timestamp, then id). Statements
+     * use it when the entry carries no balance of its own.
+     *
+     * @param ledgerEntry An entry of the account, with its ID and timestamp
+     * @return A Mono that emits the balance, or completes empty if the account no longer exists
+     */
+    Mono<Money> findBalanceBefore(LedgerEntry ledgerEntry);
+
     /**
      * Finds all ledger entries generated by a specific movement.
      * Typically, each movement generates one ledger entry.
@@ -0,0 +1,21 @@
+package com.bank.account.application.output.port;
+
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+/**
+ * Output port for running a unit of work in a single database transaction.
+ * The work may block; repository port calls made from within it (and blocked on)
+ * take part in the same transaction.
+ */
+public interface TransactionPort {
+
+    /**
+     * Runs the work in a new transaction, committing when it returns and rolling back when it throws.
+     *
+     * @param work The blocking unit of work
+     * @return A Mono that emits the work's result once the transaction has committed
+     */
+    <T> Mono<T> inTransaction(Supplier<T> work);
+}
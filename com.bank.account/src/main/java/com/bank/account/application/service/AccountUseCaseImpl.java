@@ -1,24 +1,41 @@
 package com.bank.account.application.service;
 
 import com.bank.account.application.input.port.AccountUseCase;
+import com.bank.account.application.output.port.AccountLockPort;
 import com.bank.account.application.output.port.CustomerClientPort;
 import com.bank.account.application.output.port.AccountRepositoryPort;
+import com.bank.account.application.output.port.BalanceCachePort;
+import com.bank.account.application.output.port.TransactionPort;
 import com.bank.account.domain.exception.DuplicateResourceException;
 import com.bank.account.domain.exception.ResourceNotFoundException;
 import com.bank.account.domain.model.Account;
+import com.bank.account.domain.model.AccountBalance;
+import com.bank.account.domain.model.Customer;
+import com.bank.account.domain.model.Money;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AccountUseCaseImpl implements AccountUseCase {
 
+    // Number of accounts validated and inserted together during a bulk import
+    static final int BULK_CHUNK_SIZE = 1000;
+
     private final AccountRepositoryPort accountRepositoryPort;
     private final CustomerClientPort customerClientPort;
+    private final TransactionPort transactionPort;
+    private final AccountLockPort accountLockPort;
+    private final BalanceCachePort balanceCachePort;
 
     @Override
     public Mono<Account> createAccount(Account account) {
@@ -33,6 +50,70 @@ public class AccountUseCaseImpl implements AccountUseCase {
                 }));
     }
 
+    @Override
+    public Flux<Account> createAccounts(Flux<Account> accounts) {
+        log.info("Starting bulk account creation");
+        return accounts
+                .buffer(BULK_CHUNK_SIZE)
+                .concatMap(this::createAccountChunk)
+                .doOnComplete(() -> log.info("Bulk account creation completed"));
+    }
+
+    /**
+     * Validates and persists one chunk of a bulk import.
+     * Uniqueness is checked with one set-based query and customers are resolved
+     * with one batched call, so the cost per chunk is constant in round trips.
+     */
+    private Flux<Account> createAccountChunk(List<Account> chunk) {
+        log.info("Processing bulk chunk of {} accounts", chunk.size());
+        return validateUniqueAccountNumbers(chunk)
+                .then(Mono.defer(() -> validateCustomersExist(chunk)))
+                .thenMany(Flux.defer(() -> accountRepositoryPort.saveAllAccounts(chunk)))
+                .doOnComplete(() -> log.info("Bulk chunk of {} accounts saved", chunk.size()));
+    }
+
+    private Mono<Void> validateUniqueAccountNumbers(List<Account> chunk) {
+        Set<String> accountNumbers = new HashSet<>(chunk.size());
+        for (Account account : chunk) {
+            if (!accountNumbers.add(account.getAccountNumber())) {
+                String errorMsg = "Account number '" + account.getAccountNumber() + "' is repeated in the import.";
+                log.warn(errorMsg);
+                return Mono.error(new DuplicateResourceException(errorMsg));
+            }
+        }
+
+        return accountRepositoryPort.findExistingAccountNumbers(accountNumbers)
+                .flatMap(existingNumbers -> {
+                    if (existingNumbers.isEmpty()) {
+                        return Mono.<Void>empty();
+                    }
+                    String errorMsg = "Account numbers already exist: " + existingNumbers;
+                    log.warn(errorMsg);
+                    return Mono.<Void>error(new DuplicateResourceException(errorMsg));
+                });
+    }
+
+    private Mono<Void> validateCustomersExist(List<Account> chunk) {
+        Set<Long> customerIds = chunk.stream()
+                .map(Account::getCustomerId)
+                .collect(Collectors.toSet());
+        log.info("Validating existence of {} customers for bulk chunk", customerIds.size());
+
+        return customerClientPort.findCustomersByIds(customerIds)
+                .map(Customer::getCustomerId)
+                .collect(Collectors.toSet())
+                .flatMap(foundIds -> {
+                    Set<Long> missingIds = new HashSet<>(customerIds);
+                    missingIds.removeAll(foundIds);
+                    if (missingIds.isEmpty()) {
+                        return Mono.<Void>empty();
+                    }
+                    String errorMsg = "Customers not found for ids: " + missingIds;
+                    log.error("Failed to create accounts: {}", errorMsg);
+                    return Mono.<Void>error(new ResourceNotFoundException(errorMsg));
+                });
+    }
+
     @Override
     public Mono<Account> findAccountByNumber(String accountNumber) {
         log.info("Searching for account with number: {}", accountNumber);
@@ -47,8 +128,9 @@ public class AccountUseCaseImpl implements AccountUseCase {
     }
 
     private Mono<Void> validateUniqueAccountNumber(String accountNumber) {
-        return accountRepositoryPort.findAccountByNumber(accountNumber)
-                .flatMap(existingAccount -> {
+        // Solo la existencia: sin leer el saldo
+        return accountRepositoryPort.findAccountIdByNumber(accountNumber)
+                .flatMap(existingId -> {
                     String errorMsg = "Account number '" + accountNumber + "' already exists.";
                     log.warn(errorMsg);
                     return Mono.error(new DuplicateResourceException(errorMsg));
@@ -80,14 +162,36 @@ public class AccountUseCaseImpl implements AccountUseCase {
                 });
     }
 
+    @Override
+    public Mono<AccountBalance> findAccountBalance(Long id) {
+        return Mono.defer(() -> {
+            long cachedCents = balanceCachePort.findBalanceCents(id);
+            if (cachedCents != BalanceCachePort.NOT_CACHED) {
+                return Mono.just(AccountBalance.builder()
+                        .accountId(id)
+                        .balance(Money.ofMinor(cachedCents))
+                        .build());
+            }
+            return accountRepositoryPort.findAccountById(id)
+                    .doOnNext(balanceCachePort::balanceLoaded)
+                    .map(account -> AccountBalance.builder()
+                            .accountId(id)
+                            .balance(account.getInitialBalance())
+                            .build());
+        });
+    }
+
     @Override
     public Mono<Void> deleteAccount(Long id) {
         log.info("Attempting to deactivate account with id: {}", id);
-        return accountRepositoryPort.findAccountById(id)
-                .flatMap(accountFound -> {
-                    accountFound.setStatus(false);
-                    return accountRepositoryPort.saveAccount(accountFound)
-                            .doOnSuccess(acc -> log.info("Successfully deactivated account with id: {}", id));
+        // Solo el estado: el saldo no pasa por aquí, así no se pisa un movimiento en curso
+        return accountRepositoryPort.deactivateAccount(id)
+                .doOnNext(found -> {
+                    if (found) {
+                        log.info("Successfully deactivated account with id: {}", id);
+                    } else {
+                        log.warn("Account not found for id: {}", id);
+                    }
                 })
                 .doOnError(throwable -> log.error("Failed to deactivate account with id: {}", id, throwable))
                 .then();
@@ -103,31 +207,39 @@ public class AccountUseCaseImpl implements AccountUseCase {
     @Override
     public Mono<Account> updateAccount(Long id, Account accountUpdateRequest) {
         log.info("Attempting to update account with id: {}", id);
-        return accountRepositoryPort.findAccountById(id)
-                .switchIfEmpty(Mono.error(new ResourceNotFoundException("Account not found with id: " + id)))
-                .flatMap(existingAccount -> {
-
-                    Mono<Void> validationMono = Mono.empty();
-
-                    if (accountUpdateRequest.getAccountNumber() != null && !accountUpdateRequest.getAccountNumber().equals(existingAccount.getAccountNumber())) {
-                        log.info("Account number change detected for account ID {}. Validating new number '{}'", id, accountUpdateRequest.getAccountNumber());
-                        validationMono = validateUniqueAccountNumberForUpdate(accountUpdateRequest.getAccountNumber(), id);
-                    }
-
-                    return validationMono.then(Mono.defer(() -> {
-                        existingAccount.setAccountNumber(accountUpdateRequest.getAccountNumber());
-                        existingAccount.setAccountType(accountUpdateRequest.getAccountType());
-                        existingAccount.setStatus(accountUpdateRequest.getStatus());
+        Mono<Void> validationMono = Mono.empty();
+        if (accountUpdateRequest.getAccountNumber() != null) {
+            // Excluye la propia cuenta: conservar el número no es un duplicado
+            validationMono = validateUniqueAccountNumberForUpdate(accountUpdateRequest.getAccountNumber(), id);
+        }
+
+        // Número, tipo y estado en una sola escritura: el saldo no se lee ni se escribe (lo cambian los movimientos)
+        return validationMono
+                .then(Mono.defer(() -> {
+                    log.info("Updating account with ID: {}", id);
+                    return accountRepositoryPort.updateAccountDetails(id, accountUpdateRequest);
+                }))
+                .switchIfEmpty(Mono.error(new ResourceNotFoundException("Account not found with id: " + id)));
+    }
 
-                        log.info("Updating account with ID: {}", id);
-                        return accountRepositoryPort.saveAccount(existingAccount);
-                    }));
-                });
+    @Override
+    public Mono<Account> configureBalanceSlots(Long id, int slots) {
+        log.info("Configuring {} balance slots for account with id: {}", slots, id);
+        // Con el bloqueo de la cuenta ningún débito ni transferencia lee el saldo a medias
+        return transactionPort.inTransaction(() -> {
+            accountLockPort.lockAccounts(List.of(id)).block();
+            Account account = accountRepositoryPort.configureBalanceSlots(id, slots)
+                    .blockOptional()
+                    .orElseThrow(() -> new ResourceNotFoundException("Account not found with id: " + id));
+            balanceCachePort.balanceChanged(account);
+            return account;
+        });
     }
 
     private Mono<Void> validateUniqueAccountNumberForUpdate(String accountNumber, Long accountId) {
-        return accountRepositoryPort.findAccountByAccountNumberAndIdNot(accountNumber, accountId)
-                .flatMap(existingAccount -> {
+        return accountRepositoryPort.findAccountIdByNumber(accountNumber)
+                .filter(existingId -> !existingId.equals(accountId))
+                .flatMap(existingId -> {
                     String errorMsg = "Cannot update. Another account with number '" + accountNumber + "' already exists.";
                     log.warn(errorMsg);
                     return Mono.error(new DuplicateResourceException(errorMsg));
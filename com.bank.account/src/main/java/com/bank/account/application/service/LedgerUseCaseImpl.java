@@ -27,14 +27,14 @@ public class LedgerUseCaseImpl implements LedgerUseCase {
 
     @Override
     public Mono<LedgerEntry> recordLedgerEntry(LedgerEntry ledgerEntry) {
-        log.info("Recording ledger entry for account: {}, type: {}, amount: {}",
+        log.debug("Recording ledger entry for account: {}, type: {}, amount: {}",
                 ledgerEntry.getAccountId(), ledgerEntry.getEntryType(), ledgerEntry.getAmount());
 
     
         return validateLedgerEntry(ledgerEntry)
                 .then(ledgerRepositoryPort.saveLedgerEntry(ledgerEntry))
                 .doOnSuccess(saved ->
-                        log.info("Successfully recorded ledger entry with ID: {} for account: {}",
+                        log.debug("Successfully recorded ledger entry with ID: {} for account: {}",
                                 saved.getId(), saved.getAccountId()))
                 .doOnError(error ->
                         log.error("Failed to record ledger entry for account: {}",
@@ -118,11 +118,12 @@ public class LedgerUseCaseImpl implements LedgerUseCase {
         if (ledgerEntry.getEntryType() == null) {
             return Mono.error(new IllegalArgumentException("Entry type is required"));
         }
-        if (ledgerEntry.getAmount() == null || ledgerEntry.getAmount().compareTo(java.math.BigDecimal.ZERO) <= 0) {
+        if (ledgerEntry.getAmount() == null || ledgerEntry.getAmount().signum() <= 0) {
             return Mono.error(new IllegalArgumentException("Amount must be positive"));
         }
-        if (ledgerEntry.getBalanceBefore() == null || ledgerEntry.getBalanceAfter() == null) {
-            return Mono.error(new IllegalArgumentException("Balance before and after are required"));
+        // Los créditos a cuentas con slots no llevan saldos (ver MovementUseCaseImpl), pero nunca uno solo
+        if ((ledgerEntry.getBalanceBefore() == null) != (ledgerEntry.getBalanceAfter() == null)) {
+            return Mono.error(new IllegalArgumentException("Balance before and after go together"));
         }
 
         return Mono.empty();
@@ -1,25 +1,28 @@
 package com.bank.account.application.service;
 
 import com.bank.account.application.input.port.LedgerUseCase;
+import com.bank.account.application.jfr.MovementPhaseEvent;
 import com.bank.account.application.input.port.MovementUseCase;
+import com.bank.account.application.output.port.AccountLockPort;
 import com.bank.account.application.output.port.AccountRepositoryPort;
+import com.bank.account.application.output.port.BalanceCachePort;
 import com.bank.account.application.output.port.MovementRepositoryPort;
+import com.bank.account.application.output.port.TransactionPort;
 import com.bank.account.domain.exception.InsufficientBalanceException;
 import com.bank.account.domain.exception.ResourceNotFoundException;
 import com.bank.account.domain.model.Account;
 import com.bank.account.domain.model.LedgerEntry;
+import com.bank.account.domain.model.Money;
 import com.bank.account.domain.model.Movement;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.PlatformTransactionManager;
-import org.springframework.transaction.support.TransactionTemplate;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -32,30 +35,45 @@ public class MovementUseCaseImpl implements MovementUseCase {
     private final MovementRepositoryPort movementRepositoryPort;
     private final AccountRepositoryPort accountRepositoryPort;
     private final LedgerUseCase ledgerUseCase;
-    private final PlatformTransactionManager transactionManager;
+    private final TransactionPort transactionPort;
+    private final AccountLockPort accountLockPort;
+    private final BalanceCachePort balanceCachePort;
 
     @Override
     public Mono<Movement> registerMovement(Movement movement) {
         log.info("Attempting to register a movement of amount {} for account id: {}",
                 movement.getAmount(), movement.getAccountId());
 
-        return Mono.fromRunnable(() -> validateMovementAmount(movement))
-                .then(Mono.fromCallable(() -> {
-
-                    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
-                    return transactionTemplate.execute(status -> executeMovementTransaction(movement));
-                }))
-                .subscribeOn(Schedulers.boundedElastic());
+        return Mono.fromRunnable(() -> {
+                    validateMovementAmount(movement);
+                    precheckBalance(movement);
+                })
+                .then(Mono.defer(() -> transactionPort.inTransaction(() -> executeMovementTransaction(movement))));
     }
 
 
     private Movement executeMovementTransaction(Movement movement) {
+        if (!isDebit(movement)) {
+            Optional<Movement> credited = tryConcurrentCredit(movement);
+            if (credited.isPresent()) {
+                return credited.get();
+            }
+        }
+
+        lockAccount(movement.getAccountId());
         Account account = fetchAndValidateAccount(movement.getAccountId());
-        BigDecimal previousBalance = account.getInitialBalance();
-        BigDecimal newBalance = calculateNewBalance(account, movement);
+        Money previousBalance = account.getInitialBalance();
+        Money newBalance;
+        MovementPhaseEvent balanceEvent = MovementPhaseEvent.start(MovementPhaseEvent.CALCULATE_BALANCE, account.getId());
+        try {
+            newBalance = calculateNewBalance(account, movement);
+        } finally {
+            balanceEvent.commit();
+        }
 
         updateMovementDetails(movement, newBalance);
         updateAccountBalance(account, newBalance);
+        balanceCachePort.balanceChanged(account);
 
         Movement savedMovement = persistMovement(movement, account, previousBalance, newBalance);
 
@@ -65,7 +83,37 @@ public class MovementUseCaseImpl implements MovementUseCase {
     }
 
 
-    private void recordLedgerEntry(Movement movement, Account account, BigDecimal balanceBefore, BigDecimal balanceAfter) {
+    /**
+     * Créditos a cuentas configuradas para recibirlos en paralelo: se suman sin el bloqueo de la
+     * cuenta. Vacío si la cuenta no los admite; entonces se sigue el camino con bloqueo.
+     *
+     * Sin saldos: con otros créditos en curso en los demás slots no hay un saldo anterior ni
+     * posterior exacto. El movimiento y el asiento guardan solo el importe, y los extractos derivan
+     * el saldo de cada asiento (ver ReportUseCaseImpl).
+     */
+    private Optional<Movement> tryConcurrentCredit(Movement movement) {
+        Optional<Account> credited;
+        MovementPhaseEvent event = MovementPhaseEvent.start(MovementPhaseEvent.CONCURRENT_CREDIT, movement.getAccountId());
+        try {
+            credited = accountRepositoryPort.addConcurrentCredit(movement.getAccountId(), movement.getAmount())
+                    .blockOptional();
+        } finally {
+            event.commit();
+        }
+
+        return credited.map(account -> {
+            movement.setMovementType(CREDIT);
+            updateMovementDetails(movement, null);
+            balanceCachePort.balanceChanged(account);
+
+            Movement savedMovement = insertMovement(movement, account.getId(), null, null);
+            recordLedgerEntry(savedMovement, account, null, null);
+            return savedMovement;
+        });
+    }
+
+
+    private void recordLedgerEntry(Movement movement, Account account, Money balanceBefore, Money balanceAfter) {
 
         LedgerEntry.LedgerEntryType entryType = movement.getMovementType().equals(DEBIT)
                 ? LedgerEntry.LedgerEntryType.DEBIT
@@ -80,34 +128,72 @@ public class MovementUseCaseImpl implements MovementUseCase {
                 .amount(movement.getAmount().abs())
                 .balanceBefore(balanceBefore)
                 .balanceAfter(balanceAfter)
-                .description(String.format("%s of %s on account %s",
-                        movement.getMovementType(),
-                        movement.getAmount(),
-                        account.getAccountNumber()))
+                // Concatenación en lugar de String.format: se ejecuta en cada movimiento
+                .description(movement.getMovementType() + " of " + movement.getAmount()
+                        + " on account " + account.getAccountNumber())
                 .initiatedBy("SYSTEM")
                 .build();
 
 
-        ledgerUseCase.recordLedgerEntry(ledgerEntry)
-                .block();
+        MovementPhaseEvent event = MovementPhaseEvent.start(MovementPhaseEvent.INSERT_LEDGER, account.getId());
+        try {
+            ledgerUseCase.recordLedgerEntry(ledgerEntry)
+                    .block();
+        } finally {
+            event.commit();
+        }
 
-        log.info("Ledger entry recorded for movement ID: {} on account: {}",
+        log.debug("Ledger entry recorded for movement ID: {} on account: {}",
                 movement.getId(), account.getId());
     }
 
+    /**
+     * Serializa los movimientos de la cuenta entre instancias; el bloqueo se toma antes de leer
+     * el saldo y se libera al terminar la transacción.
+     */
+    private void lockAccount(Long accountId) {
+        MovementPhaseEvent event = MovementPhaseEvent.start(MovementPhaseEvent.LOCK_ACCOUNT, accountId);
+        try {
+            accountLockPort.lockAccounts(List.of(accountId)).block();
+        } finally {
+            event.commit();
+        }
+    }
+
     /**
      * Obtiene la cuenta y valida que exista.
      * Lanza ResourceNotFoundException si no existe.
      */
     private Account fetchAndValidateAccount(Long accountId) {
-        return accountRepositoryPort.findAccountById(accountId)
-                .blockOptional()
-                .orElseThrow(() -> new ResourceNotFoundException("Account not found with id: " + accountId));
+        MovementPhaseEvent event = MovementPhaseEvent.start(MovementPhaseEvent.FETCH_ACCOUNT, accountId);
+        try {
+            return accountRepositoryPort.findAccountForBalanceChange(accountId)
+                    .blockOptional()
+                    .orElseThrow(() -> new ResourceNotFoundException("Account not found with id: " + accountId));
+        } finally {
+            event.commit();
+        }
     }
 
 
+    /**
+     * Rechaza un débito sin fondos con el saldo en memoria, sin abrir transacción. Solo rechaza: si
+     * el saldo no está en memoria o alcanza, la comprobación definitiva es la de calculateNewBalance.
+     */
+    private void precheckBalance(Movement movement) {
+        if (!isDebit(movement)) {
+            return;
+        }
+        long cachedCents = balanceCachePort.findBalanceCents(movement.getAccountId());
+        if (cachedCents != BalanceCachePort.NOT_CACHED && cachedCents + movement.getAmount().minorUnits() < 0) {
+            log.error("Insufficient balance for debit movement (pre-check). Current balance: {} cents, Requested amount: {}",
+                    cachedCents, movement.getAmount());
+            throw new InsufficientBalanceException("Insufficient balance");
+        }
+    }
+
     private void validateMovementAmount(Movement movement) {
-        if (movement.getAmount().compareTo(BigDecimal.ZERO) == 0) {
+        if (movement.getAmount().isZero()) {
             log.error("Failed to register movement: The movement amount cannot be zero for account id: {}",
                     movement.getAccountId());
             throw new IllegalArgumentException("The movement amount cannot be zero.");
@@ -115,50 +201,68 @@ public class MovementUseCaseImpl implements MovementUseCase {
     }
 
 
-    private BigDecimal calculateNewBalance(Account account, Movement movement) {
-        BigDecimal previousBalance = account.getInitialBalance();
-        BigDecimal newBalance;
+    // Package-private so the JMH benchmarks in src/jmh can exercise it directly
+    Money calculateNewBalance(Account account, Movement movement) {
+        Money previousBalance = account.getInitialBalance();
+        Money newBalance;
 
         if (isDebit(movement)) {
             movement.setMovementType(DEBIT);
-            BigDecimal resultingBalance = previousBalance.add(movement.getAmount());
+            Money resultingBalance = previousBalance.plus(movement.getAmount());
 
-            if (resultingBalance.compareTo(BigDecimal.ZERO) < 0) {
+            if (resultingBalance.isNegative()) {
                 log.error("Insufficient balance for debit movement. Current balance: {}, Requested amount: {}",
                         previousBalance, movement.getAmount());
                 throw new InsufficientBalanceException("Insufficient balance");
             }
 
             newBalance = resultingBalance;
-            log.info("Debit movement processed. Previous balance: {}, New balance: {}", previousBalance, newBalance);
+            log.debug("Debit movement processed. Previous balance: {}, New balance: {}", previousBalance, newBalance);
         } else {
             movement.setMovementType(CREDIT);
-            newBalance = previousBalance.add(movement.getAmount());
-            log.info("Credit movement processed. Previous balance: {}, New balance: {}", previousBalance, newBalance);
+            newBalance = previousBalance.plus(movement.getAmount());
+            log.debug("Credit movement processed. Previous balance: {}, New balance: {}", previousBalance, newBalance);
         }
 
         return newBalance;
     }
 
     private boolean isDebit(Movement movement) {
-        return movement.getAmount().compareTo(BigDecimal.ZERO) < 0;
+        return movement.getAmount().isNegative();
     }
 
-    private void updateMovementDetails(Movement movement, BigDecimal newBalance) {
+    private void updateMovementDetails(Movement movement, Money newBalance) {
         movement.setDate(LocalDateTime.now());
         movement.setBalance(newBalance);
     }
 
-    private void updateAccountBalance(Account account, BigDecimal newBalance) {
+    private void updateAccountBalance(Account account, Money newBalance) {
         account.setInitialBalance(newBalance);
     }
 
     private Movement persistMovement(Movement movement, Account account,
-                                     BigDecimal previousBalance, BigDecimal newBalance) {
-        accountRepositoryPort.saveAccount(account).block();
-        Movement savedMovement = movementRepositoryPort.saveMovement(movement)
-                .blockOptional()
-                .orElseThrow(() -> new RuntimeException("Movement could not be persisted"));
+                                     Money previousBalance, Money newBalance) {
+        MovementPhaseEvent saveEvent = MovementPhaseEvent.start(MovementPhaseEvent.SAVE_ACCOUNT, account.getId());
+        try {
+            accountRepositoryPort.saveAccount(account).block();
+        } finally {
+            saveEvent.commit();
+        }
+
+        return insertMovement(movement, account.getId(), previousBalance, newBalance);
+    }
+
+    private Movement insertMovement(Movement movement, Long accountId,
+                                    Money previousBalance, Money newBalance) {
+        Movement savedMovement;
+        MovementPhaseEvent insertEvent = MovementPhaseEvent.start(MovementPhaseEvent.INSERT_MOVEMENT, accountId);
+        try {
+            savedMovement = movementRepositoryPort.saveMovement(movement)
+                    .blockOptional()
+                    .orElseThrow(() -> new RuntimeException("Movement could not be persisted"));
+        } finally {
+            insertEvent.commit();
+        }
 
         log.info("Movement successfully registered with id: {}. Previous balance: {}, New balance: {}",
                 savedMovement.getId(), previousBalance, newBalance);
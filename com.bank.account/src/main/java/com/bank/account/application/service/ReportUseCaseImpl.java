@@ -1,6 +1,7 @@
 package com.bank.account.application.service;
 
 import com.bank.account.application.input.port.ReportUseCase;
+import com.bank.account.application.jfr.ReportPhaseEvent;
 import com.bank.account.application.output.port.AccountRepositoryPort;
 import com.bank.account.application.output.port.CustomerClientPort;
 import com.bank.account.application.output.port.LedgerRepositoryPort;
@@ -9,36 +10,50 @@ import com.bank.account.domain.model.Account;
 import com.bank.account.domain.model.AccountStatement;
 import com.bank.account.domain.model.Customer;
 import com.bank.account.domain.model.LedgerEntry;
+import com.bank.account.domain.model.Money;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BinaryOperator;
 import java.util.stream.Collectors;
 
 /**
  * Service responsible for generating account statements.
  * Uses the {@link LedgerRepositoryPort} as the single source of truth to ensure
  * statements are based on immutable historical records.
+ *
+ * Entries without balances (credits to accounts with balance slots) take them from the running
+ * balance: the previous entry's balance after, or for the first entry of the period the balance
+ * derived by {@link LedgerRepositoryPort#findBalanceBefore}. Each statement row then chains onto
+ * the previous one.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ReportUseCaseImpl implements ReportUseCase {
 
+    // Orden de los asientos en el extracto; el id desempata los del mismo instante
+    private static final Comparator<LedgerEntry> LEDGER_ORDER = Comparator.comparing(LedgerEntry::getTimestamp)
+            .thenComparing(LedgerEntry::getId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
     private final CustomerClientPort customerClientPort;
     private final AccountRepositoryPort accountRepositoryPort;
     private final LedgerRepositoryPort ledgerRepositoryPort;
 
     /**
      * Internal data container that aggregates base report information.
+     * Package-private, like {@link #buildFullStatementFromLedger}, for the JMH benchmarks.
      */
-    private record ReportData(Customer customer, List<Account> accounts) {}
+    record ReportData(Customer customer, List<Account> accounts) {}
 
     @Override
     public Mono<AccountStatement> generateAccountStatement(Long clientId, String accountNumber,
@@ -46,7 +61,7 @@ public class ReportUseCaseImpl implements ReportUseCase {
         log.info("Generating statement for clientId={}, accountNumber={}, from {} to {}",
                 clientId, accountNumber, startDate, endDate);
 
-        return fetchReportData(clientId, accountNumber)
+        return ReportPhaseEvent.timed(ReportPhaseEvent.FETCH_REPORT_DATA, fetchReportData(clientId, accountNumber))
                 .flatMap(reportData -> {
                     if (reportData.accounts.isEmpty()) {
                         log.warn("No accounts found for clientId={}, accountNumber={}", clientId, accountNumber);
@@ -55,30 +70,42 @@ public class ReportUseCaseImpl implements ReportUseCase {
 
                     List<Long> accountIds = reportData.accounts.stream().map(Account::getId).toList();
 
-                    return ledgerRepositoryPort.findByAccountIdsAndDateRange(accountIds, startDate, endDate)
-                            .collectList()
-                            .map(entries -> {
-                                log.info("Retrieved {} ledger entries for statement", entries.size());
-                                return buildFullStatementFromLedger(reportData, entries, startDate, endDate);
-                            });
+                    Mono<List<LedgerEntry>> ledgerEntries = ledgerRepositoryPort
+                            .findByAccountIdsAndDateRange(accountIds, startDate, endDate)
+                            .collectList();
+
+                    return ReportPhaseEvent.timed(ReportPhaseEvent.FETCH_LEDGER, ledgerEntries)
+                            .flatMap(entries -> findOpeningBalances(entries)
+                                    .map(openingBalances -> {
+                                        log.info("Retrieved {} ledger entries for statement", entries.size());
+                                        ReportPhaseEvent event = ReportPhaseEvent.start(ReportPhaseEvent.BUILD_STATEMENT).items(entries.size());
+                                        try {
+                                            return buildFullStatementFromLedger(reportData, entries, openingBalances, startDate, endDate);
+                                        } finally {
+                                            event.commit();
+                                        }
+                                    }));
                 });
     }
 
     /**
      * Retrieves customer and account data in parallel.
-     * If only the account number is provided, the customer is inferred from it.
+     * If only the account number is provided, the customer is inferred from the account once read.
      */
     private Mono<ReportData> fetchReportData(Long clientId, String accountNumber) {
         Mono<List<Account>> accountsMono = (accountNumber != null && !accountNumber.isBlank())
                 ? accountRepositoryPort.findAccountByNumber(accountNumber)
                 .map(List::of)
                 .switchIfEmpty(Mono.just(Collections.emptyList()))
+                .cache()
                 : accountRepositoryPort.findByCustomerId(clientId).collectList();
 
+        // Sin clientId el cliente sale de la cuenta ya leída, sin una segunda búsqueda por número
         Mono<Customer> customerMono = (clientId != null)
                 ? customerClientPort.findCustomerById(clientId)
-                : accountRepositoryPort.findAccountByNumber(accountNumber)
-                .flatMap(account -> customerClientPort.findCustomerById(account.getCustomerId()));
+                : accountsMono.flatMap(accounts -> accounts.isEmpty()
+                ? Mono.<Customer>empty()
+                : customerClientPort.findCustomerById(accounts.getFirst().getCustomerId()));
 
         return Mono.zip(customerMono, accountsMono, ReportData::new)
                 .switchIfEmpty(Mono.error(new ResourceNotFoundException(
@@ -86,19 +113,37 @@ public class ReportUseCaseImpl implements ReportUseCase {
     }
 
     /**
-     * Builds a complete statement grouped by account.
+     * Derives the balance before the first entry of each account whose first entry carries none;
+     * the others open with that entry's balance before.
+     */
+    private Mono<Map<Long, Money>> findOpeningBalances(List<LedgerEntry> entries) {
+        Map<Long, LedgerEntry> firstEntries = entries.stream()
+                .collect(Collectors.toMap(LedgerEntry::getAccountId, entry -> entry,
+                        BinaryOperator.minBy(LEDGER_ORDER)));
+        return Flux.fromIterable(firstEntries.values())
+                .filter(first -> first.getBalanceBefore() == null)
+                .flatMap(first -> ledgerRepositoryPort.findBalanceBefore(first)
+                        .map(balance -> Map.entry(first.getAccountId(), balance)))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    /**
+     * Builds a complete statement grouped by account. {@code openingBalances} holds the balance
+     * before the first entry of the accounts whose first entry has no balances.
      */
-    private AccountStatement buildFullStatementFromLedger(ReportData reportData,
-                                                          List<LedgerEntry> allLedgerEntries,
-                                                          LocalDateTime startDate,
-                                                          LocalDateTime endDate) {
+    AccountStatement buildFullStatementFromLedger(ReportData reportData,
+                                                  List<LedgerEntry> allLedgerEntries,
+                                                  Map<Long, Money> openingBalances,
+                                                  LocalDateTime startDate,
+                                                  LocalDateTime endDate) {
         Map<Long, List<LedgerEntry>> entriesByAccount = allLedgerEntries.stream()
                 .collect(Collectors.groupingBy(LedgerEntry::getAccountId));
 
         List<AccountStatement.AccountReportDetail> accountDetails = reportData.accounts.stream()
                 .map(account -> {
                     List<LedgerEntry> accountEntries = entriesByAccount.getOrDefault(account.getId(), Collections.emptyList());
-                    return buildAccountDetailFromLedger(account, accountEntries, startDate, endDate);
+                    return buildAccountDetailFromLedger(account, accountEntries, openingBalances.get(account.getId()),
+                            startDate, endDate);
                 })
                 .toList();
 
@@ -115,18 +160,22 @@ public class ReportUseCaseImpl implements ReportUseCase {
      */
     private AccountStatement.AccountReportDetail buildAccountDetailFromLedger(Account account,
                                                                               List<LedgerEntry> ledgerEntries,
+                                                                              Money openingBalance,
                                                                               LocalDateTime startDate,
                                                                               LocalDateTime endDate) {
-        ledgerEntries.sort((e1, e2) -> e1.getTimestamp().compareTo(e2.getTimestamp()));
-
-        BigDecimal initialBalance = calculateInitialBalanceForPeriod(account, ledgerEntries, startDate);
-        BigDecimal finalBalance = ledgerEntries.isEmpty()
-                ? initialBalance
-                : ledgerEntries.get(ledgerEntries.size() - 1).getBalanceAfter();
-
-        List<AccountStatement.MovementReportDetail> movements = ledgerEntries.stream()
-                .map(this::convertLedgerEntryToMovementDetail)
-                .toList();
+        ledgerEntries.sort(LEDGER_ORDER);
+
+        Money initialBalance = calculateInitialBalanceForPeriod(account, ledgerEntries, openingBalance, startDate);
+        Money runningBalance = initialBalance;
+        List<AccountStatement.MovementReportDetail> movements = new ArrayList<>(ledgerEntries.size());
+        for (LedgerEntry ledgerEntry : ledgerEntries) {
+            // Los asientos con saldo lo traen exacto; los que no, siguen al anterior
+            runningBalance = ledgerEntry.getBalanceAfter() != null
+                    ? ledgerEntry.getBalanceAfter()
+                    : runningBalance.plus(signedAmount(ledgerEntry));
+            movements.add(convertLedgerEntryToMovementDetail(ledgerEntry, runningBalance));
+        }
+        Money finalBalance = runningBalance;
 
         log.debug("Account {}: {} entries, initial={}, final={}",
                 account.getAccountNumber(), movements.size(), initialBalance, finalBalance);
@@ -142,14 +191,23 @@ public class ReportUseCaseImpl implements ReportUseCase {
 
     /**
      * Determines the initial balance for a given period.
-     * - If there are transactions, uses the first entry’s balanceBefore.
+     * - If there are transactions, uses the first entry’s balanceBefore, or the derived
+     *   {@code openingBalance} when the entry has none.
      * - Otherwise, uses the account’s current balance.
      */
-    private BigDecimal calculateInitialBalanceForPeriod(Account account,
+    private Money calculateInitialBalanceForPeriod(Account account,
                                                         List<LedgerEntry> entriesInPeriod,
+                                                        Money openingBalance,
                                                         LocalDateTime startDate) {
         if (!entriesInPeriod.isEmpty()) {
-            return entriesInPeriod.get(0).getBalanceBefore();
+            Money balanceBefore = entriesInPeriod.get(0).getBalanceBefore();
+            if (balanceBefore != null) {
+                return balanceBefore;
+            }
+            if (openingBalance == null) {
+                throw new IllegalStateException("No opening balance for account " + account.getId());
+            }
+            return openingBalance;
         }
 
         log.warn("No ledger entries found in period for account {}. Using current balance as initial.", account.getId());
@@ -160,20 +218,24 @@ public class ReportUseCaseImpl implements ReportUseCase {
      * Converts a ledger entry into a customer-facing movement detail.
      * Debits are displayed as negative amounts.
      */
-    private AccountStatement.MovementReportDetail convertLedgerEntryToMovementDetail(LedgerEntry ledgerEntry) {
+    private AccountStatement.MovementReportDetail convertLedgerEntryToMovementDetail(LedgerEntry ledgerEntry,
+                                                                                    Money balanceAfter) {
         String movementType = ledgerEntry.getEntryType() == LedgerEntry.LedgerEntryType.DEBIT ? "Debit" : "Credit";
-        BigDecimal amount = ledgerEntry.getEntryType() == LedgerEntry.LedgerEntryType.DEBIT
-                ? ledgerEntry.getAmount().negate()
-                : ledgerEntry.getAmount();
 
         return AccountStatement.MovementReportDetail.builder()
                 .date(ledgerEntry.getTimestamp())
                 .movementType(movementType)
-                .amount(amount)
-                .balanceAfterMovement(ledgerEntry.getBalanceAfter())
+                .amount(signedAmount(ledgerEntry))
+                .balanceAfterMovement(balanceAfter)
                 .build();
     }
 
+    private static Money signedAmount(LedgerEntry ledgerEntry) {
+        return ledgerEntry.getEntryType() == LedgerEntry.LedgerEntryType.DEBIT
+                ? ledgerEntry.getAmount().negate()
+                : ledgerEntry.getAmount();
+    }
+
     /**
      * Builds an empty statement when the customer has no accounts.
      */
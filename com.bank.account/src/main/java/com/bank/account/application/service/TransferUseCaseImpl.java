@@ -0,0 +1,155 @@
+package com.bank.account.application.service;
+
+import com.bank.account.application.input.port.LedgerUseCase;
+import com.bank.account.application.input.port.TransferUseCase;
+import com.bank.account.application.output.port.AccountLockPort;
+import com.bank.account.application.output.port.AccountRepositoryPort;
+import com.bank.account.application.output.port.BalanceCachePort;
+import com.bank.account.application.output.port.MovementRepositoryPort;
+import com.bank.account.application.output.port.TransactionPort;
+import com.bank.account.domain.exception.InsufficientBalanceException;
+import com.bank.account.domain.exception.InvalidTransferException;
+import com.bank.account.domain.exception.ResourceNotFoundException;
+import com.bank.account.domain.model.Account;
+import com.bank.account.domain.model.LedgerEntry;
+import com.bank.account.domain.model.Money;
+import com.bank.account.domain.model.Movement;
+import com.bank.account.domain.model.Transfer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Account-to-account transfers booked in a single transaction: both balances, a debit and a
+ * credit movement and a balanced pair of ledger entries linked by the transfer id.
+ *
+ * Both accounts are locked through {@link AccountLockPort} before their balances are read; the
+ * port always locks the lower id first, so two opposite transfers between the same accounts queue
+ * on the same lock instead of each holding one and waiting for the other (deadlock).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransferUseCaseImpl implements TransferUseCase {
+
+    private static final String DEBIT = "Debit";
+    private static final String CREDIT = "Credit";
+
+    private final AccountRepositoryPort accountRepositoryPort;
+    private final MovementRepositoryPort movementRepositoryPort;
+    private final LedgerUseCase ledgerUseCase;
+    private final TransactionPort transactionPort;
+    private final AccountLockPort accountLockPort;
+    private final BalanceCachePort balanceCachePort;
+
+    @Override
+    public Mono<Transfer> transfer(Transfer transfer) {
+        log.info("Attempting to transfer {} from account id: {} to account id: {}",
+                transfer.getAmount(), transfer.getSourceAccountId(), transfer.getTargetAccountId());
+
+        return Mono.fromRunnable(() -> validateTransfer(transfer))
+                .then(Mono.defer(() -> transactionPort.inTransaction(() -> executeTransfer(transfer))));
+    }
+
+    private Transfer executeTransfer(Transfer transfer) {
+        Long sourceId = transfer.getSourceAccountId();
+        Long targetId = transfer.getTargetAccountId();
+
+        accountLockPort.lockAccounts(List.of(sourceId, targetId)).block();
+        Account source = fetchAccount(sourceId);
+        Account target = fetchAccount(targetId);
+
+        Money amount = transfer.getAmount();
+        Money sourceBefore = source.getInitialBalance();
+        Money targetBefore = target.getInitialBalance();
+        Money sourceAfter = sourceBefore.minus(amount);
+        if (sourceAfter.isNegative()) {
+            log.error("Insufficient balance for transfer. Current balance: {}, Requested amount: {}", sourceBefore, amount);
+            throw new InsufficientBalanceException("Insufficient balance");
+        }
+        Money targetAfter = targetBefore.plus(amount);
+
+        source.setInitialBalance(sourceAfter);
+        target.setInitialBalance(targetAfter);
+        balanceCachePort.balanceChanged(source);
+        balanceCachePort.balanceChanged(target);
+        accountRepositoryPort.saveAccount(source).block();
+        accountRepositoryPort.saveAccount(target).block();
+
+        String transferId = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        Movement debit = saveMovement(sourceId, DEBIT, amount.negate(), sourceAfter, now);
+        Movement credit = saveMovement(targetId, CREDIT, amount, targetAfter, now);
+
+        recordLedgerEntry(transferId, debit, source, LedgerEntry.LedgerEntryType.DEBIT, amount, sourceBefore, sourceAfter);
+        recordLedgerEntry(transferId, credit, target, LedgerEntry.LedgerEntryType.CREDIT, amount, targetBefore, targetAfter);
+
+        log.info("Transfer {} completed: {} from account {} to account {}", transferId, amount, sourceId, targetId);
+        return transfer.toBuilder()
+                .transferId(transferId)
+                .date(now)
+                .debitMovementId(debit.getId())
+                .creditMovementId(credit.getId())
+                .sourceBalance(sourceAfter)
+                .targetBalance(targetAfter)
+                .build();
+    }
+
+    private Account fetchAccount(Long accountId) {
+        return accountRepositoryPort.findAccountForBalanceChange(accountId)
+                .blockOptional()
+                .orElseThrow(() -> new ResourceNotFoundException("Account not found with id: " + accountId));
+    }
+
+    private Movement saveMovement(Long accountId, String movementType, Money amount,
+                                  Money balance, LocalDateTime date) {
+        Movement movement = Movement.builder()
+                .accountId(accountId)
+                .movementType(movementType)
+                .amount(amount)
+                .balance(balance)
+                .date(date)
+                .build();
+        return movementRepositoryPort.saveMovement(movement)
+                .blockOptional()
+                .orElseThrow(() -> new RuntimeException("Movement could not be persisted"));
+    }
+
+    private void recordLedgerEntry(String transferId, Movement movement, Account account,
+                                   LedgerEntry.LedgerEntryType entryType, Money amount,
+                                   Money balanceBefore, Money balanceAfter) {
+        LedgerEntry ledgerEntry = LedgerEntry.builder()
+                .timestamp(movement.getDate())
+                .movementId(movement.getId())
+                .transferId(transferId)
+                .accountId(account.getId())
+                .entryType(entryType)
+                .amount(amount)
+                .balanceBefore(balanceBefore)
+                .balanceAfter(balanceAfter)
+                .description("Transfer " + transferId + " " + movement.getMovementType().toLowerCase()
+                        + " of " + amount + " on account " + account.getAccountNumber())
+                .initiatedBy("SYSTEM")
+                .build();
+        ledgerUseCase.recordLedgerEntry(ledgerEntry).block();
+    }
+
+    private void validateTransfer(Transfer transfer) {
+        if (transfer.getSourceAccountId().equals(transfer.getTargetAccountId())) {
+            throw new InvalidTransferException("Source and target accounts must be different.");
+        }
+        if (transfer.getAmount().signum() <= 0) {
+            throw new InvalidTransferException("The transfer amount must be positive.");
+        }
+        // Pre-chequeo con el saldo en memoria; la comprobación definitiva se hace con la cuenta bloqueada
+        long cachedCents = balanceCachePort.findBalanceCents(transfer.getSourceAccountId());
+        if (cachedCents != BalanceCachePort.NOT_CACHED && cachedCents < transfer.getAmount().minorUnits()) {
+            throw new InsufficientBalanceException("Insufficient balance");
+        }
+    }
+}
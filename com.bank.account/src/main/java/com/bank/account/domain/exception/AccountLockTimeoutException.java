@@ -0,0 +1,11 @@
+package com.bank.account.domain.exception;
+
+/**
+ * Thrown when the lock on an account could not be acquired within the configured timeout
+ * because other operations on the same account hold it. The request can be retried shortly.
+ */
+public class AccountLockTimeoutException extends RuntimeException {
+    public AccountLockTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,12 @@
+package com.bank.account.domain.exception;
+
+/**
+ * Thrown when a transfer joins accounts stored in different shards. A transaction spans one
+ * database, so such a transfer is not supported; the request itself is valid and nothing was
+ * changed.
+ */
+public class CrossShardTransferException extends RuntimeException {
+    public CrossShardTransferException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.bank.account.domain.exception;
+
+/**
+ * Thrown when database work cannot be admitted because the connection pool is saturated.
+ * The request can be retried shortly.
+ */
+public class DatabaseSaturatedException extends RuntimeException {
+    public DatabaseSaturatedException(String message) {
+        super(message);
+    }
+}
@@ -3,15 +3,15 @@ package com.bank.account.domain.model;
 import lombok.Builder;
 import lombok.Data;
 
-import java.math.BigDecimal;
-
 @Data
 @Builder(toBuilder = true)
 public class Account {
     private Long id;
     private String accountNumber;
     private String accountType;
-    private BigDecimal initialBalance;
+    private Money initialBalance;
     private Boolean status;
     private Long customerId;
+    // Filas en las que se reparte el saldo (1 = sin repartir); ver configureBalanceSlots
+    private Integer balanceSlots;
 }
\ No newline at end of file
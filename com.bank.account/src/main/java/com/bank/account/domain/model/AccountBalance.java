@@ -0,0 +1,11 @@
+package com.bank.account.domain.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class AccountBalance {
+    private Long accountId;
+    private Money balance;
+}
@@ -2,7 +2,6 @@ package com.bank.account.domain.model;
 
 import lombok.Builder;
 import lombok.Data;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -19,8 +18,8 @@ public class AccountStatement {
     public static class AccountReportDetail {
         private String accountNumber;
         private String accountType;
-        private BigDecimal initialBalance;
-        private BigDecimal finalBalance;
+        private Money initialBalance;
+        private Money finalBalance;
         private List<MovementReportDetail> movements;
     }
 
@@ -29,7 +28,7 @@ public class AccountStatement {
     public static class MovementReportDetail {
         private LocalDateTime date;
         private String movementType;
-        private BigDecimal amount;
-        private BigDecimal balanceAfterMovement;
+        private Money amount;
+        private Money balanceAfterMovement;
     }
 }
\ No newline at end of file
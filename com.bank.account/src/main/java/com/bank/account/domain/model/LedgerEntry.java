@@ -3,7 +3,6 @@ package com.bank.account.domain.model;
 import lombok.Builder;
 import lombok.Data;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 /**
@@ -35,15 +34,22 @@ public class LedgerEntry {
 
     private Long movementId;
 
+    /** Shared by the debit and credit entries of a transfer; null for single movements. */
+    private String transferId;
+
     private Long accountId;
 
     private LedgerEntryType entryType;
 
-    private BigDecimal amount;
+    private Money amount;
 
-    private BigDecimal balanceBefore;
+    /**
+     * Balances around the entry; both null for credits to accounts with balance slots, whose
+     * balance is only known from the amounts (see ReportUseCaseImpl).
+     */
+    private Money balanceBefore;
 
-    private BigDecimal balanceAfter;
+    private Money balanceAfter;
 
     private String description;
 
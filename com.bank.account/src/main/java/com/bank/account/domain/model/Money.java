@@ -0,0 +1,110 @@
+package com.bank.account.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Amount of money as a {@code long} of minor units (cents). Every balance and amount column is
+ * {@code NUMERIC(10, 2)}, so any stored value fits with room to spare, and the arithmetic of a
+ * movement works on primitives instead of allocating a {@link BigDecimal} per operation.
+ *
+ * Immutable. Arithmetic throws {@link ArithmeticException} on {@code long} overflow instead of
+ * wrapping around. Values coming from a {@code BigDecimal} with more than two decimals are rounded
+ * HALF_UP, the same rounding the {@code NUMERIC(10, 2)} columns apply.
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0);
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    public static Money of(BigDecimal amount) {
+        return ofMinor(amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    /** Parses a decimal such as {@code "1500.00"} or {@code "-0.5"}. */
+    public static Money parse(String amount) {
+        return of(new BigDecimal(amount));
+    }
+
+    public long minorUnits() {
+        return minorUnits;
+    }
+
+    public Money plus(Money other) {
+        return ofMinor(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return ofMinor(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public Money negate() {
+        return ofMinor(Math.negateExact(minorUnits));
+    }
+
+    public Money abs() {
+        return minorUnits < 0 ? negate() : this;
+    }
+
+    public int signum() {
+        return Long.signum(minorUnits);
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0;
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0;
+    }
+
+    /** Nearest {@code double}, as {@code BigDecimal.doubleValue()} would return; for display only. */
+    public double doubleValue() {
+        return minorUnits / 100.0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Money money && money.minorUnits == minorUnits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    /** Plain decimal with two places, as {@code BigDecimal.toString()} prints a scale-2 value: {@code -1500.05}. */
+    @Override
+    public String toString() {
+        long units = Math.abs(minorUnits / 100);
+        long cents = Math.abs(minorUnits % 100);
+        StringBuilder text = new StringBuilder(24);
+        if (minorUnits < 0) {
+            text.append('-');
+        }
+        text.append(units).append('.');
+        if (cents < 10) {
+            text.append('0');
+        }
+        return text.append(cents).toString();
+    }
+}
@@ -3,7 +3,6 @@ package com.bank.account.domain.model;
 import lombok.Builder;
 import lombok.Data;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Data
@@ -12,7 +11,7 @@ public class Movement {
     private Long id;
     private LocalDateTime date;
     private String movementType;
-    private BigDecimal amount;
-    private BigDecimal balance;
+    private Money amount;
+    private Money balance;
     private Long accountId;
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.bank.account.domain.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Money moved from one account to another in a single transaction. It is booked as a debit
+ * movement on the source account and a credit movement on the target account, and as two ledger
+ * entries that share {@code transferId}.
+ */
+@Data
+@Builder(toBuilder = true)
+public class Transfer {
+    private String transferId;
+    private Long sourceAccountId;
+    private Long targetAccountId;
+    private Money amount;
+    private LocalDateTime date;
+    private Long debitMovementId;
+    private Long creditMovementId;
+    private Money sourceBalance;
+    private Money targetBalance;
+}
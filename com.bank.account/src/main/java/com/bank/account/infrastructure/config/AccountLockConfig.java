@@ -0,0 +1,32 @@
+package com.bank.account.infrastructure.config;
+
+import com.bank.account.infrastructure.output.adapter.jpa.impl.AccountLockAdapter;
+import com.bank.account.infrastructure.output.adapter.jpa.repository.AccountSpringRepository;
+import com.bank.account.infrastructure.output.adapter.jpa.support.DbBulkhead;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Per-account locking used by movement posting and transfers (see {@link AccountLockAdapter}).
+ * The JdbcTemplate runs on the primary pool, so its statements join the JPA transaction.
+ */
+@Configuration
+public class AccountLockConfig {
+
+    // advisory en PostgreSQL; row para bases sin pg_advisory_xact_lock (H2 en loadtest)
+    @Bean
+    public AccountLockAdapter accountLockAdapter(DataSource dataSource,
+                                                 AccountSpringRepository accountSpringRepository,
+                                                 DbBulkhead oltpBulkhead, MeterRegistry meterRegistry,
+                                                 @Value("${app.account-lock.mode}") AccountLockAdapter.Mode mode,
+                                                 @Value("${app.account-lock.timeout}") Duration timeout) {
+        return new AccountLockAdapter(mode, timeout, new JdbcTemplate(dataSource), accountSpringRepository,
+                oltpBulkhead, meterRegistry);
+    }
+}
@@ -0,0 +1,54 @@
+package com.bank.account.infrastructure.config;
+
+import com.bank.account.infrastructure.output.adapter.cache.impl.BalanceCacheAdapter;
+import com.bank.account.infrastructure.output.adapter.cache.support.BalanceIndex;
+import com.bank.account.infrastructure.output.adapter.cache.support.BalanceIndexLoader;
+import com.bank.account.infrastructure.output.adapter.jpa.support.ShardMap;
+import com.bank.account.infrastructure.output.adapter.jpa.support.ShardRouting;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * In-memory balance index (see {@link BalanceCacheAdapter}). The adapter is always registered;
+ * without {@code app.balance-cache.enabled=true} it has no index and every lookup misses.
+ */
+@Configuration
+public class BalanceCacheConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.balance-cache.enabled", havingValue = "true")
+    public BalanceIndex balanceIndex(@Value("${app.balance-cache.initial-capacity}") int initialCapacity,
+                                     @Value("${app.balance-cache.max-entries}") int maxEntries) {
+        return new BalanceIndex(initialCapacity, maxEntries);
+    }
+
+    @Bean
+    public BalanceCacheAdapter balanceCacheAdapter(ObjectProvider<BalanceIndex> balanceIndex, MeterRegistry meterRegistry) {
+        return new BalanceCacheAdapter(balanceIndex.getIfAvailable(), meterRegistry);
+    }
+
+    // Se ejecuta al arrancar; los movimientos que lleguen mientras tanto no se pierden (ver BalanceIndex.put)
+    @Bean
+    @ConditionalOnProperty(name = {"app.balance-cache.enabled", "app.balance-cache.warm-on-startup"}, havingValue = "true")
+    public ApplicationRunner balanceIndexWarmer(BalanceIndex balanceIndex, JdbcTemplate jdbcTemplate,
+                                                PlatformTransactionManager transactionManager,
+                                                ObjectProvider<ShardMap> shardMap) {
+        BalanceIndexLoader loader = new BalanceIndexLoader(jdbcTemplate, transactionManager);
+        return args -> {
+            ShardMap shards = shardMap.getIfAvailable();
+            if (shards == null) {
+                loader.load(balanceIndex);
+                return;
+            }
+            // Con sharding (ver ShardingConfig) se carga shard a shard
+            shards.shards().forEach(shard -> ShardRouting.runOnShard(shard, () -> loader.load(balanceIndex)));
+        };
+    }
+}
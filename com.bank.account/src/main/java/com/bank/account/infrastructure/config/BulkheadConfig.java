@@ -0,0 +1,36 @@
+package com.bank.account.infrastructure.config;
+
+import com.bank.account.infrastructure.output.adapter.jpa.support.DbBulkhead;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+
+/**
+ * Permit pools in front of the blocking repository adapters. OLTP calls (accounts, movements,
+ * ledger writes) run on the jdbc scheduler against the primary pool; report range queries run on
+ * the report scheduler against the report pool (see {@link DataSourceConfig}). Each bulkhead's
+ * permits should match the size of the connection pool behind it.
+ */
+@Configuration
+public class BulkheadConfig {
+
+    @Bean
+    public DbBulkhead oltpBulkhead(Scheduler jdbcScheduler, MeterRegistry meterRegistry,
+                                   @Value("${app.bulkhead.oltp.permits}") int permits,
+                                   @Value("${app.bulkhead.oltp.max-queue}") int maxQueue,
+                                   @Value("${app.bulkhead.oltp.max-queue-wait}") Duration maxQueueWait) {
+        return new DbBulkhead("oltp", permits, maxQueue, maxQueueWait, jdbcScheduler, meterRegistry);
+    }
+
+    @Bean
+    public DbBulkhead reportBulkhead(Scheduler reportScheduler, MeterRegistry meterRegistry,
+                                     @Value("${app.bulkhead.report.permits}") int permits,
+                                     @Value("${app.bulkhead.report.max-queue}") int maxQueue,
+                                     @Value("${app.bulkhead.report.max-queue-wait}") Duration maxQueueWait) {
+        return new DbBulkhead("report", permits, maxQueue, maxQueueWait, reportScheduler, meterRegistry);
+    }
+}
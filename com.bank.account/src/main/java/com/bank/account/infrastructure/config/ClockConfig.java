@@ -0,0 +1,16 @@
+package com.bank.account.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+public class ClockConfig {
+
+    // Reloj compartido por los deadlines de peticiones y consultas; los tests pueden sustituirlo
+    @Bean
+    public Clock clock() {
+        return Clock.systemUTC();
+    }
+}
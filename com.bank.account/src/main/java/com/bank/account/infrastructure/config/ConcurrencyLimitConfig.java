@@ -0,0 +1,36 @@
+package com.bank.account.infrastructure.config;
+
+import com.bank.account.infrastructure.input.adapter.rest.filter.AdaptiveConcurrencyLimiter;
+import com.bank.account.infrastructure.input.adapter.rest.filter.ConcurrencyLimitWebFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "app.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(
+            @Value("${app.concurrency-limit.initial-limit}") int initialLimit,
+            @Value("${app.concurrency-limit.min-limit}") int minLimit,
+            @Value("${app.concurrency-limit.max-limit}") int maxLimit,
+            @Value("${app.concurrency-limit.report-share}") double reportShare,
+            @Value("${app.concurrency-limit.smoothing}") double smoothing,
+            @Value("${app.concurrency-limit.window}") Duration window) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, reportShare, smoothing, window, System::nanoTime);
+    }
+
+    // Registrado como @Bean (no @Component) para que los @WebFluxTest de controladores no lo carguen
+    @Bean
+    public ConcurrencyLimitWebFilter concurrencyLimitWebFilter(AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter,
+                                                               ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                                               @Value("${app.concurrency-limit.retry-after}") Duration retryAfter) {
+        return new ConcurrencyLimitWebFilter(adaptiveConcurrencyLimiter, objectMapper, retryAfter, meterRegistry);
+    }
+}
@@ -0,0 +1,59 @@
+package com.bank.account.infrastructure.config;
+
+import com.bank.account.infrastructure.deadline.DeadlineQueryTimeoutDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+
+/**
+ * Second Hikari pool for report range queries over the ledger. It points at the same database as
+ * the primary pool ({@code spring.datasource.*}) but is sized and tuned under
+ * {@code app.report.datasource.hikari.*}, so long statement queries never hold connections that
+ * movement posting needs.
+ *
+ * The pool is not a default candidate: JPA, the transaction manager and every {@code DataSource}
+ * injection by type keep using the auto-configured primary pool.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    // Pool de solo lectura para reportes; publica métricas hikaricp.* con pool=report
+    // Con sharding cada shard tiene el suyo (ver ShardingConfig)
+    @Bean(defaultCandidate = false)
+    @ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "false", matchIfMissing = true)
+    @ConfigurationProperties("app.report.datasource.hikari")
+    public HikariDataSource reportDataSource(DataSourceProperties dataSourceProperties, MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+
+    // Con réplica o sharding lo definen ReplicaDataSourceConfig o ShardingConfig
+    @Bean
+    @ConditionalOnProperty(name = {"app.replica.enabled", "app.sharding.enabled"}, havingValue = "false", matchIfMissing = true)
+    public NamedParameterJdbcTemplate reportJdbcTemplate(@Qualifier("reportDataSource") DataSource reportDataSource,
+                                                         @Value("${app.report.datasource.fetch-size}") int fetchSize) {
+        return reportTemplate(reportDataSource, fetchSize);
+    }
+
+    // Las consultas de reportes también cortan al llegar el deadline de la petición
+    static NamedParameterJdbcTemplate reportTemplate(DataSource dataSource, int fetchSize) {
+        NamedParameterJdbcTemplate template = new NamedParameterJdbcTemplate(
+                new DeadlineQueryTimeoutDataSource(dataSource, Clock.systemUTC()));
+        template.getJdbcTemplate().setFetchSize(fetchSize);
+        return template;
+    }
+}
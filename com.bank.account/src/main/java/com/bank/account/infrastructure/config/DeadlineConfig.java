@@ -0,0 +1,33 @@
+package com.bank.account.infrastructure.config;
+
+import com.bank.account.infrastructure.deadline.DeadlineQueryTimeoutBeanPostProcessor;
+import com.bank.account.infrastructure.input.adapter.rest.filter.DeadlineWebFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "app.deadline.enabled", havingValue = "true", matchIfMissing = true)
+public class DeadlineConfig {
+
+    // Registrado como @Bean (no @Component) para que los @WebFluxTest de controladores no lo carguen
+    @Bean
+    public DeadlineWebFilter deadlineWebFilter(ObjectMapper objectMapper, MeterRegistry meterRegistry, Clock clock,
+                                               @Value("${app.deadline.default-budget}") Duration defaultBudget,
+                                               @Value("${app.deadline.max-budget}") Duration maxBudget) {
+        return new DeadlineWebFilter(defaultBudget, maxBudget, objectMapper, clock, meterRegistry);
+    }
+
+    // Los statements JDBC de una petición llevan como query timeout lo que le queda a su deadline
+    // static: los BeanPostProcessor se crean antes que el resto de beans de configuración
+    @Bean
+    public static DeadlineQueryTimeoutBeanPostProcessor deadlineQueryTimeoutBeanPostProcessor() {
+        return new DeadlineQueryTimeoutBeanPostProcessor(Clock.systemUTC());
+    }
+}
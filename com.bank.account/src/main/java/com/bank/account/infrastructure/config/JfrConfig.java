@@ -0,0 +1,23 @@
+package com.bank.account.infrastructure.config;
+
+import com.bank.account.infrastructure.jfr.JfrRecordingEndpoint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Configuration
+public class JfrConfig {
+
+    // Solo se crea si el endpoint está expuesto (management.endpoints.web.exposure.include)
+    @Bean
+    @ConditionalOnAvailableEndpoint
+    public JfrRecordingEndpoint jfrRecordingEndpoint(@Value("${app.jfr.default-settings}") String defaultSettings,
+                                                     @Value("${app.jfr.max-age}") Duration maxAge,
+                                                     @Value("${app.jfr.max-size}") DataSize maxSize) {
+        return new JfrRecordingEndpoint(defaultSettings, maxAge, maxSize);
+    }
+}
@@ -0,0 +1,15 @@
+package com.bank.account.infrastructure.config;
+
+import com.bank.account.infrastructure.logging.LoggingMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class LoggingConfig {
+
+    // Métricas de los appenders asíncronos y del muestreo declarados en logback-spring.xml
+    @Bean
+    public LoggingMetrics loggingMetrics() {
+        return new LoggingMetrics();
+    }
+}
@@ -1,13 +1,22 @@
 package com.bank.account.infrastructure.config;
 
+import com.bank.account.domain.model.Money;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
+import org.springdoc.core.utils.SpringDocUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.math.BigDecimal;
+
 @Configuration
 public class OpenApiConfig {
 
+    // Money se serializa como número (ver MoneyJsonComponent): se documenta igual que BigDecimal
+    static {
+        SpringDocUtils.getConfig().replaceWithClass(Money.class, BigDecimal.class);
+    }
+
     @Bean
     public OpenAPI customOpenApi() {
         return new OpenAPI()
@@ -0,0 +1,22 @@
+package com.bank.account.infrastructure.config;
+
+import com.bank.account.infrastructure.metrics.PortMetricsAdvisor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+@Configuration
+@ConditionalOnProperty(name = "management.metrics.ports.enabled", havingValue = "true", matchIfMissing = true)
+public class PortMetricsConfig {
+
+    // Rol de infraestructura: el auto-proxy de Spring lo aplica junto al resto de consejos del bean, sin un segundo proxy
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static PortMetricsAdvisor portMetricsAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new PortMetricsAdvisor(meterRegistry);
+    }
+}
@@ -0,0 +1,56 @@
+package com.bank.account.infrastructure.config;
+
+import com.bank.account.infrastructure.input.adapter.rest.filter.ClientRateLimiter;
+import com.bank.account.infrastructure.input.adapter.rest.filter.RateLimitWebFilter;
+import com.bank.account.infrastructure.input.adapter.rest.filter.RateLimitWebFilter.Family;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(name = "app.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Value("${app.rate-limit.stripes}")
+    private int stripes;
+
+    @Value("${app.rate-limit.max-clients}")
+    private int maxClients;
+
+    @Value("${app.rate-limit.address-ceiling-factor}")
+    private double addressCeilingFactor;
+
+    // Registrado como @Bean (no @Component) para que los @WebFluxTest de controladores no lo carguen
+    @Bean
+    public RateLimitWebFilter rateLimitWebFilter(
+            ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${app.rate-limit.movements.permits-per-second}") double movementRate,
+            @Value("${app.rate-limit.movements.burst}") int movementBurst,
+            @Value("${app.rate-limit.transfers.permits-per-second}") double transferRate,
+            @Value("${app.rate-limit.transfers.burst}") int transferBurst,
+            @Value("${app.rate-limit.reports.permits-per-second}") double reportRate,
+            @Value("${app.rate-limit.reports.burst}") int reportBurst,
+            @Value("${app.rate-limit.accounts.permits-per-second}") double accountRate,
+            @Value("${app.rate-limit.accounts.burst}") int accountBurst) {
+        List<Family> families = List.of(
+                new Family("movements", "/api/v1/movements", limiter(movementRate, movementBurst), addressLimiter(movementRate, movementBurst)),
+                new Family("transfers", "/api/v1/transfers", limiter(transferRate, transferBurst), addressLimiter(transferRate, transferBurst)),
+                new Family("reports", "/api/v1/reports", limiter(reportRate, reportBurst), addressLimiter(reportRate, reportBurst)),
+                new Family("accounts", "/api/v1/accounts", limiter(accountRate, accountBurst), addressLimiter(accountRate, accountBurst)));
+        return new RateLimitWebFilter(families, objectMapper, meterRegistry);
+    }
+
+    private ClientRateLimiter limiter(double permitsPerSecond, int burst) {
+        return new ClientRateLimiter(permitsPerSecond, burst, stripes, maxClients, System::nanoTime);
+    }
+
+    // Techo por IP remota: X-API-Key/X-Customer-Id no están verificadas y solo reparten el de su dirección
+    private ClientRateLimiter addressLimiter(double permitsPerSecond, int burst) {
+        return limiter(permitsPerSecond * addressCeilingFactor, (int) Math.ceil(burst * addressCeilingFactor));
+    }
+}
@@ -0,0 +1,115 @@
+package com.bank.account.infrastructure.config;
+
+import com.bank.account.infrastructure.input.adapter.rest.filter.ReadYourWritesGuard;
+import com.bank.account.infrastructure.input.adapter.rest.filter.ReadYourWritesWebFilter;
+import com.bank.account.infrastructure.output.adapter.jpa.support.ReplicaLagMonitor;
+import com.bank.account.infrastructure.output.adapter.jpa.support.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Read replica for read-only transactions and reports ({@code app.replica.*}).
+ *
+ * The application {@code DataSource} becomes a {@link LazyConnectionDataSourceProxy} over the
+ * primary pool whose read-only data source routes to the replica: a transaction marked
+ * {@code readOnly} (the view finders of the Spring Data repositories, {@code SimpleJpaRepository}
+ * reads) takes a replica connection, everything else the primary. Reports use a second replica
+ * pool sized like {@code app.report.datasource.hikari}, next to the primary report pool.
+ *
+ * Reads go back to the primary for a client that wrote in the last
+ * {@code read-your-writes-window} ({@link ReadYourWritesWebFilter}) and for everyone while the
+ * replica lags more than {@code max-lag} ({@link ReplicaLagMonitor}).
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("app.replica.datasource")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    // Mismo pool que crearía la autoconfiguración (spring.datasource.hikari.*), ahora detrás del proxy
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties, MeterRegistry meterRegistry) {
+        return pool(dataSourceProperties, meterRegistry);
+    }
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("app.replica.datasource.hikari")
+    public HikariDataSource replicaDataSource(@Qualifier("replicaDataSourceProperties") DataSourceProperties properties,
+                                              MeterRegistry meterRegistry) {
+        return pool(properties, meterRegistry);
+    }
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("app.replica.report-datasource.hikari")
+    public HikariDataSource reportReplicaDataSource(@Qualifier("replicaDataSourceProperties") DataSourceProperties properties,
+                                                    MeterRegistry meterRegistry) {
+        return pool(properties, meterRegistry);
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               @Value("${app.replica.lag-query}") String lagQuery,
+                                               @Value("${app.replica.max-lag}") Duration maxLag,
+                                               @Value("${app.replica.lag-probe-interval}") Duration interval,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(new JdbcTemplate(replicaDataSource), lagQuery, maxLag, interval, meterRegistry);
+    }
+
+    // DataSource de la aplicación (JPA, transacciones): conexión física solo al primer uso, ya con readOnly decidido
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor, MeterRegistry meterRegistry) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(
+                "oltp", primaryDataSource, replicaDataSource, replicaLagMonitor, meterRegistry));
+        return dataSource;
+    }
+
+    // Sustituye al de DataSourceConfig: los reportes solo leen, van a la réplica salvo lag o read-your-writes
+    @Bean
+    public NamedParameterJdbcTemplate reportJdbcTemplate(@Qualifier("reportDataSource") DataSource reportDataSource,
+                                                         @Qualifier("reportReplicaDataSource") DataSource reportReplicaDataSource,
+                                                         ReplicaLagMonitor replicaLagMonitor, MeterRegistry meterRegistry,
+                                                         @Value("${app.report.datasource.fetch-size}") int fetchSize) {
+        return DataSourceConfig.reportTemplate(new ReplicaRoutingDataSource(
+                "report", reportDataSource, reportReplicaDataSource, replicaLagMonitor, meterRegistry), fetchSize);
+    }
+
+    @Bean
+    public ReadYourWritesWebFilter readYourWritesWebFilter(
+            MeterRegistry meterRegistry,
+            @Value("${app.replica.read-your-writes-window}") Duration window,
+            @Value("${app.replica.read-your-writes-max-clients}") int maxClients) {
+        return new ReadYourWritesWebFilter(new ReadYourWritesGuard(window, maxClients, System::nanoTime), meterRegistry);
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+}
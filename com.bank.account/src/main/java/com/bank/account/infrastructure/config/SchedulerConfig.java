@@ -0,0 +1,68 @@
+package com.bank.account.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Schedulers for blocking work. Each one publishes {@code bank.scheduler.tasks.*} meters tagged by
+ * {@code scheduler}: submitted, active and completed tasks, and {@code pending} tasks waiting for a
+ * free thread together with how long they have been waiting.
+ */
+@Configuration
+public class SchedulerConfig {
+
+    static final String METRICS_PREFIX = "bank";
+
+    @Value("${app.schedulers.jdbc.thread-cap}")
+    private int jdbcThreadCap;
+
+    @Value("${app.schedulers.movement.thread-cap}")
+    private int movementThreadCap;
+
+    @Value("${app.schedulers.report.thread-cap}")
+    private int reportThreadCap;
+
+    @Value("${app.schedulers.report-render.thread-cap}")
+    private int reportRenderThreadCap;
+
+    @Value("${app.schedulers.report-render.queued-task-cap}")
+    private int reportRenderQueuedTaskCap;
+
+    @Value("${app.schedulers.queued-task-cap}")
+    private int queuedTaskCap;
+
+    // Usado por los adaptadores JPA/JDBC
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jdbcScheduler(MeterRegistry meterRegistry) {
+        return timed(Schedulers.newBoundedElastic(jdbcThreadCap, queuedTaskCap, "jdbc"), meterRegistry, "jdbc");
+    }
+
+    // Usado por MovementUseCaseImpl, que bloquea esperando a los adaptadores dentro de la transacción
+    @Bean(destroyMethod = "dispose")
+    public Scheduler movementScheduler(MeterRegistry meterRegistry) {
+        return timed(Schedulers.newBoundedElastic(movementThreadCap, queuedTaskCap, "movement"), meterRegistry, "movement");
+    }
+
+    // Usado por las consultas de rango del ledger (reportes), que tienen su propio pool de conexiones
+    @Bean(destroyMethod = "dispose")
+    public Scheduler reportScheduler(MeterRegistry meterRegistry) {
+        return timed(Schedulers.newBoundedElastic(reportThreadCap, queuedTaskCap, "report"), meterRegistry, "report");
+    }
+
+    // Renderizado del Excel (POI, CPU-bound); la cola es corta para rechazar en vez de acumular
+    @Bean(destroyMethod = "dispose")
+    public Scheduler reportRenderScheduler(MeterRegistry meterRegistry) {
+        return timed(Schedulers.newBoundedElastic(reportRenderThreadCap, reportRenderQueuedTaskCap, "report-render"),
+                meterRegistry, "report-render");
+    }
+
+    private static Scheduler timed(Scheduler scheduler, MeterRegistry meterRegistry, String name) {
+        return Micrometer.timedScheduler(scheduler, meterRegistry, METRICS_PREFIX, Tags.of("scheduler", name));
+    }
+}
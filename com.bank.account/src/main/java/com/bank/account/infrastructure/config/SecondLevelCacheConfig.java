@@ -0,0 +1,59 @@
+package com.bank.account.infrastructure.config;
+
+import com.bank.account.infrastructure.output.adapter.jpa.entity.AccountEntity;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate second-level cache on a local Caffeine JCache (see {@link AccountEntity}). Regions are
+ * created here, bounded and with a TTL, instead of letting Hibernate create unbounded ones.
+ *
+ * The cache is local to each instance: the TTL caps how long a copy changed by another instance
+ * can be served to the lookups by account number. Hit and miss counts are published by Hibernate
+ * statistics as {@code hibernate.second.level.cache.requests} and {@code hibernate.cache.natural.id.requests}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.account-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+    // Proveedor propio (no Caching.getCachingProvider): cada contexto de Spring tiene su CacheManager y lo cierra
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(@Value("${app.account-cache.max-entries}") long maxEntries,
+                                              @Value("${app.account-cache.ttl}") Duration ttl) {
+        CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+        cacheManager.createCache(AccountEntity.CACHE_REGION, regionConfiguration(maxEntries, ttl));
+        cacheManager.createCache(AccountEntity.NATURAL_ID_CACHE_REGION, regionConfiguration(maxEntries, ttl));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheHibernateCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // Una región que no exista en el CacheManager es un error de configuración, no una caché sin límite
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            // Necesario para las métricas de aciertos (HibernateMetrics)
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(long maxEntries, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        return configuration;
+    }
+}
@@ -0,0 +1,143 @@
+package com.bank.account.infrastructure.config;
+
+import com.bank.account.infrastructure.output.adapter.jpa.shard.ShardedPortsBeanPostProcessor;
+import com.bank.account.infrastructure.output.adapter.jpa.support.ShardDataSources;
+import com.bank.account.infrastructure.output.adapter.jpa.support.ShardIdentityInitializer;
+import com.bank.account.infrastructure.output.adapter.jpa.support.ShardMap;
+import com.bank.account.infrastructure.output.adapter.jpa.support.ShardRoutingDataSource;
+import com.bank.account.infrastructure.output.adapter.jpa.support.ShardSchemaIntegrator;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Splits {@code account_db} across several databases ({@code app.sharding.*}). Shard 0 is
+ * {@code spring.datasource.url}; {@code app.sharding.shard-urls} lists shards 1 to N-1, which share
+ * its credentials.
+ *
+ * Every shard gets an OLTP pool sized like {@code spring.datasource.hikari} and a report pool sized
+ * like {@code app.report.datasource.hikari}. The application {@code DataSource} and the report
+ * template route to the shard of the current repository call (see {@link ShardMap}); the account,
+ * movement, ledger and lock ports are wrapped by their sharded adapters.
+ *
+ * Not combinable with {@code app.replica.enabled}: both replace the application {@code DataSource}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    // static: lo necesita el BeanPostProcessor, que se crea antes que el resto de beans
+    @Bean
+    public static ShardMap shardMap(@Value("${app.sharding.shard-urls}") List<String> shardUrls) {
+        return new ShardMap(shardUrls.size() + 1);
+    }
+
+    @Bean
+    public static ShardedPortsBeanPostProcessor shardedPortsBeanPostProcessor(ShardMap shardMap) {
+        return new ShardedPortsBeanPostProcessor(shardMap);
+    }
+
+    // Pools oltp-0, oltp-1, ... con métricas hikaricp.* por pool
+    @Bean(destroyMethod = "close")
+    public ShardDataSources oltpShardDataSources(DataSourceProperties dataSourceProperties, Environment environment,
+                                                 MeterRegistry meterRegistry,
+                                                 @Value("${app.sharding.shard-urls}") List<String> shardUrls) {
+        return pools("oltp", "spring.datasource.hikari", dataSourceProperties, shardUrls, environment, meterRegistry);
+    }
+
+    @Bean(destroyMethod = "close")
+    public ShardDataSources reportShardDataSources(DataSourceProperties dataSourceProperties, Environment environment,
+                                                   MeterRegistry meterRegistry,
+                                                   @Value("${app.sharding.shard-urls}") List<String> shardUrls) {
+        return pools("report", "app.report.datasource.hikari", dataSourceProperties, shardUrls, environment, meterRegistry);
+    }
+
+    // Conexión física solo en la primera sentencia, cuando la llamada al repositorio ya fijó el shard
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("oltpShardDataSources") ShardDataSources oltpShardDataSources,
+                                 MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(
+                new ShardRoutingDataSource("oltp", oltpShardDataSources.byShard(), meterRegistry));
+    }
+
+    // Sustituye al de DataSourceConfig
+    @Bean
+    public NamedParameterJdbcTemplate reportJdbcTemplate(@Qualifier("reportShardDataSources") ShardDataSources reportShardDataSources,
+                                                         MeterRegistry meterRegistry,
+                                                         @Value("${app.report.datasource.fetch-size}") int fetchSize) {
+        return DataSourceConfig.reportTemplate(
+                new ShardRoutingDataSource("report", reportShardDataSources.byShard(), meterRegistry), fetchSize);
+    }
+
+    // ddl-auto en los shards 1..N-1 (Hibernate solo lo aplica a la conexión por defecto, el shard 0)
+    @Bean
+    public HibernatePropertiesCustomizer shardSchemaHibernateCustomizer(ShardMap shardMap) {
+        return properties -> properties.put(AvailableSettings.INTEGRATOR_PROVIDER,
+                (IntegratorProvider) () -> List.of(new ShardSchemaIntegrator(shardMap)));
+    }
+
+    // Depende del EntityManagerFactory: las tablas ya existen en todos los shards
+    @Bean
+    public ShardIdentityInitializer shardIdentityInitializer(EntityManagerFactory entityManagerFactory,
+                                                             @Qualifier("oltpShardDataSources") ShardDataSources oltpShardDataSources) {
+        ShardIdentityInitializer initializer = new ShardIdentityInitializer(oltpShardDataSources.byShard());
+        initializer.initialize();
+        return initializer;
+    }
+
+    // Arrancada la aplicación, una llamada sin shard es un error: ya no hay trabajo de arranque que deba ir al shard 0
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> shardRequiredAfterStartup(DataSource dataSource,
+                                                                               NamedParameterJdbcTemplate reportJdbcTemplate) {
+        return event -> {
+            try {
+                dataSource.unwrap(ShardRoutingDataSource.class).requireShard();
+                reportJdbcTemplate.getJdbcTemplate().getDataSource().unwrap(ShardRoutingDataSource.class).requireShard();
+            } catch (SQLException e) {
+                throw new IllegalStateException("Sharded data sources expected", e);
+            }
+        };
+    }
+
+    private static ShardDataSources pools(String name, String hikariPrefix, DataSourceProperties dataSourceProperties,
+                                          List<String> shardUrls, Environment environment, MeterRegistry meterRegistry) {
+        Binder binder = Binder.get(environment);
+        Map<Integer, HikariDataSource> pools = new LinkedHashMap<>();
+        for (int shard = 0; shard <= shardUrls.size(); shard++) {
+            HikariDataSource pool = dataSourceProperties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(shard == 0 ? dataSourceProperties.determineUrl() : shardUrls.get(shard - 1))
+                    .build();
+            binder.bind(hikariPrefix, Bindable.ofInstance(pool));
+            pool.setPoolName(name + "-" + shard);
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            pools.put(shard, pool);
+        }
+        return new ShardDataSources(pools);
+    }
+}
@@ -0,0 +1,34 @@
+package com.bank.account.infrastructure.config;
+
+import com.bank.account.infrastructure.input.adapter.rest.filter.SqlStatementStatsWebFilter;
+import com.bank.account.infrastructure.metrics.SqlStatementCountingInspector;
+import com.bank.account.infrastructure.metrics.SqlTimingSessionListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "app.sql-stats.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementStatsConfig {
+
+    // Cuenta sentencias y tiempo JDBC de la petición ligada al hilo (ver SqlStatementStats)
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementStatsHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCountingInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTimingSessionListener.class.getName());
+        };
+    }
+
+    // Registrado como @Bean (no @Component) para que los @WebFluxTest de controladores no lo carguen
+    @Bean
+    public SqlStatementStatsWebFilter sqlStatementStatsWebFilter(MeterRegistry meterRegistry,
+                                                                 @Value("${app.sql-stats.repeated-threshold}") int repeatedThreshold,
+                                                                 @Value("${app.sql-stats.response-headers}") boolean responseHeaders) {
+        return new SqlStatementStatsWebFilter(repeatedThreshold, responseHeaders, meterRegistry);
+    }
+}
@@ -13,7 +13,7 @@ import jakarta.persistence.EntityManagerFactory;
 public class TransactionConfig {
 
     // Expone el TransactionManager de JPA para que
-    // MovementUseCaseImpl pueda inyectarlo y usar TransactionTemplate
+    // los adaptadores (TransactionAdapter, carga masiva) puedan usar TransactionTemplate
     @Bean
     public PlatformTransactionManager transactionManager(EntityManagerFactory emf) {
         return new JpaTransactionManager(emf);
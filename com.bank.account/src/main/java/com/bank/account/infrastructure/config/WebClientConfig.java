@@ -1,9 +1,13 @@
 package com.bank.account.infrastructure.config;
 
+import com.bank.account.infrastructure.deadline.RequestDeadline;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 @Configuration
 public class WebClientConfig {
@@ -13,6 +17,17 @@ public class WebClientConfig {
 
     @Bean
     public WebClient customerWebClient(WebClient.Builder builder) {
-        return builder.baseUrl(customerServiceBaseUrl).build();
+        return builder.baseUrl(customerServiceBaseUrl)
+                .filter(propagateDeadline())
+                .build();
+    }
+
+    // Reenvía el deadline de la petición entrante (contexto de Reactor) en la cabecera X-Request-Deadline
+    private static ExchangeFilterFunction propagateDeadline() {
+        return (request, next) -> Mono.deferContextual(context -> RequestDeadline.from(context)
+                .map(deadline -> next.exchange(ClientRequest.from(request)
+                        .header(RequestDeadline.HEADER, deadline.headerValue())
+                        .build()))
+                .orElseGet(() -> next.exchange(request)));
     }
 }
\ No newline at end of file
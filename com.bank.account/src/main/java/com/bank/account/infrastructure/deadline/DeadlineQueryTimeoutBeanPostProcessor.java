@@ -0,0 +1,31 @@
+package com.bank.account.infrastructure.deadline;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+
+/**
+ * Wraps the primary {@code dataSource} bean in a {@link DeadlineQueryTimeoutDataSource}, whichever
+ * configuration defines it (the auto-configured pool, the replica routing proxy or the shard router),
+ * so JPA, the transaction manager and every {@code JdbcTemplate} built on it share the wrapper.
+ */
+public class DeadlineQueryTimeoutBeanPostProcessor implements BeanPostProcessor {
+
+    static final String DATA_SOURCE_BEAN = "dataSource";
+
+    private final Clock clock;
+
+    public DeadlineQueryTimeoutBeanPostProcessor(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (DATA_SOURCE_BEAN.equals(beanName) && bean instanceof DataSource dataSource
+                && !(bean instanceof DeadlineQueryTimeoutDataSource)) {
+            return new DeadlineQueryTimeoutDataSource(dataSource, clock);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,119 @@
+package com.bank.account.infrastructure.deadline;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.util.Optional;
+
+/**
+ * Gives every JDBC statement created on a thread with a bound {@link RequestDeadline} the time left
+ * until that deadline as its query timeout (rounded up to whole seconds, the JDBC granularity), so
+ * the database abandons a query the caller has already given up on instead of finishing it on a
+ * pooled connection. A statement created after the deadline fails with {@link SQLTimeoutException}
+ * before it reaches the database.
+ *
+ * Connections obtained without a bound deadline are returned as they are. Hibernate and
+ * {@code JdbcTemplate} only set a timeout of their own when one is configured, which then wins.
+ */
+public class DeadlineQueryTimeoutDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final Clock clock;
+
+    public DeadlineQueryTimeoutDataSource(DataSource targetDataSource, Clock clock) {
+        super(targetDataSource);
+        this.clock = clock;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return withDeadline(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return withDeadline(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    /** Closes the target pool when this wraps it directly: the wrapper takes the pool's place as the bean. */
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable pool) {
+            pool.close();
+        }
+    }
+
+    private Connection withDeadline(Connection connection) {
+        if (RequestDeadline.current().isEmpty()) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+                new Class<?>[]{ConnectionProxy.class}, new TimeoutInvocationHandler(connection));
+    }
+
+    void applyTimeout(Statement statement) throws SQLException {
+        Optional<RequestDeadline> deadline = RequestDeadline.current();
+        if (deadline.isEmpty()) {
+            return;
+        }
+        long remainingMillis = deadline.get().remaining(clock).toMillis();
+        if (remainingMillis <= 0) {
+            statement.close();
+            throw new SQLTimeoutException("Request deadline exceeded before the statement was executed");
+        }
+        statement.setQueryTimeout((int) Math.min(Integer.MAX_VALUE, (remainingMillis + 999) / 1000));
+    }
+
+    private final class TimeoutInvocationHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        private TimeoutInvocationHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getTargetConnection":
+                    return target;
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                    break;
+                case "isWrapperFor":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return true;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+            // createStatement, prepareStatement y prepareCall
+            if (result instanceof Statement statement) {
+                applyTimeout(statement);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.bank.account.infrastructure.deadline;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Absolute deadline of the inbound request, carried in the Reactor context and sent to downstream
+ * services in the {@code X-Request-Deadline} header (epoch milliseconds, UTC). Every service in the
+ * call chain works against the same instant instead of stacking its own independent timeouts.
+ *
+ * Blocking database work gets the deadline bound to its worker thread by {@link #propagate(Mono)}
+ * (called from {@code DbBulkhead}), and {@link DeadlineQueryTimeoutDataSource} turns what is left
+ * of it into the query timeout of each JDBC statement.
+ */
+public record RequestDeadline(long epochMillis) {
+
+    public static final String HEADER = "X-Request-Deadline";
+
+    private static final Object CONTEXT_KEY = RequestDeadline.class;
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Parses the header value. Returns empty for a missing or malformed header, so a bad value
+     * falls back to the local default budget instead of failing the request.
+     */
+    public static Optional<RequestDeadline> parse(String headerValue) {
+        if (headerValue == null || headerValue.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new RequestDeadline(Long.parseLong(headerValue.trim())));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    public static RequestDeadline after(Duration budget, Clock clock) {
+        return new RequestDeadline(clock.millis() + budget.toMillis());
+    }
+
+    public static Optional<RequestDeadline> from(ContextView context) {
+        return context.getOrEmpty(CONTEXT_KEY);
+    }
+
+    public Context writeTo(Context context) {
+        return context.put(CONTEXT_KEY, this);
+    }
+
+    /** Deadline bound to the current thread by {@link #propagate(Mono)}, if any. */
+    public static Optional<RequestDeadline> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Binds the deadline found in the subscriber context to the thread that subscribes to
+     * {@code blockingWork}, for the duration of that subscription, the same way as
+     * {@code SqlStatementStats}.
+     */
+    public static <T> Mono<T> propagate(Mono<T> blockingWork) {
+        return Mono.deferContextual(context -> from(context)
+                .map(deadline -> Mono.<T>from(subscriber -> deadline.runBound(() -> blockingWork.subscribe(subscriber))))
+                .orElse(blockingWork));
+    }
+
+    public static <T> Flux<T> propagate(Flux<T> blockingWork) {
+        return Flux.deferContextual(context -> from(context)
+                .map(deadline -> Flux.<T>from(subscriber -> deadline.runBound(() -> blockingWork.subscribe(subscriber))))
+                .orElse(blockingWork));
+    }
+
+    /** Runs {@code work} on the current thread with this deadline bound to it. */
+    public void runBound(Runnable work) {
+        RequestDeadline previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            work.run();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public Duration remaining(Clock clock) {
+        return Duration.ofMillis(epochMillis - clock.millis());
+    }
+
+    public boolean isExpired(Clock clock) {
+        return epochMillis <= clock.millis();
+    }
+
+    public String headerValue() {
+        return Long.toString(epochMillis);
+    }
+
+    public RequestDeadline earliest(RequestDeadline other) {
+        return other.epochMillis < epochMillis ? other : this;
+    }
+
+    /**
+     * Times out {@code source} after {@code max} or at the request deadline, whichever comes first.
+     * Fails immediately if the deadline has already passed.
+     */
+    public static <T> Mono<T> withinDeadline(Mono<T> source, Duration max, Clock clock) {
+        return Mono.deferContextual(context -> {
+            Duration timeout = timeout(context, max, clock);
+            return timeout.isNegative() || timeout.isZero()
+                    ? Mono.error(new TimeoutException("Request deadline already exceeded"))
+                    : source.timeout(timeout);
+        });
+    }
+
+    public static <T> Flux<T> withinDeadline(Flux<T> source, Duration max, Clock clock) {
+        return Flux.deferContextual(context -> {
+            Duration timeout = timeout(context, max, clock);
+            return timeout.isNegative() || timeout.isZero()
+                    ? Flux.error(new TimeoutException("Request deadline already exceeded"))
+                    : source.timeout(timeout);
+        });
+    }
+
+    private static Duration timeout(ContextView context, Duration max, Clock clock) {
+        return from(context)
+                .map(deadline -> deadline.remaining(clock))
+                .filter(remaining -> remaining.compareTo(max) < 0)
+                .orElse(max);
+    }
+}
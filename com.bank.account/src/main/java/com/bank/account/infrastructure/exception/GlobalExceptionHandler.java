@@ -2,17 +2,25 @@ package com.bank.account.infrastructure.exception;
 
 import com.bank.account.domain.exception.DuplicateResourceException;
 import com.bank.account.domain.exception.InsufficientBalanceException;
+import com.bank.account.domain.exception.InvalidTransferException;
 import com.bank.account.domain.exception.ResourceNotFoundException;
 import com.bank.account.domain.exception.FileGenerationException;
 import com.bank.account.domain.exception.CustomerServiceException; // NUEVO
+import com.bank.account.domain.exception.AccountLockTimeoutException;
+import com.bank.account.domain.exception.CrossShardTransferException;
+import com.bank.account.domain.exception.DatabaseSaturatedException;
+import com.bank.account.infrastructure.input.adapter.rest.filter.ConcurrencyLimitWebFilter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 @RestControllerAdvice
@@ -33,6 +41,21 @@ public class GlobalExceptionHandler {
         return Mono.just(new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST));
     }
 
+    /**
+     * Handles transfers rejected by business rules (same account, non-positive amount).
+     * Returns an HTTP 400 (Bad Request) status.
+     */
+    @ExceptionHandler(InvalidTransferException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleInvalidTransfer(InvalidTransferException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                ex.getMessage()
+        );
+        return Mono.just(new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST));
+    }
+
     /**
      * Handles validation errors for DTOs (@Valid).
      * Returns an HTTP 400 (Bad Request) status with validation details.
@@ -68,6 +91,46 @@ public class GlobalExceptionHandler {
         return Mono.just(new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE));
     }
 
+    /**
+     * Handles requests rejected because the database connection pool is saturated.
+     * Returns an HTTP 503 (Service Unavailable) status with a Retry-After header; the adaptive
+     * concurrency limiter counts it as a drop.
+     */
+    @ExceptionHandler(DatabaseSaturatedException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleDatabaseSaturated(DatabaseSaturatedException ex,
+                                                                       ServerWebExchange exchange) {
+        ConcurrencyLimitWebFilter.markLocalRejection(exchange);
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                ex.getMessage()
+        );
+        return Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse));
+    }
+
+    /**
+     * Handles work rejected by a bounded scheduler whose queue is full (e.g. report rendering).
+     * Returns an HTTP 503 (Service Unavailable) status with a Retry-After header; the adaptive
+     * concurrency limiter counts it as a drop.
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleRejectedExecution(RejectedExecutionException ex,
+                                                                       ServerWebExchange exchange) {
+        ConcurrencyLimitWebFilter.markLocalRejection(exchange);
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                "Server is busy, please retry later."
+        );
+        return Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse));
+    }
+
     /**
      * Handles the specific exception for "File Generation Error".
      * Returns an HTTP 500 (Internal Server Error) status.
@@ -113,6 +176,40 @@ public class GlobalExceptionHandler {
         return Mono.just(new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT));
     }
 
+    /**
+     * Handles operations that could not lock their account in time because others hold it.
+     * Returns an HTTP 409 (Conflict) status with a Retry-After header; the contention is on one
+     * account, not a sign that the service is overloaded.
+     */
+    @ExceptionHandler(AccountLockTimeoutException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleAccountLockTimeout(AccountLockTimeoutException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.CONFLICT.value(),
+                "Conflict",
+                ex.getMessage()
+        );
+        return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse));
+    }
+
+    /**
+     * Handles transfers between accounts of different shards.
+     * Returns an HTTP 409 (Conflict) status: the request is valid, but the accounts' current
+     * placement does not allow it, so the client must not treat it as its own mistake.
+     */
+    @ExceptionHandler(CrossShardTransferException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleCrossShardTransfer(CrossShardTransferException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.CONFLICT.value(),
+                "Conflict",
+                ex.getMessage()
+        );
+        return Mono.just(new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT));
+    }
+
     /**
      * Handles any other unhandled exceptions.
      * Returns an HTTP 500 (Internal Server Error) status.
@@ -0,0 +1,139 @@
+package com.bank.account.infrastructure.health;
+
+import com.bank.account.infrastructure.output.adapter.jpa.support.DbBulkhead;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reports whether database work is queueing, either for a Hikari connection or for a thread on one
+ * of the blocking schedulers. Reports OUT_OF_SERVICE when too many threads wait for a connection or
+ * a task has waited too long for a scheduler thread, so the readiness probe takes the instance out
+ * of rotation until the backlog drains.
+ *
+ * Only the OLTP lane decides the status. The report lane (report pool, report and report-render
+ * schedulers) is reported as details: a backlog of statements is shed by its own bulkhead and
+ * must not take the instance out of rotation for movement posting.
+ */
+@Component
+@RequiredArgsConstructor
+public class DbSaturationHealthIndicator implements HealthIndicator {
+
+    private static final String[] OLTP_SCHEDULERS = {"jdbc", "movement"};
+    private static final String[] REPORT_SCHEDULERS = {"report", "report-render"};
+    private static final String REPORT_POOL = "report";
+
+    private final DataSource dataSource;
+    private final MeterRegistry meterRegistry;
+    private final DbBulkhead oltpBulkhead;
+    private final DbBulkhead reportBulkhead;
+
+    @Value("${app.health.db-saturation.max-pending-connections}")
+    private int maxPendingConnections;
+
+    @Value("${app.health.db-saturation.max-queue-wait}")
+    private Duration maxQueueWait;
+
+    @Override
+    public Health health() {
+        boolean saturated = false;
+        Health.Builder builder = Health.up();
+
+        HikariDataSource hikari = primaryPool(dataSource);
+        if (hikari != null && hikari.getHikariPoolMXBean() != null) {
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            int pending = pool.getThreadsAwaitingConnection();
+            saturated = pending >= maxPendingConnections;
+
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("active", pool.getActiveConnections());
+            details.put("idle", pool.getIdleConnections());
+            details.put("max", hikari.getMaximumPoolSize());
+            details.put("pending", pending);
+            Timer acquire = meterRegistry.find("hikaricp.connections.acquire").tag("pool", hikari.getPoolName()).timer();
+            if (acquire != null) {
+                details.put("acquireMaxMs", acquire.max(TimeUnit.MILLISECONDS));
+            }
+            builder.withDetail("hikari", details);
+        }
+
+        for (String scheduler : OLTP_SCHEDULERS) {
+            Map<String, Object> details = schedulerDetails(scheduler);
+            if (details != null) {
+                saturated |= (double) details.get("oldestQueuedMs") >= maxQueueWait.toMillis();
+                builder.withDetail("scheduler." + scheduler, details);
+            }
+        }
+        for (String scheduler : REPORT_SCHEDULERS) {
+            Map<String, Object> details = schedulerDetails(scheduler);
+            if (details != null) {
+                builder.withDetail("scheduler." + scheduler, details);
+            }
+        }
+
+        Gauge reportPending = meterRegistry.find("hikaricp.connections.pending").tag("pool", REPORT_POOL).gauge();
+        if (reportPending != null) {
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("active", gaugeValue("hikaricp.connections.active"));
+            details.put("idle", gaugeValue("hikaricp.connections.idle"));
+            details.put("max", gaugeValue("hikaricp.connections.max"));
+            details.put("pending", (long) reportPending.value());
+            builder.withDetail("hikari.report", details);
+        }
+
+        builder.withDetail("bulkhead.oltp", bulkheadDetails(oltpBulkhead));
+        builder.withDetail("bulkhead.report", bulkheadDetails(reportBulkhead));
+
+        return builder.status(saturated ? Status.OUT_OF_SERVICE : Status.UP).build();
+    }
+
+    // Con réplica el DataSource principal es un proxy (LazyConnectionDataSourceProxy) sobre el pool
+    private static HikariDataSource primaryPool(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    private Map<String, Object> schedulerDetails(String scheduler) {
+        LongTaskTimer pending = meterRegistry.find("bank.scheduler.tasks.pending").tag("scheduler", scheduler).longTaskTimer();
+        LongTaskTimer active = meterRegistry.find("bank.scheduler.tasks.active").tag("scheduler", scheduler).longTaskTimer();
+        if (pending == null) {
+            return null;
+        }
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("activeTasks", active != null ? active.activeTasks() : 0);
+        details.put("queuedTasks", pending.activeTasks());
+        details.put("oldestQueuedMs", pending.max(TimeUnit.MILLISECONDS));
+        return details;
+    }
+
+    private long gaugeValue(String name) {
+        Gauge gauge = meterRegistry.find(name).tag("pool", REPORT_POOL).gauge();
+        return gauge != null ? (long) gauge.value() : 0;
+    }
+
+    private static Map<String, Object> bulkheadDetails(DbBulkhead bulkhead) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("availablePermits", bulkhead.availablePermits());
+        details.put("queued", bulkhead.queuedRequests());
+        return details;
+    }
+}
@@ -1,10 +1,10 @@
 package com.bank.account.infrastructure.input.adapter.rest.dto.request;
 
+import com.bank.account.domain.model.Money;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import lombok.Getter;
 import lombok.Setter;
-import java.math.BigDecimal;
 
 @Getter
 @Setter
@@ -17,7 +17,7 @@ public class AccountRequest {
     private String accountType;
 
     @NotNull(message = "Initial balance cannot be null")
-    private BigDecimal initialBalance;
+    private Money initialBalance;
 
     @NotNull(message = "Status cannot be null")
     private Boolean status;
@@ -0,0 +1,17 @@
+package com.bank.account.infrastructure.input.adapter.rest.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class BalanceSlotsRequest {
+
+    @NotNull(message = "Balance slots cannot be null")
+    @Min(value = 1, message = "Balance slots must be at least 1")
+    @Max(value = 64, message = "Balance slots cannot exceed 64")
+    private Integer slots;
+}
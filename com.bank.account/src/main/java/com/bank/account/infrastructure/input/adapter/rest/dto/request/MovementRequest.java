@@ -1,9 +1,9 @@
 package com.bank.account.infrastructure.input.adapter.rest.dto.request;
 
+import com.bank.account.domain.model.Money;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
-import java.math.BigDecimal;
 
 @Getter
 @Setter
@@ -13,5 +13,5 @@ public class MovementRequest {
     private Long accountId;
 
     @NotNull(message = "Movement amount cannot be null")
-    private BigDecimal amount;
+    private Money amount;
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.bank.account.infrastructure.input.adapter.rest.dto.request;
+
+import com.bank.account.domain.model.Money;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TransferRequest {
+
+    @NotNull(message = "Source account ID cannot be null")
+    private Long sourceAccountId;
+
+    @NotNull(message = "Target account ID cannot be null")
+    private Long targetAccountId;
+
+    @NotNull(message = "Transfer amount cannot be null")
+    private Money amount;
+}
@@ -0,0 +1,12 @@
+package com.bank.account.infrastructure.input.adapter.rest.dto.response;
+
+import com.bank.account.domain.model.Money;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class AccountBalanceResponse {
+    private Long accountId;
+    private Money balance;
+}
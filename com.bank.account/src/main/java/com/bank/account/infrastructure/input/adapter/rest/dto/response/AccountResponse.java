@@ -1,8 +1,8 @@
 package com.bank.account.infrastructure.input.adapter.rest.dto.response;
 
+import com.bank.account.domain.model.Money;
 import lombok.Getter;
 import lombok.Setter;
-import java.math.BigDecimal;
 
 @Getter
 @Setter
@@ -10,7 +10,8 @@ public class AccountResponse {
     private Long id;
     private String accountNumber;
     private String accountType;
-    private BigDecimal initialBalance;
+    private Money initialBalance;
     private Boolean status;
     private Long customerId;
+    private Integer balanceSlots;
 }
\ No newline at end of file
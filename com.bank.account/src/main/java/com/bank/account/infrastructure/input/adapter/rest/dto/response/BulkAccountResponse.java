@@ -0,0 +1,10 @@
+package com.bank.account.infrastructure.input.adapter.rest.dto.response;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class BulkAccountResponse {
+    private Long createdCount;
+}
@@ -1,10 +1,10 @@
 package com.bank.account.infrastructure.input.adapter.rest.dto.response;
 
+import com.bank.account.domain.model.Money;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Getter
@@ -17,10 +17,11 @@ public class LedgerEntryResponse {
     private LocalDateTime timestamp;
 
     private Long movementId;
+    private String transferId;
     private Long accountId;
     private String entryType; // DEBIT o CREDIT
-    private BigDecimal amount;
-    private BigDecimal balanceBefore;
-    private BigDecimal balanceAfter;
+    private Money amount;
+    private Money balanceBefore;
+    private Money balanceAfter;
     private String description;
 }
\ No newline at end of file
@@ -1,8 +1,8 @@
 package com.bank.account.infrastructure.input.adapter.rest.dto.response;
 
+import com.bank.account.domain.model.Money;
 import lombok.Getter;
 import lombok.Setter;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -18,6 +18,6 @@ public class MovementResponse {
     private LocalDateTime date;
 
     private String movementType;
-    private BigDecimal amount;
-    private BigDecimal balance;
+    private Money amount;
+    private Money balance;
 }
\ No newline at end of file
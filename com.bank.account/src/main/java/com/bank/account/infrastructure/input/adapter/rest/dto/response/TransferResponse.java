@@ -0,0 +1,26 @@
+package com.bank.account.infrastructure.input.adapter.rest.dto.response;
+
+import com.bank.account.domain.model.Money;
+import lombok.Getter;
+import lombok.Setter;
+import java.time.LocalDateTime;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+@Getter
+@Setter
+public class TransferResponse {
+    private String transferId;
+    private Long sourceAccountId;
+    private Long targetAccountId;
+    private Money amount;
+
+    @JsonProperty("dateTime")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
+    private LocalDateTime date;
+
+    private Long debitMovementId;
+    private Long creditMovementId;
+    private Money sourceBalance;
+    private Money targetBalance;
+}
@@ -0,0 +1,168 @@
+package com.bank.account.infrastructure.input.adapter.rest.filter;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Gradient-based adaptive concurrency limit with AIMD back-off.
+ *
+ * The limiter learns how many requests can be in flight without queueing by comparing the
+ * average latency of the last window (short RTT) with a slowly moving baseline (long RTT):
+ * <ul>
+ *     <li>while the short RTT stays within {@code RTT_TOLERANCE} of the baseline the limit grows by
+ *     about {@code sqrt(limit)} per window;</li>
+ *     <li>when latency rises above it the limit shrinks in proportion to the gradient
+ *     {@code longRtt / shortRtt} (never below half per window);</li>
+ *     <li>a dropped request (timeout, 503 from downstream, error) cuts the limit multiplicatively.</li>
+ * </ul>
+ * The limit only grows when traffic actually used at least half of it during the window, so an idle
+ * service does not drift towards {@code maxLimit}.
+ *
+ * Low-priority requests are admitted only while in-flight work is below {@code lowPriorityShare} of
+ * the limit, so they are shed first. Admission is a CAS on the in-flight counter; the limit is
+ * recalculated at most once per window by whichever thread closes it.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    public enum Priority {
+        NORMAL,
+        LOW
+    }
+
+    private static final double RTT_TOLERANCE = 1.5;
+    private static final double LONG_RTT_WEIGHT = 0.05;
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final int MIN_WINDOW_SAMPLES = 10;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double lowPriorityShare;
+    private final double smoothing;
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger windowMaxInFlight = new AtomicInteger();
+    private final AtomicLong windowStart;
+    private final AtomicLong lastDrop = new AtomicLong(Long.MIN_VALUE);
+    private final LongAdder windowRttSum = new LongAdder();
+    private final LongAdder windowRttCount = new LongAdder();
+
+    private volatile double limit;
+    private double longRtt;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double lowPriorityShare,
+                                      double smoothing, Duration window, LongSupplier nanoClock) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= initial <= max");
+        }
+        if (lowPriorityShare <= 0 || lowPriorityShare > 1) {
+            throw new IllegalArgumentException("lowPriorityShare must be in (0, 1]");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.lowPriorityShare = lowPriorityShare;
+        this.smoothing = smoothing;
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+        this.windowStart = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * Reserves an in-flight slot. Every successful call must be followed by exactly one of
+     * {@link #onSuccess(long)}, {@link #onDropped()} or {@link #onIgnored()}.
+     */
+    public boolean tryAcquire(Priority priority) {
+        int cap = priority == Priority.LOW
+                ? Math.max(1, (int) (limit * lowPriorityShare))
+                : (int) limit;
+        while (true) {
+            int current = inFlight.get();
+            if (current >= cap) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                windowMaxInFlight.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    /** The request completed normally; its latency feeds the current window. */
+    public void onSuccess(long rttNanos) {
+        inFlight.decrementAndGet();
+        windowRttSum.add(rttNanos);
+        windowRttCount.increment();
+        maybeCloseWindow();
+    }
+
+    /** The request failed in a way that signals overload; back off at most once per window. */
+    public void onDropped() {
+        inFlight.decrementAndGet();
+        long now = nanoClock.getAsLong();
+        long previous = lastDrop.get();
+        if (previous != Long.MIN_VALUE && now - previous < windowNanos) {
+            return;
+        }
+        if (lastDrop.compareAndSet(previous, now)) {
+            synchronized (this) {
+                limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+            }
+        }
+    }
+
+    /** The request ended without a usable measurement (e.g. the client cancelled). */
+    public void onIgnored() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void maybeCloseWindow() {
+        long start = windowStart.get();
+        long now = nanoClock.getAsLong();
+        if (now - start < windowNanos || windowRttCount.sum() < MIN_WINDOW_SAMPLES) {
+            return;
+        }
+        if (!windowStart.compareAndSet(start, now)) {
+            return;
+        }
+        long count = windowRttCount.sumThenReset();
+        long sum = windowRttSum.sumThenReset();
+        int maxInFlight = windowMaxInFlight.getAndSet(inFlight.get());
+        if (count > 0) {
+            updateLimit((double) sum / count, maxInFlight);
+        }
+    }
+
+    private synchronized void updateLimit(double shortRtt, int maxInFlight) {
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+        } else {
+            longRtt = longRtt * (1 - LONG_RTT_WEIGHT) + shortRtt * LONG_RTT_WEIGHT;
+            // Tras un pico largo el baseline queda inflado; lo acercamos al valor actual
+            if (longRtt / shortRtt > 2) {
+                longRtt *= 0.95;
+            }
+        }
+
+        if (maxInFlight < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * longRtt / shortRtt));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        newLimit = limit * (1 - smoothing) + newLimit * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+}
@@ -0,0 +1,126 @@
+package com.bank.account.infrastructure.input.adapter.rest.filter;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client token buckets, one limiter per endpoint family.
+ *
+ * Each bucket is a single {@link AtomicLong} holding its theoretical arrival time (GCRA): a request
+ * is admitted if the bucket would not run more than {@code burst} requests ahead of the sustained
+ * rate, and the arrival time is pushed forward with one CAS. Refill is implicit in the clock, so
+ * there is no background task and the hot path is O(1) without locks.
+ *
+ * Buckets live in a fixed number of stripes, each with its own cap. When a stripe exceeds its cap,
+ * one thread sweeps that stripe only: idle buckets (already full again) are removed first, which is
+ * lossless; if the stripe is still over the cap, arbitrary buckets are dropped until it is back
+ * under 90 % of it, which only resets those clients to a full bucket.
+ */
+public class ClientRateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int maxClientsPerStripe;
+    private final LongSupplier nanoClock;
+    private final Stripe[] stripes;
+    private final int stripeMask;
+
+    public ClientRateLimiter(double permitsPerSecond, int burst, int stripes, int maxClients, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond must be > 0 and burst >= 1");
+        }
+        if (stripes < 1 || Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("stripes must be a power of two");
+        }
+        this.emissionIntervalNanos = (long) (Duration.ofSeconds(1).toNanos() / permitsPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.maxClientsPerStripe = Math.max(1, maxClients / stripes);
+        this.nanoClock = nanoClock;
+        this.stripes = new Stripe[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.stripeMask = stripes - 1;
+    }
+
+    /**
+     * Takes one token for {@code clientKey}.
+     *
+     * @return 0 if the request is allowed, otherwise the nanoseconds until the next token is available
+     */
+    public long tryAcquire(String clientKey) {
+        Stripe stripe = stripes[spread(clientKey.hashCode()) & stripeMask];
+        long now = nanoClock.getAsLong();
+
+        AtomicLong arrival = stripe.buckets.get(clientKey);
+        if (arrival == null) {
+            arrival = stripe.buckets.computeIfAbsent(clientKey, key -> new AtomicLong(now));
+            if (stripe.buckets.size() > maxClientsPerStripe) {
+                stripe.sweep(now);
+            }
+        }
+
+        while (true) {
+            long tat = arrival.get();
+            long base = Math.max(tat, now);
+            long wait = base - now - burstToleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (arrival.compareAndSet(tat, base + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Gives back a token taken by {@link #tryAcquire} for a request that was then rejected elsewhere.
+     * Does nothing if the bucket has been evicted meanwhile, which already left it full.
+     */
+    public void refund(String clientKey) {
+        AtomicLong arrival = stripes[spread(clientKey.hashCode()) & stripeMask].buckets.get(clientKey);
+        if (arrival != null) {
+            arrival.addAndGet(-emissionIntervalNanos);
+        }
+    }
+
+    public int trackedClients() {
+        int total = 0;
+        for (Stripe stripe : stripes) {
+            total += stripe.buckets.size();
+        }
+        return total;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private final class Stripe {
+
+        private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+        private final AtomicBoolean sweeping = new AtomicBoolean();
+
+        private void sweep(long now) {
+            if (!sweeping.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                buckets.values().removeIf(arrival -> arrival.get() <= now);
+                int target = maxClientsPerStripe - maxClientsPerStripe / 10;
+                Iterator<AtomicLong> iterator = buckets.values().iterator();
+                while (buckets.size() > target && iterator.hasNext()) {
+                    iterator.next();
+                    iterator.remove();
+                }
+            } finally {
+                sweeping.set(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.bank.account.infrastructure.input.adapter.rest.filter;
+
+import com.bank.account.infrastructure.input.adapter.rest.filter.AdaptiveConcurrencyLimiter.Priority;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load shedding in front of the account, movement, transfer and report endpoints. Requests beyond the
+ * adaptive limit are rejected immediately with 503 and {@code Retry-After} instead of queueing
+ * until the client times out. Report requests run at {@link Priority#LOW} and are shed first.
+ * These rejections carry {@value #NOT_PROCESSED_HEADER}, telling the gateway that nothing ran and
+ * the request can go to another instance whatever its method; other 503s (e.g. a saturated
+ * database pool mid-request) do not.
+ *
+ * Only timeouts count as drops and make the limiter back off: 504s and requests cut off by their
+ * deadline ({@link DeadlineWebFilter}). Local rejections count too, i.e. responses marked with
+ * {@link #markLocalRejection} because a pool or queue of this instance is full. Other 503s (a
+ * downstream service unavailable, e.g. the customer service behind an open circuit breaker),
+ * unhandled errors and requests cancelled by the client are not measured: they say nothing about
+ * this instance's capacity.
+ */
+public class ConcurrencyLimitWebFilter implements WebFilter, Ordered {
+
+    public static final String NOT_PROCESSED_HEADER = "X-Request-Not-Processed";
+    static final String REPORTS_PATH = "/api/v1/reports";
+    private static final String[] LIMITED_PATHS = {"/api/v1/movements", "/api/v1/transfers", "/api/v1/accounts", REPORTS_PATH};
+    private static final String LOCAL_REJECTION_ATTRIBUTE = ConcurrencyLimitWebFilter.class.getName() + ".LOCAL_REJECTION";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+    private final Duration retryAfter;
+    private final Map<Priority, Counter> rejected = new EnumMap<>(Priority.class);
+
+    public ConcurrencyLimitWebFilter(AdaptiveConcurrencyLimiter limiter, ObjectMapper objectMapper,
+                                     Duration retryAfter, MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+        this.retryAfter = retryAfter;
+        Gauge.builder("bank.http.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive in-flight limit")
+                .register(meterRegistry);
+        Gauge.builder("bank.http.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Requests currently in flight behind the limiter")
+                .register(meterRegistry);
+        for (Priority priority : Priority.values()) {
+            rejected.put(priority, Counter.builder("bank.http.concurrency.rejected")
+                    .description("Requests shed by the adaptive concurrency limiter")
+                    .tag("priority", priority.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String path = exchange.getRequest().getPath().pathWithinApplication().value();
+        if (!isLimited(path)) {
+            return chain.filter(exchange);
+        }
+
+        Priority priority = path.startsWith(REPORTS_PATH) ? Priority.LOW : Priority.NORMAL;
+        if (!limiter.tryAcquire(priority)) {
+            rejected.get(priority).increment();
+            exchange.getResponse().getHeaders().set(NOT_PROCESSED_HEADER, "true");
+            return ErrorResponseWriter.reject(exchange, objectMapper, HttpStatus.SERVICE_UNAVAILABLE, retryAfter,
+                    "Server is overloaded, please retry later.");
+        }
+
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    if (DeadlineWebFilter.isExpired(exchange) || isTimeoutStatus(status) || isLocalRejection(exchange)) {
+                        limiter.onDropped();
+                    } else if (signal != SignalType.ON_COMPLETE || isUnavailableStatus(status)) {
+                        limiter.onIgnored();
+                    } else {
+                        limiter.onSuccess(System.nanoTime() - start);
+                    }
+                });
+    }
+
+    /**
+     * Marks the response as a rejection caused by this instance's own saturation (connection pool,
+     * bounded scheduler queue), so the limiter counts it as a drop rather than a downstream failure.
+     */
+    public static void markLocalRejection(ServerWebExchange exchange) {
+        exchange.getAttributes().put(LOCAL_REJECTION_ATTRIBUTE, Boolean.TRUE);
+    }
+
+    @Override
+    public int getOrder() {
+        // Antes que cualquier otro filtro de la aplicación: rechazar cuesta lo mínimo posible
+        return Ordered.HIGHEST_PRECEDENCE + 10;
+    }
+
+    private static boolean isLimited(String path) {
+        for (String limitedPath : LIMITED_PATHS) {
+            if (path.startsWith(limitedPath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isLocalRejection(ServerWebExchange exchange) {
+        return exchange.getAttributes().containsKey(LOCAL_REJECTION_ATTRIBUTE);
+    }
+
+    private static boolean isTimeoutStatus(HttpStatusCode status) {
+        return status != null && status.value() == HttpStatus.GATEWAY_TIMEOUT.value();
+    }
+
+    private static boolean isUnavailableStatus(HttpStatusCode status) {
+        return status != null && status.value() == HttpStatus.SERVICE_UNAVAILABLE.value();
+    }
+}
@@ -0,0 +1,102 @@
+package com.bank.account.infrastructure.input.adapter.rest.filter;
+
+import com.bank.account.infrastructure.deadline.RequestDeadline;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Gives every API request a deadline. An inbound {@code X-Request-Deadline} is honoured but capped
+ * at {@code maxBudget}; without one the request gets {@code defaultBudget}. Requests that arrive
+ * already expired are answered with 504 without doing any work. Otherwise the deadline goes into
+ * the Reactor context (outbound calls forward it) and the whole chain is cancelled when it passes,
+ * which also releases queued bulkhead permits. Before cancelling, the exchange is marked (see
+ * {@link #isExpired(ServerWebExchange)}) so {@link ConcurrencyLimitWebFilter} records the
+ * cancellation as a drop rather than as a client that went away.
+ */
+@Slf4j
+public class DeadlineWebFilter implements WebFilter, Ordered {
+
+    private static final String API_PATH = "/api/";
+    private static final String EXPIRED_ATTRIBUTE = DeadlineWebFilter.class.getName() + ".EXPIRED";
+
+    private final Duration defaultBudget;
+    private final Duration maxBudget;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final Counter expiredOnArrival;
+    private final Counter expiredInFlight;
+
+    public DeadlineWebFilter(Duration defaultBudget, Duration maxBudget, ObjectMapper objectMapper,
+                             Clock clock, MeterRegistry meterRegistry) {
+        this.defaultBudget = defaultBudget;
+        this.maxBudget = maxBudget;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.expiredOnArrival = expiredCounter(meterRegistry, "arrival");
+        this.expiredInFlight = expiredCounter(meterRegistry, "in-flight");
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!exchange.getRequest().getPath().pathWithinApplication().value().startsWith(API_PATH)) {
+            return chain.filter(exchange);
+        }
+
+        RequestDeadline localDeadline = RequestDeadline.after(defaultBudget, clock);
+        RequestDeadline deadline = RequestDeadline.parse(exchange.getRequest().getHeaders().getFirst(RequestDeadline.HEADER))
+                .map(inbound -> inbound.earliest(RequestDeadline.after(maxBudget, clock)))
+                .orElse(localDeadline);
+
+        if (deadline.isExpired(clock)) {
+            expiredOnArrival.increment();
+            return ErrorResponseWriter.reject(exchange, objectMapper, HttpStatus.GATEWAY_TIMEOUT, null,
+                    "Request deadline already exceeded.");
+        }
+
+        // La marca se pone antes de que timeout cancele la cadena, así los filtros internos la ven al terminar
+        Mono<Long> expiry = Mono.delay(deadline.remaining(clock))
+                .doOnNext(tick -> exchange.getAttributes().put(EXPIRED_ATTRIBUTE, Boolean.TRUE));
+        return chain.filter(exchange)
+                .contextWrite(deadline::writeTo)
+                .timeout(expiry, Mono.defer(() -> onDeadlineExceeded(exchange)));
+    }
+
+    /** Whether the request was cut off because its deadline passed while it was in flight. */
+    public static boolean isExpired(ServerWebExchange exchange) {
+        return exchange.getAttributes().containsKey(EXPIRED_ATTRIBUTE);
+    }
+
+    @Override
+    public int getOrder() {
+        // Primero de todos: una petición caducada no debe consumir tokens ni plazas del limitador
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    private Mono<Void> onDeadlineExceeded(ServerWebExchange exchange) {
+        expiredInFlight.increment();
+        log.warn("Request deadline exceeded for {} {}", exchange.getRequest().getMethod(), exchange.getRequest().getPath());
+        if (exchange.getResponse().isCommitted()) {
+            return Mono.empty();
+        }
+        return ErrorResponseWriter.reject(exchange, objectMapper, HttpStatus.GATEWAY_TIMEOUT, null,
+                "Request deadline exceeded.");
+    }
+
+    private static Counter expiredCounter(MeterRegistry meterRegistry, String stage) {
+        return Counter.builder("bank.http.deadline.expired")
+                .description("Requests whose deadline expired before or while being processed")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+}
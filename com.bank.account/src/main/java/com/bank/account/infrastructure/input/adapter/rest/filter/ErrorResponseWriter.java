@@ -0,0 +1,42 @@
+package com.bank.account.infrastructure.input.adapter.rest.filter;
+
+import com.bank.account.infrastructure.exception.ErrorResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Writes the same {@link ErrorResponse} body as GlobalExceptionHandler from a WebFilter,
+ * where {@code @ExceptionHandler} methods do not apply. {@code retryAfter} may be null.
+ */
+final class ErrorResponseWriter {
+
+    private ErrorResponseWriter() {
+    }
+
+    static Mono<Void> reject(ServerWebExchange exchange, ObjectMapper objectMapper,
+                             HttpStatus status, Duration retryAfter, String message) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        if (retryAfter != null) {
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfter.toSeconds())));
+        }
+
+        ErrorResponse body = new ErrorResponse(LocalDateTime.now(), status.value(), status.getReasonPhrase(), message);
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(body);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(bytes)));
+        } catch (JsonProcessingException e) {
+            return response.setComplete();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.bank.account.infrastructure.input.adapter.rest.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Per-client rate limits for each endpoint family (movements, transfers, reports, accounts). Clients are
+ * identified by {@code X-API-Key}, then {@code X-Customer-Id}, then the {@code clientId} query
+ * parameter, and finally the remote address. Rejected requests get 429 with {@code Retry-After}.
+ *
+ * Those headers are not verified, so they only split the traffic of one remote address: every request
+ * first takes a token from its address's bucket (the family's {@code addressLimiter}, a higher
+ * ceiling), and only then from its client's. Rotating keys can neither raise an address above its
+ * ceiling nor create buckets faster than that ceiling allows, which bounds how fast a single address
+ * can push other clients' buckets out of memory. A request rejected by its client's bucket gives the
+ * address token back, so one throttled client retrying does not use up the ceiling of the other
+ * clients behind the same address.
+ *
+ * Runs before {@link ConcurrencyLimitWebFilter} so a flooding client is turned away before it takes
+ * an in-flight slot from everyone else.
+ */
+public class RateLimitWebFilter implements WebFilter, Ordered {
+
+    static final String API_KEY_HEADER = "X-API-Key";
+    static final String CUSTOMER_ID_HEADER = "X-Customer-Id";
+    static final String CLIENT_ID_PARAM = "clientId";
+
+    public record Family(String name, String pathPrefix, ClientRateLimiter limiter, ClientRateLimiter addressLimiter) {
+    }
+
+    private record MeteredFamily(Family family, Counter rejected) {
+    }
+
+    private final List<MeteredFamily> families;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitWebFilter(List<Family> families, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.families = families.stream()
+                .map(family -> {
+                    Gauge.builder("bank.http.ratelimit.clients", family.limiter(), ClientRateLimiter::trackedClients)
+                            .description("Clients with a token bucket in memory")
+                            .tag("family", family.name())
+                            .register(meterRegistry);
+                    Counter rejected = Counter.builder("bank.http.ratelimit.rejected")
+                            .description("Requests rejected by the per-client rate limit")
+                            .tag("family", family.name())
+                            .register(meterRegistry);
+                    return new MeteredFamily(family, rejected);
+                })
+                .toList();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String path = exchange.getRequest().getPath().pathWithinApplication().value();
+        MeteredFamily metered = familyOf(path);
+        if (metered == null) {
+            return chain.filter(exchange);
+        }
+
+        ServerHttpRequest request = exchange.getRequest();
+        ClientRateLimiter addressLimiter = metered.family().addressLimiter();
+        String addressKey = addressKey(request);
+        // El techo por dirección va primero: una clave rechazada ahí no llega a crear su bucket
+        long waitNanos = addressLimiter.tryAcquire(addressKey);
+        if (waitNanos == 0) {
+            waitNanos = metered.family().limiter().tryAcquire(clientKey(request));
+            if (waitNanos != 0) {
+                addressLimiter.refund(addressKey);
+            }
+        }
+        if (waitNanos == 0) {
+            return chain.filter(exchange);
+        }
+
+        metered.rejected().increment();
+        Duration retryAfter = Duration.ofSeconds((long) Math.ceil(waitNanos / 1_000_000_000.0));
+        return ErrorResponseWriter.reject(exchange, objectMapper, HttpStatus.TOO_MANY_REQUESTS, retryAfter,
+                "Rate limit exceeded for " + metered.family().name() + ", please retry later.");
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 5;
+    }
+
+    private MeteredFamily familyOf(String path) {
+        for (MeteredFamily metered : families) {
+            if (path.startsWith(metered.family().pathPrefix())) {
+                return metered;
+            }
+        }
+        return null;
+    }
+
+    static String clientKey(ServerHttpRequest request) {
+        String apiKey = request.getHeaders().getFirst(API_KEY_HEADER);
+        if (apiKey != null && !apiKey.isBlank()) {
+            return "key:" + apiKey;
+        }
+        String customerId = request.getHeaders().getFirst(CUSTOMER_ID_HEADER);
+        if (customerId != null && !customerId.isBlank()) {
+            return "customer:" + customerId;
+        }
+        String clientId = request.getQueryParams().getFirst(CLIENT_ID_PARAM);
+        if (clientId != null && !clientId.isBlank()) {
+            return "customer:" + clientId;
+        }
+        return addressKey(request);
+    }
+
+    static String addressKey(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        return remoteAddress != null && remoteAddress.getAddress() != null
+                ? "ip:" + remoteAddress.getAddress().getHostAddress()
+                : "anonymous";
+    }
+}
@@ -0,0 +1,78 @@
+package com.bank.account.infrastructure.input.adapter.rest.filter;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers, per client, until when its reads must go to the primary after one of its writes.
+ *
+ * At most {@code maxClients} deadlines are kept. When the map is full, expired deadlines are swept
+ * (lossless); if it is still full, it is cleared and every client reads from the primary for one
+ * window, so no client that wrote recently is ever sent to the replica.
+ */
+public class ReadYourWritesGuard {
+
+    private final long windowNanos;
+    private final int maxClients;
+    private final LongSupplier nanoClock;
+    private final Map<String, Long> deadlines = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    private volatile long everyoneUntil;
+    private volatile boolean everyone;
+
+    public ReadYourWritesGuard(Duration window, int maxClients, LongSupplier nanoClock) {
+        this.windowNanos = window.toNanos();
+        this.maxClients = maxClients;
+        this.nanoClock = nanoClock;
+    }
+
+    public void recordWrite(String clientKey) {
+        long deadline = nanoClock.getAsLong() + windowNanos;
+        deadlines.put(clientKey, deadline);
+        if (deadlines.size() > maxClients) {
+            sweep(deadline);
+        }
+    }
+
+    public boolean mustReadPrimary(String clientKey) {
+        long now = nanoClock.getAsLong();
+        if (everyone && now - everyoneUntil < 0) {
+            return true;
+        }
+        Long deadline = deadlines.get(clientKey);
+        if (deadline == null) {
+            return false;
+        }
+        if (now - deadline < 0) {
+            return true;
+        }
+        deadlines.remove(clientKey, deadline);
+        return false;
+    }
+
+    public int trackedClients() {
+        return deadlines.size();
+    }
+
+    private void sweep(long deadline) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = deadline - windowNanos;
+            deadlines.values().removeIf(until -> now - until >= 0);
+            if (deadlines.size() > maxClients) {
+                // Cualquier deadline pendiente vence antes que este: nadie que haya escrito lee de la réplica
+                everyoneUntil = deadline;
+                everyone = true;
+                deadlines.clear();
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+}
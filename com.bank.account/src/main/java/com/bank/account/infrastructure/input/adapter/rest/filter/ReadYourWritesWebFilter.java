@@ -0,0 +1,54 @@
+package com.bank.account.infrastructure.input.adapter.rest.filter;
+
+import com.bank.account.infrastructure.output.adapter.jpa.support.ReplicaRouting;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-your-writes for the read replica: after a client's write (any API request that is not GET
+ * or HEAD), its requests read from the primary for the guard's window, so they see their own
+ * changes even while the replica catches up. Clients are identified as in {@link RateLimitWebFilter}.
+ */
+public class ReadYourWritesWebFilter implements WebFilter, Ordered {
+
+    private static final String API_PATH = "/api/";
+
+    private final ReadYourWritesGuard guard;
+
+    public ReadYourWritesWebFilter(ReadYourWritesGuard guard, MeterRegistry meterRegistry) {
+        this.guard = guard;
+        Gauge.builder("bank.db.replica.read_your_writes.clients", guard, ReadYourWritesGuard::trackedClients)
+                .description("Clients reading from the primary after a recent write")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!request.getPath().pathWithinApplication().value().startsWith(API_PATH)) {
+            return chain.filter(exchange);
+        }
+
+        String clientKey = RateLimitWebFilter.clientKey(request);
+        Mono<Void> filtered = guard.mustReadPrimary(clientKey)
+                ? chain.filter(exchange).contextWrite(ReplicaRouting::requirePrimary)
+                : chain.filter(exchange);
+        if (HttpMethod.GET.equals(request.getMethod()) || HttpMethod.HEAD.equals(request.getMethod())) {
+            return filtered;
+        }
+        // La ventana empieza cuando termina la escritura (ya confirmada), haya ido bien o no
+        return filtered.doFinally(signal -> guard.recordWrite(clientKey));
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 15;
+    }
+}
@@ -0,0 +1,95 @@
+package com.bank.account.infrastructure.input.adapter.rest.filter;
+
+import com.bank.account.infrastructure.metrics.SqlStatementStats;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the SQL statements and JDBC time each API request causes (see {@link SqlStatementStats})
+ * and records them per route in {@code bank.http.sql.statements} and {@code bank.http.sql.time}.
+ *
+ * When one SQL text runs at least {@code repeatedThreshold} times in the same request it is logged
+ * and counted in {@code bank.http.sql.repeated}: the usual signature of an N+1 query. In debug mode
+ * ({@code responseHeaders}) the figures are also returned in {@code X-Sql-Statements} and
+ * {@code X-Sql-Time-Ms}.
+ */
+@Slf4j
+public class SqlStatementStatsWebFilter implements WebFilter, Ordered {
+
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+
+    private static final String API_PATH = "/api/";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final int repeatedThreshold;
+    private final boolean responseHeaders;
+    private final MeterRegistry meterRegistry;
+
+    public SqlStatementStatsWebFilter(int repeatedThreshold, boolean responseHeaders, MeterRegistry meterRegistry) {
+        this.repeatedThreshold = repeatedThreshold;
+        this.responseHeaders = responseHeaders;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!exchange.getRequest().getPath().pathWithinApplication().value().startsWith(API_PATH)) {
+            return chain.filter(exchange);
+        }
+
+        SqlStatementStats stats = new SqlStatementStats();
+        if (responseHeaders) {
+            exchange.getResponse().beforeCommit(() -> {
+                exchange.getResponse().getHeaders().set(STATEMENTS_HEADER, Integer.toString(stats.statements()));
+                exchange.getResponse().getHeaders().set(TIME_HEADER,
+                        Long.toString(TimeUnit.NANOSECONDS.toMillis(stats.jdbcNanos())));
+                return Mono.empty();
+            });
+        }
+        return chain.filter(exchange)
+                .contextWrite(stats::writeTo)
+                .doFinally(signal -> record(exchange, stats));
+    }
+
+    @Override
+    public int getOrder() {
+        // Tras los limitadores: solo mide peticiones que llegan a ejecutarse
+        return Ordered.HIGHEST_PRECEDENCE + 20;
+    }
+
+    private void record(ServerWebExchange exchange, SqlStatementStats stats) {
+        String method = exchange.getRequest().getMethod().name();
+        Object pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+
+        DistributionSummary.builder("bank.http.sql.statements")
+                .description("SQL statements executed per request")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(stats.statements());
+        Timer.builder("bank.http.sql.time")
+                .description("Time spent in JDBC executions per request")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(stats.jdbcNanos(), TimeUnit.NANOSECONDS);
+
+        Map.Entry<String, Integer> mostRepeated = stats.mostRepeated();
+        if (mostRepeated != null && mostRepeated.getValue() >= repeatedThreshold) {
+            meterRegistry.counter("bank.http.sql.repeated", "method", method, "uri", uri).increment();
+            log.warn("Possible N+1 on {} {}: statement ran {} times: {}",
+                    method, uri, mostRepeated.getValue(), mostRepeated.getKey());
+        }
+    }
+}
@@ -3,7 +3,10 @@ package com.bank.account.infrastructure.input.adapter.rest.impl;
 import com.bank.account.application.input.port.AccountUseCase;
 import com.bank.account.infrastructure.exception.ErrorResponse;
 import com.bank.account.infrastructure.input.adapter.rest.dto.request.AccountRequest;
+import com.bank.account.infrastructure.input.adapter.rest.dto.request.BalanceSlotsRequest;
+import com.bank.account.infrastructure.input.adapter.rest.dto.response.AccountBalanceResponse;
 import com.bank.account.infrastructure.input.adapter.rest.dto.response.AccountResponse;
+import com.bank.account.infrastructure.input.adapter.rest.dto.response.BulkAccountResponse;
 import com.bank.account.infrastructure.input.adapter.rest.mapper.AccountRestMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -52,6 +55,37 @@ public class AccountController {
                 .map(account -> ResponseEntity.status(HttpStatus.CREATED).body(accountRestMapper.toResponse(account)));
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Create accounts in bulk",
+            description = "Creates many accounts from a JSON array or an NDJSON stream. Accounts are validated and inserted in chunks; "
+                    + "chunks processed before a failure remain created.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Accounts created successfully.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = BulkAccountResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "One or more associated customers not found.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "One or more account numbers already exist.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "503", description = "Customer service is unavailable.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public Mono<ResponseEntity<BulkAccountResponse>> createAccounts(@Valid @RequestBody Flux<AccountRequest> accountRequests) {
+        return accountUseCase.createAccounts(accountRequests.map(accountRestMapper::toDomain))
+                .count()
+                .map(createdCount -> {
+                    BulkAccountResponse response = new BulkAccountResponse();
+                    response.setCreatedCount(createdCount);
+                    return ResponseEntity.status(HttpStatus.CREATED).body(response);
+                });
+    }
+
     @GetMapping("/search")
     @Operation(summary = "Get an account by its number", description = "Returns a single account by its unique account number.")
     @ApiResponses(value = {
@@ -86,6 +120,25 @@ public class AccountController {
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/{id}/balance")
+    @Operation(summary = "Get the balance of an account",
+            description = "Returns only the current balance. Answered from memory when the balance cache is enabled and "
+                    + "holds the account.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Balance found.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = AccountBalanceResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Account not found.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public Mono<ResponseEntity<AccountBalanceResponse>> findAccountBalance(
+            @Parameter(description = "ID of the account.", required = true) @PathVariable Long id) {
+        return accountUseCase.findAccountBalance(id)
+                .map(balance -> ResponseEntity.ok(accountRestMapper.toBalanceResponse(balance)))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
     @GetMapping
     @Operation(summary = "Get all accounts", description = "Returns a list of all registered accounts.")
     @ApiResponses(value = {
@@ -116,6 +169,29 @@ public class AccountController {
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    @PutMapping("/{id}/balance-slots")
+    @Operation(summary = "Split an account balance across slots",
+            description = "Splits the balance of a high-traffic account across the given number of rows so that up to that "
+                    + "many credits are posted in parallel. 1 keeps the whole balance in the account row. The reported balance "
+                    + "is always the total.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Balance slots configured successfully.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = AccountResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid number of slots.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Account not found.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public Mono<ResponseEntity<AccountResponse>> configureBalanceSlots(
+            @Parameter(description = "ID of the account to be configured.", required = true) @PathVariable Long id,
+            @Valid @RequestBody BalanceSlotsRequest balanceSlotsRequest) {
+        return accountUseCase.configureBalanceSlots(id, balanceSlotsRequest.getSlots())
+                .map(account -> ResponseEntity.ok(accountRestMapper.toResponse(account)));
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete an account by ID", description = "Logically deletes a bank account by its ID by changing its status.")
     @ApiResponses(value = {
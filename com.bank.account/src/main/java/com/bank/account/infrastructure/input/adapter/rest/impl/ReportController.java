@@ -21,6 +21,7 @@ import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
@@ -33,6 +34,7 @@ public class ReportController {
 
     private final ReportUseCase reportUseCase;
     private final ExcelReportGenerator excelReportGenerator;
+    private final Scheduler reportRenderScheduler;
 
     @GetMapping
     @Operation(summary = "Generate Account Statement Report",
@@ -50,7 +52,7 @@ public class ReportController {
             @ApiResponse(responseCode = "500", description = "An unexpected error occurred while generating the file.",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = ErrorResponse.class))),
-            @ApiResponse(responseCode = "503", description = "Customer service is unavailable.",
+            @ApiResponse(responseCode = "503", description = "Customer service is unavailable, or the report lane is saturated.",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = ErrorResponse.class)))
     })
@@ -74,20 +76,18 @@ public class ReportController {
         }
 
         return reportUseCase.generateAccountStatement(clientId, accountNumber, startDate, endDate)
-                .flatMap(statement -> {
-                    try {
-                        byte[] excelContent = excelReportGenerator.generateStatement(statement);
-                        String filename = "statement_" + (clientId != null ? clientId : accountNumber) + "_" + startDate.toLocalDate() + "_to_" + endDate.toLocalDate() + ".xlsx";
+                .flatMap(statement -> Mono.fromCallable(() -> excelReportGenerator.generateStatement(statement))
+                        // POI es CPU-bound: se renderiza en su propio scheduler, fuera del event loop
+                        .subscribeOn(reportRenderScheduler)
+                        .onErrorMap(IOException.class, e -> new FileGenerationException("Failed to generate Excel report", e)))
+                .flatMap(excelContent -> {
+                    String filename = "statement_" + (clientId != null ? clientId : accountNumber) + "_" + startDate.toLocalDate() + "_to_" + endDate.toLocalDate() + ".xlsx";
 
-                        response.getHeaders().setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
-                        response.getHeaders().setContentDisposition(ContentDisposition.attachment().filename(filename).build());
+                    response.getHeaders().setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
+                    response.getHeaders().setContentDisposition(ContentDisposition.attachment().filename(filename).build());
 
-                        DataBuffer buffer = response.bufferFactory().wrap(excelContent);
-                        return response.writeWith(Mono.just(buffer));
-
-                    } catch (IOException e) {
-                        return Mono.error(new FileGenerationException("Failed to generate Excel report", e));
-                    }
+                    DataBuffer buffer = response.bufferFactory().wrap(excelContent);
+                    return response.writeWith(Mono.just(buffer));
                 });
     }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.bank.account.infrastructure.input.adapter.rest.impl;
+
+import com.bank.account.application.input.port.TransferUseCase;
+import com.bank.account.infrastructure.exception.ErrorResponse;
+import com.bank.account.infrastructure.input.adapter.rest.dto.request.TransferRequest;
+import com.bank.account.infrastructure.input.adapter.rest.dto.response.TransferResponse;
+import com.bank.account.infrastructure.input.adapter.rest.mapper.TransferRestMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/transfers")
+@RequiredArgsConstructor
+@Tag(name = "Transfers", description = "Endpoints for moving money between accounts")
+public class TransferController {
+
+    private final TransferUseCase transferUseCase;
+    private final TransferRestMapper transferRestMapper;
+
+    @PostMapping
+    @Operation(summary = "Transfer between accounts",
+            description = "Debits the source account and credits the target account in a single transaction.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Transfer completed successfully.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = TransferResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Insufficient balance, same account or invalid data.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Account not found.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public Mono<ResponseEntity<TransferResponse>> transfer(@Valid @RequestBody TransferRequest transferRequest) {
+        return transferUseCase.transfer(transferRestMapper.toDomain(transferRequest))
+                .map(transfer -> ResponseEntity.status(HttpStatus.CREATED).body(transferRestMapper.toResponse(transfer)));
+    }
+}
@@ -0,0 +1,60 @@
+package com.bank.account.infrastructure.input.adapter.rest.json;
+
+import com.bank.account.domain.model.Money;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Keeps the JSON format of amounts unchanged now that DTOs carry {@link Money}: a plain number
+ * with two decimals on the way out ({@code 1500.00}, as a scale-2 {@code BigDecimal} was written),
+ * and any JSON number or numeric string on the way in.
+ */
+@JsonComponent
+public class MoneyJsonComponent {
+
+    public static class Serializer extends JsonSerializer<Money> {
+
+        @Override
+        public void serialize(Money value, JsonGenerator generator, SerializerProvider serializers) throws IOException {
+            // Texto numérico sin comillas: no crea un BigDecimal por importe
+            generator.writeNumber(value.toString());
+        }
+    }
+
+    public static class Deserializer extends JsonDeserializer<Money> {
+
+        @Override
+        public Money deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            JsonToken token = parser.currentToken();
+            if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+                return toMoney(parser.getDecimalValue(), context);
+            }
+            if (token == JsonToken.VALUE_STRING) {
+                String text = parser.getText().trim();
+                try {
+                    return toMoney(new BigDecimal(text), context);
+                } catch (NumberFormatException e) {
+                    return (Money) context.handleWeirdStringValue(Money.class, text, "not a valid amount");
+                }
+            }
+            return (Money) context.handleUnexpectedToken(Money.class, parser);
+        }
+
+        private static Money toMoney(BigDecimal amount, DeserializationContext context) throws IOException {
+            try {
+                return Money.of(amount);
+            } catch (ArithmeticException e) {
+                return (Money) context.handleWeirdNumberValue(Money.class, amount, "amount out of range");
+            }
+        }
+    }
+}
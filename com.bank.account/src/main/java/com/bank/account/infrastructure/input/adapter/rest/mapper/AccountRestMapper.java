@@ -1,7 +1,9 @@
 package com.bank.account.infrastructure.input.adapter.rest.mapper;
 
 import com.bank.account.domain.model.Account;
+import com.bank.account.domain.model.AccountBalance;
 import com.bank.account.infrastructure.input.adapter.rest.dto.request.AccountRequest;
+import com.bank.account.infrastructure.input.adapter.rest.dto.response.AccountBalanceResponse;
 import com.bank.account.infrastructure.input.adapter.rest.dto.response.AccountResponse;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -10,7 +12,10 @@ import org.mapstruct.Mapping;
 public interface AccountRestMapper {
 
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "balanceSlots", ignore = true)
     Account toDomain(AccountRequest accountRequest);
 
     AccountResponse toResponse(Account account);
+
+    AccountBalanceResponse toBalanceResponse(AccountBalance accountBalance);
 }
\ No newline at end of file
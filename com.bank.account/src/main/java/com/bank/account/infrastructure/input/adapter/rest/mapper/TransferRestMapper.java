@@ -0,0 +1,21 @@
+package com.bank.account.infrastructure.input.adapter.rest.mapper;
+
+import com.bank.account.domain.model.Transfer;
+import com.bank.account.infrastructure.input.adapter.rest.dto.request.TransferRequest;
+import com.bank.account.infrastructure.input.adapter.rest.dto.response.TransferResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface TransferRestMapper {
+
+    @Mapping(target = "transferId", ignore = true)
+    @Mapping(target = "date", ignore = true)
+    @Mapping(target = "debitMovementId", ignore = true)
+    @Mapping(target = "creditMovementId", ignore = true)
+    @Mapping(target = "sourceBalance", ignore = true)
+    @Mapping(target = "targetBalance", ignore = true)
+    Transfer toDomain(TransferRequest transferRequest);
+
+    TransferResponse toResponse(Transfer transfer);
+}
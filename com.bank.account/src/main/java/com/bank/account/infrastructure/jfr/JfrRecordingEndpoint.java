@@ -0,0 +1,159 @@
+package com.bank.account.infrastructure.jfr;
+
+import com.bank.account.application.jfr.MovementPhaseEvent;
+import com.bank.account.application.jfr.ReportPhaseEvent;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * On-demand JDK Flight Recorder recording of live traffic.
+ * <ul>
+ *     <li>{@code GET /actuator/jfr}: state of the current recording</li>
+ *     <li>{@code POST /actuator/jfr} (optional {@code settings}: {@code default} or {@code profile}): start</li>
+ *     <li>{@code DELETE /actuator/jfr}: stop, keeping the data for download</li>
+ *     <li>{@code GET /actuator/jfr/recording}: download the recording as a {@code .jfr} file</li>
+ * </ul>
+ * Only one recording exists at a time; starting a new one discards the previous one. The custom
+ * {@link MovementPhaseEvent} and {@link ReportPhaseEvent} events are always enabled; the events that
+ * capture the process environment and system properties (which may hold credentials) never are.
+ */
+@Slf4j
+@WebEndpoint(id = "jfr")
+public class JfrRecordingEndpoint implements AutoCloseable {
+
+    static final String RECORDING_SELECTOR = "recording";
+    private static final String RECORDING_NAME = "bank-on-demand";
+    // Variables de entorno y propiedades del sistema: contraseñas y tokens de configuración
+    private static final String[] SENSITIVE_EVENTS = {"jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty"};
+
+    private final String defaultSettings;
+    private final Duration maxAge;
+    private final DataSize maxSize;
+
+    private Recording recording;
+
+    public JfrRecordingEndpoint(String defaultSettings, Duration maxAge, DataSize maxSize) {
+        this.defaultSettings = defaultSettings;
+        this.maxAge = maxAge;
+        this.maxSize = maxSize;
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        if (recording == null) {
+            status.put("state", "NONE");
+            return status;
+        }
+        status.put("state", recording.getState());
+        status.put("startTime", recording.getStartTime());
+        status.put("stopTime", recording.getStopTime());
+        status.put("size", recording.getSize());
+        status.put("maxAge", recording.getMaxAge());
+        status.put("maxSize", recording.getMaxSize());
+        return status;
+    }
+
+    @WriteOperation
+    public synchronized Map<String, Object> start(@Nullable String settings) throws IOException, ParseException {
+        closeRecording();
+
+        Recording newRecording = new Recording(Configuration.getConfiguration(settings != null ? settings : defaultSettings));
+        newRecording.setName(RECORDING_NAME);
+        newRecording.setToDisk(true);
+        newRecording.setMaxAge(maxAge);
+        newRecording.setMaxSize(maxSize.toBytes());
+        newRecording.enable(MovementPhaseEvent.class);
+        newRecording.enable(ReportPhaseEvent.class);
+        for (String event : SENSITIVE_EVENTS) {
+            newRecording.disable(event);
+        }
+        newRecording.start();
+        recording = newRecording;
+
+        log.info("JFR recording started with settings '{}'", settings != null ? settings : defaultSettings);
+        return status();
+    }
+
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            log.info("JFR recording stopped ({} bytes)", recording.getSize());
+        }
+        return status();
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized WebEndpointResponse<Resource> download(@Selector String name) throws IOException {
+        if (!RECORDING_SELECTOR.equals(name) || recording == null
+                || recording.getState() == RecordingState.NEW || recording.getState() == RecordingState.CLOSED) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Path file = Files.createTempFile("bank-", ".jfr");
+        recording.dump(file);
+        return new WebEndpointResponse<>(new TemporaryFileResource(file));
+    }
+
+    /** Releases the recording and its disk repository; called on shutdown. */
+    @Override
+    public synchronized void close() {
+        closeRecording();
+    }
+
+    private void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    /**
+     * Dump file that deletes itself once the response has been streamed. {@code isFile()} is false so
+     * WebFlux reads it through {@link #readableChannel()} instead of a zero-copy file region.
+     */
+    private static final class TemporaryFileResource extends FileSystemResource {
+
+        private TemporaryFileResource(Path path) {
+            super(path);
+        }
+
+        @Override
+        public boolean isFile() {
+            return false;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(getFile().toPath(), StandardOpenOption.DELETE_ON_CLOSE);
+        }
+
+        @Override
+        public ReadableByteChannel readableChannel() throws IOException {
+            return Files.newByteChannel(getFile().toPath(), StandardOpenOption.READ, StandardOpenOption.DELETE_ON_CLOSE);
+        }
+    }
+}
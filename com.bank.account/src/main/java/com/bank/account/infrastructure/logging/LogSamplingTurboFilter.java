@@ -0,0 +1,93 @@
+package com.bank.account.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rate-based sampling for hot-path loggers, configured in {@code logback-spring.xml}.
+ *
+ * Each logger listed in {@code loggers} (exact names, comma separated) may emit at most
+ * {@code maxPerSecond} INFO/DEBUG/TRACE events per second; the rest are denied before a
+ * {@code LoggingEvent} is built or the message formatted. WARN and ERROR always pass, and loggers not
+ * listed are not affected. Denied events are counted in {@link #getSuppressed()}.
+ */
+public class LogSamplingTurboFilter extends TurboFilter {
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    private final LongAdder suppressed = new LongAdder();
+    private String loggers = "";
+    private int maxPerSecond = 100;
+
+    public void setLoggers(String loggers) {
+        this.loggers = loggers;
+    }
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    public long getSuppressed() {
+        return suppressed.sum();
+    }
+
+    @Override
+    public void start() {
+        if (maxPerSecond < 1) {
+            addError("maxPerSecond must be at least 1");
+            return;
+        }
+        for (String name : loggers.split(",")) {
+            if (!name.isBlank()) {
+                windows.put(name.trim(), new Window(System.nanoTime()));
+            }
+        }
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // format == null: comprobaciones isXxxEnabled(), no consumen cupo
+        if (!isStarted() || format == null || level.isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        Window window = windows.get(logger.getName());
+        if (window == null || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        if (window.tryAcquire(System.nanoTime(), maxPerSecond)) {
+            return FilterReply.NEUTRAL;
+        }
+        suppressed.increment();
+        return FilterReply.DENY;
+    }
+
+    private static final class Window {
+
+        private final AtomicLong start;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private Window(long now) {
+            this.start = new AtomicLong(now);
+        }
+
+        private boolean tryAcquire(long now, int max) {
+            long windowStart = start.get();
+            if (now - windowStart >= WINDOW_NANOS && start.compareAndSet(windowStart, now)) {
+                count.set(0);
+            }
+            return count.incrementAndGet() <= max;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.bank.account.infrastructure.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.AsyncAppenderBase;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+
+/**
+ * Exposes the state of the logging pipeline declared in {@code logback-spring.xml}:
+ * events denied by {@link LogSamplingTurboFilter} ({@code bank.logging.sampled.suppressed}) and
+ * the fill level of each root {@code AsyncAppender} ({@code bank.logging.async.queued},
+ * {@code bank.logging.async.remaining}). A queue that stays near zero remaining capacity means
+ * INFO lines are being discarded.
+ */
+public class LoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return;
+        }
+        context.getTurboFilterList().stream()
+                .filter(LogSamplingTurboFilter.class::isInstance)
+                .map(LogSamplingTurboFilter.class::cast)
+                .forEach(filter -> FunctionCounter.builder("bank.logging.sampled.suppressed", filter,
+                                LogSamplingTurboFilter::getSuppressed)
+                        .description("Hot-path log events dropped by rate sampling")
+                        .register(registry));
+
+        Iterator<Appender<ILoggingEvent>> appenders = context.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+        while (appenders.hasNext()) {
+            if (appenders.next() instanceof AsyncAppenderBase<ILoggingEvent> async) {
+                Gauge.builder("bank.logging.async.queued", async, AsyncAppenderBase::getNumberOfElementsInQueue)
+                        .description("Log events waiting in the async appender queue")
+                        .tag("appender", async.getName())
+                        .register(registry);
+                Gauge.builder("bank.logging.async.remaining", async, AsyncAppenderBase::getRemainingCapacity)
+                        .description("Free slots in the async appender queue")
+                        .tag("appender", async.getName())
+                        .register(registry);
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.bank.account.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.blockhound.BlockingMethod;
+import reactor.blockhound.BlockingOperationError;
+
+import java.util.function.Consumer;
+
+/**
+ * BlockHound callback for the runtime detection mode: instead of failing the call, it counts it in
+ * {@code bank.reactor.blocking.calls} (tagged by blocking method) and logs the stack trace that led
+ * to it, so a regression that stalls the event loop shows up on dashboards and in the logs.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class BlockingCallReporter implements Consumer<BlockingMethod> {
+
+    // El propio log puede bloquear (escritura a fichero); evita reentrar en el callback
+    private static final ThreadLocal<Boolean> REPORTING = ThreadLocal.withInitial(() -> false);
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void accept(BlockingMethod method) {
+        if (REPORTING.get()) {
+            return;
+        }
+        REPORTING.set(true);
+        try {
+            meterRegistry.counter("bank.reactor.blocking.calls",
+                    "method", method.getClassName() + "." + method.getName()).increment();
+            log.warn("Blocking call {} on non-blocking thread {}", method, Thread.currentThread().getName(),
+                    new BlockingOperationError(method));
+        } finally {
+            REPORTING.set(false);
+        }
+    }
+}
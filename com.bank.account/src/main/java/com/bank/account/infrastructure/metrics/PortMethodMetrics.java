@@ -0,0 +1,104 @@
+package com.bank.account.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Meters for a single port method, tagged by direction, port and method.
+ * <ul>
+ *   <li>{@code bank.port.calls}: timer with p50/p95/p99 and a percentile histogram</li>
+ *   <li>{@code bank.port.active}: calls currently in flight</li>
+ *   <li>{@code bank.port.errors}: failed calls, additionally tagged by exception type; registered
+ *   with {@code exception="none"} together with the timer so the series exists before the first
+ *   failure</li>
+ * </ul>
+ * Meters are registered on first use, so the registry is not needed while beans are being created.
+ */
+class PortMethodMetrics {
+
+    static final String CALLS = "bank.port.calls";
+    static final String ACTIVE = "bank.port.active";
+    static final String ERRORS = "bank.port.errors";
+    static final String NO_EXCEPTION = "none";
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final String direction;
+    private final String port;
+    private final String method;
+    private final AtomicInteger active = new AtomicInteger();
+    private final Map<Class<?>, Counter> errorsByException = new ConcurrentHashMap<>();
+
+    private volatile Timer timer;
+    private MeterRegistry meterRegistry;
+
+    PortMethodMetrics(ObjectProvider<MeterRegistry> meterRegistryProvider, String direction, String port, String method) {
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.direction = direction;
+        this.port = port;
+        this.method = method;
+    }
+
+    long start() {
+        active.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    void stop(long startNanos) {
+        active.decrementAndGet();
+        Timer current = timer();
+        if (current != null) {
+            current.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    void error(Throwable error) {
+        if (timer() != null) {
+            errorsByException.computeIfAbsent(error.getClass(), type -> errorCounter(type.getSimpleName()))
+                    .increment();
+        }
+    }
+
+    private Counter errorCounter(String exception) {
+        return Counter.builder(ERRORS)
+                .description("Failed port calls")
+                .tags("direction", direction, "port", port, "method", method, "exception", exception)
+                .register(meterRegistry);
+    }
+
+    private Timer timer() {
+        Timer current = timer;
+        if (current == null) {
+            synchronized (this) {
+                current = timer;
+                if (current == null) {
+                    MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+                    if (registry == null) {
+                        return null;
+                    }
+                    meterRegistry = registry;
+                    errorCounter(NO_EXCEPTION);
+                    Gauge.builder(ACTIVE, active, AtomicInteger::get)
+                            .description("Port calls in flight")
+                            .tags("direction", direction, "port", port, "method", method)
+                            .register(registry);
+                    current = Timer.builder(CALLS)
+                            .description("Duration of port calls, from subscription to completion for reactive results")
+                            .tags("direction", direction, "port", port, "method", method)
+                            .publishPercentiles(0.5, 0.95, 0.99)
+                            .publishPercentileHistogram()
+                            .register(registry);
+                    timer = current;
+                }
+            }
+        }
+        return current;
+    }
+}
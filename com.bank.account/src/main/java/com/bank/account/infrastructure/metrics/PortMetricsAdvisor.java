@@ -0,0 +1,83 @@
+package com.bank.account.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.aop.Advice;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.AbstractPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Times every method of an inbound ({@code application.input.port}) or outbound
+ * ({@code application.output.port}) port on the beans that implement it. Spring's auto-proxy
+ * creator applies it together with the bean's other advice (transactions, circuit breakers), so
+ * each bean keeps a single proxy.
+ */
+public class PortMetricsAdvisor extends AbstractPointcutAdvisor {
+
+    private static final String INPUT_PORT_PACKAGE = ".application.input.port";
+    private static final String OUTPUT_PORT_PACKAGE = ".application.output.port";
+
+    private final transient PortMetricsInterceptor interceptor;
+    private final transient Pointcut pointcut = new StaticMethodMatcherPointcut() {
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return portMethod(method, targetClass) != null;
+        }
+    };
+
+    public PortMetricsAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.interceptor = new PortMetricsInterceptor(meterRegistry);
+        // Por fuera del resto de consejos: el tiempo incluye la transacción y el fallback del circuit breaker
+        setOrder(Ordered.HIGHEST_PRECEDENCE);
+    }
+
+    @Override
+    public Pointcut getPointcut() {
+        return pointcut;
+    }
+
+    @Override
+    public Advice getAdvice() {
+        return interceptor;
+    }
+
+    /**
+     * The port method that {@code method} implements on {@code targetClass}, or null when it is not
+     * part of any port.
+     */
+    static PortMethod portMethod(Method method, Class<?> targetClass) {
+        if (Modifier.isStatic(method.getModifiers())) {
+            return null;
+        }
+        for (Class<?> port : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+            String direction = direction(port);
+            if (direction != null && ClassUtils.hasMethod(port, method.getName(), method.getParameterTypes())) {
+                return new PortMethod(direction, port.getSimpleName(), method.getName());
+            }
+        }
+        return null;
+    }
+
+    private static String direction(Class<?> port) {
+        String packageName = port.getPackageName();
+        if (packageName.endsWith(INPUT_PORT_PACKAGE)) {
+            return "inbound";
+        }
+        if (packageName.endsWith(OUTPUT_PORT_PACKAGE)) {
+            return "outbound";
+        }
+        return null;
+    }
+
+    /**
+     * Tags of the meters of one port method.
+     */
+    record PortMethod(String direction, String port, String method) {
+    }
+}
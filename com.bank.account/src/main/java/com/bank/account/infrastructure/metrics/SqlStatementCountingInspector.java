@@ -0,0 +1,19 @@
+package com.bank.account.infrastructure.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate hook called once per statement Hibernate prepares. It does not change the SQL; it only
+ * counts it against the {@link SqlStatementStats} bound to the calling thread, if any.
+ */
+public class SqlStatementCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null) {
+            stats.onStatement(sql);
+        }
+        return sql;
+    }
+}
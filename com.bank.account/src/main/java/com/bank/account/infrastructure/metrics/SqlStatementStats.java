@@ -0,0 +1,143 @@
+package com.bank.account.infrastructure.metrics;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL statements and JDBC time accumulated by one unit of work, normally one HTTP request.
+ *
+ * The instance travels in the Reactor context; JPA calls run on scheduler threads, so
+ * {@link #propagate(Mono)} binds it to the worker thread while the blocking work is subscribed.
+ * Hibernate reports every prepared statement to {@link SqlStatementCountingInspector} and every
+ * JDBC execution to {@link SqlTimingSessionListener}, which add to whatever instance is bound to
+ * the calling thread.
+ *
+ * Identical SQL texts are also counted, up to {@code MAX_TRACKED_STATEMENTS} distinct ones, to spot
+ * N+1 patterns: a lazy association loaded in a loop shows up as the same SELECT many times.
+ */
+public class SqlStatementStats {
+
+    private static final Object CONTEXT_KEY = SqlStatementStats.class;
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+    private static final int MAX_TRACKED_STATEMENTS = 64;
+
+    private final AtomicInteger statements = new AtomicInteger();
+    private final LongAdder jdbcNanos = new LongAdder();
+    private final Map<String, AtomicInteger> executionsBySql = new ConcurrentHashMap<>();
+
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    public static SqlStatementStats from(ContextView context) {
+        return context.getOrDefault(CONTEXT_KEY, null);
+    }
+
+    public Context writeTo(Context context) {
+        return context.put(CONTEXT_KEY, this);
+    }
+
+    /**
+     * Binds this instance to the current thread until the returned binding is closed, restoring
+     * whatever was bound before. Used directly by code that is not reactive (tests, batch jobs).
+     */
+    public Binding bind() {
+        SqlStatementStats previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> restore(previous);
+    }
+
+    /**
+     * Binds the stats found in the subscriber context to the thread that subscribes to
+     * {@code blockingWork}, for the duration of that subscription. The blocking adapters run their
+     * JDBC calls synchronously inside {@code subscribe}, so every statement is attributed.
+     */
+    public static <T> Mono<T> propagate(Mono<T> blockingWork) {
+        return Mono.deferContextual(context -> {
+            SqlStatementStats stats = from(context);
+            if (stats == null) {
+                return blockingWork;
+            }
+            return Mono.<T>from(subscriber -> {
+                try (Binding ignored = stats.bind()) {
+                    blockingWork.subscribe(subscriber);
+                }
+            });
+        });
+    }
+
+    public static <T> Flux<T> propagate(Flux<T> blockingWork) {
+        return Flux.deferContextual(context -> {
+            SqlStatementStats stats = from(context);
+            if (stats == null) {
+                return blockingWork;
+            }
+            return Flux.<T>from(subscriber -> {
+                try (Binding ignored = stats.bind()) {
+                    blockingWork.subscribe(subscriber);
+                }
+            });
+        });
+    }
+
+    void onStatement(String sql) {
+        statements.incrementAndGet();
+        AtomicInteger executions = executionsBySql.get(sql);
+        if (executions == null && executionsBySql.size() < MAX_TRACKED_STATEMENTS) {
+            executions = executionsBySql.computeIfAbsent(sql, key -> new AtomicInteger());
+        }
+        if (executions != null) {
+            executions.incrementAndGet();
+        }
+    }
+
+    void onJdbcTime(long nanos) {
+        jdbcNanos.add(nanos);
+    }
+
+    public int statements() {
+        return statements.get();
+    }
+
+    public long jdbcNanos() {
+        return jdbcNanos.sum();
+    }
+
+    /** Most repeated SQL text and how many times it ran; {@code null} when nothing ran. */
+    public Map.Entry<String, Integer> mostRepeated() {
+        return executionsBySql.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().get()))
+                .max(Map.Entry.comparingByValue())
+                .orElse(null);
+    }
+
+    /** Distinct SQL texts with their execution counts, for assertion messages. */
+    public List<String> describe() {
+        return executionsBySql.entrySet().stream()
+                .map(entry -> entry.getValue().get() + "x " + entry.getKey())
+                .toList();
+    }
+
+    private static void restore(SqlStatementStats previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Binding extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
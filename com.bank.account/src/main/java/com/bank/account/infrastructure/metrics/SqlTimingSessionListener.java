@@ -0,0 +1,41 @@
+package com.bank.account.infrastructure.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Measures time spent inside JDBC executions (single statements and batches) and adds it to the
+ * {@link SqlStatementStats} bound to the calling thread. Hibernate creates one instance per session
+ * ({@code hibernate.session.events.auto}), and a session is used by one thread at a time.
+ */
+public class SqlTimingSessionListener implements SessionEventListener {
+
+    private long executionStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record();
+    }
+
+    private void record() {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null && executionStart != 0) {
+            stats.onJdbcTime(System.nanoTime() - executionStart);
+        }
+        executionStart = 0;
+    }
+}
@@ -0,0 +1,98 @@
+package com.bank.account.infrastructure.output.adapter.cache.impl;
+
+import com.bank.account.application.output.port.BalanceCachePort;
+import com.bank.account.domain.model.Account;
+import com.bank.account.infrastructure.output.adapter.cache.support.BalanceIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link BalanceCachePort} over a {@link BalanceIndex}. Without an index (cache disabled) every
+ * lookup misses and every update is ignored.
+ *
+ * Each change takes a version from a global sequence while the caller holds the account lock, so
+ * changes to one account get increasing versions in commit order; the index keeps the value with
+ * the highest version even when the after-commit callbacks run out of order. Accounts whose balance
+ * is split across slots take credits without the lock, so they are stored as untracked and always
+ * miss.
+ */
+public class BalanceCacheAdapter implements BalanceCachePort {
+
+    private static final long UNTRACKED = Long.MIN_VALUE + 1;
+
+    private final BalanceIndex index;
+    private final AtomicLong versions = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public BalanceCacheAdapter(BalanceIndex index, MeterRegistry meterRegistry) {
+        this.index = index;
+        this.hits = Counter.builder("bank.balance.cache.lookups")
+                .description("Balance lookups answered from memory or not")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("bank.balance.cache.lookups")
+                .description("Balance lookups answered from memory or not")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        if (index != null) {
+            Gauge.builder("bank.balance.cache.size", index, BalanceIndex::size)
+                    .description("Accounts held in the in-memory balance index")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public long findBalanceCents(Long accountId) {
+        if (index == null) {
+            return NOT_CACHED;
+        }
+        long cents = index.get(accountId);
+        if (cents == BalanceIndex.MISSING || cents == UNTRACKED) {
+            misses.increment();
+            return NOT_CACHED;
+        }
+        hits.increment();
+        return cents;
+    }
+
+    @Override
+    public void balanceLoaded(Account account) {
+        if (index != null) {
+            index.put(account.getId(), centsOf(account), 0);
+        }
+    }
+
+    @Override
+    public void balanceChanged(Account account) {
+        if (index == null) {
+            return;
+        }
+        long accountId = account.getId();
+        long cents = centsOf(account);
+        long version = versions.incrementAndGet();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            index.put(accountId, cents, version);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                index.put(accountId, cents, version);
+            }
+        });
+    }
+
+    private static long centsOf(Account account) {
+        Integer balanceSlots = account.getBalanceSlots();
+        if (balanceSlots != null && balanceSlots > 1) {
+            return UNTRACKED;
+        }
+        return account.getInitialBalance().minorUnits();
+    }
+}
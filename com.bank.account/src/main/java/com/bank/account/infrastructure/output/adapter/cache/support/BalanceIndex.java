@@ -0,0 +1,165 @@
+package com.bank.account.infrastructure.output.adapter.cache.support;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Open-addressing hash map from account id to a {@code long} value (balance in cents) and a
+ * {@code long} version, stored in parallel primitive arrays: lookups allocate and box nothing.
+ *
+ * Linear probing over a power-of-two table kept at most half full. Writers take the write lock of a
+ * {@link StampedLock}; readers probe under an optimistic stamp and fall back to the read lock only
+ * when a write overlapped. Entries are never removed: the map holds at most {@code maxEntries}
+ * accounts and ignores new ones beyond that.
+ *
+ * Account ids come from identity columns and are positive, so 0 marks an empty slot.
+ */
+public class BalanceIndex {
+
+    /** Returned by {@link #get(long)} for accounts not in the map. */
+    public static final long MISSING = Long.MIN_VALUE;
+
+    private static final long EMPTY = 0L;
+    private static final int MAX_TABLE_SIZE = 1 << 30;
+
+    private final StampedLock lock = new StampedLock();
+    private final int maxEntries;
+    private volatile Table table;
+    private volatile int size;
+
+    public BalanceIndex(int initialCapacity, int maxEntries) {
+        if (initialCapacity < 1 || maxEntries < 1) {
+            throw new IllegalArgumentException("initialCapacity and maxEntries must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.table = new Table(tableSizeFor(initialCapacity * 2L));
+    }
+
+    /** The value stored for the account, or {@link #MISSING}. */
+    public long get(long accountId) {
+        long stamp = lock.tryOptimisticRead();
+        long value = find(table, accountId);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                value = find(table, accountId);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Stores the value when the account is absent or {@code version} is newer than the stored one.
+     * Version 0 therefore only inserts; it is what loads from the database use, so they never
+     * overwrite a value written after a commit.
+     *
+     * @return {@code true} if the value was stored
+     */
+    public boolean put(long accountId, long value, long version) {
+        if (accountId <= EMPTY) {
+            throw new IllegalArgumentException("Account ids must be positive: " + accountId);
+        }
+        long stamp = lock.writeLock();
+        try {
+            Table current = table;
+            int slot = slot(current, accountId);
+            if (current.keys[slot] == accountId) {
+                if (version <= current.versions[slot]) {
+                    return false;
+                }
+                current.values[slot] = value;
+                current.versions[slot] = version;
+                return true;
+            }
+            if (size >= maxEntries) {
+                return false;
+            }
+            if ((size + 1L) * 2 > current.keys.length && current.keys.length < MAX_TABLE_SIZE) {
+                current = resize(current);
+                slot = slot(current, accountId);
+            }
+            current.values[slot] = value;
+            current.versions[slot] = version;
+            current.keys[slot] = accountId;
+            size++;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static long find(Table table, long accountId) {
+        long[] keys = table.keys;
+        int mask = table.mask;
+        int slot = home(accountId, mask);
+        // Acotado por el tamaño de la tabla: una lectura optimista puede ver un estado a medias
+        for (int probes = 0; probes <= mask; probes++) {
+            long key = keys[slot];
+            if (key == accountId) {
+                return table.values[slot];
+            }
+            if (key == EMPTY) {
+                return MISSING;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return MISSING;
+    }
+
+    // Slot que ocupa la cuenta, o el primer slot libre de su secuencia de sondeo
+    private static int slot(Table table, long accountId) {
+        int mask = table.mask;
+        int slot = home(accountId, mask);
+        while (table.keys[slot] != EMPTY && table.keys[slot] != accountId) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private Table resize(Table old) {
+        Table resized = new Table(old.keys.length * 2);
+        for (int i = 0; i < old.keys.length; i++) {
+            long key = old.keys[i];
+            if (key != EMPTY) {
+                int slot = slot(resized, key);
+                resized.keys[slot] = key;
+                resized.values[slot] = old.values[i];
+                resized.versions[slot] = old.versions[i];
+            }
+        }
+        table = resized;
+        return resized;
+    }
+
+    private static int home(long accountId, int mask) {
+        long hash = accountId * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static int tableSizeFor(long capacity) {
+        int size = 16;
+        while (size < capacity && size < MAX_TABLE_SIZE) {
+            size <<= 1;
+        }
+        return size;
+    }
+
+    private static final class Table {
+        final long[] keys;
+        final long[] values;
+        final long[] versions;
+        final int mask;
+
+        Table(int size) {
+            this.keys = new long[size];
+            this.values = new long[size];
+            this.versions = new long[size];
+            this.mask = size - 1;
+        }
+    }
+}
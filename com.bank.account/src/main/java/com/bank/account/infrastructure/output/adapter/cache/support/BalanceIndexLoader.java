@@ -0,0 +1,54 @@
+package com.bank.account.infrastructure.output.adapter.cache.support;
+
+import com.bank.account.infrastructure.output.adapter.jpa.support.ReplicaRouting;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+
+/**
+ * Fills a {@link BalanceIndex} from the {@code accounts} table at startup. Balances are converted
+ * to cents by the database, so no {@code BigDecimal} or entity is created per row. Accounts whose
+ * balance is split across slots are skipped: their balance changes without the account lock.
+ *
+ * The rows are streamed in a read-only transaction: PostgreSQL only honours the fetch size with
+ * autocommit off, and otherwise returns the whole table at once.
+ */
+@Slf4j
+public class BalanceIndexLoader {
+
+    private static final String SELECT_BALANCES =
+            "SELECT id, CAST(initial_balance * 100 AS BIGINT) FROM accounts WHERE balance_slots = 1";
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public BalanceIndexLoader(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public int load(BalanceIndex index) {
+        long start = System.nanoTime();
+        int[] loaded = {0};
+        // Siempre en la primaria: una réplica atrasada dejaría saldos viejos en el índice hasta el siguiente movimiento
+        ReplicaRouting.runOnPrimary(() -> readOnlyTransaction.executeWithoutResult(status ->
+                jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(SELECT_BALANCES);
+                    statement.setFetchSize(FETCH_SIZE);
+                    return statement;
+                }, (RowCallbackHandler) rs -> {
+                    // Versión 0: no pisa saldos ya escritos por movimientos confirmados durante la carga
+                    if (index.put(rs.getLong(1), rs.getLong(2), 0)) {
+                        loaded[0]++;
+                    }
+                })));
+        log.info("Balance index warmed with {} accounts in {} ms", loaded[0], (System.nanoTime() - start) / 1_000_000);
+        return loaded[0];
+    }
+}
@@ -3,15 +3,19 @@ package com.bank.account.infrastructure.output.adapter.client;
 import com.bank.account.application.output.port.CustomerClientPort;
 import com.bank.account.domain.exception.CustomerServiceException;
 import com.bank.account.domain.model.Customer;
+import com.bank.account.infrastructure.deadline.RequestDeadline;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.util.Collection;
 
 @Component
 @RequiredArgsConstructor
@@ -19,8 +23,10 @@ import java.time.Duration;
 public class CustomerClientAdapter implements CustomerClientPort {
 
     private final WebClient customerWebClient;
+    private final Clock clock;
 
     private static final String CUSTOMER_SERVICE_CB = "customerService";
+    private static final Duration CALL_TIMEOUT = Duration.ofSeconds(3);
 
     @Override
     @CircuitBreaker(name = CUSTOMER_SERVICE_CB, fallbackMethod = "findCustomerByIdFallback")
@@ -36,10 +42,26 @@ public class CustomerClientAdapter implements CustomerClientPort {
                 .onStatus(HttpStatusCode::is5xxServerError,
                         response -> Mono.error(new CustomerServiceException("Customer service internal error (5XX)", null)))
                 .bodyToMono(Customer.class)
-                .timeout(Duration.ofSeconds(3))
+                .transform(call -> RequestDeadline.withinDeadline(call, CALL_TIMEOUT, clock))
                 .doOnError(ex -> log.warn("Error calling customer service for ID {}: {}", customerId, ex.getMessage()));
     }
 
+    @Override
+    @CircuitBreaker(name = CUSTOMER_SERVICE_CB, fallbackMethod = "findCustomersByIdsFallback")
+    public Flux<Customer> findCustomersByIds(Collection<Long> customerIds) {
+        log.debug("Attempting to find {} customers in a single batch", customerIds.size());
+
+        return customerWebClient.post()
+                .uri("/api/v1/customers/batch")
+                .bodyValue(customerIds)
+                .retrieve()
+                .onStatus(HttpStatusCode::is5xxServerError,
+                        response -> Mono.error(new CustomerServiceException("Customer service internal error (5XX)", null)))
+                .bodyToFlux(Customer.class)
+                .transform(call -> RequestDeadline.withinDeadline(call, CALL_TIMEOUT, clock))
+                .doOnError(ex -> log.warn("Error calling customer service for {} customer IDs: {}", customerIds.size(), ex.getMessage()));
+    }
+
     private Mono<Customer> findCustomerByIdFallback(Long customerId, Exception ex) {
         log.error("Circuit breaker activated or fallback triggered for customer ID: {}. Reason: {}",
                 customerId, ex.getMessage());
@@ -47,4 +69,12 @@ public class CustomerClientAdapter implements CustomerClientPort {
         return Mono.error(new CustomerServiceException(
                 "Customer service is currently unavailable. Circuit breaker may be OPEN.", ex));
     }
+
+    private Flux<Customer> findCustomersByIdsFallback(Collection<Long> customerIds, Exception ex) {
+        log.error("Circuit breaker activated or fallback triggered for batch of {} customer IDs. Reason: {}",
+                customerIds.size(), ex.getMessage());
+
+        return Flux.error(new CustomerServiceException(
+                "Customer service is currently unavailable. Circuit breaker may be OPEN.", ex));
+    }
 }
\ No newline at end of file
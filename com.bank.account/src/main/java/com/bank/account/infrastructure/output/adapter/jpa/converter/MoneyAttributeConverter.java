@@ -0,0 +1,30 @@
+package com.bank.account.infrastructure.output.adapter.jpa.converter;
+
+import com.bank.account.domain.model.Money;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+
+/**
+ * Maps {@link Money} to the {@code NUMERIC(10, 2)} columns. JDBC still reads and binds a
+ * {@code BigDecimal}; the domain only sees the cents.
+ *
+ * {@link Immutable} tells Hibernate that {@code Money} never changes in place, so dirty checking
+ * compares references instead of keeping a converted copy of every loaded value.
+ */
+@Converter
+@Immutable
+public class MoneyAttributeConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money money) {
+        return money == null ? null : money.toBigDecimal();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal column) {
+        return column == null ? null : Money.of(column);
+    }
+}
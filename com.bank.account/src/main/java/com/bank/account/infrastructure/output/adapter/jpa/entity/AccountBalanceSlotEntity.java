@@ -0,0 +1,52 @@
+package com.bank.account.infrastructure.output.adapter.jpa.entity;
+
+import com.bank.account.domain.model.Money;
+import com.bank.account.infrastructure.output.adapter.jpa.converter.MoneyAttributeConverter;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+/**
+ * One part of the balance of an account whose balance is split across several rows
+ * ({@code accounts.balance_slots > 1}). The balance of such an account is its
+ * {@code initial_balance} plus the sum of its slots.
+ *
+ * Credits add to one slot chosen at random, so concurrent credits lock different rows; debits
+ * lock every slot and move their balance back to the account row.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@IdClass(AccountBalanceSlotEntity.Key.class)
+@Table(name = "account_balance_slots")
+public class AccountBalanceSlotEntity {
+
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Id
+    @Column(nullable = false)
+    private Integer slot;
+
+    @Convert(converter = MoneyAttributeConverter.class)
+    @Column(nullable = false, precision = 10, scale = 2)
+    private Money balance;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long accountId;
+        private Integer slot;
+    }
+}
@@ -1,32 +1,60 @@
 package com.bank.account.infrastructure.output.adapter.jpa.entity;
 
+import com.bank.account.domain.model.Money;
+import com.bank.account.infrastructure.output.adapter.jpa.converter.MoneyAttributeConverter;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
-import java.math.BigDecimal;
-
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
+/**
+ * Cached in the local second-level cache (see SecondLevelCacheConfig), with the account number
+ * as natural id so that lookups by number resolve from cache too. READ_WRITE keeps the cached
+ * copy in step with updates committed by this instance. Other instances do not invalidate it, so
+ * the cached balance is never served: reads that change the balance go through
+ * {@code AccountSpringRepository.findByIdSkippingCache} and lookups by number re-read it with
+ * {@code findRowBalance}.
+ */
 @Getter
 @Setter
 @Entity
 @Table(name ="accounts")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = AccountEntity.CACHE_REGION)
+@NaturalIdCache(region = AccountEntity.NATURAL_ID_CACHE_REGION)
 public class AccountEntity {
 
+    public static final String CACHE_REGION = "accounts";
+    public static final String NATURAL_ID_CACHE_REGION = "accounts-by-number";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Mutable: PUT /accounts/{id} permite cambiar el número
+    @NaturalId(mutable = true)
     @Column(unique = true, nullable = false, length = 20)
     private String accountNumber;
 
     @Column(nullable = false, length = 20)
     private String accountType;
 
+    @Convert(converter = MoneyAttributeConverter.class)
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal initialBalance;
+    private Money initialBalance;
 
     @Column(nullable = false)
     private Boolean status;
 
     @Column(name = "customer_id", nullable = false)
     private Long customerId;
+
+    // Solo lectura desde JPA: se cambia con AccountSpringRepository.updateBalanceSlots
+    @ColumnDefault("1")
+    @Column(name = "balance_slots", nullable = false, insertable = false, updatable = false)
+    private Integer balanceSlots;
 }
\ No newline at end of file
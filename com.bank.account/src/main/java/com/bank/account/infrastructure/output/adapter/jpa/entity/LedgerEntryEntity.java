@@ -1,10 +1,11 @@
 package com.bank.account.infrastructure.output.adapter.jpa.entity;
 
+import com.bank.account.domain.model.Money;
+import com.bank.account.infrastructure.output.adapter.jpa.converter.MoneyAttributeConverter;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 /**
@@ -14,13 +15,15 @@ import java.time.LocalDateTime;
  * Indexes are optimized for common queries:
  * - By account ID and timestamp (to get account history)
  * - By movement ID (to trace the source of an entry)
+ * - By transfer ID (to fetch both legs of a transfer)
  */
 @Getter
 @Setter
 @Entity
 @Table(name = "ledger_entries", indexes = {
         @Index(name = "idx_ledger_account_timestamp", columnList = "account_id, timestamp"),
-        @Index(name = "idx_ledger_movement", columnList = "movement_id")
+        @Index(name = "idx_ledger_movement", columnList = "movement_id"),
+        @Index(name = "idx_ledger_transfer", columnList = "transfer_id")
 })
 public class LedgerEntryEntity {
 
@@ -34,6 +37,9 @@ public class LedgerEntryEntity {
     @Column(name = "movement_id", nullable = false)
     private Long movementId;
 
+    @Column(name = "transfer_id", length = 36, updatable = false)
+    private String transferId;
+
     @Column(name = "account_id", nullable = false)
     private Long accountId;
 
@@ -41,14 +47,18 @@ public class LedgerEntryEntity {
     @Column(name = "entry_type", nullable = false, length = 10)
     private LedgerEntryType entryType;
 
+    @Convert(converter = MoneyAttributeConverter.class)
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal amount;
+    private Money amount;
 
-    @Column(name = "balance_before", nullable = false, precision = 10, scale = 2)
-    private BigDecimal balanceBefore;
+    // Nulos en los créditos a cuentas con slots: los extractos derivan su saldo de los importes
+    @Convert(converter = MoneyAttributeConverter.class)
+    @Column(name = "balance_before", precision = 10, scale = 2)
+    private Money balanceBefore;
 
-    @Column(name = "balance_after", nullable = false, precision = 10, scale = 2)
-    private BigDecimal balanceAfter;
+    @Convert(converter = MoneyAttributeConverter.class)
+    @Column(name = "balance_after", precision = 10, scale = 2)
+    private Money balanceAfter;
 
     @Column(length = 500)
     private String description;
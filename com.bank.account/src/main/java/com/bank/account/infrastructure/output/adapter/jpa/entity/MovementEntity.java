@@ -1,9 +1,10 @@
 package com.bank.account.infrastructure.output.adapter.jpa.entity;
 
+import com.bank.account.domain.model.Money;
+import com.bank.account.infrastructure.output.adapter.jpa.converter.MoneyAttributeConverter;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Getter
@@ -22,11 +23,14 @@ public class MovementEntity {
     @Column(nullable = false, length = 20)
     private String movementType;
 
+    @Convert(converter = MoneyAttributeConverter.class)
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal amount;
+    private Money amount;
 
-    @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal balance;
+    // Nulo en los créditos a cuentas con slots (ver MovementUseCaseImpl)
+    @Convert(converter = MoneyAttributeConverter.class)
+    @Column(precision = 10, scale = 2)
+    private Money balance;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "account_id", nullable = false)
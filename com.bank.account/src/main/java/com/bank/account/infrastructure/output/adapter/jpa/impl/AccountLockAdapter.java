@@ -0,0 +1,114 @@
+package com.bank.account.infrastructure.output.adapter.jpa.impl;
+
+import com.bank.account.application.output.port.AccountLockPort;
+import com.bank.account.domain.exception.AccountLockTimeoutException;
+import com.bank.account.infrastructure.output.adapter.jpa.repository.AccountSpringRepository;
+import com.bank.account.infrastructure.output.adapter.jpa.support.DbBulkhead;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-account locks held until the end of the current transaction. The mode is chosen with
+ * {@code app.account-lock.mode}:
+ * <ul>
+ *     <li>{@link Mode#ADVISORY}: {@code pg_advisory_xact_lock(accountId)}. Serializes writers on
+ *     every instance without touching the {@code accounts} row, so plain reads of the account
+ *     never wait. PostgreSQL only; the key space is shared with any other advisory lock on the
+ *     database.</li>
+ *     <li>{@link Mode#ROW}: {@code SELECT ... FOR UPDATE} on the account row through JPA. The
+ *     locked entity stays in the persistence context, so the balance read that follows costs no
+ *     extra query. Works on any database (the H2 load-test profile uses it).</li>
+ *     <li>{@link Mode#NONE}: no locking; only safe with a single writer per account.</li>
+ * </ul>
+ * With a positive {@code timeout} the transaction runs {@code SET LOCAL lock_timeout} first
+ * (PostgreSQL), so a lock that is not granted in time fails with
+ * {@link AccountLockTimeoutException} instead of holding a connection indefinitely.
+ */
+@Slf4j
+public class AccountLockAdapter implements AccountLockPort {
+
+    public enum Mode {
+        ADVISORY,
+        ROW,
+        NONE
+    }
+
+    private static final String ADVISORY_LOCK_SQL = "SELECT pg_advisory_xact_lock(?)";
+    private static final ResultSetExtractor<Void> IGNORE_RESULT = rs -> null;
+
+    private final Mode mode;
+    private final Duration timeout;
+    private final JdbcTemplate jdbcTemplate;
+    private final AccountSpringRepository accountRepository;
+    private final DbBulkhead oltpBulkhead;
+    private final Timer lockWait;
+    private final Counter lockTimeouts;
+
+    public AccountLockAdapter(Mode mode, Duration timeout, JdbcTemplate jdbcTemplate,
+                              AccountSpringRepository accountRepository, DbBulkhead oltpBulkhead,
+                              MeterRegistry meterRegistry) {
+        this.mode = mode;
+        this.timeout = timeout;
+        this.jdbcTemplate = jdbcTemplate;
+        this.accountRepository = accountRepository;
+        this.oltpBulkhead = oltpBulkhead;
+        String modeTag = mode.name().toLowerCase();
+        this.lockWait = Timer.builder("bank.account.lock.wait")
+                .description("Time spent acquiring per-account locks")
+                .tag("mode", modeTag)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.lockTimeouts = Counter.builder("bank.account.lock.timeouts")
+                .description("Account locks not granted within the lock timeout")
+                .tag("mode", modeTag)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> lockAccounts(Collection<Long> accountIds) {
+        if (mode == Mode.NONE) {
+            return Mono.empty();
+        }
+        return Mono.<Void>fromRunnable(() -> lockInOrder(accountIds))
+                .transform(oltpBulkhead::mono);
+    }
+
+    private void lockInOrder(Collection<Long> accountIds) {
+        long start = System.nanoTime();
+        try {
+            if (!timeout.isZero()) {
+                // Solo afecta a la transacción en curso
+                jdbcTemplate.execute("SET LOCAL lock_timeout = '" + timeout.toMillis() + "ms'");
+            }
+            accountIds.stream()
+                    .distinct()
+                    .sorted()
+                    .forEach(this::lock);
+        } catch (PessimisticLockingFailureException e) {
+            lockTimeouts.increment();
+            log.warn("Account lock not granted within {} for accounts {}", timeout, accountIds);
+            throw new AccountLockTimeoutException(
+                    "The account is busy with other operations, please retry later.", e);
+        } finally {
+            lockWait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void lock(Long accountId) {
+        if (mode == Mode.ADVISORY) {
+            jdbcTemplate.query(ADVISORY_LOCK_SQL, IGNORE_RESULT, accountId);
+        } else {
+            accountRepository.findByIdForUpdate(accountId);
+        }
+    }
+}
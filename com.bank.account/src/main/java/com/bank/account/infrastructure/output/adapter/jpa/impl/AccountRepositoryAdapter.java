@@ -2,73 +2,302 @@ package com.bank.account.infrastructure.output.adapter.jpa.impl;
 
 import com.bank.account.application.output.port.AccountRepositoryPort;
 import com.bank.account.domain.model.Account;
+import com.bank.account.domain.model.Money;
+import com.bank.account.infrastructure.output.adapter.jpa.entity.AccountBalanceSlotEntity;
+import com.bank.account.infrastructure.output.adapter.jpa.entity.AccountEntity;
 import com.bank.account.infrastructure.output.adapter.jpa.mapper.AccountJpaMapper;
+import com.bank.account.infrastructure.output.adapter.jpa.projection.AccountView;
+import com.bank.account.infrastructure.output.adapter.jpa.repository.AccountBalanceSlotSpringRepository;
 import com.bank.account.infrastructure.output.adapter.jpa.repository.AccountSpringRepository;
+import com.bank.account.infrastructure.output.adapter.jpa.support.DbBulkhead;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Accounts can split their balance across rows of {@code account_balance_slots}
+ * (see {@link AccountBalanceSlotEntity}) so that credits to a hot account do not all queue on its
+ * row. The split stays inside this adapter: every {@link Account} it returns carries the total
+ * balance (except the one of {@link #addConcurrentCredit}, which carries none), and
+ * {@link #saveAccount} takes a total balance back.
+ *
+ * Only accounts whose row says they are split ({@code balance_slots > 1}) touch the slots table: a
+ * credit checks the flag on the cached account first, and list reads sum the slots of all split
+ * accounts in one query.
+ *
+ * Plain reads go through {@link AccountView} projections in read-only transactions. Lookups by
+ * account number use the natural id and resolve from the second-level cache, but the balance is
+ * always read from the database ({@link #findAccountIdByNumber} reads none); reads of an account that is about to change skip that cache
+ * (see {@link AccountEntity}).
+ */
 @Component
 @RequiredArgsConstructor
 public class AccountRepositoryAdapter implements AccountRepositoryPort {
 
+    // IDENTITY ids disable Hibernate insert batching, so bulk imports go through plain JDBC batches
+    private static final String INSERT_ACCOUNT_SQL =
+            "INSERT INTO accounts (account_number, account_type, initial_balance, status, customer_id) VALUES (?, ?, ?, ?, ?)";
+    private static final int JDBC_BATCH_SIZE = 500;
+
     private final AccountSpringRepository accountRepository;
+    private final AccountBalanceSlotSpringRepository balanceSlotRepository;
     private final AccountJpaMapper accountMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final DbBulkhead oltpBulkhead;
 
     @Override
     public Mono<Account> saveAccount(Account account) {
         return Mono.fromCallable(() -> {
             var accountEntity = accountMapper.toEntity(account);
-            return accountMapper.toDomain(accountRepository.save(accountEntity));
-        }).subscribeOn(Schedulers.boundedElastic());
+            // La fila de la cuenta guarda el total menos lo que sigue en los slots
+            Money slotBalance = slotBalanceOf(account.getId());
+            accountEntity.setInitialBalance(account.getInitialBalance().minus(slotBalance));
+            Account saved = accountMapper.toDomain(accountRepository.save(accountEntity));
+            saved.setInitialBalance(account.getInitialBalance());
+            return saved;
+        }).transform(oltpBulkhead::mono);
+    }
+
+    @Override
+    public Flux<Account> saveAllAccounts(List<Account> accounts) {
+        return Mono.fromCallable(() -> new TransactionTemplate(transactionManager).execute(status -> {
+                    jdbcTemplate.batchUpdate(INSERT_ACCOUNT_SQL, accounts, JDBC_BATCH_SIZE, (ps, account) -> {
+                        ps.setString(1, account.getAccountNumber());
+                        ps.setString(2, account.getAccountType());
+                        ps.setBigDecimal(3, account.getInitialBalance().toBigDecimal());
+                        ps.setBoolean(4, account.getStatus());
+                        ps.setLong(5, account.getCustomerId());
+                    });
+                    // Reload in one query to return the generated ids
+                    return accountRepository.findByAccountNumberIn(
+                            accounts.stream().map(Account::getAccountNumber).toList());
+                }))
+                .flatMapMany(Flux::fromIterable)
+                .map(accountMapper::toDomain)
+                .transform(oltpBulkhead::flux);
+    }
+
+    @Override
+    public Mono<Set<String>> findExistingAccountNumbers(Collection<String> accountNumbers) {
+        return Mono.<Set<String>>fromCallable(() -> new HashSet<>(accountRepository.findExistingAccountNumbers(accountNumbers)))
+                .transform(oltpBulkhead::mono);
     }
 
     @Override
     public Mono<Account> findAccountByNumber(String accountNumber) {
-        return Mono.fromCallable(() -> accountRepository.findByAccountNumber(accountNumber)
-                        .map(accountMapper::toDomain))
+        // Id natural (caché) y saldo (base de datos) en la misma transacción de solo lectura
+        return Mono.fromCallable(() -> readOnlyTransaction().execute(status ->
+                        accountRepository.findByNaturalAccountNumber(accountNumber)
+                                .flatMap(this::toDomainWithFreshBalance)))
+                .flatMap(Mono::justOrEmpty)
+                .transform(oltpBulkhead::mono);
+    }
+
+    @Override
+    public Mono<Long> findAccountIdByNumber(String accountNumber) {
+        // Sin saldo: tras la primera búsqueda sale de la caché de segundo nivel sin SQL. Un número borrado o cambiado
+        // en otra instancia puede seguir aquí hasta que caduque; la restricción única de la base de datos decide
+        return Mono.fromCallable(() -> readOnlyTransaction().execute(status ->
+                        accountRepository.findByNaturalAccountNumber(accountNumber).map(AccountEntity::getId)))
                 .flatMap(Mono::justOrEmpty)
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(oltpBulkhead::mono);
     }
 
     @Override
     public Mono<Account> findAccountById(Long id) {
-        return Mono.fromCallable(() -> accountRepository.findById(id)
-                        .map(accountMapper::toDomain))
+        return Mono.fromCallable(() -> accountRepository.findViewById(id)
+                        .map(this::toDomain))
+                .flatMap(Mono::justOrEmpty)
+                .transform(oltpBulkhead::mono);
+    }
+
+    @Override
+    public Mono<Account> findAccountForBalanceChange(Long id) {
+        return Mono.fromCallable(() -> accountRepository.findByIdSkippingCache(id)
+                        .map(this::foldBalanceSlots))
+                .flatMap(Mono::justOrEmpty)
+                .transform(oltpBulkhead::mono);
+    }
+
+    @Override
+    public Mono<Account> addConcurrentCredit(Long accountId, Money amount) {
+        // El flag sale de la copia en caché: sin SQL para las cuentas normales. Si está desactualizado,
+        // o el UPDATE no toca ninguna fila o el camino con bloqueo pliega los slots
+        return Mono.fromCallable(() -> accountRepository.findCachedCopy(accountId)
+                        .filter(entity -> hasBalanceSlots(entity.getBalanceSlots()))
+                        .filter(entity -> {
+                            int seed = ThreadLocalRandom.current().nextInt(Integer.MAX_VALUE);
+                            return balanceSlotRepository.addToSlot(accountId, amount.toBigDecimal(), seed) > 0;
+                        })
+                        .map(entity -> {
+                            // El saldo de la copia en caché no es el de la cuenta: no se devuelve ninguno
+                            Account account = accountMapper.toDomain(entity);
+                            account.setInitialBalance(null);
+                            return account;
+                        }))
+                .flatMap(Mono::justOrEmpty)
+                .transform(oltpBulkhead::mono);
+    }
+
+    @Override
+    public Mono<Account> configureBalanceSlots(Long accountId, int slots) {
+        return Mono.fromCallable(() -> accountRepository.findByIdSkippingCache(accountId)
+                        .map(entity -> {
+                            Account account = foldBalanceSlots(entity);
+                            balanceSlotRepository.deleteAllByAccountId(accountId);
+                            if (slots > 1) {
+                                balanceSlotRepository.saveAll(IntStream.range(0, slots)
+                                        .mapToObj(slot -> new AccountBalanceSlotEntity(accountId, slot, Money.ZERO))
+                                        .toList());
+                            }
+                            accountRepository.updateBalanceSlots(accountId, slots);
+                            account.setBalanceSlots(slots);
+                            return account;
+                        }))
+                .flatMap(Mono::justOrEmpty)
+                .transform(oltpBulkhead::mono);
+    }
+
+    @Override
+    public Mono<Account> updateAccountDetails(Long id, Account details) {
+        // Transacción de escritura: va al primario, y la relectura ve el saldo confirmado
+        return Mono.fromCallable(() -> new TransactionTemplate(transactionManager).execute(status ->
+                        accountRepository.updateDetails(id, details.getAccountNumber(), details.getAccountType(),
+                                details.getStatus()) == 0
+                                ? Optional.<Account>empty()
+                                : accountRepository.findByIdSkippingCache(id).map(this::toDomain)))
                 .flatMap(Mono::justOrEmpty)
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(oltpBulkhead::mono);
+    }
+
+    @Override
+    public Mono<Boolean> deactivateAccount(Long id) {
+        return Mono.fromCallable(() -> new TransactionTemplate(transactionManager).execute(status ->
+                        accountRepository.deactivate(id) > 0))
+                .transform(oltpBulkhead::mono);
     }
 
     @Override
     public Mono<Void> deleteAccountById(Long id) {
         return Mono.fromRunnable(() -> accountRepository.deleteById(id))
-                .subscribeOn(Schedulers.boundedElastic())
+                .transform(oltpBulkhead::mono)
                 .then();
     }
 
     @Override
     public Flux<Account> findAll() {
-        return Flux.fromIterable(accountRepository.findAllByStatusIsTrue())
-                .map(accountMapper::toDomain)
-                .subscribeOn(Schedulers.boundedElastic());
+        // La suma de los slots es una consulta: se mapea dentro del callable, en el hilo jdbc
+        return Mono.fromCallable(() -> toDomainWithSlotBalances(accountRepository.findActiveViews()))
+                .flatMapMany(Flux::fromIterable)
+                .transform(oltpBulkhead::flux);
     }
 
     @Override
     public Flux<Account> findByCustomerId(Long customerId) {
         // Lógica actualizada para buscar por el campo customerId
-        return Mono.fromCallable(() -> accountRepository.findByCustomerId(customerId))
+        return Mono.fromCallable(() -> toDomainWithSlotBalances(accountRepository.findViewsByCustomerId(customerId)))
                 .flatMapMany(Flux::fromIterable)
-                .map(accountMapper::toDomain)
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(oltpBulkhead::flux);
     }
 
-    @Override
-    public Mono<Account> findAccountByAccountNumberAndIdNot(String accountNumber, Long accountId) {
-        return Mono.fromCallable(() -> accountRepository.findByAccountNumberAndIdNot(accountNumber, accountId)
-                        .map(accountMapper::toDomain))
-                .flatMap(Mono::justOrEmpty)
-                .subscribeOn(Schedulers.boundedElastic());
+    private TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private Account toDomain(AccountEntity entity) {
+        return withSlotBalance(accountMapper.toDomain(entity));
+    }
+
+    private Account toDomain(AccountView view) {
+        return withSlotBalance(accountMapper.toDomain(view));
+    }
+
+    // Número, tipo y estado de la caché; el saldo de la BD, porque la caché local no ve los movimientos de otras instancias
+    private Optional<Account> toDomainWithFreshBalance(AccountEntity cached) {
+        return accountRepository.findRowBalance(cached.getId())
+                .map(rowBalance -> {
+                    Account account = accountMapper.toDomain(cached);
+                    account.setInitialBalance(rowBalance);
+                    return withSlotBalance(account);
+                });
+    }
+
+    private List<Account> toDomainWithSlotBalances(List<AccountView> views) {
+        List<Account> accounts = views.stream().map(accountMapper::toDomain).toList();
+        List<Long> slotted = accounts.stream()
+                .filter(account -> hasBalanceSlots(account.getBalanceSlots()))
+                .map(Account::getId)
+                .toList();
+        if (slotted.isEmpty()) {
+            return accounts;
+        }
+        Map<Long, Money> slotBalances = new HashMap<>();
+        for (Object[] row : balanceSlotRepository.sumBalances(slotted)) {
+            slotBalances.put(((Number) row[0]).longValue(), Money.of((BigDecimal) row[1]));
+        }
+        for (Account account : accounts) {
+            Money slotBalance = slotBalances.get(account.getId());
+            if (slotBalance != null) {
+                account.setInitialBalance(account.getInitialBalance().plus(slotBalance));
+            }
+        }
+        return accounts;
+    }
+
+    private Account withSlotBalance(Account account) {
+        if (hasBalanceSlots(account.getBalanceSlots())) {
+            account.setInitialBalance(account.getInitialBalance().plus(Money.of(balanceSlotRepository.sumBalance(account.getId()))));
+        }
+        return account;
+    }
+
+    /**
+     * Locks every slot of the account (waiting for in-flight credits) and moves their balance back
+     * to the account row, so the balance read here cannot change until the transaction ends.
+     */
+    private Account foldBalanceSlots(AccountEntity entity) {
+        if (hasBalanceSlots(entity.getBalanceSlots())) {
+            Money slotBalance = balanceSlotRepository.findAllByAccountIdForUpdate(entity.getId()).stream()
+                    .map(AccountBalanceSlotEntity::getBalance)
+                    .reduce(Money.ZERO, Money::plus);
+            if (!slotBalance.isZero()) {
+                entity.setInitialBalance(entity.getInitialBalance().plus(slotBalance));
+                balanceSlotRepository.clearBalances(entity.getId());
+            }
+        }
+        return accountMapper.toDomain(entity);
+    }
+
+    // Dentro de una transacción la entidad ya está en el contexto de persistencia: no hay consulta extra
+    private Money slotBalanceOf(Long accountId) {
+        if (accountId == null) {
+            return Money.ZERO;
+        }
+        return accountRepository.findByIdSkippingCache(accountId)
+                .filter(entity -> hasBalanceSlots(entity.getBalanceSlots()))
+                .map(entity -> Money.of(balanceSlotRepository.sumBalance(accountId)))
+                .orElse(Money.ZERO);
+    }
+
+    private boolean hasBalanceSlots(Integer balanceSlots) {
+        return balanceSlots != null && balanceSlots > 1;
     }
 }
\ No newline at end of file
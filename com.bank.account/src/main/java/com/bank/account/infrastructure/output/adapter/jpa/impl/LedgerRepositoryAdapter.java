@@ -2,14 +2,16 @@ package com.bank.account.infrastructure.output.adapter.jpa.impl;
 
 import com.bank.account.application.output.port.LedgerRepositoryPort;
 import com.bank.account.domain.model.LedgerEntry;
+import com.bank.account.domain.model.Money;
 import com.bank.account.infrastructure.output.adapter.jpa.mapper.LedgerJpaMapper;
+import com.bank.account.infrastructure.output.adapter.jpa.repository.LedgerReportJdbcRepository;
 import com.bank.account.infrastructure.output.adapter.jpa.repository.LedgerSpringRepository;
+import com.bank.account.infrastructure.output.adapter.jpa.support.DbBulkhead;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -18,8 +20,10 @@ import java.util.List;
  * JPA implementation of LedgerRepositoryPort.
  *
  * This adapter wraps blocking JPA calls in reactive Mono/Flux operators
- * and executes them on the boundedElastic scheduler to prevent blocking
- * the event loop in a reactive application.
+ * and executes them through a DbBulkhead on the jdbc scheduler to prevent blocking
+ * the event loop in a reactive application. Full-history and range queries used by
+ * reports go through LedgerReportJdbcRepository on the report connection pool,
+ * behind the report bulkhead and its own scheduler.
  */
 @Component
 @RequiredArgsConstructor
@@ -27,7 +31,10 @@ import java.util.List;
 public class LedgerRepositoryAdapter implements LedgerRepositoryPort {
 
     private final LedgerSpringRepository ledgerSpringRepository;
+    private final LedgerReportJdbcRepository ledgerReportJdbcRepository;
     private final LedgerJpaMapper ledgerJpaMapper;
+    private final DbBulkhead oltpBulkhead;
+    private final DbBulkhead reportBulkhead;
 
     @Override
     public Mono<LedgerEntry> saveLedgerEntry(LedgerEntry ledgerEntry) {
@@ -39,8 +46,8 @@ public class LedgerRepositoryAdapter implements LedgerRepositoryPort {
                     var savedEntity = ledgerSpringRepository.save(entity);
                     return ledgerJpaMapper.toDomain(savedEntity);
                 })
-                .subscribeOn(Schedulers.boundedElastic())
-                .doOnSuccess(saved -> log.info("Ledger entry saved with ID: {}", saved.getId()))
+                .transform(oltpBulkhead::mono)
+                .doOnSuccess(saved -> log.debug("Ledger entry saved with ID: {}", saved.getId()))
                 .doOnError(error -> log.error("Failed to save ledger entry", error));
     }
 
@@ -48,10 +55,9 @@ public class LedgerRepositoryAdapter implements LedgerRepositoryPort {
     public Flux<LedgerEntry> findByAccountId(Long accountId) {
         log.debug("Finding all ledger entries for account: {}", accountId);
 
-        return Mono.fromCallable(() -> ledgerSpringRepository.findByAccountIdOrderByTimestampAsc(accountId))
+        return Mono.fromCallable(() -> ledgerReportJdbcRepository.findByAccountIdOrderByTimestampAsc(accountId))
                 .flatMapMany(Flux::fromIterable)
-                .map(ledgerJpaMapper::toDomain)
-                .subscribeOn(Schedulers.boundedElastic())
+                .transform(reportBulkhead::flux)
                 .doOnComplete(() -> log.debug("Completed finding ledger entries for account: {}", accountId));
     }
 
@@ -60,10 +66,9 @@ public class LedgerRepositoryAdapter implements LedgerRepositoryPort {
         log.debug("Finding ledger entries for account: {} between {} and {}", accountId, startDate, endDate);
 
         return Mono.fromCallable(() ->
-                        ledgerSpringRepository.findByAccountIdAndTimestampBetween(accountId, startDate, endDate))
+                        ledgerReportJdbcRepository.findByAccountIdAndTimestampBetween(accountId, startDate, endDate))
                 .flatMapMany(Flux::fromIterable)
-                .map(ledgerJpaMapper::toDomain)
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(reportBulkhead::flux);
     }
 
     @Override
@@ -71,20 +76,27 @@ public class LedgerRepositoryAdapter implements LedgerRepositoryPort {
         log.debug("Finding ledger entries for {} accounts between {} and {}", accountIds.size(), startDate, endDate);
 
         return Mono.fromCallable(() ->
-                        ledgerSpringRepository.findByAccountIdsAndTimestampBetween(accountIds, startDate, endDate))
+                        ledgerReportJdbcRepository.findByAccountIdsAndTimestampBetween(accountIds, startDate, endDate))
                 .flatMapMany(Flux::fromIterable)
-                .map(ledgerJpaMapper::toDomain)
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(reportBulkhead::flux);
+    }
+
+    @Override
+    public Mono<Money> findBalanceBefore(LedgerEntry ledgerEntry) {
+        log.debug("Deriving balance of account: {} before ledger entry: {}", ledgerEntry.getAccountId(), ledgerEntry.getId());
+
+        return Mono.fromCallable(() -> ledgerReportJdbcRepository.findBalanceBefore(ledgerEntry))
+                .transform(reportBulkhead::mono);
     }
 
     @Override
     public Flux<LedgerEntry> findByMovementId(Long movementId) {
         log.debug("Finding ledger entries for movement: {}", movementId);
 
-        return Mono.fromCallable(() -> ledgerSpringRepository.findByMovementId(movementId))
+        return Mono.fromCallable(() -> ledgerSpringRepository.findViewsByMovementId(movementId))
                 .flatMapMany(Flux::fromIterable)
                 .map(ledgerJpaMapper::toDomain)
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(oltpBulkhead::flux);
     }
 
     @Override
@@ -92,7 +104,7 @@ public class LedgerRepositoryAdapter implements LedgerRepositoryPort {
         log.debug("Counting ledger entries for account: {}", accountId);
 
         return Mono.fromCallable(() -> ledgerSpringRepository.countByAccountId(accountId))
-                .subscribeOn(Schedulers.boundedElastic())
+                .transform(oltpBulkhead::mono)
                 .doOnSuccess(count -> log.debug("Account {} has {} ledger entries", accountId, count));
     }
 }
\ No newline at end of file
@@ -4,70 +4,77 @@ import com.bank.account.application.output.port.MovementRepositoryPort;
 import com.bank.account.domain.model.Movement;
 import com.bank.account.infrastructure.output.adapter.jpa.mapper.MovementJpaMapper;
 import com.bank.account.infrastructure.output.adapter.jpa.repository.MovementSpringRepository;
+import com.bank.account.infrastructure.output.adapter.jpa.support.DbBulkhead;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * Reads return {@link com.bank.account.infrastructure.output.adapter.jpa.projection.MovementView}
+ * projections mapped straight to {@link Movement}; only {@link #saveMovement} and
+ * {@link #deleteById} go through the entity.
+ */
 @Component
 @RequiredArgsConstructor
 public class MovementRepositoryAdapter implements MovementRepositoryPort {
 
     private final MovementSpringRepository movementRepository;
     private final MovementJpaMapper movementMapper;
+    private final DbBulkhead oltpBulkhead;
 
     @Override
     public Mono<Movement> saveMovement(Movement movement) {
         return Mono.fromCallable(() -> {
             var movementEntity = movementMapper.toEntity(movement);
             return movementMapper.toDomain(movementRepository.save(movementEntity));
-        }).subscribeOn(Schedulers.boundedElastic());
+        }).transform(oltpBulkhead::mono);
     }
 
     @Override
     public Mono<Movement> findById(Long id) {
-        return Mono.fromCallable(() -> movementRepository.findById(id)
+        return Mono.fromCallable(() -> movementRepository.findViewById(id)
                         .map(movementMapper::toDomain)
                         .orElse(null))
                 .flatMap(Mono::justOrEmpty)
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(oltpBulkhead::mono);
     }
 
     @Override
     public Flux<Movement> findByAccountId(Long accountId) {
-        return Mono.fromCallable(() -> movementRepository.findByAccountId(accountId))
+        return Mono.fromCallable(() -> movementRepository.findViewsByAccountId(accountId))
                 .flatMapMany(Flux::fromIterable)
                 .map(movementMapper::toDomain)
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(oltpBulkhead::flux);
     }
 
     @Override
     public Flux<Movement> findAll() {
-        return Mono.fromCallable(() -> movementRepository.findAll())
+        return Mono.fromCallable(movementRepository::findAllViews)
                 .flatMapMany(Flux::fromIterable)
                 .map(movementMapper::toDomain)
-                .subscribeOn(Schedulers.boundedElastic());
+                .transform(oltpBulkhead::flux);
     }
 
     @Override
     public Mono<Void> deleteById(Long id) {
         return Mono.fromRunnable(() -> movementRepository.deleteById(id))
-                .subscribeOn(Schedulers.boundedElastic())
+                .transform(oltpBulkhead::mono)
                 .then();
     }
 
     @Override
     public Flux<Movement> findMovementsByAccountIdsAndDateRange(List<Long> accountIds, LocalDateTime startDate, LocalDateTime endDate) {
-        return Mono.fromCallable(() -> movementRepository.findByAccountIdInAndDateBetween(
+        return Mono.fromCallable(() -> movementRepository.findViewsByAccountIdsAndDateBetween(
                         accountIds,
                         startDate,
                         endDate
                 ))
                 .flatMapMany(Flux::fromIterable)
                 .map(movementMapper::toDomain)
-                .subscribeOn(Schedulers.boundedElastic());
+                // JPA usa el pool principal, así que consume permisos OLTP
+                .transform(oltpBulkhead::flux);
     }
 }
\ No newline at end of file
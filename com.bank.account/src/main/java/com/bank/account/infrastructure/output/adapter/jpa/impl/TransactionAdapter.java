@@ -0,0 +1,33 @@
+package com.bank.account.infrastructure.output.adapter.jpa.impl;
+
+import com.bank.account.application.output.port.TransactionPort;
+import com.bank.account.infrastructure.output.adapter.jpa.support.DbBulkhead;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs the work with TransactionTemplate on the movement scheduler. The transaction holds one
+ * OLTP permit for its whole duration; the repository calls it makes run inline on the same
+ * thread and connection (see {@link DbBulkhead}).
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionAdapter implements TransactionPort {
+
+    private final PlatformTransactionManager transactionManager;
+    private final DbBulkhead oltpBulkhead;
+    private final Scheduler movementScheduler;
+
+    @Override
+    public <T> Mono<T> inTransaction(Supplier<T> work) {
+        return oltpBulkhead.mono(
+                Mono.fromCallable(() -> new TransactionTemplate(transactionManager).execute(status -> work.get())),
+                movementScheduler);
+    }
+}
@@ -2,6 +2,7 @@ package com.bank.account.infrastructure.output.adapter.jpa.mapper;
 
 import com.bank.account.domain.model.Account;
 import com.bank.account.infrastructure.output.adapter.jpa.entity.AccountEntity;
+import com.bank.account.infrastructure.output.adapter.jpa.projection.AccountView;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -13,4 +14,6 @@ public interface AccountJpaMapper {
 
     @Mapping(source = "customerId", target = "customerId")
     Account toDomain(AccountEntity accountEntity);
-}
\ No newline at end of file
+
+    Account toDomain(AccountView view);
+}
@@ -2,6 +2,7 @@ package com.bank.account.infrastructure.output.adapter.jpa.mapper;
 
 import com.bank.account.domain.model.LedgerEntry;
 import com.bank.account.infrastructure.output.adapter.jpa.entity.LedgerEntryEntity;
+import com.bank.account.infrastructure.output.adapter.jpa.projection.LedgerEntryView;
 import org.mapstruct.Mapper;
 
 /**
@@ -23,4 +24,9 @@ public interface LedgerJpaMapper {
      * Used when retrieving ledger entries from the database.
      */
     LedgerEntry toDomain(LedgerEntryEntity ledgerEntryEntity);
-}
\ No newline at end of file
+
+    /**
+     * Converts a read-only projection to domain model.
+     */
+    LedgerEntry toDomain(LedgerEntryView view);
+}
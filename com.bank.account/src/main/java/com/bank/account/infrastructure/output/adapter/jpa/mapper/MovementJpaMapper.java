@@ -2,6 +2,7 @@ package com.bank.account.infrastructure.output.adapter.jpa.mapper;
 
 import com.bank.account.domain.model.Movement;
 import com.bank.account.infrastructure.output.adapter.jpa.entity.MovementEntity;
+import com.bank.account.infrastructure.output.adapter.jpa.projection.MovementView;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -13,4 +14,6 @@ public interface MovementJpaMapper {
 
     @Mapping(source = "account.id", target = "accountId")
     Movement toDomain(MovementEntity movementEntity);
-}
\ No newline at end of file
+
+    Movement toDomain(MovementView view);
+}
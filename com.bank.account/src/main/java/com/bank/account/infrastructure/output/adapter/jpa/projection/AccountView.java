@@ -0,0 +1,18 @@
+package com.bank.account.infrastructure.output.adapter.jpa.projection;
+
+import com.bank.account.domain.model.Money;
+
+/**
+ * Columns of {@code accounts} read by the GET endpoints, selected with a JPQL constructor
+ * expression. Nothing enters the persistence context: no entity instance, no dirty-checking
+ * snapshot, and the row maps to {@link com.bank.account.domain.model.Account} in one step.
+ */
+public record AccountView(
+        Long id,
+        String accountNumber,
+        String accountType,
+        Money initialBalance,
+        Boolean status,
+        Long customerId,
+        Integer balanceSlots) {
+}
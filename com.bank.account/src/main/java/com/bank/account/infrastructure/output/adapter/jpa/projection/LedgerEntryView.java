@@ -0,0 +1,23 @@
+package com.bank.account.infrastructure.output.adapter.jpa.projection;
+
+import com.bank.account.domain.model.Money;
+import com.bank.account.infrastructure.output.adapter.jpa.entity.LedgerEntryEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * Columns of {@code ledger_entries} for the lookups that still go through JPA; see {@link AccountView}.
+ */
+public record LedgerEntryView(
+        Long id,
+        LocalDateTime timestamp,
+        Long movementId,
+        String transferId,
+        Long accountId,
+        LedgerEntryEntity.LedgerEntryType entryType,
+        Money amount,
+        Money balanceBefore,
+        Money balanceAfter,
+        String description,
+        String initiatedBy) {
+}
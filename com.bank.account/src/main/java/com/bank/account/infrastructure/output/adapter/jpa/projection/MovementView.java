@@ -0,0 +1,18 @@
+package com.bank.account.infrastructure.output.adapter.jpa.projection;
+
+import com.bank.account.domain.model.Money;
+
+import java.time.LocalDateTime;
+
+/**
+ * Columns of {@code movements} read by the GET endpoints and reports; see {@link AccountView}.
+ * {@code accountId} is the foreign key column, so the lazy account association is never touched.
+ */
+public record MovementView(
+        Long id,
+        LocalDateTime date,
+        String movementType,
+        Money amount,
+        Money balance,
+        Long accountId) {
+}
@@ -0,0 +1,57 @@
+package com.bank.account.infrastructure.output.adapter.jpa.repository;
+
+import com.bank.account.infrastructure.output.adapter.jpa.entity.AccountBalanceSlotEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+public interface AccountBalanceSlotSpringRepository
+        extends JpaRepository<AccountBalanceSlotEntity, AccountBalanceSlotEntity.Key> {
+
+    // Sin query space, Hibernate vaciaría toda la caché de segundo nivel (cuentas incluidas) en cada UPDATE nativo
+    String SLOTS_QUERY_SPACE = "account_balance_slots";
+
+    // Un solo UPDATE: el slot es MOD(seed, balance_slots); 0 filas si la cuenta no reparte su saldo
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = SLOTS_QUERY_SPACE))
+    @Query(value = "UPDATE account_balance_slots SET balance = balance + :amount "
+            + "WHERE account_id = :accountId "
+            + "AND slot = MOD(:seed, (SELECT a.balance_slots FROM accounts a WHERE a.id = :accountId))",
+            nativeQuery = true)
+    int addToSlot(@Param("accountId") Long accountId, @Param("amount") BigDecimal amount, @Param("seed") int seed);
+
+    // SQL nativo: la columna es NUMERIC y la suma se devuelve como BigDecimal, sin pasar por Money
+    @Query(value = "SELECT COALESCE(SUM(balance), 0) FROM account_balance_slots WHERE account_id = :accountId",
+            nativeQuery = true)
+    BigDecimal sumBalance(@Param("accountId") Long accountId);
+
+    // Listados: una consulta para todas las cuentas repartidas; filas [account_id, suma]
+    @Query(value = "SELECT account_id, COALESCE(SUM(balance), 0) FROM account_balance_slots "
+            + "WHERE account_id IN (:accountIds) GROUP BY account_id",
+            nativeQuery = true)
+    List<Object[]> sumBalances(@Param("accountIds") Collection<Long> accountIds);
+
+    // SELECT ... FOR UPDATE sobre todos los slots: espera a los créditos en curso
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AccountBalanceSlotEntity s WHERE s.accountId = :accountId ORDER BY s.slot")
+    List<AccountBalanceSlotEntity> findAllByAccountIdForUpdate(@Param("accountId") Long accountId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = SLOTS_QUERY_SPACE))
+    @Query(value = "UPDATE account_balance_slots SET balance = 0 WHERE account_id = :accountId", nativeQuery = true)
+    int clearBalances(@Param("accountId") Long accountId);
+
+    // Vacía el contexto de persistencia (tras volcarlo) para poder insertar de nuevo las mismas claves
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM AccountBalanceSlotEntity s WHERE s.accountId = :accountId")
+    int deleteAllByAccountId(@Param("accountId") Long accountId);
+}
@@ -0,0 +1,36 @@
+package com.bank.account.infrastructure.output.adapter.jpa.repository;
+
+import com.bank.account.infrastructure.output.adapter.jpa.entity.AccountEntity;
+
+import java.util.Optional;
+
+/**
+ * Account lookups that need to control the second-level cache (see {@link AccountEntity}),
+ * which Spring Data query methods cannot express.
+ */
+public interface AccountCachingRepository {
+
+    /**
+     * Loads the account by its natural id. After the first lookup both the number → id resolution
+     * and the account itself come from the cache, without SQL. The cached balance may be stale
+     * (other instances do not invalidate it): read it with {@code findRowBalance}. Runs in the
+     * caller's transaction.
+     */
+    Optional<AccountEntity> findByNaturalAccountNumber(String accountNumber);
+
+    /**
+     * Loads the account from the persistence context or the database, never from the
+     * second-level cache, and refreshes the cached copy. For reads whose balance is about to be
+     * changed: the local cache does not see writes made by other instances.
+     */
+    Optional<AccountEntity> findByIdSkippingCache(Long id);
+
+    /**
+     * Returns the account from the second-level cache when it is there (no SQL), detached from the
+     * persistence context so that a later {@link #findByIdSkippingCache} in the same transaction
+     * still reads the database. The copy may be stale: use it for fields that rarely change, such
+     * as the number of balance slots, never for the balance. Call it before the account is loaded
+     * in the current transaction.
+     */
+    Optional<AccountEntity> findCachedCopy(Long id);
+}
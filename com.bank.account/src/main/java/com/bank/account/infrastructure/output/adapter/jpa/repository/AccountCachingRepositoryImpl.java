@@ -0,0 +1,46 @@
+package com.bank.account.infrastructure.output.adapter.jpa.repository;
+
+import com.bank.account.infrastructure.output.adapter.jpa.entity.AccountEntity;
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Spring Data fragment of {@link AccountSpringRepository}.
+ */
+public class AccountCachingRepositoryImpl implements AccountCachingRepository {
+
+    private static final Map<String, Object> SKIP_CACHE =
+            Map.of("jakarta.persistence.cache.retrieveMode", CacheRetrieveMode.BYPASS);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Sin transacción propia: la abre el adaptador (de solo lectura) o la de escritura en curso. El saldo sale de la
+    // caché y puede ser antiguo: el adaptador lo vuelve a leer
+    @Override
+    public Optional<AccountEntity> findByNaturalAccountNumber(String accountNumber) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(AccountEntity.class)
+                .loadOptional(accountNumber);
+    }
+
+    @Override
+    public Optional<AccountEntity> findByIdSkippingCache(Long id) {
+        return Optional.ofNullable(entityManager.find(AccountEntity.class, id, SKIP_CACHE));
+    }
+
+    @Override
+    public Optional<AccountEntity> findCachedCopy(Long id) {
+        AccountEntity entity = entityManager.find(AccountEntity.class, id);
+        if (entity != null) {
+            // Si se quedara en el contexto, findByIdSkippingCache devolvería esta copia y no la de la base de datos
+            entityManager.detach(entity);
+        }
+        return Optional.ofNullable(entity);
+    }
+}
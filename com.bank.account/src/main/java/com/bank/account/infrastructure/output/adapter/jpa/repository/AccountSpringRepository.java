@@ -1,18 +1,70 @@
 package com.bank.account.infrastructure.output.adapter.jpa.repository;
 
+import com.bank.account.domain.model.Money;
 import com.bank.account.infrastructure.output.adapter.jpa.entity.AccountEntity;
+import com.bank.account.infrastructure.output.adapter.jpa.projection.AccountView;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface AccountSpringRepository extends JpaRepository<AccountEntity,Long> {
+public interface AccountSpringRepository extends JpaRepository<AccountEntity,Long>, AccountCachingRepository {
 
-    Optional<AccountEntity> findByAccountNumber(String accountNumber);
+    // Lecturas de los GET: proyección por constructor en una transacción de solo lectura, sin entidades
+    String SELECT_ACCOUNT_VIEW = "SELECT new com.bank.account.infrastructure.output.adapter.jpa.projection.AccountView("
+            + "a.id, a.accountNumber, a.accountType, a.initialBalance, a.status, a.customerId, a.balanceSlots) "
+            + "FROM AccountEntity a ";
 
-    List<AccountEntity> findAllByStatusIsTrue();
+    @Transactional(readOnly = true)
+    @Query(SELECT_ACCOUNT_VIEW + "WHERE a.id = :id")
+    Optional<AccountView> findViewById(@Param("id") Long id);
 
-    List<AccountEntity> findByCustomerId(Long customerId);
+    @Transactional(readOnly = true)
+    @Query(SELECT_ACCOUNT_VIEW + "WHERE a.status = true")
+    List<AccountView> findActiveViews();
 
-    Optional<AccountEntity> findByAccountNumberAndIdNot(String accountNumber, Long id);
-}
\ No newline at end of file
+    @Transactional(readOnly = true)
+    @Query(SELECT_ACCOUNT_VIEW + "WHERE a.customerId = :customerId")
+    List<AccountView> findViewsByCustomerId(@Param("customerId") Long customerId);
+
+    // Consulta escalar: no pasa por la caché de segundo nivel, que puede tener un saldo antiguo de otra instancia
+    @Transactional(readOnly = true)
+    @Query("SELECT a.initialBalance FROM AccountEntity a WHERE a.id = :id")
+    Optional<Money> findRowBalance(@Param("id") Long id);
+
+    // SELECT ... FOR UPDATE: la fila queda bloqueada hasta el commit
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM AccountEntity a WHERE a.id = :id")
+    Optional<AccountEntity> findByIdForUpdate(@Param("id") Long id);
+
+    // PUT y DELETE: solo estas columnas, el saldo lo cambian los movimientos bajo el bloqueo de la cuenta
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE AccountEntity a SET a.accountNumber = :accountNumber, a.accountType = :accountType, "
+            + "a.status = :status WHERE a.id = :id")
+    int updateDetails(@Param("id") Long id, @Param("accountNumber") String accountNumber,
+                      @Param("accountType") String accountType, @Param("status") Boolean status);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE AccountEntity a SET a.status = false WHERE a.id = :id")
+    int deactivate(@Param("id") Long id);
+
+    List<AccountEntity> findByAccountNumberIn(Collection<String> accountNumbers);
+
+    @Query("SELECT a.accountNumber FROM AccountEntity a WHERE a.accountNumber IN :accountNumbers")
+    List<String> findExistingAccountNumbers(@Param("accountNumbers") Collection<String> accountNumbers);
+
+    // balance_slots no es actualizable desde la entidad; el query space limita la invalidación de la caché a accounts
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "accounts"))
+    @Query(value = "UPDATE accounts SET balance_slots = :slots WHERE id = :id", nativeQuery = true)
+    int updateBalanceSlots(@Param("id") Long id, @Param("slots") int slots);
+}
@@ -0,0 +1,102 @@
+package com.bank.account.infrastructure.output.adapter.jpa.repository;
+
+import com.bank.account.domain.model.LedgerEntry;
+import com.bank.account.domain.model.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Read-only ledger queries for reports, executed on the report connection pool
+ * (see DataSourceConfig) instead of the JPA EntityManager.
+ *
+ * Rows are mapped straight to the domain model: the statements only read, so there is
+ * no point in loading them into the persistence context. Ordering matches the
+ * equivalent queries in LedgerSpringRepository.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LedgerReportJdbcRepository {
+
+    private static final String SELECT_LEDGER_ENTRIES =
+            "SELECT id, timestamp, movement_id, transfer_id, account_id, entry_type, amount, balance_before, balance_after, "
+                    + "description, initiated_by FROM ledger_entries ";
+
+    private static final RowMapper<LedgerEntry> LEDGER_ENTRY_ROW_MAPPER = (rs, rowNum) -> LedgerEntry.builder()
+            .id(rs.getLong("id"))
+            .timestamp(rs.getObject("timestamp", LocalDateTime.class))
+            .movementId(rs.getLong("movement_id"))
+            .transferId(rs.getString("transfer_id"))
+            .accountId(rs.getLong("account_id"))
+            .entryType(LedgerEntry.LedgerEntryType.valueOf(rs.getString("entry_type")))
+            .amount(Money.of(rs.getBigDecimal("amount")))
+            .balanceBefore(moneyOrNull(rs.getBigDecimal("balance_before")))
+            .balanceAfter(moneyOrNull(rs.getBigDecimal("balance_after")))
+            .description(rs.getString("description"))
+            .initiatedBy(rs.getString("initiated_by"))
+            .build();
+
+    // Saldo actual (fila y slots) menos lo que suman los asientos desde el dado, en una sola sentencia:
+    // saldo y asientos salen de la misma instantánea
+    private static final String BALANCE_BEFORE_ENTRY =
+            "SELECT (SELECT a.initial_balance FROM accounts a WHERE a.id = :accountId) "
+                    + "+ (SELECT COALESCE(SUM(s.balance), 0) FROM account_balance_slots s WHERE s.account_id = :accountId) "
+                    + "- (SELECT COALESCE(SUM(CASE WHEN l.entry_type = 'DEBIT' THEN -l.amount ELSE l.amount END), 0) "
+                    + "FROM ledger_entries l WHERE l.account_id = :accountId "
+                    + "AND (l.timestamp > :timestamp OR (l.timestamp = :timestamp AND l.id >= :entryId)))";
+
+    private final NamedParameterJdbcTemplate reportJdbcTemplate;
+
+    public List<LedgerEntry> findByAccountIdOrderByTimestampAsc(Long accountId) {
+        return reportJdbcTemplate.query(
+                SELECT_LEDGER_ENTRIES + "WHERE account_id = :accountId ORDER BY timestamp ASC",
+                new MapSqlParameterSource("accountId", accountId),
+                LEDGER_ENTRY_ROW_MAPPER);
+    }
+
+    public List<LedgerEntry> findByAccountIdAndTimestampBetween(Long accountId, LocalDateTime startDate, LocalDateTime endDate) {
+        return reportJdbcTemplate.query(
+                SELECT_LEDGER_ENTRIES + "WHERE account_id = :accountId "
+                        + "AND timestamp BETWEEN :startDate AND :endDate ORDER BY timestamp ASC",
+                new MapSqlParameterSource("accountId", accountId)
+                        .addValue("startDate", startDate)
+                        .addValue("endDate", endDate),
+                LEDGER_ENTRY_ROW_MAPPER);
+    }
+
+    /**
+     * Balance of the account just before {@code entry}, in the order of the statements (timestamp,
+     * then id): the current balance minus the entries from that one on. Null if the account is gone.
+     */
+    public Money findBalanceBefore(LedgerEntry entry) {
+        BigDecimal balance = reportJdbcTemplate.queryForObject(BALANCE_BEFORE_ENTRY,
+                new MapSqlParameterSource("accountId", entry.getAccountId())
+                        .addValue("timestamp", entry.getTimestamp())
+                        .addValue("entryId", entry.getId()),
+                BigDecimal.class);
+        return moneyOrNull(balance);
+    }
+
+    public List<LedgerEntry> findByAccountIdsAndTimestampBetween(List<Long> accountIds, LocalDateTime startDate, LocalDateTime endDate) {
+        if (accountIds.isEmpty()) {
+            return List.of();
+        }
+        return reportJdbcTemplate.query(
+                SELECT_LEDGER_ENTRIES + "WHERE account_id IN (:accountIds) "
+                        + "AND timestamp BETWEEN :startDate AND :endDate ORDER BY account_id, timestamp ASC",
+                new MapSqlParameterSource("accountIds", accountIds)
+                        .addValue("startDate", startDate)
+                        .addValue("endDate", endDate),
+                LEDGER_ENTRY_ROW_MAPPER);
+    }
+
+    private static Money moneyOrNull(BigDecimal amount) {
+        return amount == null ? null : Money.of(amount);
+    }
+}
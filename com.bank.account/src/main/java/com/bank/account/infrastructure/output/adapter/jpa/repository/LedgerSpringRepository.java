@@ -1,9 +1,11 @@
 package com.bank.account.infrastructure.output.adapter.jpa.repository;
 
 import com.bank.account.infrastructure.output.adapter.jpa.entity.LedgerEntryEntity;
+import com.bank.account.infrastructure.output.adapter.jpa.projection.LedgerEntryView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -64,11 +66,18 @@ public interface LedgerSpringRepository extends JpaRepository<LedgerEntryEntity,
     /**
      * Find ledger entries by movement ID.
      * Used to trace all ledger entries generated by a specific movement.
+     * Constructor-expression projection in a read-only transaction: no entities are managed
+     * and no dirty-checking snapshots are taken.
      *
      * @param movementId The movement ID
      * @return List of ledger entries for this movement
      */
-    List<LedgerEntryEntity> findByMovementId(Long movementId);
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.bank.account.infrastructure.output.adapter.jpa.projection.LedgerEntryView("
+            + "l.id, l.timestamp, l.movementId, l.transferId, l.accountId, l.entryType, l.amount, "
+            + "l.balanceBefore, l.balanceAfter, l.description, l.initiatedBy) "
+            + "FROM LedgerEntryEntity l WHERE l.movementId = :movementId")
+    List<LedgerEntryView> findViewsByMovementId(@Param("movementId") Long movementId);
 
     /**
      * Count entries for an account (useful for pagination and statistics).
@@ -76,5 +85,6 @@ public interface LedgerSpringRepository extends JpaRepository<LedgerEntryEntity,
      * @param accountId The account ID
      * @return Total number of entries
      */
+    @Transactional(readOnly = true)
     Long countByAccountId(Long accountId);
 }
\ No newline at end of file
@@ -1,14 +1,39 @@
 package com.bank.account.infrastructure.output.adapter.jpa.repository;
 
 import com.bank.account.infrastructure.output.adapter.jpa.entity.MovementEntity;
+import com.bank.account.infrastructure.output.adapter.jpa.projection.MovementView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface MovementSpringRepository extends JpaRepository<MovementEntity, Long> {
 
-    List<MovementEntity> findByAccountId(Long accountId);
+    // m.account.id es la columna account_id: no hace join ni carga la cuenta
+    String SELECT_MOVEMENT_VIEW = "SELECT new com.bank.account.infrastructure.output.adapter.jpa.projection.MovementView("
+            + "m.id, m.date, m.movementType, m.amount, m.balance, m.account.id) "
+            + "FROM MovementEntity m ";
 
-    List<MovementEntity> findByAccountIdInAndDateBetween(List<Long> accountIds, LocalDateTime startDate, LocalDateTime endDate);
+    @Transactional(readOnly = true)
+    @Query(SELECT_MOVEMENT_VIEW + "WHERE m.id = :id")
+    Optional<MovementView> findViewById(@Param("id") Long id);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_MOVEMENT_VIEW + "WHERE m.account.id = :accountId")
+    List<MovementView> findViewsByAccountId(@Param("accountId") Long accountId);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_MOVEMENT_VIEW)
+    List<MovementView> findAllViews();
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_MOVEMENT_VIEW + "WHERE m.account.id IN :accountIds AND m.date BETWEEN :startDate AND :endDate")
+    List<MovementView> findViewsByAccountIdsAndDateBetween(
+            @Param("accountIds") List<Long> accountIds,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate);
 }
\ No newline at end of file
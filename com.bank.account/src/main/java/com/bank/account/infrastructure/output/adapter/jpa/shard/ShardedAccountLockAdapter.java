@@ -0,0 +1,46 @@
+package com.bank.account.infrastructure.output.adapter.jpa.shard;
+
+import com.bank.account.application.output.port.AccountLockPort;
+import com.bank.account.domain.exception.CrossShardTransferException;
+import com.bank.account.infrastructure.output.adapter.jpa.support.ShardMap;
+import com.bank.account.infrastructure.output.adapter.jpa.support.ShardRouting;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Takes the account locks on the shard of the accounts. The lock is the first statement of a
+ * movement or transfer transaction, so it also pins the transaction to that shard.
+ *
+ * A transaction spans one database: locking accounts of different shards, which only a transfer
+ * between them does, is rejected before any work is done.
+ */
+public class ShardedAccountLockAdapter implements AccountLockPort {
+
+    private final AccountLockPort delegate;
+    private final ShardMap shardMap;
+
+    public ShardedAccountLockAdapter(AccountLockPort delegate, ShardMap shardMap) {
+        this.delegate = delegate;
+        this.shardMap = shardMap;
+    }
+
+    @Override
+    public Mono<Void> lockAccounts(Collection<Long> accountIds) {
+        Set<Integer> shards = accountIds.stream()
+                .map(shardMap::shardOf)
+                // Un id que ningún shard generó no existe: no hay nada que bloquear
+                .filter(shard -> shard >= 0)
+                .collect(Collectors.toSet());
+        if (shards.isEmpty()) {
+            return Mono.empty();
+        }
+        if (shards.size() > 1) {
+            return Mono.error(new CrossShardTransferException(
+                    "Transfers between accounts stored in different shards are not supported yet."));
+        }
+        return ShardRouting.onShard(shards.iterator().next(), delegate.lockAccounts(accountIds));
+    }
+}
@@ -0,0 +1,117 @@
+package com.bank.account.infrastructure.output.adapter.jpa.shard;
+
+import com.bank.account.application.output.port.AccountRepositoryPort;
+import com.bank.account.domain.model.Account;
+import com.bank.account.domain.model.Money;
+import com.bank.account.infrastructure.output.adapter.jpa.support.ShardMap;
+import com.bank.account.infrastructure.output.adapter.jpa.support.ShardRouting;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Routes each account call to the shard that holds the account (see {@link ShardMap}). Lookups by
+ * id go to one shard; lookups by account number and by customer scatter to every shard in parallel
+ * and gather the results, since an account number can change after the account was placed.
+ */
+public class ShardedAccountRepositoryAdapter implements AccountRepositoryPort {
+
+    private final AccountRepositoryPort delegate;
+    private final ShardMap shardMap;
+
+    public ShardedAccountRepositoryAdapter(AccountRepositoryPort delegate, ShardMap shardMap) {
+        this.delegate = delegate;
+        this.shardMap = shardMap;
+    }
+
+    @Override
+    public Mono<Account> saveAccount(Account account) {
+        int shard = account.getId() != null
+                ? shardMap.shardOf(account.getId())
+                : shardMap.shardForAccountNumber(account.getAccountNumber());
+        return ShardRouting.onShard(shard, delegate.saveAccount(account));
+    }
+
+    @Override
+    public Flux<Account> saveAllAccounts(List<Account> accounts) {
+        // Un lote por shard; cada shard confirma el suyo por separado
+        return Flux.fromIterable(shardMap.groupByShard(accounts,
+                        account -> shardMap.shardForAccountNumber(account.getAccountNumber())).entrySet())
+                .flatMap(group -> ShardRouting.onShard(group.getKey(), delegate.saveAllAccounts(group.getValue())));
+    }
+
+    @Override
+    public Mono<Set<String>> findExistingAccountNumbers(Collection<String> accountNumbers) {
+        return scatter(() -> delegate.findExistingAccountNumbers(accountNumbers).flux())
+                .<Set<String>>collect(HashSet::new, Set::addAll);
+    }
+
+    @Override
+    public Mono<Account> findAccountByNumber(String accountNumber) {
+        return scatter(() -> delegate.findAccountByNumber(accountNumber).flux()).next();
+    }
+
+    @Override
+    public Mono<Long> findAccountIdByNumber(String accountNumber) {
+        return scatter(() -> delegate.findAccountIdByNumber(accountNumber).flux()).next();
+    }
+
+    @Override
+    public Mono<Account> findAccountById(Long id) {
+        return onShardOf(id, delegate.findAccountById(id));
+    }
+
+    @Override
+    public Mono<Account> findAccountForBalanceChange(Long id) {
+        return onShardOf(id, delegate.findAccountForBalanceChange(id));
+    }
+
+    @Override
+    public Mono<Account> addConcurrentCredit(Long accountId, Money amount) {
+        return onShardOf(accountId, delegate.addConcurrentCredit(accountId, amount));
+    }
+
+    @Override
+    public Mono<Account> configureBalanceSlots(Long accountId, int slots) {
+        return onShardOf(accountId, delegate.configureBalanceSlots(accountId, slots));
+    }
+
+    @Override
+    public Mono<Account> updateAccountDetails(Long id, Account details) {
+        return onShardOf(id, delegate.updateAccountDetails(id, details));
+    }
+
+    @Override
+    public Mono<Boolean> deactivateAccount(Long id) {
+        return onShardOf(id, delegate.deactivateAccount(id));
+    }
+
+    @Override
+    public Mono<Void> deleteAccountById(Long id) {
+        return onShardOf(id, delegate.deleteAccountById(id));
+    }
+
+    @Override
+    public Flux<Account> findAll() {
+        return scatter(delegate::findAll);
+    }
+
+    @Override
+    public Flux<Account> findByCustomerId(Long customerId) {
+        return scatter(() -> delegate.findByCustomerId(customerId));
+    }
+
+    private <T> Mono<T> onShardOf(Long id, Mono<T> work) {
+        int shard = shardMap.shardOf(id);
+        return shard < 0 ? Mono.empty() : ShardRouting.onShard(shard, work);
+    }
+
+    private <T> Flux<T> scatter(Supplier<Flux<T>> work) {
+        return ShardRouting.scatter(shardMap.shards(), work);
+    }
+}
@@ -0,0 +1,72 @@
+package com.bank.account.infrastructure.output.adapter.jpa.shard;
+
+import com.bank.account.application.output.port.LedgerRepositoryPort;
+import com.bank.account.domain.model.LedgerEntry;
+import com.bank.account.domain.model.Money;
+import com.bank.account.infrastructure.output.adapter.jpa.support.ShardMap;
+import com.bank.account.infrastructure.output.adapter.jpa.support.ShardRouting;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Routes each ledger call to the shard of its account (see {@link ShardMap}); an entry lives next to
+ * its movement, so lookups by movement id go to the movement's shard. Statements over several
+ * accounts split the ids by shard and read those shards in parallel.
+ */
+public class ShardedLedgerRepositoryAdapter implements LedgerRepositoryPort {
+
+    private final LedgerRepositoryPort delegate;
+    private final ShardMap shardMap;
+
+    public ShardedLedgerRepositoryAdapter(LedgerRepositoryPort delegate, ShardMap shardMap) {
+        this.delegate = delegate;
+        this.shardMap = shardMap;
+    }
+
+    @Override
+    public Mono<LedgerEntry> saveLedgerEntry(LedgerEntry ledgerEntry) {
+        return ShardRouting.onShard(shardMap.shardOf(ledgerEntry.getAccountId()), delegate.saveLedgerEntry(ledgerEntry));
+    }
+
+    @Override
+    public Flux<LedgerEntry> findByAccountId(Long accountId) {
+        return onShardOf(accountId, delegate.findByAccountId(accountId));
+    }
+
+    @Override
+    public Flux<LedgerEntry> findByAccountIdAndDateRange(Long accountId, LocalDateTime startDate, LocalDateTime endDate) {
+        return onShardOf(accountId, delegate.findByAccountIdAndDateRange(accountId, startDate, endDate));
+    }
+
+    @Override
+    public Flux<LedgerEntry> findByAccountIdsAndDateRange(List<Long> accountIds, LocalDateTime startDate, LocalDateTime endDate) {
+        return Flux.fromIterable(shardMap.groupByShard(accountIds, shardMap::shardOf).entrySet())
+                .flatMap(group -> ShardRouting.onShard(group.getKey(),
+                        delegate.findByAccountIdsAndDateRange(group.getValue(), startDate, endDate)));
+    }
+
+    @Override
+    public Mono<Money> findBalanceBefore(LedgerEntry ledgerEntry) {
+        int shard = shardMap.shardOf(ledgerEntry.getAccountId());
+        return shard < 0 ? Mono.empty() : ShardRouting.onShard(shard, delegate.findBalanceBefore(ledgerEntry));
+    }
+
+    @Override
+    public Flux<LedgerEntry> findByMovementId(Long movementId) {
+        return onShardOf(movementId, delegate.findByMovementId(movementId));
+    }
+
+    @Override
+    public Mono<Long> countByAccountId(Long accountId) {
+        int shard = shardMap.shardOf(accountId);
+        return shard < 0 ? Mono.just(0L) : ShardRouting.onShard(shard, delegate.countByAccountId(accountId));
+    }
+
+    private Flux<LedgerEntry> onShardOf(Long id, Flux<LedgerEntry> work) {
+        int shard = shardMap.shardOf(id);
+        return shard < 0 ? Flux.empty() : ShardRouting.onShard(shard, work);
+    }
+}
@@ -0,0 +1,61 @@
+package com.bank.account.infrastructure.output.adapter.jpa.shard;
+
+import com.bank.account.application.output.port.MovementRepositoryPort;
+import com.bank.account.domain.model.Movement;
+import com.bank.account.infrastructure.output.adapter.jpa.support.ShardMap;
+import com.bank.account.infrastructure.output.adapter.jpa.support.ShardRouting;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Routes each movement call to the shard of its account (see {@link ShardMap}). Queries over
+ * several accounts split the ids by shard and query those shards in parallel.
+ */
+public class ShardedMovementRepositoryAdapter implements MovementRepositoryPort {
+
+    private final MovementRepositoryPort delegate;
+    private final ShardMap shardMap;
+
+    public ShardedMovementRepositoryAdapter(MovementRepositoryPort delegate, ShardMap shardMap) {
+        this.delegate = delegate;
+        this.shardMap = shardMap;
+    }
+
+    @Override
+    public Mono<Movement> saveMovement(Movement movement) {
+        return ShardRouting.onShard(shardMap.shardOf(movement.getAccountId()), delegate.saveMovement(movement));
+    }
+
+    @Override
+    public Mono<Movement> findById(Long id) {
+        int shard = shardMap.shardOf(id);
+        return shard < 0 ? Mono.empty() : ShardRouting.onShard(shard, delegate.findById(id));
+    }
+
+    @Override
+    public Flux<Movement> findByAccountId(Long accountId) {
+        int shard = shardMap.shardOf(accountId);
+        return shard < 0 ? Flux.empty() : ShardRouting.onShard(shard, delegate.findByAccountId(accountId));
+    }
+
+    @Override
+    public Flux<Movement> findAll() {
+        return ShardRouting.scatter(shardMap.shards(), delegate::findAll);
+    }
+
+    @Override
+    public Mono<Void> deleteById(Long id) {
+        int shard = shardMap.shardOf(id);
+        return shard < 0 ? Mono.empty() : ShardRouting.onShard(shard, delegate.deleteById(id));
+    }
+
+    @Override
+    public Flux<Movement> findMovementsByAccountIdsAndDateRange(List<Long> accountIds, LocalDateTime startDate, LocalDateTime endDate) {
+        return Flux.fromIterable(shardMap.groupByShard(accountIds, shardMap::shardOf).entrySet())
+                .flatMap(group -> ShardRouting.onShard(group.getKey(),
+                        delegate.findMovementsByAccountIdsAndDateRange(group.getValue(), startDate, endDate)));
+    }
+}
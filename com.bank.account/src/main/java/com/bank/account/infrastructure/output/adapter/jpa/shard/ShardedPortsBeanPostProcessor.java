@@ -0,0 +1,45 @@
+package com.bank.account.infrastructure.output.adapter.jpa.shard;
+
+import com.bank.account.application.output.port.AccountLockPort;
+import com.bank.account.application.output.port.AccountRepositoryPort;
+import com.bank.account.application.output.port.LedgerRepositoryPort;
+import com.bank.account.application.output.port.MovementRepositoryPort;
+import com.bank.account.infrastructure.output.adapter.jpa.support.ShardMap;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+
+/**
+ * Puts the sharded adapters in front of the JPA adapters of the account, movement, ledger and lock
+ * ports, so every port call is routed to its shard. Runs before the port metrics post-processor,
+ * which then times the sharded call (scatter-gather included) once.
+ */
+public class ShardedPortsBeanPostProcessor implements BeanPostProcessor, Ordered {
+
+    private final ShardMap shardMap;
+
+    public ShardedPortsBeanPostProcessor(ShardMap shardMap) {
+        this.shardMap = shardMap;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof AccountRepositoryPort port) {
+            return new ShardedAccountRepositoryAdapter(port, shardMap);
+        }
+        if (bean instanceof MovementRepositoryPort port) {
+            return new ShardedMovementRepositoryAdapter(port, shardMap);
+        }
+        if (bean instanceof LedgerRepositoryPort port) {
+            return new ShardedLedgerRepositoryAdapter(port, shardMap);
+        }
+        if (bean instanceof AccountLockPort port) {
+            return new ShardedAccountLockAdapter(port, shardMap);
+        }
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
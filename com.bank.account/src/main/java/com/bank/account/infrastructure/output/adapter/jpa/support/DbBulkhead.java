@@ -0,0 +1,214 @@
+package com.bank.account.infrastructure.output.adapter.jpa.support;
+
+import com.bank.account.domain.exception.DatabaseSaturatedException;
+import com.bank.account.infrastructure.deadline.RequestDeadline;
+import com.bank.account.infrastructure.metrics.SqlStatementStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps the number of blocking JDBC calls in flight, so work waits here without holding a thread
+ * instead of parking a scheduler thread inside Hikari's {@code getConnection}.
+ * <p>
+ * A call first takes a permit, then runs on the scheduler. When no permit is free the subscription
+ * is queued (no thread is held); it fails with {@link DatabaseSaturatedException} when the queue is
+ * full or the permit does not arrive within {@code maxQueueWait}.
+ * <p>
+ * Calls made while a transaction is active on the current thread run inline, without a permit and
+ * without changing threads: the caller already holds a permit and a connection, and moving the call
+ * to another thread would take it out of the transaction.
+ * <p>
+ * The request's {@link SqlStatementStats} is bound to the worker thread while the work runs, so
+ * Hibernate can attribute statements to it, and so are its {@link ReplicaRouting} mark, its
+ * {@link ShardRouting} shard and its {@link RequestDeadline}, which bounds each statement's query timeout.
+ */
+@Slf4j
+public class DbBulkhead {
+
+    private final String name;
+    private final int maxQueue;
+    private final Duration maxQueueWait;
+    private final Scheduler scheduler;
+
+    private final ArrayDeque<Waiter> queue = new ArrayDeque<>();
+    private int availablePermits;
+
+    private final Timer queueWait;
+    private final Counter rejectedQueueFull;
+    private final Counter rejectedTimeout;
+
+    public DbBulkhead(String name, int permits, int maxQueue, Duration maxQueueWait,
+                      Scheduler scheduler, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.availablePermits = permits;
+        this.maxQueue = maxQueue;
+        this.maxQueueWait = maxQueueWait;
+        this.scheduler = scheduler;
+
+        Gauge.builder("bank.db.bulkhead.available", this, DbBulkhead::availablePermits)
+                .description("Free permits")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("bank.db.bulkhead.queued", this, DbBulkhead::queuedRequests)
+                .description("Calls waiting for a permit")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        this.queueWait = Timer.builder("bank.db.bulkhead.wait")
+                .description("Time spent waiting for a permit")
+                .tag("bulkhead", name)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.rejectedQueueFull = Counter.builder("bank.db.bulkhead.rejected")
+                .tags("bulkhead", name, "reason", "queue_full")
+                .register(meterRegistry);
+        this.rejectedTimeout = Counter.builder("bank.db.bulkhead.rejected")
+                .tags("bulkhead", name, "reason", "timeout")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs blocking work on this bulkhead's scheduler once a permit is available.
+     */
+    public <T> Mono<T> mono(Mono<T> blockingWork) {
+        return mono(blockingWork, scheduler);
+    }
+
+    public <T> Mono<T> mono(Mono<T> blockingWork, Scheduler workScheduler) {
+        return Mono.defer(() -> TransactionSynchronizationManager.isActualTransactionActive()
+                ? blockingWork
+                : Mono.usingWhen(acquire(), permit -> propagate(blockingWork).subscribeOn(workScheduler),
+                        Permit::release, (permit, error) -> permit.release(), Permit::release));
+    }
+
+    public <T> Flux<T> flux(Flux<T> blockingWork) {
+        return Flux.defer(() -> TransactionSynchronizationManager.isActualTransactionActive()
+                ? blockingWork
+                : Flux.usingWhen(acquire(), permit -> propagate(blockingWork).subscribeOn(scheduler),
+                        Permit::release, (permit, error) -> permit.release(), Permit::release));
+    }
+
+    private static <T> Mono<T> propagate(Mono<T> blockingWork) {
+        return SqlStatementStats.propagate(ReplicaRouting.propagate(
+                ShardRouting.propagate(RequestDeadline.propagate(blockingWork))));
+    }
+
+    private static <T> Flux<T> propagate(Flux<T> blockingWork) {
+        return SqlStatementStats.propagate(ReplicaRouting.propagate(
+                ShardRouting.propagate(RequestDeadline.propagate(blockingWork))));
+    }
+
+    public synchronized int availablePermits() {
+        return availablePermits;
+    }
+
+    public synchronized int queuedRequests() {
+        return queue.size();
+    }
+
+    private Mono<Permit> acquire() {
+        return Mono.<Permit>create(sink -> {
+                    Waiter waiter;
+                    synchronized (this) {
+                        if (availablePermits > 0 && queue.isEmpty()) {
+                            availablePermits--;
+                            queueWait.record(0, TimeUnit.NANOSECONDS);
+                            sink.success(new Permit());
+                            return;
+                        }
+                        if (queue.size() >= maxQueue) {
+                            rejectedQueueFull.increment();
+                            sink.error(new DatabaseSaturatedException("Database is saturated: " + name + " queue is full"));
+                            return;
+                        }
+                        waiter = new Waiter(sink, System.nanoTime());
+                        queue.addLast(waiter);
+                    }
+                    waiter.timeout = Schedulers.parallel().schedule(() -> expire(waiter),
+                            maxQueueWait.toNanos(), TimeUnit.NANOSECONDS);
+                    sink.onCancel(() -> cancel(waiter));
+                })
+                // A permit emitted after the subscriber went away is handed back
+                .doOnDiscard(Permit.class, Permit::releaseNow);
+    }
+
+    private void expire(Waiter waiter) {
+        synchronized (this) {
+            if (!queue.remove(waiter)) {
+                return;
+            }
+        }
+        rejectedTimeout.increment();
+        log.warn("Database bulkhead '{}' rejected a call after waiting {} for a permit", name, maxQueueWait);
+        waiter.sink.error(new DatabaseSaturatedException(
+                "Database is saturated: no " + name + " connection available within " + maxQueueWait.toMillis() + " ms"));
+    }
+
+    private void cancel(Waiter waiter) {
+        synchronized (this) {
+            queue.remove(waiter);
+        }
+        waiter.disposeTimeout();
+    }
+
+    private void releasePermit() {
+        Waiter next;
+        synchronized (this) {
+            next = queue.pollFirst();
+            if (next == null) {
+                availablePermits++;
+                return;
+            }
+        }
+        // The permit passes straight to the next waiter
+        next.disposeTimeout();
+        queueWait.record(System.nanoTime() - next.enqueuedNanos, TimeUnit.NANOSECONDS);
+        next.sink.success(new Permit());
+    }
+
+    private static final class Waiter {
+        private final MonoSink<Permit> sink;
+        private final long enqueuedNanos;
+        private volatile Disposable timeout;
+
+        private Waiter(MonoSink<Permit> sink, long enqueuedNanos) {
+            this.sink = sink;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+
+        private void disposeTimeout() {
+            Disposable current = timeout;
+            if (current != null) {
+                current.dispose();
+            }
+        }
+    }
+
+    private final class Permit {
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Mono<Void> release() {
+            return Mono.fromRunnable(this::releaseNow);
+        }
+
+        private void releaseNow() {
+            if (released.compareAndSet(false, true)) {
+                releasePermit();
+            }
+        }
+    }
+}
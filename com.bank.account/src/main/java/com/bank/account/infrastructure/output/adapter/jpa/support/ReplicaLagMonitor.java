@@ -0,0 +1,77 @@
+package com.bank.account.infrastructure.output.adapter.jpa.support;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples the replication lag every {@code interval} with {@code lagQuery}, which must return the
+ * lag in seconds, or NULL when the replica is not replicating (and so its lag cannot be known),
+ * and publishes it as {@code bank.db.replica.lag}. The probe runs on its own
+ * thread: the gauge only reads the last sample, so a scrape never waits on the replica.
+ *
+ * The replica counts as lagging above {@code maxLag}, when the query fails or returns NULL and
+ * before the first sample, so reads go to the primary whenever the replica's state is unknown.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+    private final Scheduler scheduler;
+    private final Disposable probe;
+
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(JdbcTemplate replicaJdbcTemplate, String lagQuery, Duration maxLag,
+                             Duration interval, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = replicaJdbcTemplate;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        Gauge.builder("bank.db.replica.lag", this, ReplicaLagMonitor::lagSeconds)
+                .description("Replication lag of the read replica (NaN when unknown)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        // boundedElastic: la consulta es JDBC bloqueante
+        this.scheduler = Schedulers.newBoundedElastic(1, 1, "replica-lag");
+        this.probe = scheduler.schedulePeriodically(this::probe, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public double lagSeconds() {
+        return lagSeconds;
+    }
+
+    public boolean isLagging() {
+        return !(lagSeconds <= maxLagSeconds);
+    }
+
+    void probe() {
+        try {
+            Double sample = replicaJdbcTemplate.queryForObject(lagQuery, Double.class);
+            if (sample == null && !Double.isNaN(lagSeconds)) {
+                log.warn("Replica is not replicating, reads go to the primary until it resumes");
+            }
+            lagSeconds = sample != null ? sample : Double.NaN;
+        } catch (DataAccessException e) {
+            if (!Double.isNaN(lagSeconds)) {
+                log.warn("Replica lag probe failed, reads go to the primary until it succeeds: {}", e.getMessage());
+            }
+            lagSeconds = Double.NaN;
+        }
+    }
+
+    @Override
+    public void close() {
+        probe.dispose();
+        scheduler.dispose();
+    }
+}
@@ -0,0 +1,61 @@
+package com.bank.account.infrastructure.output.adapter.jpa.support;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * Marks the reads of one unit of work, normally one HTTP request, as needing the primary database
+ * even if they are read-only (see {@link ReplicaRoutingDataSource}). Used right after a client's
+ * own writes, which the replica may not have applied yet.
+ *
+ * The mark travels in the Reactor context and is bound to the worker thread by {@link DbBulkhead}
+ * while the blocking work is subscribed, the same way as {@code SqlStatementStats}.
+ */
+public final class ReplicaRouting {
+
+    private static final Object CONTEXT_KEY = ReplicaRouting.class;
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private ReplicaRouting() {
+    }
+
+    public static Context requirePrimary(Context context) {
+        return context.put(CONTEXT_KEY, Boolean.TRUE);
+    }
+
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+
+    public static <T> Mono<T> propagate(Mono<T> blockingWork) {
+        return Mono.deferContextual(context -> {
+            if (!context.hasKey(CONTEXT_KEY)) {
+                return blockingWork;
+            }
+            return Mono.<T>from(subscriber -> runOnPrimary(() -> blockingWork.subscribe(subscriber)));
+        });
+    }
+
+    public static <T> Flux<T> propagate(Flux<T> blockingWork) {
+        return Flux.deferContextual(context -> {
+            if (!context.hasKey(CONTEXT_KEY)) {
+                return blockingWork;
+            }
+            return Flux.<T>from(subscriber -> runOnPrimary(() -> blockingWork.subscribe(subscriber)));
+        });
+    }
+
+    /** Runs {@code work} on the current thread with every read going to the primary. */
+    public static void runOnPrimary(Runnable work) {
+        Boolean previous = PRIMARY_REQUIRED.get();
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        try {
+            work.run();
+        } finally {
+            if (previous == null) {
+                PRIMARY_REQUIRED.remove();
+            }
+        }
+    }
+}
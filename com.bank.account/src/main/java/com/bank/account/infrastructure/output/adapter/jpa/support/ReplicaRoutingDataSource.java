@@ -0,0 +1,62 @@
+package com.bank.account.infrastructure.output.adapter.jpa.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Hands out replica connections for reads, falling back to the primary when the current work
+ * must see its own writes ({@link ReplicaRouting}) or the replica is too far behind or unreachable
+ * ({@link ReplicaLagMonitor}).
+ *
+ * Only read paths use it: behind {@code LazyConnectionDataSourceProxy#setReadOnlyDataSource} for
+ * read-only transactions, and directly for the report pool. Every decision is counted in
+ * {@code bank.db.read.routing} by target and reason.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Counter toReplica;
+    private final Counter toPrimaryReadYourWrites;
+    private final Counter toPrimaryLag;
+
+    public ReplicaRoutingDataSource(String name, DataSource primary, DataSource replica,
+                                    ReplicaLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.toReplica = routingCounter(meterRegistry, name, "replica", "read_only");
+        this.toPrimaryReadYourWrites = routingCounter(meterRegistry, name, "primary", "read_your_writes");
+        this.toPrimaryLag = routingCounter(meterRegistry, name, "primary", "replica_lag");
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (ReplicaRouting.isPrimaryRequired()) {
+            toPrimaryReadYourWrites.increment();
+            return Target.PRIMARY;
+        }
+        if (lagMonitor.isLagging()) {
+            toPrimaryLag.increment();
+            return Target.PRIMARY;
+        }
+        toReplica.increment();
+        return Target.REPLICA;
+    }
+
+    private static Counter routingCounter(MeterRegistry meterRegistry, String name, String target, String reason) {
+        return Counter.builder("bank.db.read.routing")
+                .description("Read connections handed out, by database and reason")
+                .tags("datasource", name, "target", target, "reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,28 @@
+package com.bank.account.infrastructure.output.adapter.jpa.support;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * One connection pool per shard, indexed by shard. Closes every pool with the application context.
+ */
+public class ShardDataSources implements AutoCloseable {
+
+    private final Map<Integer, HikariDataSource> pools;
+
+    public ShardDataSources(Map<Integer, HikariDataSource> pools) {
+        this.pools = pools;
+    }
+
+    public Map<Integer, DataSource> byShard() {
+        return Collections.unmodifiableMap(pools);
+    }
+
+    @Override
+    public void close() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+}
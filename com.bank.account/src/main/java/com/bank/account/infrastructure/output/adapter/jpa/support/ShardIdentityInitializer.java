@@ -0,0 +1,82 @@
+package com.bank.account.infrastructure.output.adapter.jpa.support;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Makes the identity columns of each shard generate ids congruent to the shard index modulo
+ * {@link ShardMap#MAX_SHARDS}, so ids are unique across shards and name their shard. The inserts
+ * keep using plain IDENTITY: no extra round trip per row.
+ *
+ * Runs at startup once the schema exists. A column that already steps by {@code MAX_SHARDS} is
+ * left alone, so restarting an instance never moves the identity of a shard in use. Before a table
+ * is switched it must not hold ids of other shards: rows created before sharding (ids 1, 2, 3...
+ * on shard 0) would be looked up on the wrong shard, so startup fails until they are migrated.
+ */
+@Slf4j
+public class ShardIdentityInitializer {
+
+    private static final List<String> TABLES = List.of("accounts", "movements", "ledger_entries");
+
+    // Paso actual de la columna identity de cada tabla, por producto
+    private static final Map<String, String> INCREMENT_QUERIES = Map.of(
+            "PostgreSQL", "SELECT s.seqincrement FROM pg_sequence s WHERE s.seqrelid = pg_get_serial_sequence('%s', 'id')::regclass",
+            "H2", "SELECT identity_increment FROM information_schema.columns WHERE LOWER(table_name) = '%s' AND LOWER(column_name) = 'id'");
+
+    private final Map<Integer, DataSource> shards;
+
+    public ShardIdentityInitializer(Map<Integer, DataSource> shards) {
+        this.shards = shards;
+    }
+
+    public void initialize() {
+        shards.forEach((shard, dataSource) -> {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            String incrementQuery = incrementQuery(dataSource);
+            for (String table : TABLES) {
+                Long increment = jdbcTemplate.queryForObject(incrementQuery.formatted(table), Long.class);
+                if (increment != null && increment == ShardMap.MAX_SHARDS) {
+                    continue;
+                }
+                // Solo antes del cambio: después, todas las filas nuevas ya llevan su shard en el id
+                long foreignIds = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table
+                        + " WHERE MOD(id, " + ShardMap.MAX_SHARDS + ") <> " + shard, Long.class);
+                if (foreignIds > 0) {
+                    throw new IllegalStateException("Shard " + shard + ": " + foreignIds + " rows of " + table
+                            + " have ids that do not name this shard (created before sharding); migrate them first");
+                }
+                long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+                long next = nextIdOfShard(maxId, shard);
+                jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id SET INCREMENT BY "
+                        + ShardMap.MAX_SHARDS + " RESTART WITH " + next);
+                log.info("Shard {}: {}.id now generated from {} in steps of {}", shard, table, next, ShardMap.MAX_SHARDS);
+            }
+        });
+    }
+
+    /** Smallest positive id above {@code maxId} that belongs to {@code shard}. */
+    static long nextIdOfShard(long maxId, int shard) {
+        long start = Math.max(maxId + 1, 1);
+        return start + Math.floorMod(shard - start, (long) ShardMap.MAX_SHARDS);
+    }
+
+    private static String incrementQuery(DataSource dataSource) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            String query = INCREMENT_QUERIES.get(product);
+            if (query == null) {
+                throw new IllegalStateException("Sharded identities are not supported on " + product);
+            }
+            return query;
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Cannot read the database product of a shard", e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.bank.account.infrastructure.output.adapter.jpa.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Where each account lives when {@code account_db} is split across several databases (shards).
+ *
+ * The shard is part of every generated id: each shard hands out ids congruent to its index modulo
+ * {@link #MAX_SHARDS} (see {@link ShardIdentityInitializer}), so the shard of an account, movement
+ * or ledger entry is read from its id without a directory lookup. Movements and ledger entries live
+ * on the shard of their account. New accounts are spread by a hash of the account number.
+ */
+public final class ShardMap {
+
+    /** Stride of the generated ids; the number of shards can grow up to it without re-keying rows. */
+    public static final int MAX_SHARDS = 64;
+
+    private final int shardCount;
+
+    public ShardMap(int shardCount) {
+        if (shardCount < 1 || shardCount > MAX_SHARDS) {
+            throw new IllegalArgumentException("Shard count must be between 1 and " + MAX_SHARDS + ": " + shardCount);
+        }
+        this.shardCount = shardCount;
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public List<Integer> shards() {
+        return IntStream.range(0, shardCount).boxed().toList();
+    }
+
+    /** Shard for a new account. */
+    public int shardForAccountNumber(String accountNumber) {
+        int hash = accountNumber.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), shardCount);
+    }
+
+    /**
+     * Shard holding the row with this id, or -1 for an id no shard can have generated. Relies on
+     * every stored id naming its shard, which {@link ShardIdentityInitializer} checks at startup.
+     */
+    public int shardOf(Long id) {
+        int shard = (int) Math.floorMod(id, (long) MAX_SHARDS);
+        return shard < shardCount ? shard : -1;
+    }
+
+    /** Groups {@code items} by shard, keeping their order inside each group; items of no shard are dropped. */
+    public <T> Map<Integer, List<T>> groupByShard(Collection<T> items, ToIntFunction<T> shardOf) {
+        Map<Integer, List<T>> groups = new LinkedHashMap<>();
+        for (T item : items) {
+            int shard = shardOf.applyAsInt(item);
+            if (shard >= 0) {
+                groups.computeIfAbsent(shard, key -> new ArrayList<>()).add(item);
+            }
+        }
+        return groups;
+    }
+}
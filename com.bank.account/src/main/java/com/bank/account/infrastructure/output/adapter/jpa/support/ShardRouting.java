@@ -0,0 +1,105 @@
+package com.bank.account.infrastructure.output.adapter.jpa.support;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Selects the shard that serves the database work of one repository call (see
+ * {@link ShardRoutingDataSource}).
+ *
+ * The shard travels in the Reactor context and is bound to the worker thread by {@link DbBulkhead},
+ * the same way as {@link ReplicaRouting}. Inside a transaction the repository calls run inline, so
+ * it is also bound while the call is subscribed. The physical connection of a transaction is taken
+ * on its first statement, from the shard of the first call; a later call for another shard fails
+ * instead of silently reading or writing the first one.
+ */
+public final class ShardRouting {
+
+    private static final Object CONTEXT_KEY = ShardRouting.class;
+    private static final Object TRANSACTION_KEY = new Object();
+    private static final ThreadLocal<Integer> CURRENT_SHARD = new ThreadLocal<>();
+
+    private ShardRouting() {
+    }
+
+    public static <T> Mono<T> onShard(int shard, Mono<T> work) {
+        return Mono.<T>from(subscriber -> runOnShard(shard, () -> work.subscribe(subscriber)))
+                .contextWrite(context -> context.put(CONTEXT_KEY, shard));
+    }
+
+    public static <T> Flux<T> onShard(int shard, Flux<T> work) {
+        return Flux.<T>from(subscriber -> runOnShard(shard, () -> work.subscribe(subscriber)))
+                .contextWrite(context -> context.put(CONTEXT_KEY, shard));
+    }
+
+    /** Runs {@code work} on every shard in parallel and merges the results, in no particular order. */
+    public static <T> Flux<T> scatter(List<Integer> shards, Supplier<Flux<T>> work) {
+        return Flux.merge(shards.stream()
+                .map(shard -> onShard(shard, work.get()))
+                .toList());
+    }
+
+    /** Shard bound to the current thread, or {@code null} outside any sharded call. */
+    public static Integer currentShard() {
+        return CURRENT_SHARD.get();
+    }
+
+    public static <T> Mono<T> propagate(Mono<T> blockingWork) {
+        return Mono.deferContextual(context -> {
+            if (!context.hasKey(CONTEXT_KEY)) {
+                return blockingWork;
+            }
+            int shard = context.get(CONTEXT_KEY);
+            return Mono.<T>from(subscriber -> runOnShard(shard, () -> blockingWork.subscribe(subscriber)));
+        });
+    }
+
+    public static <T> Flux<T> propagate(Flux<T> blockingWork) {
+        return Flux.deferContextual(context -> {
+            if (!context.hasKey(CONTEXT_KEY)) {
+                return blockingWork;
+            }
+            int shard = context.get(CONTEXT_KEY);
+            return Flux.<T>from(subscriber -> runOnShard(shard, () -> blockingWork.subscribe(subscriber)));
+        });
+    }
+
+    /** Runs {@code work} on the current thread with its database work going to {@code shard}. */
+    public static void runOnShard(int shard, Runnable work) {
+        checkTransactionShard(shard);
+        Integer previous = CURRENT_SHARD.get();
+        CURRENT_SHARD.set(shard);
+        try {
+            work.run();
+        } finally {
+            if (previous == null) {
+                CURRENT_SHARD.remove();
+            } else {
+                CURRENT_SHARD.set(previous);
+            }
+        }
+    }
+
+    private static void checkTransactionShard(int shard) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Integer transactionShard = (Integer) TransactionSynchronizationManager.getResource(TRANSACTION_KEY);
+        if (transactionShard == null) {
+            TransactionSynchronizationManager.bindResource(TRANSACTION_KEY, shard);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TRANSACTION_KEY);
+                }
+            });
+        } else if (transactionShard != shard) {
+            throw new IllegalStateException("Shard " + shard + " accessed inside a transaction on shard " + transactionShard);
+        }
+    }
+}
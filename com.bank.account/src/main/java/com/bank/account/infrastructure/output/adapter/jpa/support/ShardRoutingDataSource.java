@@ -0,0 +1,60 @@
+package com.bank.account.infrastructure.output.adapter.jpa.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hands out connections of the shard bound by {@link ShardRouting}. Work with no shard bound goes
+ * to shard 0 only during startup (schema management); once {@link #requireShard()} is called it
+ * fails instead, so a call that skipped the sharded ports cannot silently read or write shard 0.
+ *
+ * Meant to sit behind a {@code LazyConnectionDataSourceProxy}: a transaction then takes its
+ * connection on the first statement, once a repository call has bound the shard. Connections handed
+ * out are counted in {@code bank.db.shard.connections} by shard.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final Counter[] connections;
+
+    private volatile boolean shardRequired;
+
+    public ShardRoutingDataSource(String name, Map<Integer, DataSource> shards, MeterRegistry meterRegistry) {
+        this.connections = new Counter[shards.size()];
+        for (int shard = 0; shard < connections.length; shard++) {
+            connections[shard] = Counter.builder("bank.db.shard.connections")
+                    .description("Connections handed out, by database and shard")
+                    .tags("datasource", name, "shard", String.valueOf(shard))
+                    .register(meterRegistry);
+        }
+        setTargetDataSources(new HashMap<>(shards));
+        setDefaultTargetDataSource(shards.get(0));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    /** From now on a connection requested with no shard bound fails instead of coming from shard 0. */
+    public void requireShard() {
+        shardRequired = true;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Integer shard = ShardRouting.currentShard();
+        if (shard == null) {
+            if (shardRequired) {
+                throw new IllegalStateException("No shard bound for this database call: it must go through the sharded ports");
+            }
+            shard = 0;
+        }
+        if (shard < 0 || shard >= connections.length) {
+            throw new IllegalStateException("No shard " + shard + " among the " + connections.length + " configured");
+        }
+        connections[shard].increment();
+        return shard;
+    }
+}
@@ -0,0 +1,37 @@
+package com.bank.account.infrastructure.output.adapter.jpa.support;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.hibernate.tool.schema.spi.SchemaManagementToolCoordinator;
+
+/**
+ * Applies {@code spring.jpa.hibernate.ddl-auto} to every shard but the first. Hibernate runs the
+ * schema action itself on the default connection, which {@link ShardRoutingDataSource} gives to
+ * shard 0; here the same action runs once per remaining shard, with that shard bound.
+ */
+public class ShardSchemaIntegrator implements Integrator {
+
+    private final ShardMap shardMap;
+
+    public ShardSchemaIntegrator(ShardMap shardMap) {
+        this.shardMap = shardMap;
+    }
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        for (int shard = 1; shard < shardMap.shardCount(); shard++) {
+            ShardRouting.runOnShard(shard, () -> SchemaManagementToolCoordinator.process(
+                    metadata, sessionFactory.getServiceRegistry(), sessionFactory.getProperties(),
+                    // create-drop solo borra el shard 0 al cerrar
+                    dropAction -> {
+                    }));
+        }
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+}
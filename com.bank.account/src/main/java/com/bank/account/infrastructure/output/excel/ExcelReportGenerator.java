@@ -1,6 +1,8 @@
 package com.bank.account.infrastructure.output.excel;
 
+import com.bank.account.application.jfr.ReportPhaseEvent;
 import com.bank.account.domain.model.AccountStatement;
+import com.bank.account.domain.model.Money;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
@@ -8,7 +10,6 @@ import org.springframework.stereotype.Component;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 /**
@@ -30,6 +31,8 @@ public class ExcelReportGenerator {
 
     public byte[] generateStatement(AccountStatement statement) throws IOException {
         try (Workbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            ReportPhaseEvent renderEvent = ReportPhaseEvent.start(ReportPhaseEvent.RENDER_WORKBOOK)
+                    .items(countTotalMovements(statement));
 
             // Create styles
             CellStyle headerStyle = createHeaderStyle(workbook);
@@ -71,7 +74,7 @@ public class ExcelReportGenerator {
                             Row dataRow = sheet.createRow(rowNum++);
 
                             // Determine if this is a credit or debit for styling
-                            boolean isCredit = movement.getAmount().compareTo(BigDecimal.ZERO) > 0;
+                            boolean isCredit = movement.getAmount().signum() > 0;
                             CellStyle amountStyle = isCredit ? creditStyle : debitStyle;
 
                             // Date
@@ -123,8 +126,13 @@ public class ExcelReportGenerator {
                 sheet.autoSizeColumn(i);
             }
 
+            renderEvent.commit();
+
+            ReportPhaseEvent writeEvent = ReportPhaseEvent.start(ReportPhaseEvent.WRITE_WORKBOOK);
             workbook.write(out);
-            return out.toByteArray();
+            byte[] content = out.toByteArray();
+            writeEvent.items(content.length).commit();
+            return content;
         }
     }
 
@@ -183,8 +191,8 @@ public class ExcelReportGenerator {
             cell.setCellStyle(headerStyle);
         }
 
-        BigDecimal totalInitial = BigDecimal.ZERO;
-        BigDecimal totalFinal = BigDecimal.ZERO;
+        Money totalInitial = Money.ZERO;
+        Money totalFinal = Money.ZERO;
 
         for (AccountStatement.AccountReportDetail account : statement.getAccounts()) {
             Row summaryRow = sheet.createRow(rowNum++);
@@ -199,15 +207,15 @@ public class ExcelReportGenerator {
             finalCell.setCellValue(account.getFinalBalance().doubleValue());
             finalCell.setCellStyle(currencyStyle);
 
-            BigDecimal netChange = account.getFinalBalance().subtract(account.getInitialBalance());
+            Money netChange = account.getFinalBalance().minus(account.getInitialBalance());
             Cell changeCell = summaryRow.createCell(4);
             changeCell.setCellValue(netChange.doubleValue());
-            changeCell.setCellStyle(netChange.compareTo(BigDecimal.ZERO) >= 0
+            changeCell.setCellStyle(netChange.signum() >= 0
                     ? createCreditStyle(sheet.getWorkbook())
                     : createDebitStyle(sheet.getWorkbook()));
 
-            totalInitial = totalInitial.add(account.getInitialBalance());
-            totalFinal = totalFinal.add(account.getFinalBalance());
+            totalInitial = totalInitial.plus(account.getInitialBalance());
+            totalFinal = totalFinal.plus(account.getFinalBalance());
         }
 
         // Add totals row
@@ -224,10 +232,10 @@ public class ExcelReportGenerator {
         totalFinalCell.setCellValue(totalFinal.doubleValue());
         totalFinalCell.setCellStyle(currencyStyle);
 
-        BigDecimal totalChange = totalFinal.subtract(totalInitial);
+        Money totalChange = totalFinal.minus(totalInitial);
         Cell totalChangeCell = totalsRow.createCell(4);
         totalChangeCell.setCellValue(totalChange.doubleValue());
-        totalChangeCell.setCellStyle(totalChange.compareTo(BigDecimal.ZERO) >= 0
+        totalChangeCell.setCellStyle(totalChange.signum() >= 0
                 ? createCreditStyle(sheet.getWorkbook())
                 : createDebitStyle(sheet.getWorkbook()));
 
@@ -0,0 +1,36 @@
+package com.bank.account;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.blockhound.BlockingOperationError;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+/**
+ * Guards the test setup itself: if BlockHound stops being installed (dependency or JVM flag
+ * removed), blocking calls on event-loop threads would silently pass every other test.
+ */
+@DisplayName("BlockHound Installation Test")
+class BlockHoundInstalledTest {
+
+    @Test
+    @DisplayName("should fail a blocking call made on a non-blocking thread")
+    void blockingCallOnParallelThread_IsDetected() {
+        // Arrange
+        Mono<Long> blockingOnParallel = Mono.delay(Duration.ofMillis(1))
+                .doOnNext(tick -> {
+                    try {
+                        Thread.sleep(1);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+
+        // Act & Assert
+        StepVerifier.create(blockingOnParallel)
+                .expectError(BlockingOperationError.class)
+                .verify(Duration.ofSeconds(5));
+    }
+}
@@ -1,24 +1,38 @@
 package com.bank.account.application.service;
 
+import com.bank.account.application.output.port.AccountLockPort;
 import com.bank.account.application.output.port.AccountRepositoryPort;
+import com.bank.account.application.output.port.BalanceCachePort;
 import com.bank.account.application.output.port.CustomerClientPort;
+import com.bank.account.application.output.port.TransactionPort;
 import com.bank.account.domain.exception.DuplicateResourceException;
 import com.bank.account.domain.exception.ResourceNotFoundException;
 import com.bank.account.domain.model.Account;
 import com.bank.account.domain.model.Customer;
+import com.bank.account.domain.model.Money;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
-import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +45,15 @@ class AccountUseCaseImplTest {
     @Mock
     private CustomerClientPort customerClientPort; // <-- CAMBIO IMPORTANTE
 
+    @Mock
+    private TransactionPort transactionPort;
+
+    @Mock
+    private AccountLockPort accountLockPort;
+
+    @Mock
+    private BalanceCachePort balanceCachePort;
+
     @InjectMocks
     private AccountUseCaseImpl accountUseCaseImpl;
 
@@ -46,7 +69,7 @@ class AccountUseCaseImplTest {
                 .id(1L)
                 .accountNumber("478758")
                 .accountType("Savings")
-                .initialBalance(BigDecimal.valueOf(2000.00))
+                .initialBalance(Money.parse("2000.00"))
                 .status(true)
                 .customerId(1L)
                 .build();
@@ -56,7 +79,7 @@ class AccountUseCaseImplTest {
     @DisplayName("should create a new account successfully")
     void shouldCreateAccountSuccessfully() {
         // Arrange
-        when(accountRepositoryPort.findAccountByNumber(any(String.class))).thenReturn(Mono.empty());
+        when(accountRepositoryPort.findAccountIdByNumber(any(String.class))).thenReturn(Mono.empty());
         // Simula la llamada exitosa al microservicio de clientes
         when(customerClientPort.findCustomerById(testCustomer.getCustomerId())).thenReturn(Mono.just(testCustomer)); // <-- CAMBIO IMPORTANTE
         when(accountRepositoryPort.saveAccount(any(Account.class))).thenReturn(Mono.just(testAccount));
@@ -71,7 +94,7 @@ class AccountUseCaseImplTest {
     @DisplayName("should fail to create account if customer does not exist")
     void shouldFailCreateAccountIfCustomerDoesNotExist() {
         // Arrange
-        when(accountRepositoryPort.findAccountByNumber(any(String.class))).thenReturn(Mono.empty());
+        when(accountRepositoryPort.findAccountIdByNumber(any(String.class))).thenReturn(Mono.empty());
         // Simula que el microservicio de clientes no encuentra al cliente
         when(customerClientPort.findCustomerById(any(Long.class))).thenReturn(Mono.empty()); // <-- CAMBIO IMPORTANTE
 
@@ -103,30 +126,47 @@ class AccountUseCaseImplTest {
     @DisplayName("should update an existing account successfully")
     void shouldUpdateAccountSuccessfully() {
         Account updatedAccount = testAccount.toBuilder().accountType("Checking").build();
-        when(accountRepositoryPort.findAccountById(1L)).thenReturn(Mono.just(testAccount));
-        when(accountRepositoryPort.saveAccount(any(Account.class))).thenReturn(Mono.just(updatedAccount));
+        // El número ya es de la propia cuenta: no es un duplicado
+        when(accountRepositoryPort.findAccountIdByNumber("478758")).thenReturn(Mono.just(1L));
+        when(accountRepositoryPort.updateAccountDetails(1L, updatedAccount)).thenReturn(Mono.just(updatedAccount));
 
         StepVerifier.create(accountUseCaseImpl.updateAccount(1L, updatedAccount))
                 .expectNext(updatedAccount)
                 .verifyComplete();
+
+        // El saldo no se reescribe desde una lectura previa
+        verify(accountRepositoryPort, never()).findAccountById(any());
+        verify(accountRepositoryPort, never()).saveAccount(any());
+    }
+
+    @Test
+    @DisplayName("should fail to update an account that does not exist")
+    void shouldFailUpdateWhenAccountDoesNotExist() {
+        Account updateRequest = testAccount.toBuilder().id(null).build();
+        when(accountRepositoryPort.findAccountIdByNumber("478758")).thenReturn(Mono.empty());
+        when(accountRepositoryPort.updateAccountDetails(99L, updateRequest)).thenReturn(Mono.empty());
+
+        StepVerifier.create(accountUseCaseImpl.updateAccount(99L, updateRequest))
+                .expectError(ResourceNotFoundException.class)
+                .verify();
     }
 
     @Test
     @DisplayName("should logically delete an account by setting status to false")
     void shouldLogicallyDeleteAccount() {
-        Account deactivatedAccount = testAccount.toBuilder().status(false).build();
-        when(accountRepositoryPort.findAccountById(1L)).thenReturn(Mono.just(testAccount));
-        when(accountRepositoryPort.saveAccount(any(Account.class))).thenReturn(Mono.just(deactivatedAccount));
+        when(accountRepositoryPort.deactivateAccount(1L)).thenReturn(Mono.just(true));
 
         StepVerifier.create(accountUseCaseImpl.deleteAccount(1L))
                 .verifyComplete();
+
+        verify(accountRepositoryPort, never()).saveAccount(any());
     }
 
     @Test
     @DisplayName("should throw DuplicateResourceException when creating with existing account number")
     void shouldThrowExceptionWhenCreatingWithExistingAccountNumber() {
         // Arrange
-        when(accountRepositoryPort.findAccountByNumber("478758")).thenReturn(Mono.just(testAccount));
+        when(accountRepositoryPort.findAccountIdByNumber("478758")).thenReturn(Mono.just(1L));
         // Simula la llamada al cliente (aunque fallará antes, es buena práctica)
         when(customerClientPort.findCustomerById(any(Long.class))).thenReturn(Mono.just(testCustomer)); // <-- CAMBIO IMPORTANTE
 
@@ -143,15 +183,122 @@ class AccountUseCaseImplTest {
     @DisplayName("should throw DuplicateResourceException when updating to an existing account number")
     void shouldThrowExceptionWhenUpdatingToExistingAccountNumber() {
         Account accountToUpdate = Account.builder().id(1L).accountNumber("111").build();
-        Account otherAccount = Account.builder().id(2L).accountNumber("222").build();
         Account updateRequest = Account.builder().accountNumber("222").accountType("Ahorro").status(true).build();
 
-        when(accountRepositoryPort.findAccountById(1L)).thenReturn(Mono.just(accountToUpdate));
-        when(accountRepositoryPort.findAccountByAccountNumberAndIdNot("222", 1L)).thenReturn(Mono.just(otherAccount));
+        when(accountRepositoryPort.findAccountIdByNumber("222")).thenReturn(Mono.just(2L));
 
         Mono<Account> result = accountUseCaseImpl.updateAccount(1L, updateRequest);
         StepVerifier.create(result)
                 .expectError(DuplicateResourceException.class)
                 .verify();
+        verify(accountRepositoryPort, never()).updateAccountDetails(any(), any());
+    }
+
+    @Test
+    @DisplayName("should create accounts in bulk with one uniqueness query and one customer lookup per chunk")
+    void shouldCreateAccountsInBulk() {
+        // Arrange
+        Account secondAccount = testAccount.toBuilder().id(2L).accountNumber("478759").build();
+        when(accountRepositoryPort.findExistingAccountNumbers(anyCollection())).thenReturn(Mono.just(Set.of()));
+        when(customerClientPort.findCustomersByIds(anyCollection())).thenReturn(Flux.just(testCustomer));
+        when(accountRepositoryPort.saveAllAccounts(anyList())).thenReturn(Flux.just(testAccount, secondAccount));
+
+        // Act & Assert
+        StepVerifier.create(accountUseCaseImpl.createAccounts(Flux.just(testAccount, secondAccount)))
+                .expectNext(testAccount, secondAccount)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("should fail bulk creation when an account number already exists")
+    void shouldFailBulkCreationWhenAccountNumberExists() {
+        // Arrange
+        when(accountRepositoryPort.findExistingAccountNumbers(anyCollection())).thenReturn(Mono.just(Set.of("478758")));
+
+        // Act & Assert
+        StepVerifier.create(accountUseCaseImpl.createAccounts(Flux.just(testAccount)))
+                .expectError(DuplicateResourceException.class)
+                .verify();
+        verify(accountRepositoryPort, never()).saveAllAccounts(anyList());
+    }
+
+    @Test
+    @DisplayName("should fail bulk creation when a referenced customer does not exist")
+    void shouldFailBulkCreationWhenCustomerIsMissing() {
+        // Arrange
+        Account orphanAccount = testAccount.toBuilder().accountNumber("478760").customerId(99L).build();
+        when(accountRepositoryPort.findExistingAccountNumbers(anyCollection())).thenReturn(Mono.just(Set.of()));
+        when(customerClientPort.findCustomersByIds(anyCollection())).thenReturn(Flux.just(testCustomer));
+
+        // Act & Assert
+        StepVerifier.create(accountUseCaseImpl.createAccounts(Flux.fromIterable(List.of(testAccount, orphanAccount))))
+                .expectError(ResourceNotFoundException.class)
+                .verify();
+        verify(accountRepositoryPort, never()).saveAllAccounts(anyList());
+    }
+
+    @Test
+    @DisplayName("should configure balance slots while holding the account lock")
+    void shouldConfigureBalanceSlotsUnderAccountLock() {
+        // Arrange
+        Account configured = testAccount.toBuilder().balanceSlots(8).build();
+        when(transactionPort.inTransaction(any())).thenAnswer(invocation ->
+                Mono.fromSupplier(invocation.<Supplier<Account>>getArgument(0)));
+        when(accountLockPort.lockAccounts(List.of(1L))).thenReturn(Mono.empty());
+        when(accountRepositoryPort.configureBalanceSlots(1L, 8)).thenReturn(Mono.just(configured));
+
+        // Act & Assert
+        StepVerifier.create(accountUseCaseImpl.configureBalanceSlots(1L, 8))
+                .expectNext(configured)
+                .verifyComplete();
+
+        InOrder order = inOrder(accountLockPort, accountRepositoryPort);
+        order.verify(accountLockPort).lockAccounts(List.of(1L));
+        order.verify(accountRepositoryPort).configureBalanceSlots(1L, 8);
+        verify(balanceCachePort).balanceChanged(configured);
+    }
+
+    @Test
+    @DisplayName("should fail to configure balance slots for an account that does not exist")
+    void shouldFailToConfigureBalanceSlotsForMissingAccount() {
+        // Arrange
+        when(transactionPort.inTransaction(any())).thenAnswer(invocation ->
+                Mono.fromSupplier(invocation.<Supplier<Account>>getArgument(0)));
+        when(accountLockPort.lockAccounts(List.of(99L))).thenReturn(Mono.empty());
+        when(accountRepositoryPort.configureBalanceSlots(99L, 4)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(accountUseCaseImpl.configureBalanceSlots(99L, 4))
+                .expectError(ResourceNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("should answer the balance from memory without reading the account")
+    void shouldFindAccountBalanceFromCache() {
+        // Arrange
+        when(balanceCachePort.findBalanceCents(1L)).thenReturn(123_456L);
+
+        // Act & Assert
+        StepVerifier.create(accountUseCaseImpl.findAccountBalance(1L))
+                .assertNext(balance -> assertEquals(Money.parse("1234.56"), balance.getBalance()))
+                .verifyComplete();
+
+        verify(accountRepositoryPort, never()).findAccountById(any());
+    }
+
+    @Test
+    @DisplayName("should read the account and load its balance into memory on a cache miss")
+    void shouldFindAccountBalanceOnCacheMiss() {
+        // Arrange
+        when(balanceCachePort.findBalanceCents(1L)).thenReturn(BalanceCachePort.NOT_CACHED);
+        when(accountRepositoryPort.findAccountById(1L)).thenReturn(Mono.just(testAccount));
+
+        // Act & Assert
+        StepVerifier.create(accountUseCaseImpl.findAccountBalance(1L))
+                .assertNext(balance -> assertEquals(testAccount.getInitialBalance(), balance.getBalance()))
+                .verifyComplete();
+
+        verify(balanceCachePort).balanceLoaded(testAccount);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,135 @@
+package com.bank.account.application.service;
+
+import com.bank.account.application.input.port.AccountUseCase;
+import com.bank.account.application.input.port.MovementUseCase;
+import com.bank.account.application.output.port.AccountRepositoryPort;
+import com.bank.account.application.output.port.CustomerClientPort;
+import com.bank.account.application.output.port.LedgerRepositoryPort;
+import com.bank.account.domain.model.AccountStatement;
+import com.bank.account.domain.model.Customer;
+import com.bank.account.domain.model.Money;
+import com.bank.account.domain.model.Movement;
+import com.bank.account.infrastructure.output.adapter.jpa.entity.AccountEntity;
+import com.bank.account.infrastructure.output.adapter.jpa.repository.AccountSpringRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Credits to an account with balance slots racing a debit that folds the slots, against the
+ * embedded H2 database of the {@code loadtest} profile. Checks the statement chain, not just the
+ * final sum: every row's balance is the previous one plus its amount.
+ */
+@SpringBootTest
+@ActiveProfiles("loadtest")
+@DisplayName("Concurrent Credit Statement Integration Tests")
+class ConcurrentCreditStatementIntegrationTest {
+
+    private static final int CREDITS = 16;
+
+    @Autowired
+    private MovementUseCase movementUseCase;
+
+    @Autowired
+    private AccountUseCase accountUseCase;
+
+    @Autowired
+    private AccountRepositoryPort accountRepositoryPort;
+
+    @Autowired
+    private LedgerRepositoryPort ledgerRepositoryPort;
+
+    @Autowired
+    private AccountSpringRepository accountRepository;
+
+    // Por debajo de los permisos del bulkhead oltp: ningún movimiento espera en la cola
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("parallel slot credits and a debit should leave a statement whose balances chain")
+    void slotCreditsAndDebit_StatementChains() throws Exception {
+        // Arrange
+        LocalDateTime start = LocalDateTime.now().minusMinutes(1);
+        String accountNumber = "CC-" + System.nanoTime();
+        Long accountId = createAccount(accountNumber);
+        accountUseCase.configureBalanceSlots(accountId, 4).block();
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<Movement>> movements = new ArrayList<>();
+        for (int i = 0; i < CREDITS; i++) {
+            movements.add(submit(go, accountId, "10.00"));
+            if (i == CREDITS / 2) {
+                movements.add(submit(go, accountId, "-100.00"));
+            }
+        }
+
+        // Act
+        go.countDown();
+        for (Future<Movement> movement : movements) {
+            movement.get(30, TimeUnit.SECONDS);
+        }
+        AccountStatement statement = reportUseCase()
+                .generateAccountStatement(1L, accountNumber, start, LocalDateTime.now().plusMinutes(1))
+                .block();
+
+        // Assert
+        AccountStatement.AccountReportDetail detail = statement.getAccounts().getFirst();
+        assertEquals(CREDITS + 1, detail.getMovements().size());
+        assertEquals(Money.parse("1000.00"), detail.getInitialBalance());
+        Money running = detail.getInitialBalance();
+        for (AccountStatement.MovementReportDetail row : detail.getMovements()) {
+            running = running.plus(row.getAmount());
+            assertEquals(running, row.getBalanceAfterMovement());
+        }
+        assertEquals(Money.parse("1060.00"), detail.getFinalBalance());
+        assertEquals(Money.parse("1060.00"), accountRepositoryPort.findAccountById(accountId).block().getInitialBalance());
+    }
+
+    private Future<Movement> submit(CountDownLatch go, Long accountId, String amount) {
+        return executor.submit(() -> {
+            go.await();
+            return movementUseCase.registerMovement(Movement.builder()
+                    .accountId(accountId)
+                    .amount(Money.parse(amount))
+                    .build()).block();
+        });
+    }
+
+    private ReportUseCaseImpl reportUseCase() {
+        CustomerClientPort customerClientPort = mock(CustomerClientPort.class);
+        when(customerClientPort.findCustomerById(1L))
+                .thenReturn(Mono.just(Customer.builder().customerId(1L).name("Jose Lema").build()));
+        return new ReportUseCaseImpl(customerClientPort, accountRepositoryPort, ledgerRepositoryPort);
+    }
+
+    private Long createAccount(String accountNumber) {
+        AccountEntity account = new AccountEntity();
+        account.setAccountNumber(accountNumber);
+        account.setAccountType("Ahorros");
+        account.setInitialBalance(Money.parse("1000.00"));
+        account.setStatus(true);
+        account.setCustomerId(1L);
+        return accountRepository.save(account).getId();
+    }
+}
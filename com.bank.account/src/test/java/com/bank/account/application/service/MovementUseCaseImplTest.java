@@ -1,27 +1,38 @@
 package com.bank.account.application.service;
 
+import com.bank.account.application.input.port.LedgerUseCase;
+import com.bank.account.application.output.port.AccountLockPort;
 import com.bank.account.application.output.port.AccountRepositoryPort;
+import com.bank.account.application.output.port.BalanceCachePort;
 import com.bank.account.application.output.port.MovementRepositoryPort;
+import com.bank.account.application.output.port.TransactionPort;
+import com.bank.account.domain.exception.InsufficientBalanceException;
 import com.bank.account.domain.exception.ResourceNotFoundException;
 import com.bank.account.domain.model.Account;
+import com.bank.account.domain.model.LedgerEntry;
+import com.bank.account.domain.model.Money;
 import com.bank.account.domain.model.Movement;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.transaction.PlatformTransactionManager;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
-import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Supplier;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Movement Use Case Unit Tests")
@@ -33,7 +44,13 @@ class MovementUseCaseImplTest {
     private AccountRepositoryPort accountRepositoryPort;
 
     @Mock
-    private PlatformTransactionManager transactionManager;
+    private LedgerUseCase ledgerUseCase;
+    @Mock
+    private TransactionPort transactionPort;
+    @Mock
+    private AccountLockPort accountLockPort;
+    @Mock
+    private BalanceCachePort balanceCachePort;
     
     @InjectMocks
     private MovementUseCaseImpl movementUseCaseImpl;
@@ -47,28 +64,122 @@ class MovementUseCaseImplTest {
         testAccount = Account.builder()
                 .id(1L)
                 .accountNumber("478758")
-                .initialBalance(new BigDecimal("1000.00"))
+                .initialBalance(Money.parse("1000.00"))
                 .status(true)
                 .customerId(1L)
                 .build();
         
         testMovementCredit = Movement.builder()
                 .accountId(1L)
-                .amount(new BigDecimal("500.00"))
+                .amount(Money.parse("500.00"))
                 .build();
         
         testMovementDebit = Movement.builder()
                 .accountId(1L)
-                .amount(new BigDecimal("-200.00"))
+                .amount(Money.parse("-200.00"))
+                .build();
+    }
+
+    @Test
+    @DisplayName("should register a credit movement inside a transaction and record it in the ledger")
+    void shouldRegisterCreditMovementInTransaction() {
+        // Arrange
+        when(transactionPort.inTransaction(any())).thenAnswer(invocation ->
+                Mono.fromSupplier(invocation.<Supplier<Movement>>getArgument(0)));
+        when(accountRepositoryPort.addConcurrentCredit(1L, Money.parse("500.00"))).thenReturn(Mono.empty());
+        when(accountLockPort.lockAccounts(List.of(1L))).thenReturn(Mono.empty());
+        when(accountRepositoryPort.findAccountForBalanceChange(1L)).thenReturn(Mono.just(testAccount));
+        when(accountRepositoryPort.saveAccount(any(Account.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(movementRepositoryPort.saveMovement(any(Movement.class))).thenAnswer(invocation -> {
+            Movement saved = invocation.getArgument(0);
+            saved.setId(10L);
+            return Mono.just(saved);
+        });
+        when(ledgerUseCase.recordLedgerEntry(any(LedgerEntry.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // Act & Assert
+        StepVerifier.create(movementUseCaseImpl.registerMovement(testMovementCredit))
+                .assertNext(movement -> {
+                    assertEquals("Credit", movement.getMovementType());
+                    assertEquals(Money.parse("1500.00"), movement.getBalance());
+                })
+                .verifyComplete();
+
+        assertEquals(Money.parse("1500.00"), testAccount.getInitialBalance());
+        verify(ledgerUseCase, times(1)).recordLedgerEntry(any(LedgerEntry.class));
+        verify(balanceCachePort).balanceChanged(testAccount);
+    }
+
+    @Test
+    @DisplayName("should reject a debit from the in-memory balance without opening a transaction")
+    void shouldRejectDebitFromCachedBalance() {
+        // Arrange
+        Movement largeDebit = Movement.builder()
+                .accountId(1L)
+                .amount(Money.parse("-1000.01"))
                 .build();
+        when(balanceCachePort.findBalanceCents(1L)).thenReturn(100_000L);
+
+        // Act & Assert
+        StepVerifier.create(movementUseCaseImpl.registerMovement(largeDebit))
+                .expectError(InsufficientBalanceException.class)
+                .verify();
+
+        verify(transactionPort, never()).inTransaction(any());
+    }
+
+    @Test
+    @DisplayName("should fall through to the locked check when the balance is not cached")
+    void shouldPostDebitWhenBalanceNotCached() {
+        // Arrange
+        when(balanceCachePort.findBalanceCents(1L)).thenReturn(BalanceCachePort.NOT_CACHED);
+        when(transactionPort.inTransaction(any())).thenAnswer(invocation ->
+                Mono.fromSupplier(invocation.<Supplier<Movement>>getArgument(0)));
+        when(accountLockPort.lockAccounts(List.of(1L))).thenReturn(Mono.empty());
+        when(accountRepositoryPort.findAccountForBalanceChange(1L)).thenReturn(Mono.just(testAccount));
+        when(accountRepositoryPort.saveAccount(any(Account.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(movementRepositoryPort.saveMovement(any(Movement.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(ledgerUseCase.recordLedgerEntry(any(LedgerEntry.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // Act & Assert
+        StepVerifier.create(movementUseCaseImpl.registerMovement(testMovementDebit))
+                .assertNext(movement -> {
+                    assertEquals("Debit", movement.getMovementType());
+                    assertEquals(Money.parse("800.00"), movement.getBalance());
+                })
+                .verifyComplete();
+
+        verify(balanceCachePort).balanceChanged(testAccount);
     }
 
-    // Nota: El test de "registerMovement" es complejo de probar unitariamente
-    // debido al uso de TransactionTemplate. En el monolito no estaba testeado
-    // el flujo transaccional. Para este microservicio, nos enfocaremos
-    // en los otros métodos que sí son puramente reactivos.
-    // El testeo del registro se delega a la Prueba de Integración (Fase 6.3).
+    @Test
+    @DisplayName("should post a credit without the account lock when the account takes concurrent credits")
+    void shouldRegisterConcurrentCreditWithoutAccountLock() {
+        // Arrange
+        Account credited = testAccount.toBuilder().initialBalance(null).balanceSlots(4).build();
+        ArgumentCaptor<LedgerEntry> ledgerEntry = ArgumentCaptor.forClass(LedgerEntry.class);
+        when(transactionPort.inTransaction(any())).thenAnswer(invocation ->
+                Mono.fromSupplier(invocation.<Supplier<Movement>>getArgument(0)));
+        when(accountRepositoryPort.addConcurrentCredit(1L, Money.parse("500.00"))).thenReturn(Mono.just(credited));
+        when(movementRepositoryPort.saveMovement(any(Movement.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(ledgerUseCase.recordLedgerEntry(any(LedgerEntry.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
 
+        // Act & Assert
+        StepVerifier.create(movementUseCaseImpl.registerMovement(testMovementCredit))
+                .assertNext(movement -> {
+                    assertEquals("Credit", movement.getMovementType());
+                    // Solo el importe: los créditos en otros slots hacen inexacto cualquier saldo
+                    assertNull(movement.getBalance());
+                })
+                .verifyComplete();
+
+        verify(ledgerUseCase).recordLedgerEntry(ledgerEntry.capture());
+        assertEquals(Money.parse("500.00"), ledgerEntry.getValue().getAmount());
+        assertNull(ledgerEntry.getValue().getBalanceBefore());
+        assertNull(ledgerEntry.getValue().getBalanceAfter());
+        verify(accountLockPort, never()).lockAccounts(any());
+        verify(accountRepositoryPort, never()).saveAccount(any());
+    }
 
     @Test
     @DisplayName("should fail to register a movement with an amount of zero")
@@ -76,13 +187,15 @@ class MovementUseCaseImplTest {
         // Arrange
         Movement zeroAmountMovement = Movement.builder()
                 .accountId(1L)
-                .amount(BigDecimal.ZERO)
+                .amount(Money.ZERO)
                 .build();
         
         // Act & Assert
         StepVerifier.create(movementUseCaseImpl.registerMovement(zeroAmountMovement))
                 .expectError(IllegalArgumentException.class)
                 .verify();
+
+        verify(transactionPort, never()).inTransaction(any());
     }
 
     @Test
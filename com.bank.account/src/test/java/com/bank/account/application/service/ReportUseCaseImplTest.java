@@ -8,6 +8,7 @@ import com.bank.account.domain.model.Account;
 import com.bank.account.domain.model.AccountStatement;
 import com.bank.account.domain.model.Customer;
 import com.bank.account.domain.model.LedgerEntry;
+import com.bank.account.domain.model.Money;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,7 +19,6 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -64,7 +64,7 @@ class ReportUseCaseImplTest {
                 .accountNumber("478758")
                 .accountType("Ahorro")
                 // El saldo de la cuenta (950) es el estado *final*
-                .initialBalance(new BigDecimal("950.00"))
+                .initialBalance(Money.parse("950.00"))
                 .customerId(clientId)
                 .build();
 
@@ -73,11 +73,11 @@ class ReportUseCaseImplTest {
                 .accountId(101L)
                 .timestamp(startDate.plusDays(5))
                 .entryType(LedgerEntry.LedgerEntryType.DEBIT)
-                .amount(new BigDecimal("50.00"))
+                .amount(Money.parse("50.00"))
                 // El reporte usa 'balanceBefore' como el saldo inicial del periodo [cite: 468]
-                .balanceBefore(new BigDecimal("1000.00"))
+                .balanceBefore(Money.parse("1000.00"))
                 // El reporte usa 'balanceAfter' como el saldo final del periodo [cite: 461]
-                .balanceAfter(new BigDecimal("950.00"))
+                .balanceAfter(Money.parse("950.00"))
                 .build();
 
         // Simulación de las llamadas
@@ -103,9 +103,9 @@ class ReportUseCaseImplTest {
                     assertEquals(1, accountDetail.getMovements().size());
 
                     // Saldo ANTES del primer movimiento (tomado de mockLedgerEntry.balanceBefore)
-                    assertEquals(new BigDecimal("1000.00"), accountDetail.getInitialBalance());
+                    assertEquals(Money.parse("1000.00"), accountDetail.getInitialBalance());
                     // Saldo DESPUÉS del último movimiento (tomado de mockLedgerEntry.balanceAfter)
-                    assertEquals(new BigDecimal("950.00"), accountDetail.getFinalBalance());
+                    assertEquals(Money.parse("950.00"), accountDetail.getFinalBalance());
                 })
                 .verifyComplete();
     }
@@ -119,7 +119,7 @@ class ReportUseCaseImplTest {
         // Arrange
         Long clientId = 2L;
         Customer mockCustomer = Customer.builder().customerId(clientId).name("Marianela Montalvo").build();
-        Account mockAccount = Account.builder().id(201L).accountNumber("225487").accountType("Corriente").initialBalance(new BigDecimal("500")).customerId(clientId).build();
+        Account mockAccount = Account.builder().id(201L).accountNumber("225487").accountType("Corriente").initialBalance(Money.parse("500")).customerId(clientId).build();
 
         when(customerClientPort.findCustomerById(clientId)).thenReturn(Mono.just(mockCustomer));
         when(accountRepositoryPort.findByCustomerId(clientId)).thenReturn(Flux.just(mockAccount));
@@ -140,12 +140,61 @@ class ReportUseCaseImplTest {
                     assertTrue(accountDetail.getMovements().isEmpty()); // Lista de movimientos vacía
 
                     // Si no hay movimientos, el saldo inicial y final es el saldo actual de la cuenta
-                    assertEquals(new BigDecimal("500"), accountDetail.getInitialBalance());
-                    assertEquals(new BigDecimal("500"), accountDetail.getFinalBalance());
+                    assertEquals(Money.parse("500"), accountDetail.getInitialBalance());
+                    assertEquals(Money.parse("500"), accountDetail.getFinalBalance());
                 })
                 .verifyComplete();
     }
 
+    /**
+     * Los créditos a cuentas con slots no guardan saldos: el extracto los encadena desde el saldo
+     * derivado antes del primer asiento y deja que un asiento con saldos lo vuelva a anclar.
+     */
+    @Test
+    @DisplayName("should derive the balances of entries stored without them")
+    void generateAccountStatement_EntriesWithoutBalances_DerivesRunningBalance() {
+        // Arrange
+        Long clientId = 3L;
+        Customer mockCustomer = Customer.builder().customerId(clientId).name("Juan Osorio").build();
+        Account mockAccount = Account.builder().id(301L).accountNumber("495878").accountType("Ahorro")
+                .initialBalance(Money.parse("1080.00")).customerId(clientId).build();
+        LedgerEntry firstCredit = slotCredit(1L, startDate.plusDays(1), "30.00");
+        LedgerEntry secondCredit = slotCredit(2L, startDate.plusDays(1), "20.00");
+        LedgerEntry debit = LedgerEntry.builder().id(3L).accountId(301L).timestamp(startDate.plusDays(2))
+                .entryType(LedgerEntry.LedgerEntryType.DEBIT).amount(Money.parse("40.00"))
+                .balanceBefore(Money.parse("1050.00")).balanceAfter(Money.parse("1010.00")).build();
+        LedgerEntry lastCredit = slotCredit(4L, startDate.plusDays(3), "70.00");
+
+        when(customerClientPort.findCustomerById(clientId)).thenReturn(Mono.just(mockCustomer));
+        when(accountRepositoryPort.findByCustomerId(clientId)).thenReturn(Flux.just(mockAccount));
+        // Desordenados: el extracto ordena por instante e id
+        when(ledgerRepositoryPort.findByAccountIdsAndDateRange(any(List.class), any(), any()))
+                .thenReturn(Flux.just(secondCredit, debit, lastCredit, firstCredit));
+        when(ledgerRepositoryPort.findBalanceBefore(firstCredit)).thenReturn(Mono.just(Money.parse("1000.00")));
+
+        // Act
+        Mono<AccountStatement> result = reportUseCase.generateAccountStatement(clientId, null, startDate, endDate);
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(statement -> {
+                    AccountStatement.AccountReportDetail accountDetail = statement.getAccounts().get(0);
+                    assertEquals(Money.parse("1000.00"), accountDetail.getInitialBalance());
+                    assertEquals(List.of(Money.parse("1030.00"), Money.parse("1050.00"), Money.parse("1010.00"),
+                                    Money.parse("1080.00")),
+                            accountDetail.getMovements().stream()
+                                    .map(AccountStatement.MovementReportDetail::getBalanceAfterMovement).toList());
+                    assertEquals(Money.parse("-40.00"), accountDetail.getMovements().get(2).getAmount());
+                    assertEquals(Money.parse("1080.00"), accountDetail.getFinalBalance());
+                })
+                .verifyComplete();
+    }
+
+    private static LedgerEntry slotCredit(Long id, LocalDateTime timestamp, String amount) {
+        return LedgerEntry.builder().id(id).accountId(301L).timestamp(timestamp)
+                .entryType(LedgerEntry.LedgerEntryType.CREDIT).amount(Money.parse(amount)).build();
+    }
+
     /**
      * Prueba el caso en que el cliente solicitado no existe en la base de datos.
      */
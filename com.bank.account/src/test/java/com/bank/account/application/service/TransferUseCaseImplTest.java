@@ -0,0 +1,210 @@
+package com.bank.account.application.service;
+
+import com.bank.account.application.input.port.LedgerUseCase;
+import com.bank.account.application.output.port.AccountLockPort;
+import com.bank.account.application.output.port.AccountRepositoryPort;
+import com.bank.account.application.output.port.BalanceCachePort;
+import com.bank.account.application.output.port.MovementRepositoryPort;
+import com.bank.account.application.output.port.TransactionPort;
+import com.bank.account.domain.exception.InsufficientBalanceException;
+import com.bank.account.domain.exception.InvalidTransferException;
+import com.bank.account.domain.model.Account;
+import com.bank.account.domain.model.LedgerEntry;
+import com.bank.account.domain.model.Money;
+import com.bank.account.domain.model.Movement;
+import com.bank.account.domain.model.Transfer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Transfer Use Case Unit Tests")
+class TransferUseCaseImplTest {
+
+    @Mock
+    private AccountRepositoryPort accountRepositoryPort;
+    @Mock
+    private MovementRepositoryPort movementRepositoryPort;
+    @Mock
+    private LedgerUseCase ledgerUseCase;
+    @Mock
+    private TransactionPort transactionPort;
+    @Mock
+    private AccountLockPort accountLockPort;
+    @Mock
+    private BalanceCachePort balanceCachePort;
+
+    @InjectMocks
+    private TransferUseCaseImpl transferUseCaseImpl;
+
+    private Account lowIdAccount;
+    private Account highIdAccount;
+
+    @BeforeEach
+    void setUp() {
+        lowIdAccount = Account.builder()
+                .id(1L)
+                .accountNumber("478758")
+                .initialBalance(Money.parse("1000.00"))
+                .status(true)
+                .customerId(1L)
+                .build();
+        highIdAccount = Account.builder()
+                .id(2L)
+                .accountNumber("225487")
+                .initialBalance(Money.parse("100.00"))
+                .status(true)
+                .customerId(2L)
+                .build();
+    }
+
+    private void stubTransaction() {
+        when(balanceCachePort.findBalanceCents(any())).thenReturn(BalanceCachePort.NOT_CACHED);
+        when(transactionPort.inTransaction(any())).thenAnswer(invocation ->
+                Mono.fromSupplier(invocation.<Supplier<Transfer>>getArgument(0)));
+        when(accountLockPort.lockAccounts(any())).thenReturn(Mono.empty());
+        when(accountRepositoryPort.findAccountForBalanceChange(1L)).thenReturn(Mono.just(lowIdAccount));
+        when(accountRepositoryPort.findAccountForBalanceChange(2L)).thenReturn(Mono.just(highIdAccount));
+    }
+
+    private void stubWrites() {
+        AtomicLong movementIds = new AtomicLong(10);
+        when(accountRepositoryPort.saveAccount(any(Account.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(movementRepositoryPort.saveMovement(any(Movement.class))).thenAnswer(invocation -> {
+            Movement saved = invocation.getArgument(0);
+            saved.setId(movementIds.getAndIncrement());
+            return Mono.just(saved);
+        });
+        when(ledgerUseCase.recordLedgerEntry(any(LedgerEntry.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+    }
+
+    private Transfer transfer(Long sourceId, Long targetId, String amount) {
+        return Transfer.builder()
+                .sourceAccountId(sourceId)
+                .targetAccountId(targetId)
+                .amount(Money.parse(amount))
+                .build();
+    }
+
+    @Test
+    @DisplayName("should move the amount between both accounts and write a balanced pair of ledger entries")
+    void shouldTransferAndRecordBalancedLedgerEntries() {
+        // Arrange
+        stubTransaction();
+        stubWrites();
+        ArgumentCaptor<LedgerEntry> entries = ArgumentCaptor.forClass(LedgerEntry.class);
+
+        // Act & Assert
+        StepVerifier.create(transferUseCaseImpl.transfer(transfer(1L, 2L, "250.00")))
+                .assertNext(result -> {
+                    assertNotNull(result.getTransferId());
+                    assertEquals(Money.parse("750.00"), result.getSourceBalance());
+                    assertEquals(Money.parse("350.00"), result.getTargetBalance());
+                    assertEquals(10L, result.getDebitMovementId());
+                    assertEquals(11L, result.getCreditMovementId());
+                })
+                .verifyComplete();
+
+        verify(ledgerUseCase, times(2)).recordLedgerEntry(entries.capture());
+        List<LedgerEntry> recorded = entries.getAllValues();
+        assertEquals(LedgerEntry.LedgerEntryType.DEBIT, recorded.get(0).getEntryType());
+        assertEquals(LedgerEntry.LedgerEntryType.CREDIT, recorded.get(1).getEntryType());
+        assertEquals(recorded.get(0).getTransferId(), recorded.get(1).getTransferId());
+        assertEquals(recorded.get(0).getAmount(), recorded.get(1).getAmount());
+        verify(balanceCachePort).balanceChanged(lowIdAccount);
+        verify(balanceCachePort).balanceChanged(highIdAccount);
+    }
+
+    @Test
+    @DisplayName("should lock both accounts before reading either balance")
+    void shouldLockBothAccountsBeforeReadingBalances() {
+        // Arrange
+        stubTransaction();
+        stubWrites();
+
+        // Act
+        StepVerifier.create(transferUseCaseImpl.transfer(transfer(2L, 1L, "50.00")))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // Assert
+        InOrder order = inOrder(accountLockPort, accountRepositoryPort);
+        order.verify(accountLockPort).lockAccounts(List.of(2L, 1L));
+        order.verify(accountRepositoryPort).findAccountForBalanceChange(2L);
+        order.verify(accountRepositoryPort).findAccountForBalanceChange(1L);
+        assertEquals(Money.parse("50.00"), highIdAccount.getInitialBalance());
+        assertEquals(Money.parse("1050.00"), lowIdAccount.getInitialBalance());
+    }
+
+    @Test
+    @DisplayName("should fail without writing anything when the source balance is insufficient")
+    void shouldFailTransferWithInsufficientBalance() {
+        // Arrange
+        stubTransaction();
+
+        // Act & Assert
+        StepVerifier.create(transferUseCaseImpl.transfer(transfer(2L, 1L, "100.01")))
+                .expectError(InsufficientBalanceException.class)
+                .verify();
+
+        verify(accountRepositoryPort, never()).saveAccount(any());
+        verify(movementRepositoryPort, never()).saveMovement(any());
+    }
+
+    @Test
+    @DisplayName("should reject from the in-memory source balance before opening a transaction")
+    void shouldRejectTransferFromCachedBalance() {
+        // Arrange
+        when(balanceCachePort.findBalanceCents(2L)).thenReturn(10_000L);
+
+        // Act & Assert
+        StepVerifier.create(transferUseCaseImpl.transfer(transfer(2L, 1L, "100.01")))
+                .expectError(InsufficientBalanceException.class)
+                .verify();
+
+        verify(transactionPort, never()).inTransaction(any());
+    }
+
+    @Test
+    @DisplayName("should reject a transfer to the same account before opening a transaction")
+    void shouldRejectTransferToSameAccount() {
+        // Act & Assert
+        StepVerifier.create(transferUseCaseImpl.transfer(transfer(1L, 1L, "10.00")))
+                .expectError(InvalidTransferException.class)
+                .verify();
+
+        verify(transactionPort, never()).inTransaction(any());
+    }
+
+    @Test
+    @DisplayName("should reject a non-positive amount before opening a transaction")
+    void shouldRejectNonPositiveAmount() {
+        // Act & Assert
+        StepVerifier.create(transferUseCaseImpl.transfer(transfer(1L, 2L, "-10.00")))
+                .expectError(InvalidTransferException.class)
+                .verify();
+
+        verify(transactionPort, never()).inTransaction(any());
+    }
+}
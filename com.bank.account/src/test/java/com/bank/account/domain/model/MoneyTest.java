@@ -0,0 +1,76 @@
+package com.bank.account.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Money Unit Tests")
+class MoneyTest {
+
+    @Test
+    @DisplayName("Should parse and print amounts with two decimals")
+    void shouldParseAndPrintWithTwoDecimals() {
+        assertEquals("1500.00", Money.parse("1500").toString());
+        assertEquals("-0.05", Money.parse("-0.05").toString());
+        assertEquals("-1500.50", Money.parse("-1500.5").toString());
+        assertEquals(150_050L, Money.parse("1500.50").minorUnits());
+    }
+
+    @Test
+    @DisplayName("Should round HALF_UP amounts with more than two decimals")
+    void shouldRoundHalfUp() {
+        assertEquals(Money.ofMinor(1001), Money.parse("10.005"));
+        assertEquals(Money.ofMinor(-1001), Money.parse("-10.005"));
+        assertEquals(Money.ofMinor(1000), Money.parse("10.004"));
+    }
+
+    @Test
+    @DisplayName("Should add, subtract, negate and take the absolute value")
+    void shouldDoArithmetic() {
+        // Arrange
+        Money balance = Money.parse("100.00");
+        Money debit = Money.parse("-30.25");
+
+        // Act & Assert
+        assertEquals(Money.parse("69.75"), balance.plus(debit));
+        assertEquals(Money.parse("130.25"), balance.minus(debit));
+        assertEquals(Money.parse("30.25"), debit.negate());
+        assertEquals(Money.parse("30.25"), debit.abs());
+        assertTrue(debit.isNegative());
+        assertEquals(-1, debit.signum());
+        assertSame(Money.ZERO, balance.minus(balance));
+    }
+
+    @Test
+    @DisplayName("Should throw ArithmeticException on overflow instead of wrapping around")
+    void shouldThrowOnOverflow() {
+        Money max = Money.ofMinor(Long.MAX_VALUE);
+        Money min = Money.ofMinor(Long.MIN_VALUE);
+
+        assertThrows(ArithmeticException.class, () -> max.plus(Money.ofMinor(1)));
+        assertThrows(ArithmeticException.class, () -> min.minus(Money.ofMinor(1)));
+        assertThrows(ArithmeticException.class, min::negate);
+        assertThrows(ArithmeticException.class, () -> Money.parse("100000000000000000000"));
+    }
+
+    @Test
+    @DisplayName("Should be equal regardless of the scale it was parsed from")
+    void shouldBeEqualAcrossScales() {
+        assertEquals(Money.parse("10.5"), Money.parse("10.50"));
+        assertEquals(Money.parse("10.5").hashCode(), Money.parse("10.500").hashCode());
+        assertEquals(0, Money.parse("10").compareTo(Money.parse("10.00")));
+    }
+
+    @Test
+    @DisplayName("Should convert to a scale-2 BigDecimal")
+    void shouldConvertToBigDecimal() {
+        assertEquals(new BigDecimal("-1500.05"), Money.parse("-1500.05").toBigDecimal());
+        assertEquals(new BigDecimal("0.00"), Money.ZERO.toBigDecimal());
+    }
+}
@@ -0,0 +1,76 @@
+package com.bank.account.infrastructure.deadline;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Deadline Query Timeout Data Source Tests")
+class DeadlineQueryTimeoutDataSourceTest {
+
+    private final Clock clock = Clock.fixed(Instant.ofEpochMilli(1_000_000), ZoneOffset.UTC);
+    private final DeadlineQueryTimeoutDataSource dataSource = new DeadlineQueryTimeoutDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:deadline-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1"), clock);
+
+    @Test
+    @DisplayName("should set the time left to the deadline, rounded up to seconds, as the query timeout")
+    void boundDeadline_SetsQueryTimeout() {
+        // Arrange
+        RequestDeadline deadline = new RequestDeadline(clock.millis() + 2_300);
+        AtomicInteger timeout = new AtomicInteger(-1);
+
+        // Act
+        deadline.runBound(() -> {
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement("SELECT 1")) {
+                timeout.set(statement.getQueryTimeout());
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // Assert
+        assertEquals(3, timeout.get());
+    }
+
+    @Test
+    @DisplayName("should leave statements alone when no deadline is bound")
+    void noDeadline_LeavesDefaultTimeout() throws SQLException {
+        // Act
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+
+            // Assert
+            assertEquals(0, statement.getQueryTimeout());
+        }
+    }
+
+    @Test
+    @DisplayName("should refuse to create a statement once the deadline has passed")
+    void expiredDeadline_FailsBeforeExecuting() {
+        // Arrange
+        RequestDeadline expired = new RequestDeadline(clock.millis());
+
+        // Act & Assert
+        expired.runBound(() -> {
+            try (Connection connection = dataSource.getConnection()) {
+                assertThrows(SQLTimeoutException.class, () -> connection.prepareStatement("SELECT 1"));
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+}
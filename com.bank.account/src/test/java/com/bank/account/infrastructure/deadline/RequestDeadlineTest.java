@@ -0,0 +1,89 @@
+package com.bank.account.infrastructure.deadline;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Request Deadline Unit Tests")
+class RequestDeadlineTest {
+
+    private final Clock clock = Clock.fixed(Instant.ofEpochMilli(1_000_000), ZoneOffset.UTC);
+
+    @Test
+    @DisplayName("should ignore a malformed header")
+    void parse_MalformedHeader_ReturnsEmpty() {
+        // Act & Assert
+        assertEquals(Optional.empty(), RequestDeadline.parse("tomorrow"));
+        assertEquals(Optional.empty(), RequestDeadline.parse(" "));
+        assertEquals(Optional.of(new RequestDeadline(1_005_000)), RequestDeadline.parse("1005000"));
+    }
+
+    @Test
+    @DisplayName("should keep the earliest of two deadlines")
+    void earliest_ReturnsSoonerDeadline() {
+        // Arrange
+        RequestDeadline inbound = RequestDeadline.after(Duration.ofSeconds(60), clock);
+        RequestDeadline cap = RequestDeadline.after(Duration.ofSeconds(30), clock);
+
+        // Act & Assert
+        assertEquals(cap, inbound.earliest(cap));
+        assertEquals(Duration.ofSeconds(30), inbound.earliest(cap).remaining(clock));
+    }
+
+    @Test
+    @DisplayName("should fail fast when the deadline in the context has passed")
+    void withinDeadline_ExpiredDeadline_FailsWithoutSubscribing() {
+        // Arrange
+        RequestDeadline expired = new RequestDeadline(clock.millis() - 1);
+        boolean[] subscribed = {false};
+        Mono<String> call = Mono.fromCallable(() -> {
+            subscribed[0] = true;
+            return "customer";
+        });
+
+        // Act & Assert
+        StepVerifier.create(RequestDeadline.withinDeadline(call, Duration.ofSeconds(3), clock)
+                        .contextWrite(expired::writeTo))
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(1));
+        assertTrue(expired.isExpired(clock));
+        assertEquals(false, subscribed[0]);
+    }
+
+    @Test
+    @DisplayName("should pass through when no deadline is set")
+    void withinDeadline_NoDeadline_UsesMaxTimeout() {
+        // Act & Assert
+        StepVerifier.create(RequestDeadline.withinDeadline(Mono.just("customer"), Duration.ofSeconds(3), clock))
+                .expectNext("customer")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("should bind the context deadline to the thread running the blocking work, and only there")
+    void propagate_BindsDeadlineWhileSubscribed() {
+        // Arrange
+        RequestDeadline deadline = RequestDeadline.after(Duration.ofSeconds(5), clock);
+        Mono<Optional<RequestDeadline>> work = Mono.fromCallable(RequestDeadline::current);
+
+        // Act & Assert
+        StepVerifier.create(RequestDeadline.propagate(work).contextWrite(deadline::writeTo))
+                .expectNext(Optional.of(deadline))
+                .verifyComplete();
+        assertEquals(Optional.empty(), RequestDeadline.current());
+        StepVerifier.create(RequestDeadline.propagate(work))
+                .expectNext(Optional.empty())
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,135 @@
+package com.bank.account.infrastructure.input.adapter.rest.filter;
+
+import com.bank.account.infrastructure.input.adapter.rest.filter.AdaptiveConcurrencyLimiter.Priority;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Adaptive Concurrency Limiter Unit Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(1);
+    private static final long RTT_NANOS = Duration.ofMillis(10).toNanos();
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, 2, 100, 0.5, 1.0, WINDOW, clock::get);
+    }
+
+    /** Fills the limit, completes every request with the given latency and closes the window. */
+    private void saturatedWindow(AdaptiveConcurrencyLimiter limiter, long rttNanos) {
+        int admitted = 0;
+        while (limiter.tryAcquire(Priority.NORMAL)) {
+            admitted++;
+        }
+        clock.addAndGet(WINDOW.toNanos());
+        for (int i = 0; i < admitted; i++) {
+            limiter.onSuccess(rttNanos);
+        }
+    }
+
+    @Test
+    @DisplayName("should reject normal requests once the limit is in flight")
+    void tryAcquire_RejectsAtLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(4);
+
+        // Act
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire(Priority.NORMAL));
+        }
+
+        // Assert
+        assertFalse(limiter.tryAcquire(Priority.NORMAL));
+        assertEquals(4, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("should shed low-priority requests before normal ones")
+    void tryAcquire_ShedsLowPriorityFirst() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(10);
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire(Priority.NORMAL);
+        }
+
+        // Act & Assert
+        assertFalse(limiter.tryAcquire(Priority.LOW));
+        assertTrue(limiter.tryAcquire(Priority.NORMAL));
+    }
+
+    @Test
+    @DisplayName("should raise the limit while latency stays stable")
+    void stableLatency_GrowsLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(16);
+
+        // Act
+        saturatedWindow(limiter, RTT_NANOS);
+        saturatedWindow(limiter, RTT_NANOS);
+
+        // Assert
+        assertTrue(limiter.getLimit() > 16, "limit was " + limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("should lower the limit when latency rises above the baseline")
+    void risingLatency_ShrinksLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(16);
+        saturatedWindow(limiter, RTT_NANOS);
+        int baselineLimit = limiter.getLimit();
+
+        // Act
+        saturatedWindow(limiter, RTT_NANOS * 4);
+
+        // Assert
+        assertTrue(limiter.getLimit() < baselineLimit, "limit was " + limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("should back off once per window when requests are dropped")
+    void drops_BackOffOncePerWindow() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire(Priority.NORMAL);
+        }
+
+        // Act
+        limiter.onDropped();
+        limiter.onDropped();
+        clock.addAndGet(WINDOW.toNanos());
+        limiter.onDropped();
+
+        // Assert
+        assertEquals(16, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("should not raise the limit when traffic does not use it")
+    void idleTraffic_KeepsLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(40);
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquire(Priority.NORMAL);
+            limiter.onSuccess(RTT_NANOS);
+        }
+        clock.addAndGet(WINDOW.toNanos());
+        limiter.tryAcquire(Priority.NORMAL);
+        limiter.onSuccess(RTT_NANOS);
+
+        // Assert
+        assertEquals(40, limiter.getLimit());
+    }
+}
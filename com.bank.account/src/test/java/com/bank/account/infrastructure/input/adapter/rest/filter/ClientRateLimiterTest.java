@@ -0,0 +1,94 @@
+package com.bank.account.infrastructure.input.adapter.rest.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Client Rate Limiter Unit Tests")
+class ClientRateLimiterTest {
+
+    private static final long ONE_SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final AtomicLong clock = new AtomicLong(ONE_SECOND);
+
+    @Test
+    @DisplayName("should allow a burst and then report how long to wait")
+    void burstExhausted_ReturnsWait() {
+        // Arrange
+        ClientRateLimiter limiter = new ClientRateLimiter(10, 3, 4, 1000, clock::get);
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("client-a"));
+        }
+        long wait = limiter.tryAcquire("client-a");
+
+        // Assert
+        assertEquals(ONE_SECOND / 10, wait);
+    }
+
+    @Test
+    @DisplayName("should refill tokens lazily as time passes")
+    void afterEmissionInterval_AllowsAgain() {
+        // Arrange
+        ClientRateLimiter limiter = new ClientRateLimiter(10, 1, 4, 1000, clock::get);
+        limiter.tryAcquire("client-a");
+        assertTrue(limiter.tryAcquire("client-a") > 0);
+
+        // Act
+        clock.addAndGet(ONE_SECOND / 10);
+
+        // Assert
+        assertEquals(0, limiter.tryAcquire("client-a"));
+    }
+
+    @Test
+    @DisplayName("should give a refunded token back to the bucket")
+    void refund_RestoresToken() {
+        // Arrange
+        ClientRateLimiter limiter = new ClientRateLimiter(10, 2, 4, 1000, clock::get);
+        limiter.tryAcquire("client-a");
+        limiter.tryAcquire("client-a");
+
+        // Act
+        limiter.refund("client-a");
+        limiter.refund("client-unknown");
+
+        // Assert
+        assertEquals(0, limiter.tryAcquire("client-a"));
+        assertTrue(limiter.tryAcquire("client-a") > 0);
+        assertEquals(1, limiter.trackedClients());
+    }
+
+    @Test
+    @DisplayName("should keep an independent bucket per client")
+    void clients_HaveIndependentBuckets() {
+        // Arrange
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 1, 4, 1000, clock::get);
+        limiter.tryAcquire("client-a");
+
+        // Act & Assert
+        assertTrue(limiter.tryAcquire("client-a") > 0);
+        assertEquals(0, limiter.tryAcquire("client-b"));
+    }
+
+    @Test
+    @DisplayName("should bound memory by evicting buckets past the cap")
+    void manyClients_AreEvicted() {
+        // Arrange
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 1, 2, 100, clock::get);
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire("client-" + i);
+        }
+
+        // Assert
+        assertTrue(limiter.trackedClients() <= 102, "tracked " + limiter.trackedClients());
+    }
+}
@@ -0,0 +1,194 @@
+package com.bank.account.infrastructure.input.adapter.rest.filter;
+
+import com.bank.account.infrastructure.input.adapter.rest.filter.AdaptiveConcurrencyLimiter.Priority;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Concurrency Limit Web Filter Unit Tests")
+class ConcurrencyLimitWebFilterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger chainCalls = new AtomicInteger();
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, 2, 100, 0.5, 1.0, Duration.ofSeconds(1), clock::get);
+    }
+
+    private ConcurrencyLimitWebFilter filter(AdaptiveConcurrencyLimiter limiter) {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        return new ConcurrencyLimitWebFilter(limiter, objectMapper, Duration.ofSeconds(2), meterRegistry);
+    }
+
+    private WebFilterChain answering(HttpStatus status) {
+        return exchange -> {
+            chainCalls.incrementAndGet();
+            exchange.getResponse().setStatusCode(status);
+            return Mono.empty();
+        };
+    }
+
+    private static MockServerWebExchange get(String path) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path));
+    }
+
+    @Test
+    @DisplayName("should let requests under the limit through and release their slot")
+    void underLimit_PassesThroughAndReleases() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(4);
+        MockServerWebExchange exchange = get("/api/v1/accounts/1");
+
+        // Act
+        filter(limiter).filter(exchange, answering(HttpStatus.OK)).block();
+
+        // Assert
+        assertEquals(1, chainCalls.get());
+        assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+        assertEquals(0, limiter.getInFlight());
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("should reject with 503 and Retry-After once the limit is in flight")
+    void atLimit_RejectsWith503() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(2);
+        limiter.tryAcquire(Priority.NORMAL);
+        limiter.tryAcquire(Priority.NORMAL);
+        MockServerWebExchange exchange = get("/api/v1/movements/by-account?accountId=1");
+
+        // Act
+        filter(limiter).filter(exchange, answering(HttpStatus.OK)).block();
+
+        // Assert
+        assertEquals(0, chainCalls.get());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exchange.getResponse().getStatusCode());
+        assertEquals("2", exchange.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("true", exchange.getResponse().getHeaders().getFirst(ConcurrencyLimitWebFilter.NOT_PROCESSED_HEADER));
+        StepVerifier.create(exchange.getResponse().getBodyAsString())
+                .assertNext(body -> assertTrue(body.contains("Server is overloaded, please retry later.")))
+                .verifyComplete();
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(1.0, meterRegistry.get("bank.http.concurrency.rejected").tag("priority", "normal").counter().count());
+    }
+
+    @Test
+    @DisplayName("should shed reports before account and movement requests")
+    void reportsAreShedFirst() {
+        // Arrange: límite 4, los reportes solo pueden ocupar la mitad
+        AdaptiveConcurrencyLimiter limiter = limiter(4);
+        limiter.tryAcquire(Priority.NORMAL);
+        limiter.tryAcquire(Priority.NORMAL);
+        ConcurrencyLimitWebFilter filter = filter(limiter);
+        MockServerWebExchange report = get("/api/v1/reports?clientId=1");
+        MockServerWebExchange movement = get("/api/v1/movements/by-account?accountId=1");
+
+        // Act
+        filter.filter(report, answering(HttpStatus.OK)).block();
+        filter.filter(movement, answering(HttpStatus.OK)).block();
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, report.getResponse().getStatusCode());
+        assertEquals(HttpStatus.OK, movement.getResponse().getStatusCode());
+        assertEquals(1.0, meterRegistry.get("bank.http.concurrency.rejected").tag("priority", "low").counter().count());
+    }
+
+    @Test
+    @DisplayName("should not limit paths outside the API")
+    void unlimitedPath_PassesEvenWhenFull() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(2);
+        limiter.tryAcquire(Priority.NORMAL);
+        limiter.tryAcquire(Priority.NORMAL);
+        MockServerWebExchange exchange = get("/actuator/health");
+
+        // Act
+        filter(limiter).filter(exchange, answering(HttpStatus.OK)).block();
+
+        // Assert
+        assertEquals(1, chainCalls.get());
+        assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    @DisplayName("should back off on timeouts and local rejections")
+    void timeoutOrLocalRejection_CountsAsDrop() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(10);
+        ConcurrencyLimitWebFilter filter = filter(limiter);
+
+        // Act
+        filter.filter(get("/api/v1/transfers"), answering(HttpStatus.GATEWAY_TIMEOUT)).block();
+
+        // Assert
+        assertEquals(9, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+
+        // Act: un 503 por el pool de BD lleno en la siguiente ventana también cuenta como caída
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        filter.filter(get("/api/v1/transfers"), exchange -> {
+            ConcurrencyLimitWebFilter.markLocalRejection(exchange);
+            return answering(HttpStatus.SERVICE_UNAVAILABLE).filter(exchange);
+        }).block();
+
+        // Assert
+        assertEquals(8, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("should not measure downstream 503s or unhandled errors")
+    void downstreamUnavailableOrError_IsIgnored() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(10);
+        ConcurrencyLimitWebFilter filter = filter(limiter);
+
+        // Act: customer-service caído (circuit breaker abierto) y un error sin manejar
+        filter.filter(get("/api/v1/accounts"), answering(HttpStatus.SERVICE_UNAVAILABLE)).block();
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        StepVerifier.create(filter.filter(get("/api/v1/transfers"), exchange -> Mono.error(new IllegalStateException("boom"))))
+                .verifyError(IllegalStateException.class);
+
+        // Assert
+        assertEquals(10, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("should release the slot of a cancelled request without measuring it")
+    void cancelledRequest_IsIgnored() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(10);
+        MockServerWebExchange exchange = get("/api/v1/accounts/1");
+
+        // Act
+        StepVerifier.create(filter(limiter).filter(exchange, ignored -> Mono.never()))
+                .expectSubscription()
+                .thenCancel()
+                .verify();
+
+        // Assert
+        assertNull(exchange.getResponse().getStatusCode());
+        assertEquals(0, limiter.getInFlight());
+        assertEquals(10, limiter.getLimit());
+    }
+}
@@ -0,0 +1,160 @@
+package com.bank.account.infrastructure.input.adapter.rest.filter;
+
+import com.bank.account.infrastructure.deadline.RequestDeadline;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Deadline Web Filter Unit Tests")
+class DeadlineWebFilterTest {
+
+    private static final Duration DEFAULT_BUDGET = Duration.ofSeconds(5);
+    private static final Duration MAX_BUDGET = Duration.ofSeconds(10);
+
+    private final Clock clock = Clock.systemUTC();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private DeadlineWebFilter filter(Duration defaultBudget) {
+        return new DeadlineWebFilter(defaultBudget, MAX_BUDGET, objectMapper, clock, meterRegistry);
+    }
+
+    private double expired(String stage) {
+        return meterRegistry.get("bank.http.deadline.expired").tag("stage", stage).counter().count();
+    }
+
+    @Test
+    @DisplayName("should put the default budget in the context when the caller sends no deadline")
+    void noHeader_UsesDefaultBudget() {
+        // Arrange
+        AtomicReference<RequestDeadline> seen = new AtomicReference<>();
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/accounts/1"));
+        long before = clock.millis();
+
+        // Act
+        filter(DEFAULT_BUDGET).filter(exchange, ex -> Mono.deferContextual(context -> {
+            seen.set(RequestDeadline.from(context).orElse(null));
+            return Mono.<Void>empty();
+        })).block();
+
+        // Assert
+        long budget = seen.get().epochMillis() - before;
+        assertTrue(budget >= DEFAULT_BUDGET.toMillis() && budget <= DEFAULT_BUDGET.toMillis() + 1_000, "budget " + budget);
+    }
+
+    @Test
+    @DisplayName("should cap the caller's deadline at the maximum budget")
+    void farHeader_IsCappedAtMaxBudget() {
+        // Arrange
+        AtomicReference<RequestDeadline> seen = new AtomicReference<>();
+        long inbound = clock.millis() + Duration.ofMinutes(10).toMillis();
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/accounts/1")
+                .header(RequestDeadline.HEADER, Long.toString(inbound)));
+
+        // Act
+        filter(DEFAULT_BUDGET).filter(exchange, ex -> Mono.deferContextual(context -> {
+            seen.set(RequestDeadline.from(context).orElse(null));
+            return Mono.<Void>empty();
+        })).block();
+
+        // Assert
+        assertTrue(seen.get().remaining(clock).compareTo(MAX_BUDGET) <= 0);
+        assertTrue(seen.get().remaining(clock).compareTo(DEFAULT_BUDGET) > 0);
+    }
+
+    @Test
+    @DisplayName("should answer 504 without calling the chain when the deadline has already passed")
+    void expiredOnArrival_Returns504() {
+        // Arrange
+        AtomicBoolean called = new AtomicBoolean();
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/accounts/1")
+                .header(RequestDeadline.HEADER, Long.toString(clock.millis() - 1)));
+
+        // Act
+        filter(DEFAULT_BUDGET).filter(exchange, ex -> {
+            called.set(true);
+            return Mono.empty();
+        }).block();
+
+        // Assert
+        assertFalse(called.get());
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, exchange.getResponse().getStatusCode());
+        StepVerifier.create(exchange.getResponse().getBodyAsString())
+                .assertNext(body -> assertTrue(body.contains("Request deadline already exceeded.")))
+                .verifyComplete();
+        assertEquals(1.0, expired("arrival"));
+    }
+
+    @Test
+    @DisplayName("should cut the request off with 504 and mark the exchange when the deadline passes in flight")
+    void expiredInFlight_Returns504AndMarksExchange() {
+        // Arrange
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/accounts/1"));
+
+        // Act
+        StepVerifier.create(filter(Duration.ofMillis(50)).filter(exchange, ex -> Mono.never()))
+                .verifyComplete();
+
+        // Assert
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, exchange.getResponse().getStatusCode());
+        assertTrue(DeadlineWebFilter.isExpired(exchange));
+        assertEquals(1.0, expired("in-flight"));
+    }
+
+    @Test
+    @DisplayName("should leave paths outside the API alone")
+    void nonApiPath_PassesThrough() {
+        // Arrange
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/actuator/health")
+                .header(RequestDeadline.HEADER, Long.toString(clock.millis() - 1)));
+
+        // Act
+        filter(DEFAULT_BUDGET).filter(exchange, ex -> Mono.deferContextual(context -> {
+            assertTrue(RequestDeadline.from(context).isEmpty());
+            return Mono.<Void>empty();
+        })).block();
+
+        // Assert
+        assertNull(exchange.getResponse().getStatusCode());
+        assertFalse(DeadlineWebFilter.isExpired(exchange));
+    }
+
+    @Test
+    @DisplayName("should make the concurrency limiter count an expired request as a drop")
+    void expiredInFlight_CountsAsLimiterDrop() {
+        // Arrange
+        AtomicLong nanoClock = new AtomicLong();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 2, 100, 0.5, 1.0,
+                Duration.ofSeconds(1), nanoClock::get);
+        ConcurrencyLimitWebFilter limitFilter = new ConcurrencyLimitWebFilter(limiter, objectMapper,
+                Duration.ofSeconds(1), meterRegistry);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/movements"));
+
+        // Act
+        StepVerifier.create(filter(Duration.ofMillis(50))
+                        .filter(exchange, ex -> limitFilter.filter(ex, inner -> Mono.never())))
+                .verifyComplete();
+
+        // Assert: la plaza se libera y el límite retrocede (10 * 0.9)
+        assertEquals(0, limiter.getInFlight());
+        assertEquals(9, limiter.getLimit());
+    }
+}
@@ -0,0 +1,174 @@
+package com.bank.account.infrastructure.input.adapter.rest.filter;
+
+import com.bank.account.infrastructure.input.adapter.rest.filter.RateLimitWebFilter.Family;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Rate Limit Web Filter Unit Tests")
+class RateLimitWebFilterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger chainCalls = new AtomicInteger();
+    private final WebFilterChain chain = exchange -> {
+        chainCalls.incrementAndGet();
+        exchange.getResponse().setStatusCode(HttpStatus.OK);
+        return Mono.empty();
+    };
+
+    /** Movements: 1 request/s with a burst of 2 per client, and 4 per address. */
+    private RateLimitWebFilter filter() {
+        Family movements = new Family("movements", "/api/v1/movements",
+                new ClientRateLimiter(1, 2, 1, 100, clock::get),
+                new ClientRateLimiter(2, 4, 1, 100, clock::get));
+        return new RateLimitWebFilter(List.of(movements), new ObjectMapper().registerModule(new JavaTimeModule()),
+                meterRegistry);
+    }
+
+    private static MockServerWebExchange request(String address, String apiKey) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/api/v1/movements/by-account?accountId=1")
+                .remoteAddress(new InetSocketAddress(address, 40000));
+        if (apiKey != null) {
+            request.header(RateLimitWebFilter.API_KEY_HEADER, apiKey);
+        }
+        return MockServerWebExchange.from(request);
+    }
+
+    @Test
+    @DisplayName("should answer 429 with Retry-After once a client exhausts its burst")
+    void overBurst_RejectsWith429() {
+        // Arrange
+        RateLimitWebFilter filter = filter();
+        filter.filter(request("10.0.0.1", "key-a"), chain).block();
+        filter.filter(request("10.0.0.1", "key-a"), chain).block();
+        MockServerWebExchange rejected = request("10.0.0.1", "key-a");
+
+        // Act
+        filter.filter(rejected, chain).block();
+
+        // Assert
+        assertEquals(2, chainCalls.get());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, rejected.getResponse().getStatusCode());
+        assertEquals("1", rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        StepVerifier.create(rejected.getResponse().getBodyAsString())
+                .assertNext(body -> assertTrue(body.contains("Rate limit exceeded for movements")))
+                .verifyComplete();
+        assertEquals(1.0, meterRegistry.get("bank.http.ratelimit.rejected").tag("family", "movements").counter().count());
+    }
+
+    @Test
+    @DisplayName("should admit the client again once its bucket refills")
+    void afterRefill_AdmitsAgain() {
+        // Arrange
+        RateLimitWebFilter filter = filter();
+        for (int i = 0; i < 3; i++) {
+            filter.filter(request("10.0.0.1", "key-a"), chain).block();
+        }
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        MockServerWebExchange exchange = request("10.0.0.1", "key-a");
+
+        // Act
+        filter.filter(exchange, chain).block();
+
+        // Assert
+        assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    @DisplayName("should not let a client exceed its address ceiling by rotating X-API-Key")
+    void rotatingApiKeys_HitsAddressCeiling() {
+        // Arrange
+        RateLimitWebFilter filter = filter();
+        for (int i = 0; i < 4; i++) {
+            filter.filter(request("10.0.0.1", "key-" + i), chain).block();
+        }
+        MockServerWebExchange rotated = request("10.0.0.1", "key-new");
+        MockServerWebExchange otherAddress = request("10.0.0.2", "key-new");
+
+        // Act
+        filter.filter(rotated, chain).block();
+        filter.filter(otherAddress, chain).block();
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, rotated.getResponse().getStatusCode());
+        assertTrue(rotated.getResponse().getHeaders().containsKey(HttpHeaders.RETRY_AFTER));
+        assertEquals(HttpStatus.OK, otherAddress.getResponse().getStatusCode());
+        assertEquals(5, chainCalls.get());
+    }
+
+    @Test
+    @DisplayName("should not spend the address ceiling on requests the client's bucket rejects")
+    void clientRejections_DoNotConsumeAddressCeiling() {
+        // Arrange: key-a agota su ráfaga y sigue reintentando desde la misma dirección
+        RateLimitWebFilter filter = filter();
+        for (int i = 0; i < 6; i++) {
+            filter.filter(request("10.0.0.1", "key-a"), chain).block();
+        }
+        MockServerWebExchange first = request("10.0.0.1", "key-b");
+        MockServerWebExchange second = request("10.0.0.1", "key-b");
+
+        // Act
+        filter.filter(first, chain).block();
+        filter.filter(second, chain).block();
+
+        // Assert
+        assertEquals(HttpStatus.OK, first.getResponse().getStatusCode());
+        assertEquals(HttpStatus.OK, second.getResponse().getStatusCode());
+        assertEquals(4, chainCalls.get());
+    }
+
+    @Test
+    @DisplayName("should identify clients by API key, customer id, clientId and finally the remote address")
+    void clientKey_PrefersHeadersOverAddress() {
+        // Arrange
+        InetSocketAddress address = new InetSocketAddress("10.0.0.1", 40000);
+
+        // Act & Assert
+        assertEquals("key:abc", RateLimitWebFilter.clientKey(MockServerHttpRequest.get("/api/v1/movements")
+                .remoteAddress(address).header(RateLimitWebFilter.API_KEY_HEADER, "abc")
+                .header(RateLimitWebFilter.CUSTOMER_ID_HEADER, "7").build()));
+        assertEquals("customer:7", RateLimitWebFilter.clientKey(MockServerHttpRequest.get("/api/v1/movements")
+                .remoteAddress(address).header(RateLimitWebFilter.CUSTOMER_ID_HEADER, "7").build()));
+        assertEquals("customer:9", RateLimitWebFilter.clientKey(MockServerHttpRequest.get("/api/v1/reports?clientId=9")
+                .remoteAddress(address).build()));
+        assertEquals("ip:10.0.0.1", RateLimitWebFilter.clientKey(MockServerHttpRequest.get("/api/v1/movements")
+                .remoteAddress(address).build()));
+        assertEquals("ip:10.0.0.1", RateLimitWebFilter.addressKey(MockServerHttpRequest.get("/api/v1/movements")
+                .remoteAddress(address).header(RateLimitWebFilter.API_KEY_HEADER, "abc").build()));
+    }
+
+    @Test
+    @DisplayName("should not limit paths outside the configured families")
+    void otherPaths_AreNotLimited() {
+        // Arrange
+        RateLimitWebFilter filter = filter();
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/actuator/health")
+                    .remoteAddress(new InetSocketAddress("10.0.0.1", 40000))), chain).block();
+        }
+
+        // Assert
+        assertEquals(10, chainCalls.get());
+    }
+}
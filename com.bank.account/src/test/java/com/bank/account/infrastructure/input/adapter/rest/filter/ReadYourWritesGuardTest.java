@@ -0,0 +1,73 @@
+package com.bank.account.infrastructure.input.adapter.rest.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Read Your Writes Guard Unit Tests")
+class ReadYourWritesGuardTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(5);
+
+    private final AtomicLong clock = new AtomicLong(Duration.ofSeconds(1).toNanos());
+
+    @Test
+    @DisplayName("should send a client's reads to the primary only during the window after its write")
+    void afterWrite_ReadsPrimaryDuringWindow() {
+        // Arrange
+        ReadYourWritesGuard guard = new ReadYourWritesGuard(WINDOW, 1000, clock::get);
+
+        // Act
+        guard.recordWrite("client-a");
+
+        // Assert
+        assertTrue(guard.mustReadPrimary("client-a"));
+        assertFalse(guard.mustReadPrimary("client-b"));
+        clock.addAndGet(WINDOW.toNanos());
+        assertFalse(guard.mustReadPrimary("client-a"));
+        assertEquals(0, guard.trackedClients());
+    }
+
+    @Test
+    @DisplayName("should drop expired clients before exceeding the limit")
+    void overLimit_SweepsExpiredClients() {
+        // Arrange
+        ReadYourWritesGuard guard = new ReadYourWritesGuard(WINDOW, 2, clock::get);
+        guard.recordWrite("client-a");
+        guard.recordWrite("client-b");
+        clock.addAndGet(WINDOW.toNanos());
+
+        // Act
+        guard.recordWrite("client-c");
+
+        // Assert
+        assertEquals(1, guard.trackedClients());
+        assertTrue(guard.mustReadPrimary("client-c"));
+        assertFalse(guard.mustReadPrimary("client-d"));
+    }
+
+    @Test
+    @DisplayName("should send every client to the primary for one window when too many clients wrote recently")
+    void overLimitWithRecentWrites_ReadsPrimaryForEveryone() {
+        // Arrange
+        ReadYourWritesGuard guard = new ReadYourWritesGuard(WINDOW, 2, clock::get);
+        guard.recordWrite("client-a");
+        guard.recordWrite("client-b");
+
+        // Act
+        guard.recordWrite("client-c");
+
+        // Assert
+        assertEquals(0, guard.trackedClients());
+        assertTrue(guard.mustReadPrimary("client-a"));
+        assertTrue(guard.mustReadPrimary("client-d"));
+        clock.addAndGet(WINDOW.toNanos());
+        assertFalse(guard.mustReadPrimary("client-a"));
+    }
+}
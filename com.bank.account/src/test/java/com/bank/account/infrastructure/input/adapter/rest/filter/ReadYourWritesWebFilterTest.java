@@ -0,0 +1,89 @@
+package com.bank.account.infrastructure.input.adapter.rest.filter;
+
+import com.bank.account.infrastructure.output.adapter.jpa.support.ReplicaRouting;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Read Your Writes Web Filter Unit Tests")
+class ReadYourWritesWebFilterTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(5);
+
+    private final AtomicLong clock = new AtomicLong(Duration.ofSeconds(1).toNanos());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReadYourWritesWebFilter filter =
+            new ReadYourWritesWebFilter(new ReadYourWritesGuard(WINDOW, 1000, clock::get), meterRegistry);
+
+    /** Runs the request and reports whether its blocking work would read from the primary. */
+    private boolean readsPrimary(MockServerHttpRequest request) {
+        AtomicBoolean primary = new AtomicBoolean();
+        WebFilterChain chain = exchange -> ReplicaRouting.propagate(Mono.fromRunnable(
+                () -> primary.set(ReplicaRouting.isPrimaryRequired()))).then();
+        filter.filter(MockServerWebExchange.from(request), chain).block();
+        return primary.get();
+    }
+
+    private static MockServerHttpRequest read(String apiKey) {
+        return MockServerHttpRequest.get("/api/v1/accounts/1").header(RateLimitWebFilter.API_KEY_HEADER, apiKey).build();
+    }
+
+    @Test
+    @DisplayName("should send a client's reads to the primary during the window after its write, and to the replica after it")
+    void readAfterWrite_SameClient_ReadsPrimaryOnlyDuringWindow() {
+        // Arrange
+        readsPrimary(MockServerHttpRequest.post("/api/v1/movements").header(RateLimitWebFilter.API_KEY_HEADER, "client-a").build());
+
+        // Act & Assert
+        assertTrue(readsPrimary(read("client-a")));
+        clock.addAndGet(WINDOW.toNanos() - 1);
+        assertTrue(readsPrimary(read("client-a")));
+        clock.addAndGet(1);
+        assertFalse(readsPrimary(read("client-a")));
+    }
+
+    @Test
+    @DisplayName("should leave other clients on the replica after a write")
+    void readAfterWrite_OtherClient_ReadsReplica() {
+        // Arrange
+        readsPrimary(MockServerHttpRequest.put("/api/v1/accounts/1").header(RateLimitWebFilter.API_KEY_HEADER, "client-a").build());
+
+        // Act & Assert
+        assertFalse(readsPrimary(read("client-b")));
+    }
+
+    @Test
+    @DisplayName("should not open a window for reads")
+    void reads_DoNotOpenWindow() {
+        // Arrange
+        readsPrimary(read("client-a"));
+
+        // Act & Assert
+        assertFalse(readsPrimary(read("client-a")));
+        assertEquals(0, meterRegistry.get("bank.db.replica.read_your_writes.clients").gauge().value());
+    }
+
+    @Test
+    @DisplayName("should open the window even when the write fails")
+    void failedWrite_StillOpensWindow() {
+        // Arrange
+        MockServerWebExchange write = MockServerWebExchange.from(
+                MockServerHttpRequest.delete("/api/v1/accounts/1").header(RateLimitWebFilter.API_KEY_HEADER, "client-a").build());
+        filter.filter(write, exchange -> Mono.error(new IllegalStateException("boom"))).onErrorComplete().block();
+
+        // Act & Assert
+        assertTrue(readsPrimary(read("client-a")));
+    }
+}
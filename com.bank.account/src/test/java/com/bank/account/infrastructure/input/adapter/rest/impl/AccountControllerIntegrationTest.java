@@ -0,0 +1,128 @@
+package com.bank.account.infrastructure.input.adapter.rest.impl;
+
+import com.bank.account.application.input.port.AccountUseCase;
+import com.bank.account.domain.exception.DuplicateResourceException;
+import com.bank.account.domain.model.Account;
+import com.bank.account.infrastructure.exception.ErrorResponse;
+import com.bank.account.infrastructure.input.adapter.rest.dto.response.BulkAccountResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(controllers = AccountController.class)
+@Import(com.bank.account.infrastructure.input.adapter.rest.mapper.AccountRestMapperImpl.class)
+@DisplayName("Account Controller Integration Tests")
+@ExtendWith(SpringExtension.class)
+class AccountControllerIntegrationTest {
+
+    private static final String FIRST_ACCOUNT = """
+            {"accountNumber": "4787580001", "accountType": "SAVINGS", "initialBalance": 100.00, "status": true, "customerId": 1}""";
+    private static final String SECOND_ACCOUNT = """
+            {"accountNumber": "4787580002", "accountType": "CHECKING", "initialBalance": 0.00, "status": true, "customerId": 2}""";
+
+    @TestConfiguration
+    static class TestConfig {
+
+        @Bean
+        public AccountUseCase accountUseCase() {
+            return Mockito.mock(AccountUseCase.class);
+        }
+    }
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private AccountUseCase accountUseCase;
+
+    @BeforeEach
+    void setUp() {
+        reset(accountUseCase);
+    }
+
+    @Test
+    @DisplayName("should import a JSON array of accounts and return 201 with the created count")
+    void createAccounts_JsonArray_ReturnsCreatedCount() {
+        // Arrange: el caso de uso devuelve las cuentas que recibe
+        when(accountUseCase.createAccounts(any())).thenAnswer(invocation -> invocation.<Flux<Account>>getArgument(0));
+
+        // Act & Assert
+        webTestClient.post()
+                .uri("/api/v1/accounts/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("[" + FIRST_ACCOUNT + "," + SECOND_ACCOUNT + "]")
+                .exchange()
+                .expectStatus().isCreated() // HTTP 201
+                .expectBody(BulkAccountResponse.class)
+                .value(response -> assertThat(response.getCreatedCount()).isEqualTo(2L));
+    }
+
+    @Test
+    @DisplayName("should import an NDJSON stream one account per line")
+    void createAccounts_Ndjson_MapsEveryLine() {
+        // Arrange
+        when(accountUseCase.createAccounts(any())).thenAnswer(invocation -> invocation.<Flux<Account>>getArgument(0));
+
+        // Act & Assert
+        webTestClient.post()
+                .uri("/api/v1/accounts/bulk")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue(FIRST_ACCOUNT + "\n" + SECOND_ACCOUNT + "\n")
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(BulkAccountResponse.class)
+                .value(response -> assertThat(response.getCreatedCount()).isEqualTo(2L));
+    }
+
+    @Test
+    @DisplayName("should return 409 Conflict when the import repeats an existing account number")
+    void createAccounts_Duplicate_ReturnsConflict() {
+        // Arrange
+        when(accountUseCase.createAccounts(any())).thenAnswer(invocation -> invocation.<Flux<Account>>getArgument(0)
+                .thenMany(Flux.error(new DuplicateResourceException("Account numbers already exist: [4787580001]"))));
+
+        // Act & Assert
+        webTestClient.post()
+                .uri("/api/v1/accounts/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("[" + FIRST_ACCOUNT + "]")
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody(ErrorResponse.class)
+                .value(error -> assertThat(error.getMessage()).contains("4787580001"));
+    }
+
+    @Test
+    @DisplayName("should reject an import with an invalid account with 400 Bad Request")
+    void createAccounts_InvalidAccount_ReturnsBadRequest() {
+        // Arrange
+        when(accountUseCase.createAccounts(any())).thenAnswer(invocation -> invocation.<Flux<Account>>getArgument(0));
+        String invalid = FIRST_ACCOUNT.replace("\"customerId\": 1", "\"customerId\": null");
+
+        // Act & Assert
+        webTestClient.post()
+                .uri("/api/v1/accounts/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("[" + invalid + "]")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody(ErrorResponse.class)
+                .value(error -> assertThat(error.getMessage()).contains("Customer ID cannot be null"));
+    }
+}
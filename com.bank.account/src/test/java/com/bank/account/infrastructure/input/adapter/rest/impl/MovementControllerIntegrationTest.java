@@ -2,6 +2,7 @@ package com.bank.account.infrastructure.input.adapter.rest.impl;
 
 import com.bank.account.application.input.port.MovementUseCase;
 import com.bank.account.domain.exception.InsufficientBalanceException;
+import com.bank.account.domain.model.Money;
 import com.bank.account.domain.model.Movement;
 import com.bank.account.infrastructure.exception.ErrorResponse;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,7 +23,6 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Mono;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -64,14 +64,14 @@ class MovementControllerIntegrationTest {
         // 1. DTO de Petición (Lo que envía el cliente)
         movementRequest = new MovementRequest();
         movementRequest.setAccountId(1L);
-        movementRequest.setAmount(new BigDecimal("-100.00"));
+        movementRequest.setAmount(Money.parse("-100.00"));
 
         // 2. Modelo de Dominio (Lo que devuelve el UseCase)
         domainMovement = Movement.builder()
                 .id(1L)
                 .accountId(1L)
-                .amount(new BigDecimal("-100.00"))
-                .balance(new BigDecimal("900.00"))
+                .amount(Money.parse("-100.00"))
+                .balance(Money.parse("900.00"))
                 .movementType("Debit")
                 .date(LocalDateTime.now())
                 .build();
@@ -96,8 +96,8 @@ class MovementControllerIntegrationTest {
                 .expectBody(MovementResponse.class)
                 .value(response -> {
                     assertThat(response.getId()).isEqualTo(1L);
-                    assertThat(response.getAmount()).isEqualByComparingTo(new BigDecimal("-100.00"));
-                    assertThat(response.getBalance()).isEqualByComparingTo(new BigDecimal("900.00"));
+                    assertThat(response.getAmount()).isEqualByComparingTo(Money.parse("-100.00"));
+                    assertThat(response.getBalance()).isEqualByComparingTo(Money.parse("900.00"));
                 });
     }
 
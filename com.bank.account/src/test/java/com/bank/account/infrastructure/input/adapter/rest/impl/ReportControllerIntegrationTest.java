@@ -0,0 +1,147 @@
+package com.bank.account.infrastructure.input.adapter.rest.impl;
+
+import com.bank.account.application.input.port.ReportUseCase;
+import com.bank.account.domain.exception.DatabaseSaturatedException;
+import com.bank.account.domain.model.AccountStatement;
+import com.bank.account.infrastructure.exception.ErrorResponse;
+import com.bank.account.infrastructure.output.excel.ExcelReportGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(controllers = ReportController.class)
+@DisplayName("Report Controller Integration Tests")
+@ExtendWith(SpringExtension.class)
+class ReportControllerIntegrationTest {
+
+    private static final String REPORT_URI =
+            "/api/v1/reports?accountNumber=478758&startDate=2025-10-12T09:00:00&endDate=2025-10-12T17:30:00";
+
+    @TestConfiguration
+    static class TestConfig {
+
+        @Bean
+        public ReportUseCase reportUseCase() {
+            return Mockito.mock(ReportUseCase.class);
+        }
+
+        @Bean
+        public ExcelReportGenerator excelReportGenerator() {
+            return Mockito.mock(ExcelReportGenerator.class);
+        }
+
+        @Bean
+        public Scheduler reportRenderScheduler() {
+            return Mockito.mock(Scheduler.class);
+        }
+    }
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ReportUseCase reportUseCase;
+
+    @Autowired
+    private ExcelReportGenerator excelReportGenerator;
+
+    @Autowired
+    private Scheduler reportRenderScheduler;
+
+    private AccountStatement statement;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.reset(reportUseCase, excelReportGenerator, reportRenderScheduler);
+        statement = AccountStatement.builder()
+                .clientName("Jose Lema")
+                .startDate(LocalDateTime.of(2025, 10, 12, 9, 0))
+                .endDate(LocalDateTime.of(2025, 10, 12, 17, 30))
+                .accounts(List.of())
+                .build();
+        // Por defecto el render corre en el hilo que lo pide
+        when(reportRenderScheduler.schedule(any()))
+                .thenAnswer(invocation -> Schedulers.immediate().schedule(invocation.getArgument(0)));
+    }
+
+    @Test
+    @DisplayName("should render the statement and return it as an Excel attachment")
+    void shouldReturnExcelReport() throws Exception {
+        // Arrange
+        when(reportUseCase.generateAccountStatement(eq(null), eq("478758"), any(), any()))
+                .thenReturn(Mono.just(statement));
+        when(excelReportGenerator.generateStatement(statement)).thenReturn(new byte[]{1, 2, 3});
+
+        // Act & Assert
+        webTestClient.get()
+                .uri(REPORT_URI)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
+                .expectHeader().value(HttpHeaders.CONTENT_DISPOSITION,
+                        value -> assertThat(value).contains("statement_478758_2025-10-12_to_2025-10-12.xlsx"))
+                .expectBody(byte[].class).isEqualTo(new byte[]{1, 2, 3});
+    }
+
+    @Test
+    @DisplayName("should return 503 with Retry-After when the report lane is saturated")
+    void shouldReturn503WhenReportLaneSaturated() {
+        // Arrange
+        when(reportUseCase.generateAccountStatement(any(), any(), any(), any()))
+                .thenReturn(Mono.error(new DatabaseSaturatedException("Report lane saturated")));
+
+        // Act & Assert
+        webTestClient.get()
+                .uri(REPORT_URI)
+                .exchange()
+                .expectStatus().isEqualTo(503)
+                .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "1")
+                .expectBody(ErrorResponse.class)
+                .value(error -> {
+                    assertThat(error.getStatus()).isEqualTo(503);
+                    assertThat(error.getMessage()).isEqualTo("Report lane saturated");
+                });
+    }
+
+    @Test
+    @DisplayName("should return 503 with Retry-After when the render queue rejects the report")
+    void shouldReturn503WhenRenderRejected() throws Exception {
+        // Arrange
+        when(reportUseCase.generateAccountStatement(any(), any(), any(), any())).thenReturn(Mono.just(statement));
+        when(reportRenderScheduler.schedule(any())).thenThrow(new RejectedExecutionException("render queue full"));
+
+        // Act & Assert
+        webTestClient.get()
+                .uri(REPORT_URI)
+                .exchange()
+                .expectStatus().isEqualTo(503)
+                .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "1")
+                .expectBody(ErrorResponse.class)
+                .value(error -> assertThat(error.getMessage()).isEqualTo("Server is busy, please retry later."));
+
+        verify(excelReportGenerator, never()).generateStatement(any());
+    }
+}
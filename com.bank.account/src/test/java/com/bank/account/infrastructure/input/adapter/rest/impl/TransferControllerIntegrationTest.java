@@ -0,0 +1,202 @@
+package com.bank.account.infrastructure.input.adapter.rest.impl;
+
+import com.bank.account.application.input.port.TransferUseCase;
+import com.bank.account.domain.exception.AccountLockTimeoutException;
+import com.bank.account.domain.exception.CrossShardTransferException;
+import com.bank.account.domain.exception.InvalidTransferException;
+import com.bank.account.domain.exception.ResourceNotFoundException;
+import com.bank.account.domain.model.Money;
+import com.bank.account.domain.model.Transfer;
+import com.bank.account.infrastructure.exception.ErrorResponse;
+import com.bank.account.infrastructure.input.adapter.rest.dto.request.TransferRequest;
+import com.bank.account.infrastructure.input.adapter.rest.dto.response.TransferResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(controllers = TransferController.class)
+@Import(com.bank.account.infrastructure.input.adapter.rest.mapper.TransferRestMapperImpl.class)
+@DisplayName("Transfer Controller Integration Tests")
+class TransferControllerIntegrationTest {
+
+    @TestConfiguration
+    static class TestConfig {
+
+        @Bean
+        public TransferUseCase transferUseCase() {
+            return Mockito.mock(TransferUseCase.class);
+        }
+    }
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private TransferUseCase transferUseCase;
+
+    private TransferRequest transferRequest;
+
+    @BeforeEach
+    void setUp() {
+        reset(transferUseCase);
+        transferRequest = new TransferRequest();
+        transferRequest.setSourceAccountId(1L);
+        transferRequest.setTargetAccountId(2L);
+        transferRequest.setAmount(Money.parse("250.00"));
+    }
+
+    @Test
+    @DisplayName("should transfer and return 201 Created with both movements and balances")
+    void shouldTransferSuccessfully() {
+        // Arrange
+        Transfer completed = Transfer.builder()
+                .transferId("9b2f4c1e-0000-4000-8000-000000000001")
+                .sourceAccountId(1L)
+                .targetAccountId(2L)
+                .amount(Money.parse("250.00"))
+                .date(LocalDateTime.now())
+                .debitMovementId(10L)
+                .creditMovementId(11L)
+                .sourceBalance(Money.parse("750.00"))
+                .targetBalance(Money.parse("1250.00"))
+                .build();
+        when(transferUseCase.transfer(any(Transfer.class))).thenReturn(Mono.just(completed));
+
+        // Act & Assert
+        webTestClient.post()
+                .uri("/api/v1/transfers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(transferRequest)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(TransferResponse.class)
+                .value(response -> {
+                    assertThat(response.getTransferId()).isEqualTo("9b2f4c1e-0000-4000-8000-000000000001");
+                    assertThat(response.getDebitMovementId()).isEqualTo(10L);
+                    assertThat(response.getCreditMovementId()).isEqualTo(11L);
+                    assertThat(response.getSourceBalance()).isEqualByComparingTo(Money.parse("750.00"));
+                    assertThat(response.getTargetBalance()).isEqualByComparingTo(Money.parse("1250.00"));
+                });
+
+        ArgumentCaptor<Transfer> requested = ArgumentCaptor.forClass(Transfer.class);
+        verify(transferUseCase).transfer(requested.capture());
+        assertThat(requested.getValue().getSourceAccountId()).isEqualTo(1L);
+        assertThat(requested.getValue().getTargetAccountId()).isEqualTo(2L);
+        assertThat(requested.getValue().getAmount()).isEqualByComparingTo(Money.parse("250.00"));
+    }
+
+    @Test
+    @DisplayName("should return 400 Bad Request when the use case rejects the transfer")
+    void shouldFailOnInvalidTransfer() {
+        // Arrange
+        when(transferUseCase.transfer(any(Transfer.class)))
+                .thenReturn(Mono.error(new InvalidTransferException("Source and target accounts must be different")));
+
+        // Act & Assert
+        webTestClient.post()
+                .uri("/api/v1/transfers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(transferRequest)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody(ErrorResponse.class)
+                .value(error -> {
+                    assertThat(error.getStatus()).isEqualTo(400);
+                    assertThat(error.getMessage()).isEqualTo("Source and target accounts must be different");
+                });
+    }
+
+    @Test
+    @DisplayName("should return 404 Not Found when an account does not exist")
+    void shouldFailOnMissingAccount() {
+        // Arrange
+        when(transferUseCase.transfer(any(Transfer.class)))
+                .thenReturn(Mono.error(new ResourceNotFoundException("Account not found with id: 2")));
+
+        // Act & Assert
+        webTestClient.post()
+                .uri("/api/v1/transfers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(transferRequest)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody(ErrorResponse.class)
+                .value(error -> assertThat(error.getMessage()).isEqualTo("Account not found with id: 2"));
+    }
+
+    @Test
+    @DisplayName("should return 409 Conflict with Retry-After when an account lock is not acquired in time")
+    void shouldFailOnLockTimeout() {
+        // Arrange
+        when(transferUseCase.transfer(any(Transfer.class)))
+                .thenReturn(Mono.error(new AccountLockTimeoutException("Account 1 is busy", null)));
+
+        // Act & Assert
+        webTestClient.post()
+                .uri("/api/v1/transfers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(transferRequest)
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "1");
+    }
+
+    @Test
+    @DisplayName("should return 409 Conflict naming the limitation when the accounts are in different shards")
+    void shouldFailOnCrossShardTransfer() {
+        // Arrange
+        when(transferUseCase.transfer(any(Transfer.class))).thenReturn(Mono.error(new CrossShardTransferException(
+                "Transfers between accounts stored in different shards are not supported yet.")));
+
+        // Act & Assert
+        webTestClient.post()
+                .uri("/api/v1/transfers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(transferRequest)
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody(ErrorResponse.class)
+                .value(error -> assertThat(error.getMessage()).contains("different shards"));
+    }
+
+    @Test
+    @DisplayName("should fail validation if target account is null and return 400 Bad Request")
+    void shouldFailValidationOnNullTarget() {
+        // Arrange
+        transferRequest.setTargetAccountId(null);
+
+        // Act & Assert
+        webTestClient.post()
+                .uri("/api/v1/transfers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(transferRequest)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody(ErrorResponse.class)
+                .value(error -> {
+                    assertThat(error.getError()).isEqualTo("Validation Error");
+                    assertThat(error.getMessage()).contains("Target account ID cannot be null");
+                });
+        verify(transferUseCase, never()).transfer(any(Transfer.class));
+    }
+}
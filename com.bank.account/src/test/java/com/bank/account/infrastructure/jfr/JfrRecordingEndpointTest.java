@@ -0,0 +1,91 @@
+package com.bank.account.infrastructure.jfr;
+
+import com.bank.account.application.jfr.MovementPhaseEvent;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.util.unit.DataSize;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("JFR Recording Endpoint Unit Tests")
+class JfrRecordingEndpointTest {
+
+    private final JfrRecordingEndpoint endpoint =
+            new JfrRecordingEndpoint("default", Duration.ofMinutes(5), DataSize.ofMegabytes(50));
+
+    @AfterEach
+    void tearDown() {
+        endpoint.close();
+    }
+
+    @Test
+    @DisplayName("should report no recording before one is started")
+    void status_BeforeStart_IsNone() throws Exception {
+        // Act & Assert
+        assertEquals("NONE", endpoint.status().get("state"));
+        assertEquals(WebEndpointResponse.STATUS_NOT_FOUND,
+                endpoint.download(JfrRecordingEndpoint.RECORDING_SELECTOR).getStatus());
+    }
+
+    @Test
+    @DisplayName("should record movement phase events and serve them as a .jfr download")
+    void startStopDownload_ContainsCustomEvents() throws Exception {
+        // Arrange
+        endpoint.start(null);
+        MovementPhaseEvent event = MovementPhaseEvent.start(MovementPhaseEvent.FETCH_ACCOUNT, 42L);
+        event.commit();
+
+        // Act
+        assertEquals(RecordingState.STOPPED, endpoint.stop().get("state"));
+        WebEndpointResponse<Resource> response = endpoint.download(JfrRecordingEndpoint.RECORDING_SELECTOR);
+
+        // Assert
+        assertEquals(WebEndpointResponse.STATUS_OK, response.getStatus());
+        Path copy = Files.createTempFile("jfr-test-", ".jfr");
+        try (InputStream in = response.getBody().getInputStream()) {
+            Files.copy(in, copy, StandardCopyOption.REPLACE_EXISTING);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(copy);
+        Files.delete(copy);
+        List<RecordedEvent> phases = events.stream()
+                .filter(recorded -> recorded.getEventType().getName().equals("com.bank.account.MovementPhase"))
+                .toList();
+
+        assertEquals(1, phases.size());
+        assertEquals(MovementPhaseEvent.FETCH_ACCOUNT, phases.get(0).getString("phase"));
+        assertEquals(42L, phases.get(0).getLong("accountId"));
+        assertTrue(Files.notExists(response.getBody().getFile().toPath()), "dump file should be deleted after download");
+        assertTrue(events.stream().map(recorded -> recorded.getEventType().getName())
+                        .noneMatch(name -> name.equals("jdk.InitialEnvironmentVariable") || name.equals("jdk.InitialSystemProperty")),
+                "environment variables and system properties should not be recorded");
+    }
+
+    @Test
+    @DisplayName("should discard the recording when closed")
+    void close_DiscardsRecording() throws Exception {
+        // Arrange
+        endpoint.start(null);
+
+        // Act
+        endpoint.close();
+
+        // Assert
+        assertEquals("NONE", endpoint.status().get("state"));
+        assertEquals(WebEndpointResponse.STATUS_NOT_FOUND,
+                endpoint.download(JfrRecordingEndpoint.RECORDING_SELECTOR).getStatus());
+    }
+}
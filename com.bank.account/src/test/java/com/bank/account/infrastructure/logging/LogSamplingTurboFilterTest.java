@@ -0,0 +1,99 @@
+package com.bank.account.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Log Sampling Turbo Filter Unit Tests")
+class LogSamplingTurboFilterTest {
+
+    private static final String SAMPLED = "com.bank.account.application.service.MovementUseCaseImpl";
+
+    private LoggerContext context;
+    private LogSamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.DEBUG);
+        filter = new LogSamplingTurboFilter();
+        filter.setContext(context);
+        filter.setLoggers(SAMPLED + ", com.bank.account.Other");
+        filter.setMaxPerSecond(3);
+        filter.start();
+    }
+
+    @Test
+    @DisplayName("should deny INFO events beyond the per-second quota of a sampled logger")
+    void sampledLogger_DeniesEventsOverQuota() {
+        // Arrange
+        Logger logger = context.getLogger(SAMPLED);
+
+        // Act
+        int denied = 0;
+        for (int i = 0; i < 10; i++) {
+            if (decide(logger, Level.INFO) == FilterReply.DENY) {
+                denied++;
+            }
+        }
+
+        // Assert
+        assertEquals(7, denied);
+        assertEquals(7, filter.getSuppressed());
+    }
+
+    @Test
+    @DisplayName("should always let WARN and ERROR through")
+    void sampledLogger_NeverDeniesWarnings() {
+        // Arrange
+        Logger logger = context.getLogger(SAMPLED);
+        for (int i = 0; i < 10; i++) {
+            decide(logger, Level.INFO);
+        }
+
+        // Act & Assert
+        assertEquals(FilterReply.NEUTRAL, decide(logger, Level.WARN));
+        assertEquals(FilterReply.NEUTRAL, decide(logger, Level.ERROR));
+    }
+
+    @Test
+    @DisplayName("should not sample loggers that are not listed")
+    void otherLogger_IsNotSampled() {
+        // Arrange
+        Logger logger = context.getLogger("com.bank.account.application.service.AccountUseCaseImpl");
+
+        // Act & Assert
+        for (int i = 0; i < 10; i++) {
+            assertEquals(FilterReply.NEUTRAL, decide(logger, Level.INFO));
+        }
+        assertEquals(0, filter.getSuppressed());
+    }
+
+    @Test
+    @DisplayName("should not spend quota on level checks or disabled levels")
+    void levelChecksAndDisabledEvents_DoNotConsumeQuota() {
+        // Arrange
+        Logger logger = context.getLogger(SAMPLED);
+        logger.setLevel(Level.INFO);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            filter.decide(null, logger, Level.INFO, null, null, null);
+            decide(logger, Level.DEBUG);
+        }
+
+        // Assert
+        assertEquals(FilterReply.NEUTRAL, decide(logger, Level.INFO));
+        assertEquals(0, filter.getSuppressed());
+    }
+
+    private FilterReply decide(Logger logger, Level level) {
+        return filter.decide(null, logger, level, "Movement {}", new Object[]{1L}, null);
+    }
+}
@@ -0,0 +1,132 @@
+package com.bank.account.infrastructure.metrics;
+
+import com.bank.account.application.output.port.CustomerClientPort;
+import com.bank.account.domain.exception.CustomerServiceException;
+import com.bank.account.domain.model.Customer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.framework.autoproxy.DefaultAdvisorAutoProxyCreator;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Port Metrics Unit Tests")
+class PortMetricsAdvisorTest {
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+    @Mock
+    private CustomerClientPort customerClientPort;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PortMetricsAdvisor advisor;
+    private CustomerClientPort instrumented;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(meterRegistryProvider.getIfAvailable()).thenReturn(meterRegistry);
+        advisor = new PortMetricsAdvisor(meterRegistryProvider);
+        ProxyFactory proxyFactory = new ProxyFactory(customerClientPort);
+        proxyFactory.addAdvisor(advisor);
+        instrumented = (CustomerClientPort) proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("should time reactive port calls on subscription, not on assembly")
+    void reactiveCall_IsTimedWhenSubscribed() {
+        // Arrange
+        Customer customer = Customer.builder().customerId(1L).name("Jose Lema").build();
+        when(customerClientPort.findCustomerById(1L)).thenReturn(Mono.just(customer));
+
+        // Act
+        Mono<Customer> result = instrumented.findCustomerById(1L);
+
+        // Assert
+        assertNull(meterRegistry.find(PortMethodMetrics.CALLS).timer());
+        StepVerifier.create(result).expectNext(customer).verifyComplete();
+
+        var timer = meterRegistry.get(PortMethodMetrics.CALLS)
+                .tags("direction", "outbound", "port", "CustomerClientPort", "method", "findCustomerById")
+                .timer();
+        assertEquals(1, timer.count());
+        assertEquals(0.0, meterRegistry.get(PortMethodMetrics.ACTIVE).gauge().value());
+        assertEquals(0.0, meterRegistry.get(PortMethodMetrics.ERRORS)
+                .tags("method", "findCustomerById", "exception", PortMethodMetrics.NO_EXCEPTION)
+                .counter().count());
+    }
+
+    @Test
+    @DisplayName("should count errors tagged by exception type")
+    void failedCall_IncrementsErrorCounter() {
+        // Arrange
+        when(customerClientPort.findCustomerById(1L))
+                .thenReturn(Mono.error(new CustomerServiceException("Customer service is unavailable", null)));
+
+        // Act & Assert
+        StepVerifier.create(instrumented.findCustomerById(1L))
+                .expectError(CustomerServiceException.class)
+                .verify();
+
+        assertEquals(1.0, meterRegistry.get(PortMethodMetrics.ERRORS)
+                .tags("port", "CustomerClientPort", "exception", "CustomerServiceException")
+                .counter().count());
+        assertEquals(0.0, meterRegistry.get(PortMethodMetrics.ERRORS)
+                .tags("port", "CustomerClientPort", "exception", PortMethodMetrics.NO_EXCEPTION)
+                .counter().count());
+        assertEquals(1, meterRegistry.get(PortMethodMetrics.CALLS).timer().count());
+    }
+
+    @Test
+    @DisplayName("should only match methods declared by a port interface")
+    void pointcut_MatchesPortMethodsOnly() throws NoSuchMethodException {
+        // Arrange
+        Class<?> targetClass = customerClientPort.getClass();
+
+        // Act & Assert
+        assertTrue(advisor.getPointcut().getMethodMatcher()
+                .matches(CustomerClientPort.class.getMethod("findCustomerById", Long.class), targetClass));
+        assertFalse(advisor.getPointcut().getMethodMatcher()
+                .matches(Object.class.getMethod("toString"), targetClass));
+        assertFalse(AopUtils.canApply(advisor, Object.class));
+    }
+
+    @Test
+    @DisplayName("should join the bean's existing proxy instead of wrapping it again")
+    void autoProxy_AddsAdvisorToSingleProxy() throws Exception {
+        // Arrange
+        MethodInterceptor otherAdvice = invocation -> invocation.proceed();
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.registerBean(DefaultAdvisorAutoProxyCreator.class);
+            context.registerBean("otherAdvisor", DefaultPointcutAdvisor.class, () -> new DefaultPointcutAdvisor(otherAdvice));
+            context.registerBean(PortMetricsAdvisor.class, () -> advisor);
+            context.registerBean("customerClientAdapter", CustomerClientPort.class, () -> customerClientPort);
+
+            // Act
+            context.refresh();
+            CustomerClientPort bean = context.getBean(CustomerClientPort.class);
+
+            // Assert
+            Advised proxy = assertInstanceOf(Advised.class, bean);
+            assertSame(customerClientPort, proxy.getTargetSource().getTarget());
+            assertEquals(2, proxy.getAdvisors().length);
+            assertSame(advisor, proxy.getAdvisors()[0]);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.bank.account.infrastructure.metrics;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Query budgets for tests: runs a use case with a fresh {@link SqlStatementStats} and fails when
+ * it executes more SQL statements than allowed, listing what ran. An N+1 regression (a lazy
+ * association loaded per row) turns a fixed budget into one that grows with the data and fails.
+ */
+public final class SqlStatementAssertions {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private SqlStatementAssertions() {
+    }
+
+    public static <T> T assertMaxStatements(int maxStatements, Mono<T> work) {
+        SqlStatementStats stats = new SqlStatementStats();
+        T result = work.contextWrite(stats::writeTo).block(TIMEOUT);
+        check(maxStatements, stats);
+        return result;
+    }
+
+    public static <T> List<T> assertMaxStatements(int maxStatements, Flux<T> work) {
+        SqlStatementStats stats = new SqlStatementStats();
+        List<T> result = work.contextWrite(stats::writeTo).collectList().block(TIMEOUT);
+        check(maxStatements, stats);
+        return result;
+    }
+
+    public static <T> T assertMaxStatements(int maxStatements, Supplier<T> work) {
+        SqlStatementStats stats = new SqlStatementStats();
+        T result;
+        try (SqlStatementStats.Binding ignored = stats.bind()) {
+            result = work.get();
+        }
+        check(maxStatements, stats);
+        return result;
+    }
+
+    private static void check(int maxStatements, SqlStatementStats stats) {
+        if (stats.statements() > maxStatements) {
+            fail("Expected at most " + maxStatements + " SQL statements but " + stats.statements()
+                    + " ran:\n  " + String.join("\n  ", stats.describe()));
+        }
+    }
+}
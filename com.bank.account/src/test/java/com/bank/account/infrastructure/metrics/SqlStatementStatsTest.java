@@ -0,0 +1,82 @@
+package com.bank.account.infrastructure.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DisplayName("SQL Statement Stats Unit Tests")
+class SqlStatementStatsTest {
+
+    private final SqlStatementCountingInspector inspector = new SqlStatementCountingInspector();
+
+    @Test
+    @DisplayName("should attribute statements run on a scheduler thread to the stats in the context")
+    void propagate_BindsStatsOnWorkerThread() {
+        // Arrange
+        SqlStatementStats stats = new SqlStatementStats();
+        Mono<String> blockingWork = Mono.fromCallable(() -> inspector.inspect("select 1"));
+
+        // Act
+        SqlStatementStats.propagate(blockingWork)
+                .subscribeOn(Schedulers.boundedElastic())
+                .contextWrite(stats::writeTo)
+                .block(Duration.ofSeconds(5));
+
+        // Assert
+        assertEquals(1, stats.statements());
+    }
+
+    @Test
+    @DisplayName("should unbind the stats once the blocking work has been subscribed")
+    void propagate_RestoresThreadAfterSubscription() {
+        // Arrange
+        SqlStatementStats stats = new SqlStatementStats();
+        Flux<String> blockingWork = Flux.just("a", "b").map(inspector::inspect);
+
+        // Act
+        SqlStatementStats.propagate(blockingWork)
+                .contextWrite(stats::writeTo)
+                .blockLast(Duration.ofSeconds(5));
+
+        // Assert
+        assertEquals(2, stats.statements());
+        assertNull(SqlStatementStats.current());
+    }
+
+    @Test
+    @DisplayName("should report the most repeated statement")
+    void mostRepeated_ReturnsStatementWithMostExecutions() {
+        // Arrange
+        SqlStatementStats stats = new SqlStatementStats();
+
+        // Act
+        try (SqlStatementStats.Binding ignored = stats.bind()) {
+            inspector.inspect("select * from accounts where id=?");
+            for (int i = 0; i < 3; i++) {
+                inspector.inspect("select * from movements where account_id=?");
+            }
+        }
+
+        // Assert
+        Map.Entry<String, Integer> mostRepeated = stats.mostRepeated();
+        assertEquals("select * from movements where account_id=?", mostRepeated.getKey());
+        assertEquals(3, mostRepeated.getValue());
+        assertEquals(4, stats.statements());
+    }
+
+    @Test
+    @DisplayName("should ignore statements when no stats are bound")
+    void inspect_WithoutBinding_CountsNothing() {
+        // Act & Assert
+        assertEquals("select 1", inspector.inspect("select 1"));
+        assertNull(SqlStatementStats.current());
+    }
+}
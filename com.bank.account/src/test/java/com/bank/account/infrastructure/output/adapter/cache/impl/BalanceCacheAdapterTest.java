@@ -0,0 +1,124 @@
+package com.bank.account.infrastructure.output.adapter.cache.impl;
+
+import com.bank.account.application.output.port.BalanceCachePort;
+import com.bank.account.domain.model.Account;
+import com.bank.account.domain.model.Money;
+import com.bank.account.infrastructure.output.adapter.cache.support.BalanceIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Balance Cache Adapter Unit Tests")
+class BalanceCacheAdapterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static Account account(long id, String balance, int balanceSlots) {
+        return Account.builder()
+                .id(id)
+                .initialBalance(Money.parse(balance))
+                .balanceSlots(balanceSlots)
+                .build();
+    }
+
+    private static void completeTransaction(boolean committed) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (committed) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(committed
+                    ? TransactionSynchronization.STATUS_COMMITTED
+                    : TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("should miss every lookup when the cache is disabled")
+    void disabled_AlwaysMisses() {
+        // Arrange
+        BalanceCacheAdapter adapter = new BalanceCacheAdapter(null, meterRegistry);
+
+        // Act
+        adapter.balanceChanged(account(1L, "10.00", 1));
+
+        // Assert
+        assertEquals(BalanceCachePort.NOT_CACHED, adapter.findBalanceCents(1L));
+    }
+
+    @Test
+    @DisplayName("should apply a change only after the transaction commits")
+    void balanceChanged_AppliedAfterCommit() {
+        // Arrange
+        BalanceCacheAdapter adapter = new BalanceCacheAdapter(new BalanceIndex(16, 100), meterRegistry);
+        adapter.balanceLoaded(account(1L, "100.00", 1));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        adapter.balanceChanged(account(1L, "75.50", 1));
+        long beforeCommit = adapter.findBalanceCents(1L);
+        completeTransaction(true);
+
+        // Assert
+        assertEquals(10_000L, beforeCommit);
+        assertEquals(7_550L, adapter.findBalanceCents(1L));
+        assertEquals(2.0, meterRegistry.get("bank.balance.cache.lookups").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    @DisplayName("should discard a change when the transaction rolls back")
+    void balanceChanged_DiscardedOnRollback() {
+        // Arrange
+        BalanceCacheAdapter adapter = new BalanceCacheAdapter(new BalanceIndex(16, 100), meterRegistry);
+        adapter.balanceLoaded(account(1L, "100.00", 1));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        adapter.balanceChanged(account(1L, "0.00", 1));
+        completeTransaction(false);
+
+        // Assert
+        assertEquals(10_000L, adapter.findBalanceCents(1L));
+    }
+
+    @Test
+    @DisplayName("should not let a load overwrite a committed change")
+    void balanceLoaded_DoesNotOverwriteChange() {
+        // Arrange
+        BalanceCacheAdapter adapter = new BalanceCacheAdapter(new BalanceIndex(16, 100), meterRegistry);
+        adapter.balanceChanged(account(1L, "20.00", 1));
+
+        // Act
+        adapter.balanceLoaded(account(1L, "10.00", 1));
+
+        // Assert
+        assertEquals(2_000L, adapter.findBalanceCents(1L));
+    }
+
+    @Test
+    @DisplayName("should never answer for accounts whose balance is split across slots")
+    void splitAccount_IsUntracked() {
+        // Arrange
+        BalanceCacheAdapter adapter = new BalanceCacheAdapter(new BalanceIndex(16, 100), meterRegistry);
+        adapter.balanceLoaded(account(1L, "100.00", 1));
+
+        // Act
+        adapter.balanceChanged(account(1L, "100.00", 8));
+
+        // Assert
+        assertEquals(BalanceCachePort.NOT_CACHED, adapter.findBalanceCents(1L));
+        assertEquals(1.0, meterRegistry.get("bank.balance.cache.lookups").tag("result", "miss").counter().count());
+    }
+}
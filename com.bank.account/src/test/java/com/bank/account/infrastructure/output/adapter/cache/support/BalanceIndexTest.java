@@ -0,0 +1,108 @@
+package com.bank.account.infrastructure.output.adapter.cache.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Balance Index Unit Tests")
+class BalanceIndexTest {
+
+    @Test
+    @DisplayName("should return the stored value and MISSING for unknown accounts")
+    void put_ThenGet() {
+        // Arrange
+        BalanceIndex index = new BalanceIndex(16, 100);
+
+        // Act
+        index.put(7L, 12_345L, 1);
+
+        // Assert
+        assertEquals(12_345L, index.get(7L));
+        assertEquals(BalanceIndex.MISSING, index.get(8L));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    @DisplayName("should keep the value with the highest version")
+    void put_IgnoresOlderVersions() {
+        // Arrange
+        BalanceIndex index = new BalanceIndex(16, 100);
+        index.put(7L, 300L, 3);
+
+        // Act
+        boolean stale = index.put(7L, 200L, 2);
+        boolean newer = index.put(7L, 400L, 4);
+
+        // Assert
+        assertFalse(stale);
+        assertTrue(newer);
+        assertEquals(400L, index.get(7L));
+    }
+
+    @Test
+    @DisplayName("should only insert with version 0, never overwrite")
+    void put_VersionZeroOnlyInserts() {
+        // Arrange
+        BalanceIndex index = new BalanceIndex(16, 100);
+        index.put(7L, 500L, 1);
+
+        // Act
+        boolean loaded = index.put(7L, 100L, 0);
+        boolean inserted = index.put(9L, 900L, 0);
+
+        // Assert
+        assertFalse(loaded);
+        assertTrue(inserted);
+        assertEquals(500L, index.get(7L));
+        assertEquals(900L, index.get(9L));
+    }
+
+    @Test
+    @DisplayName("should keep every entry when the table grows")
+    void put_ResizesWithoutLosingEntries() {
+        // Arrange
+        BalanceIndex index = new BalanceIndex(1, 10_000);
+
+        // Act
+        for (long id = 1; id <= 5_000; id++) {
+            index.put(id, id * 100, 0);
+        }
+
+        // Assert
+        assertEquals(5_000, index.size());
+        for (long id = 1; id <= 5_000; id++) {
+            assertEquals(id * 100, index.get(id));
+        }
+    }
+
+    @Test
+    @DisplayName("should ignore new accounts once maxEntries is reached but still update held ones")
+    void put_RespectsMaxEntries() {
+        // Arrange
+        BalanceIndex index = new BalanceIndex(16, 2);
+        index.put(1L, 100L, 0);
+        index.put(2L, 200L, 0);
+
+        // Act
+        boolean third = index.put(3L, 300L, 0);
+        boolean update = index.put(1L, 150L, 1);
+
+        // Assert
+        assertFalse(third);
+        assertTrue(update);
+        assertEquals(BalanceIndex.MISSING, index.get(3L));
+        assertEquals(150L, index.get(1L));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("should reject non-positive account ids")
+    void put_RejectsNonPositiveIds() {
+        BalanceIndex index = new BalanceIndex(16, 100);
+        assertThrows(IllegalArgumentException.class, () -> index.put(0L, 1L, 1));
+    }
+}
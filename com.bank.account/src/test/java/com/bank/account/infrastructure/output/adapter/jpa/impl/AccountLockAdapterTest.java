@@ -0,0 +1,115 @@
+package com.bank.account.infrastructure.output.adapter.jpa.impl;
+
+import com.bank.account.domain.exception.AccountLockTimeoutException;
+import com.bank.account.infrastructure.output.adapter.jpa.repository.AccountSpringRepository;
+import com.bank.account.infrastructure.output.adapter.jpa.support.DbBulkhead;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Account Lock Adapter Unit Tests")
+class AccountLockAdapterTest {
+
+    private static final String ADVISORY_LOCK_SQL = "SELECT pg_advisory_xact_lock(?)";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private AccountSpringRepository accountRepository;
+
+    private DbBulkhead bulkhead;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bulkhead = new DbBulkhead("test", 2, 10, Duration.ofSeconds(5),
+                Schedulers.boundedElastic(), meterRegistry);
+    }
+
+    private AccountLockAdapter adapter(AccountLockAdapter.Mode mode, Duration timeout) {
+        return new AccountLockAdapter(mode, timeout, jdbcTemplate, accountRepository, bulkhead, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("should take one advisory lock per distinct account in ascending id order after setting the timeout")
+    void advisory_LocksDistinctAccountsInAscendingOrder() {
+        // Act
+        StepVerifier.create(adapter(AccountLockAdapter.Mode.ADVISORY, Duration.ofSeconds(2))
+                        .lockAccounts(List.of(7L, 3L, 7L)))
+                .verifyComplete();
+
+        // Assert
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).execute("SET LOCAL lock_timeout = '2000ms'");
+        order.verify(jdbcTemplate).query(eq(ADVISORY_LOCK_SQL), any(ResultSetExtractor.class), eq(3L));
+        order.verify(jdbcTemplate).query(eq(ADVISORY_LOCK_SQL), any(ResultSetExtractor.class), eq(7L));
+        order.verifyNoMoreInteractions();
+        verifyNoInteractions(accountRepository);
+        assertEquals(1, meterRegistry.get("bank.account.lock.wait").tag("mode", "advisory").timer().count());
+    }
+
+    @Test
+    @DisplayName("should lock the account rows in ascending id order without touching the lock timeout when it is zero")
+    void row_LocksRowsInAscendingOrder() {
+        // Act
+        StepVerifier.create(adapter(AccountLockAdapter.Mode.ROW, Duration.ZERO)
+                        .lockAccounts(List.of(2L, 1L)))
+                .verifyComplete();
+
+        // Assert
+        InOrder order = inOrder(accountRepository);
+        order.verify(accountRepository).findByIdForUpdate(1L);
+        order.verify(accountRepository).findByIdForUpdate(2L);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("should translate a lock timeout into AccountLockTimeoutException and count it")
+    void advisory_LockNotGranted_FailsWithTimeoutException() {
+        // Arrange
+        doThrow(new CannotAcquireLockException("canceling statement due to lock timeout"))
+                .when(jdbcTemplate).query(eq(ADVISORY_LOCK_SQL), any(ResultSetExtractor.class), eq(1L));
+
+        // Act & Assert
+        StepVerifier.create(adapter(AccountLockAdapter.Mode.ADVISORY, Duration.ofMillis(500))
+                        .lockAccounts(List.of(1L)))
+                .expectError(AccountLockTimeoutException.class)
+                .verify();
+
+        assertEquals(1.0, meterRegistry.get("bank.account.lock.timeouts").tag("mode", "advisory").counter().count());
+    }
+
+    @Test
+    @DisplayName("should not touch the database when locking is disabled")
+    void none_DoesNothing() {
+        // Act & Assert
+        StepVerifier.create(adapter(AccountLockAdapter.Mode.NONE, Duration.ofSeconds(2))
+                        .lockAccounts(List.of(1L)))
+                .verifyComplete();
+
+        verifyNoInteractions(jdbcTemplate, accountRepository);
+    }
+}
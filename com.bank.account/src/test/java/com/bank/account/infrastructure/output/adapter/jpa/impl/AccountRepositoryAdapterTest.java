@@ -0,0 +1,355 @@
+package com.bank.account.infrastructure.output.adapter.jpa.impl;
+
+import com.bank.account.domain.model.Account;
+import com.bank.account.domain.model.Money;
+import com.bank.account.infrastructure.output.adapter.jpa.entity.AccountEntity;
+import com.bank.account.infrastructure.output.adapter.jpa.mapper.AccountJpaMapper;
+import com.bank.account.infrastructure.output.adapter.jpa.projection.AccountView;
+import com.bank.account.infrastructure.output.adapter.jpa.repository.AccountBalanceSlotSpringRepository;
+import com.bank.account.infrastructure.output.adapter.jpa.repository.AccountSpringRepository;
+import com.bank.account.infrastructure.output.adapter.jpa.support.DbBulkhead;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs under BlockHound (blockhound-junit-platform): a JDBC call made on a Reactor
+ * non-blocking thread fails the test with BlockingOperationError.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Account Repository Adapter Unit Tests")
+class AccountRepositoryAdapterTest {
+
+    @Mock
+    private AccountSpringRepository accountRepository;
+
+    @Mock
+    private AccountBalanceSlotSpringRepository balanceSlotRepository;
+
+    @Mock
+    private AccountJpaMapper accountMapper;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AccountRepositoryAdapter accountRepositoryAdapter;
+
+    @BeforeEach
+    void setUp() {
+        DbBulkhead bulkhead = new DbBulkhead("test", 2, 10, Duration.ofSeconds(5),
+                Schedulers.boundedElastic(), new SimpleMeterRegistry());
+        accountRepositoryAdapter = new AccountRepositoryAdapter(accountRepository, balanceSlotRepository, accountMapper, jdbcTemplate,
+                transactionManager, bulkhead);
+    }
+
+    @Test
+    @DisplayName("should not query the database while assembling findAll")
+    void findAll_DoesNotQueryAtAssembly() {
+        // Act
+        accountRepositoryAdapter.findAll();
+
+        // Assert
+        verify(accountRepository, never()).findActiveViews();
+    }
+
+    @Test
+    @DisplayName("should run the blocking query off the event loop when subscribed from a non-blocking thread")
+    void findAll_SubscribedFromNonBlockingThread_DoesNotBlockIt() {
+        // Arrange
+        AccountView view = new AccountView(1L, "478758", "Ahorros", Money.ZERO, true, 1L, 1);
+        Account account = Account.builder().id(1L).accountNumber("478758").status(true).balanceSlots(1).build();
+        when(accountRepository.findActiveViews()).thenAnswer(invocation -> {
+            Thread.sleep(1); // stands in for the JDBC round trip
+            return List.of(view);
+        });
+        when(accountMapper.toDomain(view)).thenReturn(account);
+
+        // Act & Assert
+        StepVerifier.create(Mono.delay(Duration.ofMillis(1))
+                        .flatMapMany(tick -> accountRepositoryAdapter.findAll()))
+                .expectNext(account)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("should report the account row plus its balance slots as the balance")
+    void findAccountById_WithBalanceSlots_ReturnsTotalBalance() {
+        // Arrange
+        AccountView view = new AccountView(1L, "478758", "Ahorros", Money.parse("100.00"), true, 1L, 4);
+        when(accountRepository.findViewById(1L)).thenReturn(Optional.of(view));
+        when(accountMapper.toDomain(view)).thenAnswer(invocation -> Account.builder()
+                .id(1L).initialBalance(view.initialBalance()).balanceSlots(4).build());
+        when(balanceSlotRepository.sumBalance(1L)).thenReturn(new BigDecimal("25.00"));
+
+        // Act & Assert
+        StepVerifier.create(accountRepositoryAdapter.findAccountById(1L))
+                .assertNext(account -> assertEquals(Money.parse("125.00"), account.getInitialBalance()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("should read accounts by id through the projection without loading the entity")
+    void findAccountById_UsesProjection() {
+        // Arrange
+        AccountView view = new AccountView(1L, "478758", "Ahorros", Money.parse("100.00"), true, 1L, 1);
+        Account account = Account.builder().id(1L).initialBalance(view.initialBalance()).balanceSlots(1).build();
+        when(accountRepository.findViewById(1L)).thenReturn(Optional.of(view));
+        when(accountMapper.toDomain(view)).thenReturn(account);
+
+        // Act & Assert
+        StepVerifier.create(accountRepositoryAdapter.findAccountById(1L))
+                .expectNext(account)
+                .verifyComplete();
+        verify(accountRepository, never()).findById(any());
+        verify(balanceSlotRepository, never()).sumBalance(any());
+    }
+
+    @Test
+    @DisplayName("should keep in the account row only the part of the total balance not held by its slots")
+    void saveAccount_WithBalanceSlots_StoresTotalMinusSlots() {
+        // Arrange
+        Account account = Account.builder().id(1L).initialBalance(Money.parse("125.00")).balanceSlots(4).build();
+        AccountEntity toSave = slottedEntity(Money.parse("125.00"));
+        when(accountMapper.toEntity(account)).thenReturn(toSave);
+        when(accountRepository.findByIdSkippingCache(1L)).thenReturn(Optional.of(slottedEntity(Money.parse("100.00"))));
+        when(balanceSlotRepository.sumBalance(1L)).thenReturn(new BigDecimal("25.00"));
+        when(accountRepository.save(toSave)).thenReturn(toSave);
+        when(accountMapper.toDomain(toSave)).thenAnswer(invocation -> Account.builder()
+                .id(1L).initialBalance(toSave.getInitialBalance()).balanceSlots(4).build());
+
+        // Act & Assert
+        StepVerifier.create(accountRepositoryAdapter.saveAccount(account))
+                .assertNext(saved -> assertEquals(Money.parse("125.00"), saved.getInitialBalance()))
+                .verifyComplete();
+        assertEquals(Money.parse("100.00"), toSave.getInitialBalance());
+    }
+
+    @Test
+    @DisplayName("should complete empty without touching the slots when the account has no balance slots")
+    void addConcurrentCredit_WithoutBalanceSlots_CompletesEmpty() {
+        // Arrange
+        AccountEntity entity = slottedEntity(Money.parse("100.00"));
+        entity.setBalanceSlots(1);
+        when(accountRepository.findCachedCopy(1L)).thenReturn(Optional.of(entity));
+
+        // Act & Assert
+        StepVerifier.create(accountRepositoryAdapter.addConcurrentCredit(1L, Money.parse("10.00")))
+                .verifyComplete();
+        verify(balanceSlotRepository, never()).addToSlot(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("should complete empty without touching the slots when the account does not exist")
+    void addConcurrentCredit_MissingAccount_CompletesEmpty() {
+        // Arrange
+        when(accountRepository.findCachedCopy(1L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        StepVerifier.create(accountRepositoryAdapter.addConcurrentCredit(1L, Money.parse("10.00")))
+                .verifyComplete();
+        verify(balanceSlotRepository, never()).addToSlot(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("should credit a slot and return the account without a balance, without reading the account again")
+    void addConcurrentCredit_WithBalanceSlots_ReturnsAccountWithoutBalance() {
+        // Arrange
+        AccountEntity cached = slottedEntity(Money.parse("1.00"));
+        when(accountRepository.findCachedCopy(1L)).thenReturn(Optional.of(cached));
+        when(balanceSlotRepository.addToSlot(eq(1L), eq(new BigDecimal("10.00")), anyInt())).thenReturn(1);
+        when(accountMapper.toDomain(cached)).thenAnswer(invocation -> Account.builder()
+                .id(1L).initialBalance(cached.getInitialBalance()).balanceSlots(4).build());
+
+        // Act & Assert: el saldo de la copia en caché no se hace pasar por el de la cuenta
+        StepVerifier.create(accountRepositoryAdapter.addConcurrentCredit(1L, Money.parse("10.00")))
+                .assertNext(account -> {
+                    assertEquals(1L, account.getId());
+                    assertNull(account.getInitialBalance());
+                })
+                .verifyComplete();
+        verify(accountRepository, never()).findByIdSkippingCache(any());
+    }
+
+    @Test
+    @DisplayName("should complete empty when the cached slots flag is stale and the update touches no slot")
+    void addConcurrentCredit_StaleSlotsFlag_CompletesEmpty() {
+        // Arrange
+        when(accountRepository.findCachedCopy(1L)).thenReturn(Optional.of(slottedEntity(Money.parse("100.00"))));
+        when(balanceSlotRepository.addToSlot(eq(1L), eq(new BigDecimal("10.00")), anyInt())).thenReturn(0);
+
+        // Act & Assert
+        StepVerifier.create(accountRepositoryAdapter.addConcurrentCredit(1L, Money.parse("10.00")))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("should sum the slots of every split account in a list with a single query")
+    void findByCustomerId_WithBalanceSlots_SumsSlotsInOneQuery() {
+        // Arrange
+        AccountView split1 = new AccountView(1L, "478758", "Ahorros", Money.parse("100.00"), true, 7L, 4);
+        AccountView plain = new AccountView(2L, "478759", "Ahorros", Money.parse("50.00"), true, 7L, 1);
+        AccountView split2 = new AccountView(3L, "478760", "Ahorros", Money.parse("10.00"), true, 7L, 2);
+        when(accountRepository.findViewsByCustomerId(7L)).thenReturn(List.of(split1, plain, split2));
+        for (AccountView view : List.of(split1, plain, split2)) {
+            when(accountMapper.toDomain(view)).thenAnswer(invocation -> Account.builder()
+                    .id(view.id()).initialBalance(view.initialBalance()).balanceSlots(view.balanceSlots()).build());
+        }
+        when(balanceSlotRepository.sumBalances(List.of(1L, 3L))).thenReturn(List.of(
+                new Object[]{1L, new BigDecimal("25.00")},
+                new Object[]{3L, new BigDecimal("5.00")}));
+
+        // Act & Assert
+        StepVerifier.create(accountRepositoryAdapter.findByCustomerId(7L).map(Account::getInitialBalance))
+                .expectNext(Money.parse("125.00"), Money.parse("50.00"), Money.parse("15.00"))
+                .verifyComplete();
+        verify(balanceSlotRepository, never()).sumBalance(any());
+    }
+
+    @Test
+    @DisplayName("should look accounts up by number through the cached natural id and read the balance from the database")
+    void findAccountByNumber_UsesNaturalIdAndFreshBalance() {
+        // Arrange
+        AccountEntity entity = new AccountEntity();
+        entity.setId(1L);
+        entity.setAccountNumber("478758");
+        entity.setInitialBalance(Money.parse("100.00")); // copia de la caché, antigua
+        entity.setBalanceSlots(1);
+        when(accountRepository.findByNaturalAccountNumber("478758")).thenReturn(Optional.of(entity));
+        when(accountRepository.findRowBalance(1L)).thenReturn(Optional.of(Money.parse("40.00")));
+        when(accountMapper.toDomain(entity)).thenAnswer(invocation -> Account.builder()
+                .id(1L).accountNumber("478758").initialBalance(entity.getInitialBalance()).balanceSlots(1).build());
+
+        // Act & Assert
+        StepVerifier.create(accountRepositoryAdapter.findAccountByNumber("478758"))
+                .assertNext(account -> assertEquals(Money.parse("40.00"), account.getInitialBalance()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("should complete empty when the cached account no longer exists in the database")
+    void findAccountByNumber_DeletedSinceCached_CompletesEmpty() {
+        // Arrange
+        AccountEntity entity = new AccountEntity();
+        entity.setId(1L);
+        entity.setAccountNumber("478758");
+        when(accountRepository.findByNaturalAccountNumber("478758")).thenReturn(Optional.of(entity));
+        when(accountRepository.findRowBalance(1L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        StepVerifier.create(accountRepositoryAdapter.findAccountByNumber("478758"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("should resolve an account number to its id without reading the balance")
+    void findAccountIdByNumber_DoesNotReadBalance() {
+        // Arrange
+        AccountEntity entity = new AccountEntity();
+        entity.setId(1L);
+        entity.setAccountNumber("478758");
+        when(accountRepository.findByNaturalAccountNumber("478758")).thenReturn(Optional.of(entity));
+
+        // Act & Assert
+        StepVerifier.create(accountRepositoryAdapter.findAccountIdByNumber("478758"))
+                .expectNext(1L)
+                .verifyComplete();
+        verify(accountRepository, never()).findRowBalance(any());
+    }
+
+    @Test
+    @DisplayName("should insert a bulk import as JDBC batches in one transaction and reload the generated ids in one query")
+    void saveAllAccounts_BatchesInsertsAndReloadsOnce() {
+        // Arrange
+        List<Account> accounts = List.of(
+                Account.builder().accountNumber("4787580001").accountType("SAVINGS").initialBalance(Money.parse("10.00")).status(true).customerId(1L).build(),
+                Account.builder().accountNumber("4787580002").accountType("CHECKING").initialBalance(Money.ZERO).status(true).customerId(2L).build());
+        AccountEntity first = new AccountEntity();
+        first.setId(1L);
+        AccountEntity second = new AccountEntity();
+        second.setId(2L);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(accountRepository.findByAccountNumberIn(List.of("4787580001", "4787580002"))).thenReturn(List.of(first, second));
+        when(accountMapper.toDomain(any(AccountEntity.class))).thenAnswer(invocation ->
+                Account.builder().id(invocation.<AccountEntity>getArgument(0).getId()).build());
+
+        // Act & Assert
+        StepVerifier.create(accountRepositoryAdapter.saveAllAccounts(accounts).map(Account::getId))
+                .expectNext(1L, 2L)
+                .verifyComplete();
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO accounts"), eq(accounts), eq(500), any());
+        verify(transactionManager).commit(any());
+        verify(accountRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("should update number, type and status in one statement without writing the balance")
+    void updateAccountDetails_LeavesBalanceAlone() {
+        // Arrange
+        Account details = Account.builder().accountNumber("478759").accountType("Corriente").status(true)
+                .initialBalance(Money.parse("1.00")).build();
+        AccountEntity stored = slottedEntity(Money.parse("100.00"));
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(accountRepository.updateDetails(1L, "478759", "Corriente", true)).thenReturn(1);
+        when(accountRepository.findByIdSkippingCache(1L)).thenReturn(Optional.of(stored));
+        when(accountMapper.toDomain(stored)).thenAnswer(invocation -> Account.builder()
+                .id(1L).accountNumber("478759").initialBalance(stored.getInitialBalance()).balanceSlots(4).build());
+        when(balanceSlotRepository.sumBalance(1L)).thenReturn(new BigDecimal("25.00"));
+
+        // Act & Assert
+        StepVerifier.create(accountRepositoryAdapter.updateAccountDetails(1L, details))
+                .assertNext(account -> assertEquals(Money.parse("125.00"), account.getInitialBalance()))
+                .verifyComplete();
+        verify(accountRepository, never()).save(any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("should complete empty when updating an account that does not exist")
+    void updateAccountDetails_MissingAccount_CompletesEmpty() {
+        // Arrange
+        Account details = Account.builder().accountNumber("478759").accountType("Corriente").status(true).build();
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(accountRepository.updateDetails(99L, "478759", "Corriente", true)).thenReturn(0);
+
+        // Act & Assert
+        StepVerifier.create(accountRepositoryAdapter.updateAccountDetails(99L, details))
+                .verifyComplete();
+        verify(accountRepository, never()).findByIdSkippingCache(any());
+    }
+
+    private AccountEntity slottedEntity(Money rowBalance) {
+        AccountEntity entity = new AccountEntity();
+        entity.setId(1L);
+        entity.setInitialBalance(rowBalance);
+        entity.setBalanceSlots(4);
+        return entity;
+    }
+}
@@ -0,0 +1,203 @@
+package com.bank.account.infrastructure.output.adapter.jpa.impl;
+
+import com.bank.account.application.input.port.AccountUseCase;
+import com.bank.account.application.input.port.MovementUseCase;
+import com.bank.account.application.input.port.TransferUseCase;
+import com.bank.account.domain.exception.DuplicateResourceException;
+import com.bank.account.domain.model.Account;
+import com.bank.account.domain.model.Money;
+import com.bank.account.domain.model.Movement;
+import com.bank.account.domain.model.Transfer;
+import com.bank.account.infrastructure.output.adapter.jpa.entity.AccountEntity;
+import com.bank.account.infrastructure.output.adapter.jpa.repository.AccountSpringRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.bank.account.infrastructure.metrics.SqlStatementAssertions.assertMaxStatements;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * SQL statement budgets per use case against the embedded H2 database of the {@code loadtest}
+ * profile. A budget that starts failing after a change usually means a new N+1 or an extra
+ * round trip on the hot path.
+ */
+@SpringBootTest
+@ActiveProfiles("loadtest")
+@DisplayName("Query Budget Integration Tests")
+class QueryBudgetIntegrationTest {
+
+    private static final AtomicLong ACCOUNT_NUMBERS = new AtomicLong(900_000);
+
+    @Autowired
+    private MovementUseCase movementUseCase;
+
+    @Autowired
+    private AccountUseCase accountUseCase;
+
+    @Autowired
+    private TransferUseCase transferUseCase;
+
+    @Autowired
+    private AccountSpringRepository accountRepository;
+
+    private Long accountId;
+
+    @BeforeEach
+    void setUp() {
+        accountId = createAccount();
+    }
+
+    private Long createAccount() {
+        return createAccount("QB-" + ACCOUNT_NUMBERS.incrementAndGet());
+    }
+
+    private Long createAccount(String accountNumber) {
+        AccountEntity account = new AccountEntity();
+        account.setAccountNumber(accountNumber);
+        account.setAccountType("Ahorros");
+        account.setInitialBalance(Money.parse("1000.00"));
+        account.setStatus(true);
+        account.setCustomerId(1L);
+        return accountRepository.save(account).getId();
+    }
+
+    @Test
+    @DisplayName("registering a movement should take at most 5 statements")
+    void registerMovement_StaysWithinBudget() {
+        // Arrange
+        Movement movement = Movement.builder()
+                .accountId(accountId)
+                .amount(Money.parse("-50.00"))
+                .build();
+
+        // Act & Assert: SELECT ... FOR UPDATE (row lock mode; the balance read then hits the persistence
+        // context), update account, insert movement, insert ledger entry (+1 margin)
+        Movement saved = assertMaxStatements(5, movementUseCase.registerMovement(movement));
+        assertEquals(0, Money.parse("950.00").compareTo(saved.getBalance()));
+    }
+
+    @Test
+    @DisplayName("a credit on an account with balance slots should take at most 4 statements")
+    void concurrentCredit_StaysWithinBudget() {
+        // Arrange
+        accountUseCase.configureBalanceSlots(accountId, 4).block();
+        Movement movement = Movement.builder()
+                .accountId(accountId)
+                .amount(Money.parse("50.00"))
+                .build();
+
+        // Act & Assert: select account (slots flag, cache miss), slot update, insert movement, insert ledger entry
+        Movement saved = assertMaxStatements(4, movementUseCase.registerMovement(movement));
+        assertNull(saved.getBalance());
+    }
+
+    @Test
+    @DisplayName("a transfer should take at most 8 statements")
+    void transfer_StaysWithinBudget() {
+        // Arrange
+        Transfer transfer = Transfer.builder()
+                .sourceAccountId(accountId)
+                .targetAccountId(createAccount())
+                .amount(Money.parse("100.00"))
+                .build();
+
+        // Act & Assert: 2 SELECT ... FOR UPDATE, 2 updates, 2 movement inserts, 2 ledger inserts
+        Transfer booked = assertMaxStatements(8, transferUseCase.transfer(transfer));
+        assertEquals(0, Money.parse("900.00").compareTo(booked.getSourceBalance()));
+    }
+
+    @Test
+    @DisplayName("listing an account's movements should take one statement regardless of their number")
+    void findMovementsByAccountId_DoesNotLoadAccountPerMovement() {
+        // Arrange
+        for (int i = 0; i < 10; i++) {
+            movementUseCase.registerMovement(Movement.builder()
+                    .accountId(accountId)
+                    .amount(Money.parse("10.00"))
+                    .build()).block();
+        }
+
+        // Act & Assert: MovementEntity.account es LAZY; leer solo su id no debe disparar un SELECT por fila
+        assertEquals(10, assertMaxStatements(1, movementUseCase.findMovementsByAccountId(accountId)).size());
+    }
+
+    @Test
+    @DisplayName("fetching a movement by id should take one statement")
+    void findMovementById_StaysWithinBudget() {
+        // Arrange
+        Movement saved = movementUseCase.registerMovement(Movement.builder()
+                .accountId(accountId)
+                .amount(Money.parse("10.00"))
+                .build()).block();
+
+        // Act & Assert: proyección por constructor; la cuenta LAZY no se carga
+        Movement found = assertMaxStatements(1, movementUseCase.findMovementById(saved.getId()));
+        assertEquals(accountId, found.getAccountId());
+    }
+
+    @Test
+    @DisplayName("fetching an account by id should take one statement")
+    void findAccountById_StaysWithinBudget() {
+        // Act & Assert
+        assertMaxStatements(1, accountUseCase.findAccountById(accountId));
+    }
+
+    @Test
+    @DisplayName("a repeated lookup by account number should only read the balance from the database")
+    void findAccountByNumber_Repeated_ReadsOnlyTheBalance() {
+        // Arrange
+        String accountNumber = "QB-" + ACCOUNT_NUMBERS.incrementAndGet();
+        createAccount(accountNumber);
+        accountUseCase.findAccountByNumber(accountNumber).block();
+
+        // Act & Assert: natural id y entidad salen de la caché; solo el saldo va a la BD
+        assertEquals(accountNumber, assertMaxStatements(1, accountUseCase.findAccountByNumber(accountNumber)).getAccountNumber());
+    }
+
+    @Test
+    @DisplayName("rejecting a known account number should not touch the database")
+    void createAccount_DuplicateNumber_ServedFromCache() {
+        // Arrange
+        String accountNumber = "QB-" + ACCOUNT_NUMBERS.incrementAndGet();
+        createAccount(accountNumber);
+        accountUseCase.findAccountByNumber(accountNumber).block();
+        Account duplicate = Account.builder()
+                .accountNumber(accountNumber)
+                .accountType("Ahorros")
+                .initialBalance(Money.parse("10.00"))
+                .status(true)
+                .customerId(1L)
+                .build();
+
+        // Act & Assert: la comprobación de unicidad no lee el saldo; id natural y entidad salen de la caché
+        assertTrue(assertMaxStatements(0, accountUseCase.createAccount(duplicate)
+                .map(saved -> false)
+                .onErrorReturn(DuplicateResourceException.class, true)));
+    }
+
+    @Test
+    @DisplayName("a balance change should be visible to the next lookup by account number")
+    void findAccountByNumber_AfterMovement_ReturnsNewBalance() {
+        // Arrange
+        String accountNumber = "QB-" + ACCOUNT_NUMBERS.incrementAndGet();
+        Long id = createAccount(accountNumber);
+        accountUseCase.findAccountByNumber(accountNumber).block();
+
+        // Act
+        movementUseCase.registerMovement(Movement.builder()
+                .accountId(id)
+                .amount(Money.parse("-100.00"))
+                .build()).block();
+
+        // Assert
+        assertEquals(Money.parse("900.00"), accountUseCase.findAccountByNumber(accountNumber).block().getInitialBalance());
+    }
+}
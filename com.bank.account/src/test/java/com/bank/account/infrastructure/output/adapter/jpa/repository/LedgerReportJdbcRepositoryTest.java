@@ -0,0 +1,174 @@
+package com.bank.account.infrastructure.output.adapter.jpa.repository;
+
+import com.bank.account.domain.model.LedgerEntry;
+import com.bank.account.domain.model.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Report queries against an embedded H2 database with the ledger_entries columns the JPA entity maps,
+ * plus the account balance columns that the derived balances read.
+ */
+@DisplayName("LedgerReportJdbcRepository Tests")
+class LedgerReportJdbcRepositoryTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2025, 10, 12, 0, 0);
+
+    private JdbcTemplate jdbcTemplate;
+    private LedgerReportJdbcRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:ledger-" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE ledger_entries (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    timestamp TIMESTAMP NOT NULL,
+                    movement_id BIGINT NOT NULL,
+                    transfer_id VARCHAR(36),
+                    account_id BIGINT NOT NULL,
+                    entry_type VARCHAR(10) NOT NULL,
+                    amount NUMERIC(10, 2) NOT NULL,
+                    balance_before NUMERIC(10, 2),
+                    balance_after NUMERIC(10, 2),
+                    description VARCHAR(500),
+                    initiated_by VARCHAR(100))""");
+        jdbcTemplate.execute("CREATE TABLE accounts (id BIGINT PRIMARY KEY, initial_balance NUMERIC(10, 2) NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE account_balance_slots (account_id BIGINT NOT NULL, slot INT NOT NULL, "
+                + "balance NUMERIC(10, 2) NOT NULL, PRIMARY KEY (account_id, slot))");
+        repository = new LedgerReportJdbcRepository(new NamedParameterJdbcTemplate(dataSource));
+    }
+
+    @Test
+    @DisplayName("should map every column and return the account history in timestamp order")
+    void findByAccountId_MapsRowsInTimestampOrder() {
+        // Arrange: insertadas fuera de orden
+        insert(1L, DAY.plusHours(12), "CREDIT", "50.00", "150.00", "200.00", "tx-2");
+        insert(1L, DAY.plusHours(9), "DEBIT", "-0.05", "150.05", "150.00", null);
+        insert(2L, DAY.plusHours(10), "CREDIT", "10.00", "0.00", "10.00", null);
+
+        // Act
+        List<LedgerEntry> entries = repository.findByAccountIdOrderByTimestampAsc(1L);
+
+        // Assert
+        assertEquals(2, entries.size());
+        LedgerEntry first = entries.get(0);
+        assertEquals(DAY.plusHours(9), first.getTimestamp());
+        assertEquals(LedgerEntry.LedgerEntryType.DEBIT, first.getEntryType());
+        assertEquals(Money.parse("-0.05"), first.getAmount());
+        assertEquals(Money.parse("150.05"), first.getBalanceBefore());
+        assertEquals(Money.parse("150.00"), first.getBalanceAfter());
+        assertEquals(1L, first.getAccountId());
+        assertNull(first.getTransferId());
+        assertEquals("tx-2", entries.get(1).getTransferId());
+        assertEquals("test", entries.get(1).getInitiatedBy());
+    }
+
+    @Test
+    @DisplayName("should only return the entries of the account inside the range, both ends included")
+    void findByAccountIdAndTimestampBetween_FiltersByRange() {
+        // Arrange
+        insert(1L, DAY.minusSeconds(1), "CREDIT", "1.00", "0.00", "1.00", null);
+        insert(1L, DAY, "CREDIT", "2.00", "1.00", "3.00", null);
+        insert(1L, DAY.plusDays(1), "CREDIT", "3.00", "3.00", "6.00", null);
+        insert(1L, DAY.plusDays(1).plusSeconds(1), "CREDIT", "4.00", "6.00", "10.00", null);
+        insert(2L, DAY.plusHours(1), "CREDIT", "5.00", "0.00", "5.00", null);
+
+        // Act
+        List<LedgerEntry> entries = repository.findByAccountIdAndTimestampBetween(1L, DAY, DAY.plusDays(1));
+
+        // Assert
+        assertEquals(List.of(Money.parse("2.00"), Money.parse("3.00")),
+                entries.stream().map(LedgerEntry::getAmount).toList());
+    }
+
+    @Test
+    @DisplayName("should return several accounts grouped by account and ordered by timestamp")
+    void findByAccountIdsAndTimestampBetween_GroupsByAccount() {
+        // Arrange
+        insert(2L, DAY.plusHours(1), "CREDIT", "21.00", "0.00", "21.00", null);
+        insert(1L, DAY.plusHours(3), "CREDIT", "12.00", "11.00", "23.00", null);
+        insert(1L, DAY.plusHours(2), "CREDIT", "11.00", "0.00", "11.00", null);
+        insert(3L, DAY.plusHours(1), "CREDIT", "31.00", "0.00", "31.00", null);
+
+        // Act
+        List<LedgerEntry> entries = repository.findByAccountIdsAndTimestampBetween(List.of(1L, 2L), DAY, DAY.plusDays(1));
+
+        // Assert
+        assertEquals(List.of(Money.parse("11.00"), Money.parse("12.00"), Money.parse("21.00")),
+                entries.stream().map(LedgerEntry::getAmount).toList());
+    }
+
+    @Test
+    @DisplayName("should map an entry without balances, as slot credits are stored, with null balances")
+    void findByAccountId_EntryWithoutBalances_MapsNulls() {
+        // Arrange
+        insert(1L, DAY, "CREDIT", "10.00", null, null, null);
+
+        // Act
+        LedgerEntry entry = repository.findByAccountIdOrderByTimestampAsc(1L).getFirst();
+
+        // Assert
+        assertEquals(Money.parse("10.00"), entry.getAmount());
+        assertNull(entry.getBalanceBefore());
+        assertNull(entry.getBalanceAfter());
+    }
+
+    @Test
+    @DisplayName("should derive the balance before an entry from the row, the slots and the entries from it on")
+    void findBalanceBefore_SubtractsLaterEntriesFromCurrentBalance() {
+        // Arrange: saldo actual 170 = fila 100 + slots 70; antes de los tres asientos del día había 100
+        jdbcTemplate.update("INSERT INTO accounts VALUES (1, 100.00)");
+        jdbcTemplate.update("INSERT INTO account_balance_slots VALUES (1, 0, 30.00), (1, 1, 40.00)");
+        insert(1L, DAY.minusDays(1), "CREDIT", "100.00", "0.00", "100.00", null);
+        insert(1L, DAY, "CREDIT", "30.00", null, null, null);
+        insert(1L, DAY, "CREDIT", "60.00", null, null, null);
+        insert(1L, DAY.plusHours(1), "DEBIT", "20.00", "190.00", "170.00", null);
+        insert(2L, DAY, "CREDIT", "999.00", null, null, null);
+        List<LedgerEntry> entries = repository.findByAccountIdOrderByTimestampAsc(1L);
+
+        // Act & Assert: mismo instante, el id decide el orden
+        assertEquals(Money.parse("100.00"), repository.findBalanceBefore(entries.get(1)));
+        assertEquals(Money.parse("130.00"), repository.findBalanceBefore(entries.get(2)));
+        assertEquals(Money.parse("190.00"), repository.findBalanceBefore(entries.get(3)));
+    }
+
+    @Test
+    @DisplayName("should not query the database for an empty account list")
+    void findByAccountIdsAndTimestampBetween_EmptyIds_ReturnsEmpty() {
+        // Arrange: sin tabla, una consulta fallaría
+        jdbcTemplate.execute("DROP TABLE ledger_entries");
+
+        // Act & Assert
+        assertTrue(repository.findByAccountIdsAndTimestampBetween(List.of(), DAY, DAY.plusDays(1)).isEmpty());
+    }
+
+    private void insert(Long accountId, LocalDateTime timestamp, String entryType, String amount,
+                        String balanceBefore, String balanceAfter, String transferId) {
+        jdbcTemplate.update("INSERT INTO ledger_entries (timestamp, movement_id, transfer_id, account_id, entry_type, "
+                        + "amount, balance_before, balance_after, description, initiated_by) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                timestamp, 1L, transferId, accountId, entryType, Money.parse(amount).toBigDecimal(),
+                decimalOrNull(balanceBefore), decimalOrNull(balanceAfter), "entry", "test");
+    }
+
+    private static BigDecimal decimalOrNull(String amount) {
+        return amount == null ? null : Money.parse(amount).toBigDecimal();
+    }
+}
@@ -0,0 +1,61 @@
+package com.bank.account.infrastructure.output.adapter.jpa.shard;
+
+import com.bank.account.application.output.port.AccountLockPort;
+import com.bank.account.domain.exception.CrossShardTransferException;
+import com.bank.account.infrastructure.output.adapter.jpa.support.ShardMap;
+import com.bank.account.infrastructure.output.adapter.jpa.support.ShardRouting;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Sharded Account Lock Adapter Unit Tests")
+class ShardedAccountLockAdapterTest {
+
+    private final ShardMap shardMap = new ShardMap(2);
+
+    @Mock
+    private AccountLockPort delegate;
+
+    @Test
+    @DisplayName("should lock accounts of one shard on that shard")
+    void lockAccounts_SameShard_LocksOnIt() {
+        // Arrange: 65 y 129 -> shard 1
+        AtomicReference<Integer> lockedOn = new AtomicReference<>();
+        when(delegate.lockAccounts(List.of(65L, 129L)))
+                .thenReturn(Mono.fromRunnable(() -> lockedOn.set(ShardRouting.currentShard())));
+        ShardedAccountLockAdapter adapter = new ShardedAccountLockAdapter(delegate, shardMap);
+
+        // Act
+        adapter.lockAccounts(List.of(65L, 129L)).block();
+
+        // Assert
+        assertEquals(1, lockedOn.get());
+    }
+
+    @Test
+    @DisplayName("should reject locking accounts of different shards")
+    void lockAccounts_DifferentShards_Rejected() {
+        // Arrange: 64 -> shard 0, 65 -> shard 1
+        ShardedAccountLockAdapter adapter = new ShardedAccountLockAdapter(delegate, shardMap);
+
+        // Act & Assert
+        StepVerifier.create(adapter.lockAccounts(List.of(64L, 65L)))
+                .expectError(CrossShardTransferException.class)
+                .verify();
+        verify(delegate, never()).lockAccounts(any());
+    }
+}
@@ -0,0 +1,112 @@
+package com.bank.account.infrastructure.output.adapter.jpa.shard;
+
+import com.bank.account.application.output.port.AccountRepositoryPort;
+import com.bank.account.domain.model.Account;
+import com.bank.account.infrastructure.output.adapter.jpa.support.DbBulkhead;
+import com.bank.account.infrastructure.output.adapter.jpa.support.ShardMap;
+import com.bank.account.infrastructure.output.adapter.jpa.support.ShardRouting;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Sharded Account Repository Adapter Unit Tests")
+class ShardedAccountRepositoryAdapterTest {
+
+    private final ShardMap shardMap = new ShardMap(3);
+    private final DbBulkhead bulkhead = new DbBulkhead("test", 3, 10, Duration.ofSeconds(5),
+            Schedulers.boundedElastic(), new SimpleMeterRegistry());
+
+    @Mock
+    private AccountRepositoryPort delegate;
+
+    @Test
+    @DisplayName("should run a lookup by id on the shard encoded in the id, also on the bulkhead's worker thread")
+    void findAccountById_RunsOnShardOfId() {
+        // Arrange: 2 * 64 + 2 -> shard 2
+        Long id = 2L * ShardMap.MAX_SHARDS + 2;
+        when(delegate.findAccountById(id)).thenReturn(accountOnCurrentShard(id));
+        ShardedAccountRepositoryAdapter adapter = new ShardedAccountRepositoryAdapter(delegate, shardMap);
+
+        // Act & Assert
+        StepVerifier.create(adapter.findAccountById(id))
+                .assertNext(account -> assertEquals("shard-2", account.getAccountNumber()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("should complete empty for an id that no shard can have generated")
+    void findAccountById_IdOfNoShard_ReturnsEmpty() {
+        // Arrange: shard 5 with only 3 shards
+        ShardedAccountRepositoryAdapter adapter = new ShardedAccountRepositoryAdapter(delegate, shardMap);
+
+        // Act & Assert
+        StepVerifier.create(adapter.findAccountById(5L))
+                .verifyComplete();
+        verify(delegate, never()).findAccountById(5L);
+    }
+
+    @Test
+    @DisplayName("should gather a customer's accounts from every shard")
+    void findByCustomerId_ScattersToEveryShard() {
+        // Arrange
+        when(delegate.findByCustomerId(7L)).thenAnswer(invocation -> accountOnCurrentShard(0L).flux());
+        ShardedAccountRepositoryAdapter adapter = new ShardedAccountRepositoryAdapter(delegate, shardMap);
+
+        // Act
+        List<String> shards = adapter.findByCustomerId(7L)
+                .map(Account::getAccountNumber)
+                .sort()
+                .collectList()
+                .block();
+
+        // Assert
+        assertEquals(List.of("shard-0", "shard-1", "shard-2"), shards);
+    }
+
+    @Test
+    @DisplayName("should insert a bulk import as one batch per shard")
+    void saveAllAccounts_SplitsByShard() {
+        // Arrange
+        List<Account> accounts = List.of(
+                Account.builder().accountNumber("100001").build(),
+                Account.builder().accountNumber("100002").build(),
+                Account.builder().accountNumber("100003").build());
+        when(delegate.saveAllAccounts(anyList())).thenAnswer(invocation -> {
+            List<Account> batch = invocation.getArgument(0);
+            return Flux.fromIterable(batch)
+                    .filter(account -> shardMap.shardForAccountNumber(account.getAccountNumber()) == ShardRouting.currentShard())
+                    .transform(bulkhead::flux);
+        });
+        ShardedAccountRepositoryAdapter adapter = new ShardedAccountRepositoryAdapter(delegate, shardMap);
+
+        // Act & Assert: cada lote llega a su shard, así que no se filtra ninguna cuenta
+        StepVerifier.create(adapter.saveAllAccounts(accounts))
+                .expectNextCount(3)
+                .verifyComplete();
+    }
+
+    private Mono<Account> accountOnCurrentShard(Long id) {
+        return Mono.fromCallable(() -> Account.builder()
+                        .id(id)
+                        .accountNumber("shard-" + ShardRouting.currentShard())
+                        .build())
+                .transform(bulkhead::mono);
+    }
+}
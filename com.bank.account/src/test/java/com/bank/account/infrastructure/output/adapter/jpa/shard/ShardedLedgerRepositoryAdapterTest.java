@@ -0,0 +1,113 @@
+package com.bank.account.infrastructure.output.adapter.jpa.shard;
+
+import com.bank.account.application.output.port.LedgerRepositoryPort;
+import com.bank.account.domain.model.LedgerEntry;
+import com.bank.account.infrastructure.output.adapter.jpa.support.DbBulkhead;
+import com.bank.account.infrastructure.output.adapter.jpa.support.ShardMap;
+import com.bank.account.infrastructure.output.adapter.jpa.support.ShardRouting;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Sharded Ledger Repository Adapter Unit Tests")
+class ShardedLedgerRepositoryAdapterTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2024, 2, 1, 0, 0);
+
+    private final ShardMap shardMap = new ShardMap(3);
+    private final DbBulkhead bulkhead = new DbBulkhead("test", 3, 10, Duration.ofSeconds(5),
+            Schedulers.boundedElastic(), new SimpleMeterRegistry());
+
+    @Mock
+    private LedgerRepositoryPort delegate;
+
+    @Test
+    @DisplayName("should save an entry on the shard of its account")
+    void saveLedgerEntry_RunsOnShardOfAccount() {
+        // Arrange: cuenta 2 * 64 + 2 -> shard 2
+        LedgerEntry entry = LedgerEntry.builder().accountId(2L * ShardMap.MAX_SHARDS + 2).build();
+        when(delegate.saveLedgerEntry(entry)).thenReturn(entryOnCurrentShard());
+        ShardedLedgerRepositoryAdapter adapter = new ShardedLedgerRepositoryAdapter(delegate, shardMap);
+
+        // Act & Assert
+        StepVerifier.create(adapter.saveLedgerEntry(entry))
+                .assertNext(saved -> assertEquals("shard-2", saved.getDescription()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("should read the entries of a movement on the movement's shard")
+    void findByMovementId_RunsOnShardOfMovement() {
+        // Arrange: movimiento 64 + 1 -> shard 1
+        Long movementId = ShardMap.MAX_SHARDS + 1L;
+        when(delegate.findByMovementId(movementId)).thenReturn(entryOnCurrentShard().flux());
+        ShardedLedgerRepositoryAdapter adapter = new ShardedLedgerRepositoryAdapter(delegate, shardMap);
+
+        // Act & Assert
+        StepVerifier.create(adapter.findByMovementId(movementId))
+                .assertNext(entry -> assertEquals("shard-1", entry.getDescription()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("should answer for accounts of no shard without touching any shard")
+    void lookups_AccountOfNoShard_AnswerEmpty() {
+        // Arrange: shard 5 con solo 3 shards
+        ShardedLedgerRepositoryAdapter adapter = new ShardedLedgerRepositoryAdapter(delegate, shardMap);
+
+        // Act & Assert
+        StepVerifier.create(adapter.findByAccountId(5L)).verifyComplete();
+        StepVerifier.create(adapter.countByAccountId(5L)).expectNext(0L).verifyComplete();
+        verify(delegate, never()).findByAccountId(any());
+        verify(delegate, never()).countByAccountId(any());
+    }
+
+    @Test
+    @DisplayName("should read a statement over several accounts from each shard with only its accounts")
+    void findByAccountIdsAndDateRange_SplitsIdsByShard() {
+        // Arrange: 64 -> shard 0, 2 y 130 -> shard 2, 7 -> ningún shard
+        Map<Integer, List<Long>> idsByShard = new ConcurrentHashMap<>();
+        when(delegate.findByAccountIdsAndDateRange(anyList(), any(), any())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return Mono.fromCallable(() -> idsByShard.put(ShardRouting.currentShard(), ids))
+                    .transform(bulkhead::mono)
+                    .thenMany(Flux.fromIterable(ids).map(id -> LedgerEntry.builder().accountId(id).build()));
+        });
+        ShardedLedgerRepositoryAdapter adapter = new ShardedLedgerRepositoryAdapter(delegate, shardMap);
+
+        // Act & Assert
+        StepVerifier.create(adapter.findByAccountIdsAndDateRange(List.of(64L, 2L, 7L, 130L), START, END))
+                .expectNextCount(3)
+                .verifyComplete();
+        assertEquals(Map.of(0, List.of(64L), 2, List.of(2L, 130L)), idsByShard);
+    }
+
+    private Mono<LedgerEntry> entryOnCurrentShard() {
+        return Mono.fromCallable(() -> LedgerEntry.builder()
+                        .description("shard-" + ShardRouting.currentShard())
+                        .build())
+                .transform(bulkhead::mono);
+    }
+}
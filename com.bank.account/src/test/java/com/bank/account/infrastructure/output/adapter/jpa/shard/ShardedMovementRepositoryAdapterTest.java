@@ -0,0 +1,134 @@
+package com.bank.account.infrastructure.output.adapter.jpa.shard;
+
+import com.bank.account.application.output.port.MovementRepositoryPort;
+import com.bank.account.domain.model.Movement;
+import com.bank.account.infrastructure.output.adapter.jpa.support.DbBulkhead;
+import com.bank.account.infrastructure.output.adapter.jpa.support.ShardMap;
+import com.bank.account.infrastructure.output.adapter.jpa.support.ShardRouting;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Sharded Movement Repository Adapter Unit Tests")
+class ShardedMovementRepositoryAdapterTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2024, 2, 1, 0, 0);
+
+    private final ShardMap shardMap = new ShardMap(3);
+    private final DbBulkhead bulkhead = new DbBulkhead("test", 3, 10, Duration.ofSeconds(5),
+            Schedulers.boundedElastic(), new SimpleMeterRegistry());
+
+    @Mock
+    private MovementRepositoryPort delegate;
+
+    @Test
+    @DisplayName("should save a movement on the shard of its account")
+    void saveMovement_RunsOnShardOfAccount() {
+        // Arrange: cuenta 64 + 1 -> shard 1
+        Movement movement = Movement.builder().accountId(ShardMap.MAX_SHARDS + 1L).build();
+        when(delegate.saveMovement(movement)).thenReturn(movementOnCurrentShard(10L));
+        ShardedMovementRepositoryAdapter adapter = new ShardedMovementRepositoryAdapter(delegate, shardMap);
+
+        // Act & Assert
+        StepVerifier.create(adapter.saveMovement(movement))
+                .assertNext(saved -> assertEquals("shard-1", saved.getMovementType()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("should run a lookup by id on the shard encoded in the id")
+    void findById_RunsOnShardOfId() {
+        // Arrange: 2 * 64 + 2 -> shard 2
+        Long id = 2L * ShardMap.MAX_SHARDS + 2;
+        when(delegate.findById(id)).thenReturn(movementOnCurrentShard(id));
+        ShardedMovementRepositoryAdapter adapter = new ShardedMovementRepositoryAdapter(delegate, shardMap);
+
+        // Act & Assert
+        StepVerifier.create(adapter.findById(id))
+                .assertNext(movement -> assertEquals("shard-2", movement.getMovementType()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("should complete empty for ids that no shard can have generated")
+    void lookups_IdOfNoShard_ReturnEmpty() {
+        // Arrange: shard 5 con solo 3 shards
+        ShardedMovementRepositoryAdapter adapter = new ShardedMovementRepositoryAdapter(delegate, shardMap);
+
+        // Act & Assert
+        StepVerifier.create(adapter.findById(5L)).verifyComplete();
+        StepVerifier.create(adapter.findByAccountId(5L)).verifyComplete();
+        StepVerifier.create(adapter.deleteById(5L)).verifyComplete();
+        verify(delegate, never()).findById(any());
+        verify(delegate, never()).findByAccountId(any());
+        verify(delegate, never()).deleteById(any());
+    }
+
+    @Test
+    @DisplayName("should query each shard only with the accounts it holds, dropping ids of no shard")
+    void findMovementsByAccountIdsAndDateRange_SplitsIdsByShard() {
+        // Arrange: 1 y 65 -> shard 1, 2 -> shard 2, 5 -> ningún shard
+        Map<Integer, List<Long>> idsByShard = new ConcurrentHashMap<>();
+        when(delegate.findMovementsByAccountIdsAndDateRange(anyList(), any(), any())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return Mono.fromCallable(() -> idsByShard.put(ShardRouting.currentShard(), ids))
+                    .transform(bulkhead::mono)
+                    .thenMany(Flux.fromIterable(ids).map(id -> Movement.builder().accountId(id).build()));
+        });
+        ShardedMovementRepositoryAdapter adapter = new ShardedMovementRepositoryAdapter(delegate, shardMap);
+
+        // Act & Assert
+        StepVerifier.create(adapter.findMovementsByAccountIdsAndDateRange(List.of(1L, 2L, 65L, 5L), START, END))
+                .expectNextCount(3)
+                .verifyComplete();
+        assertEquals(Map.of(1, List.of(1L, 65L), 2, List.of(2L)), idsByShard);
+    }
+
+    @Test
+    @DisplayName("should gather all movements from every shard")
+    void findAll_ScattersToEveryShard() {
+        // Arrange
+        when(delegate.findAll()).thenAnswer(invocation -> movementOnCurrentShard(1L).flux());
+        ShardedMovementRepositoryAdapter adapter = new ShardedMovementRepositoryAdapter(delegate, shardMap);
+
+        // Act
+        List<String> shards = adapter.findAll()
+                .map(Movement::getMovementType)
+                .sort()
+                .collectList()
+                .block();
+
+        // Assert
+        assertEquals(List.of("shard-0", "shard-1", "shard-2"), shards);
+    }
+
+    private Mono<Movement> movementOnCurrentShard(Long id) {
+        return Mono.fromCallable(() -> Movement.builder()
+                        .id(id)
+                        .movementType("shard-" + ShardRouting.currentShard())
+                        .build())
+                .transform(bulkhead::mono);
+    }
+}
@@ -0,0 +1,99 @@
+package com.bank.account.infrastructure.output.adapter.jpa.support;
+
+import com.bank.account.domain.exception.DatabaseSaturatedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DisplayName("DB Bulkhead Unit Tests")
+class DbBulkheadTest {
+
+    private DbBulkhead bulkhead(int permits, int maxQueue, Duration maxQueueWait) {
+        return new DbBulkhead("test", permits, maxQueue, maxQueueWait, Schedulers.immediate(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("should queue a call until a permit is released")
+    void queuedCall_RunsWhenPermitReleased() {
+        // Arrange
+        DbBulkhead bulkhead = bulkhead(1, 10, Duration.ofSeconds(5));
+        Sinks.One<String> firstCall = Sinks.one();
+        AtomicReference<String> secondResult = new AtomicReference<>();
+        bulkhead.mono(firstCall.asMono()).subscribe();
+
+        // Act
+        bulkhead.mono(Mono.just("second")).subscribe(secondResult::set);
+        assertEquals(0, bulkhead.availablePermits());
+        assertEquals(1, bulkhead.queuedRequests());
+        assertNull(secondResult.get());
+
+        firstCall.tryEmitValue("first");
+
+        // Assert
+        assertEquals("second", secondResult.get());
+        assertEquals(1, bulkhead.availablePermits());
+        assertEquals(0, bulkhead.queuedRequests());
+    }
+
+    @Test
+    @DisplayName("should fail fast when the queue is full")
+    void fullQueue_RejectsImmediately() {
+        // Arrange
+        DbBulkhead bulkhead = bulkhead(1, 0, Duration.ofSeconds(5));
+        Sinks.One<String> firstCall = Sinks.one();
+        bulkhead.mono(firstCall.asMono()).subscribe();
+
+        // Act & Assert
+        StepVerifier.create(bulkhead.mono(Mono.just("second")))
+                .expectError(DatabaseSaturatedException.class)
+                .verify(Duration.ofSeconds(1));
+
+        firstCall.tryEmitValue("first");
+        assertEquals(1, bulkhead.availablePermits());
+    }
+
+    @Test
+    @DisplayName("should reject a queued call after the maximum queue wait")
+    void queuedCall_TimesOut() {
+        // Arrange
+        DbBulkhead bulkhead = bulkhead(1, 10, Duration.ofMillis(50));
+        Sinks.One<String> firstCall = Sinks.one();
+        bulkhead.mono(firstCall.asMono()).subscribe();
+
+        // Act & Assert
+        StepVerifier.create(bulkhead.mono(Mono.just("second")))
+                .expectError(DatabaseSaturatedException.class)
+                .verify(Duration.ofSeconds(1));
+
+        assertEquals(0, bulkhead.queuedRequests());
+        firstCall.tryEmitValue("first");
+        assertEquals(1, bulkhead.availablePermits());
+    }
+
+    @Test
+    @DisplayName("should return the permit when a queued call is cancelled")
+    void cancelledCall_LeavesQueue() {
+        // Arrange
+        DbBulkhead bulkhead = bulkhead(1, 10, Duration.ofSeconds(5));
+        Sinks.One<String> firstCall = Sinks.one();
+        bulkhead.mono(firstCall.asMono()).subscribe();
+
+        // Act
+        bulkhead.mono(Mono.just("second")).subscribe().dispose();
+
+        // Assert
+        assertEquals(0, bulkhead.queuedRequests());
+        firstCall.tryEmitValue("first");
+        assertEquals(1, bulkhead.availablePermits());
+    }
+}
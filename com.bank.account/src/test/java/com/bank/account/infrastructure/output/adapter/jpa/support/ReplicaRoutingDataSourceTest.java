@@ -0,0 +1,112 @@
+package com.bank.account.infrastructure.output.adapter.jpa.support;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Routing between two embedded H2 databases standing in for the primary and the replica; each
+ * holds a different marker row, so a read tells which one served it.
+ */
+@DisplayName("Replica Routing Data Source Tests")
+class ReplicaRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DataSource primary = database("primary");
+    private final DataSource replica = database("replica");
+
+    private ReplicaLagMonitor lagMonitor;
+
+    @AfterEach
+    void tearDown() {
+        lagMonitor.close();
+    }
+
+    @Test
+    @DisplayName("should serve read-only transactions from the replica and the rest from the primary")
+    void readOnlyTransaction_GoesToReplica() {
+        // Arrange
+        DataSource dataSource = routing("SELECT 0");
+
+        // Act & Assert
+        assertEquals("replica", readMarker(dataSource, true));
+        assertEquals("primary", readMarker(dataSource, false));
+        assertEquals(1.0, meterRegistry.get("bank.db.read.routing").tag("target", "replica").counter().count());
+    }
+
+    @Test
+    @DisplayName("should serve reads that must see their own writes from the primary")
+    void primaryRequired_GoesToPrimary() {
+        // Arrange
+        DataSource dataSource = routing("SELECT 0");
+        AtomicReference<String> marker = new AtomicReference<>();
+
+        // Act
+        ReplicaRouting.runOnPrimary(() -> marker.set(readMarker(dataSource, true)));
+
+        // Assert
+        assertEquals("primary", marker.get());
+        assertEquals("replica", readMarker(dataSource, true));
+    }
+
+    @Test
+    @DisplayName("should serve reads from the primary while the replica lags behind")
+    void replicaLagging_GoesToPrimary() {
+        // Arrange: 30 s de lag con un máximo de 10 s
+        DataSource dataSource = routing("SELECT 30");
+
+        // Act & Assert
+        assertEquals("primary", readMarker(dataSource, true));
+        assertEquals(30.0, meterRegistry.get("bank.db.replica.lag").gauge().value());
+    }
+
+    @Test
+    @DisplayName("should serve reads from the primary when the replica reports it is not replicating")
+    void replicaNotReplicating_GoesToPrimary() {
+        // Arrange: la consulta de lag devuelve NULL con el streaming parado
+        DataSource dataSource = routing("SELECT CAST(NULL AS DOUBLE PRECISION)");
+
+        // Act & Assert
+        assertEquals("primary", readMarker(dataSource, true));
+        assertTrue(Double.isNaN(meterRegistry.get("bank.db.replica.lag").gauge().value()));
+    }
+
+    private DataSource routing(String lagQuery) {
+        lagMonitor = new ReplicaLagMonitor(new JdbcTemplate(replica), lagQuery, Duration.ofSeconds(10),
+                Duration.ofHours(1), meterRegistry);
+        lagMonitor.probe();
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource("oltp", primary, replica, lagMonitor, meterRegistry));
+        return dataSource;
+    }
+
+    private static String readMarker(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> new JdbcTemplate(dataSource)
+                .queryForObject("SELECT name FROM marker", String.class));
+    }
+
+    private static DataSource database(String marker) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + marker + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE marker (name VARCHAR(16))");
+        jdbcTemplate.update("INSERT INTO marker VALUES (?)", marker);
+        return dataSource;
+    }
+}
@@ -0,0 +1,159 @@
+package com.bank.account.infrastructure.output.adapter.jpa.support;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Routing between two embedded H2 databases standing in for two shards; each holds a different
+ * marker row, so a read tells which one served it.
+ */
+@DisplayName("Shard Routing Data Source Tests")
+class ShardRoutingDataSourceTest {
+
+    private final DataSource shard0 = database("shard-0");
+    private final DataSource shard1 = database("shard-1");
+    private final ShardRoutingDataSource routing =
+            new ShardRoutingDataSource("oltp", Map.of(0, shard0, 1, shard1), new SimpleMeterRegistry());
+    private final DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+    @Test
+    @DisplayName("should read from the bound shard, and from shard 0 when none is bound during startup")
+    void read_GoesToBoundShard() {
+        // Arrange
+        AtomicReference<String> marker = new AtomicReference<>();
+
+        // Act
+        ShardRouting.runOnShard(1, () -> marker.set(readMarker()));
+
+        // Assert
+        assertEquals("shard-1", marker.get());
+        assertEquals("shard-0", readMarker());
+    }
+
+    @Test
+    @DisplayName("should fail a read with no shard bound once shards are required")
+    void readWithoutShard_AfterStartup_Fails() {
+        // Arrange
+        routing.requireShard();
+
+        // Act & Assert
+        // JdbcTemplate puede envolverla en CannotGetJdbcConnectionException
+        RuntimeException error = assertThrows(RuntimeException.class, this::readMarker);
+        assertTrue(NestedExceptionUtils.getMostSpecificCause(error) instanceof IllegalStateException, error.toString());
+        ShardRouting.runOnShard(0, () -> assertEquals("shard-0", readMarker()));
+    }
+
+    @Test
+    @DisplayName("should take a transaction's connection from the shard of its first statement")
+    void transaction_UsesShardOfFirstStatement() {
+        // Arrange
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        AtomicReference<String> marker = new AtomicReference<>();
+
+        // Act
+        transaction.executeWithoutResult(status -> ShardRouting.runOnShard(1, () -> marker.set(readMarker())));
+
+        // Assert
+        assertEquals("shard-1", marker.get());
+    }
+
+    @Test
+    @DisplayName("should reject touching a second shard inside a transaction")
+    void transaction_SecondShard_Rejected() {
+        // Arrange
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> transaction.executeWithoutResult(status -> {
+            ShardRouting.runOnShard(1, this::readMarker);
+            ShardRouting.runOnShard(0, this::readMarker);
+        }));
+    }
+
+    @Test
+    @DisplayName("should make each shard generate ids that name it")
+    void identityInitializer_IdsCarryTheirShard() {
+        // Arrange
+        for (DataSource shard : new DataSource[]{shard0, shard1}) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(shard);
+            for (String table : new String[]{"accounts", "movements", "ledger_entries"}) {
+                jdbcTemplate.execute("CREATE TABLE " + table + " (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, name VARCHAR(16))");
+            }
+        }
+        // Fila previa de shard 1: el siguiente id salta por encima de ella
+        new JdbcTemplate(shard1).update("INSERT INTO accounts (name) VALUES ('before')");
+        ShardIdentityInitializer initializer = new ShardIdentityInitializer(Map.of(0, shard0, 1, shard1));
+
+        // Act: dos veces, como dos arranques
+        initializer.initialize();
+        initializer.initialize();
+
+        // Assert
+        ShardMap shardMap = new ShardMap(2);
+        assertEquals(0, shardMap.shardOf(insertAccount(shard0)));
+        assertEquals(1, shardMap.shardOf(insertAccount(shard1)));
+    }
+
+    @Test
+    @DisplayName("should refuse to switch a shard that holds ids created before sharding")
+    void identityInitializer_LegacyIds_Rejected() {
+        // Arrange: ids 1 y 2 en el shard 0, que ShardMap buscaría en los shards 1 y 2
+        for (DataSource shard : new DataSource[]{shard0, shard1}) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(shard);
+            for (String table : new String[]{"accounts", "movements", "ledger_entries"}) {
+                jdbcTemplate.execute("CREATE TABLE " + table + " (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, name VARCHAR(16))");
+            }
+        }
+        new JdbcTemplate(shard0).update("INSERT INTO accounts (name) VALUES ('legacy'), ('legacy')");
+        ShardIdentityInitializer initializer = new ShardIdentityInitializer(Map.of(0, shard0, 1, shard1));
+
+        // Act & Assert
+        IllegalStateException error = assertThrows(IllegalStateException.class, initializer::initialize);
+        assertTrue(error.getMessage().contains("2 rows of accounts"), error.getMessage());
+    }
+
+    @Test
+    @DisplayName("should pick the first id of the shard above the existing ones")
+    void nextIdOfShard_SkipsToShardResidue() {
+        // Act & Assert
+        assertEquals(64L, ShardIdentityInitializer.nextIdOfShard(0, 0));
+        assertEquals(1L, ShardIdentityInitializer.nextIdOfShard(0, 1));
+        assertEquals(65L, ShardIdentityInitializer.nextIdOfShard(1, 1));
+        assertEquals(130L, ShardIdentityInitializer.nextIdOfShard(100, 2));
+    }
+
+    private String readMarker() {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private static Long insertAccount(DataSource shard) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(shard);
+        jdbcTemplate.update("INSERT INTO accounts (name) VALUES ('after')");
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM accounts", Long.class);
+    }
+
+    private static DataSource database(String marker) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + marker + "-" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE marker (name VARCHAR(16))");
+        jdbcTemplate.update("INSERT INTO marker VALUES (?)", marker);
+        return dataSource;
+    }
+}
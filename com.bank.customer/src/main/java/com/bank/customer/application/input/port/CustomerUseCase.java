@@ -4,6 +4,8 @@ import com.bank.customer.domain.model.Customer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 public interface CustomerUseCase {
     /**
      * Creates a new customer.
@@ -27,6 +29,13 @@ public interface CustomerUseCase {
      */
     Mono<Customer> findCustomerById(Long id);
 
+    /**
+     * Finds several customers by their IDs in a single lookup.
+     * @param ids The IDs of the customers to find.
+     * @return A Flux that emits the customers that exist; unknown IDs are skipped.
+     */
+    Flux<Customer> findCustomersByIds(Collection<Long> ids);
+
     /**
      * Deletes a customer by their ID.
      * @param id The ID of the customer to delete.
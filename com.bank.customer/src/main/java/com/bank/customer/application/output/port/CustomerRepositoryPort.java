@@ -4,6 +4,8 @@ import com.bank.customer.domain.model.Customer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 public interface CustomerRepositoryPort {
     /**
      * Saves (creates or updates) a customer in the database.
@@ -19,6 +21,13 @@ public interface CustomerRepositoryPort {
      */
     Mono<Customer> findCustomerById(Long customerId);
 
+    /**
+     * Finds all customers whose ID is in the given collection, using a single query.
+     * @param customerIds The IDs of the customers to find.
+     * @return A Flux that emits the customers found.
+     */
+    Flux<Customer> findCustomersByIds(Collection<Long> customerIds);
+
     /**
      * Deletes a customer by their ID.
      * @param id The ID of the customer to delete.
@@ -12,6 +12,7 @@ import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 
 @Service
 @Slf4j
@@ -94,6 +95,12 @@ public class CustomerUseCaseImpl implements CustomerUseCase {
         return customerRepositoryPort.findCustomerById(id);
     }
 
+    @Override
+    public Flux<Customer> findCustomersByIds(Collection<Long> ids) {
+        log.info("Finding {} customers by ID in a single batch", ids.size());
+        return customerRepositoryPort.findCustomersByIds(ids);
+    }
+
     @Override
     public Mono<Void> deleteCustomer(Long id) {
 
@@ -0,0 +1,41 @@
+package com.bank.customer.infrastructure.config;
+
+import com.bank.customer.infrastructure.metrics.BlockingCallReporter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.blockhound.BlockHound;
+
+/**
+ * Opt-in runtime detection of blocking calls on Reactor non-blocking threads (Netty event loops,
+ * {@code parallel}). Meant for debugging and load tests, not for normal production runs: BlockHound
+ * instruments the JVM and needs {@code -XX:+AllowRedefinitionToAddDeleteMethods}.
+ *
+ * BlockHound is only on the runtime classpath when built with {@code -Pblockhound}; without it the
+ * property has no effect.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.blockhound.enabled", havingValue = "true")
+@ConditionalOnClass(name = "reactor.blockhound.BlockHound")
+public class BlockHoundConfig {
+
+    @Bean
+    public BlockingCallReporter blockingCallReporter(MeterRegistry meterRegistry) {
+        BlockingCallReporter reporter = new BlockingCallReporter(meterRegistry);
+        try {
+            // Las integraciones (Reactor, etc.) marcan qué hilos son no bloqueantes y qué llamadas se permiten
+            BlockHound.builder()
+                    .loadIntegrations()
+                    .blockingMethodCallback(reporter)
+                    .install();
+            log.warn("BlockHound installed: blocking calls on non-blocking threads will be logged and counted");
+        } catch (RuntimeException e) {
+            log.error("BlockHound could not be installed; start the JVM with -XX:+AllowRedefinitionToAddDeleteMethods", e);
+        }
+        return reporter;
+    }
+}
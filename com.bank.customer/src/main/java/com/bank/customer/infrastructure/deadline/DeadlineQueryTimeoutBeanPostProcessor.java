@@ -0,0 +1,30 @@
+package com.bank.customer.infrastructure.deadline;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+
+/**
+ * Wraps the auto-configured {@code dataSource} bean in a {@link DeadlineQueryTimeoutDataSource}, so
+ * JPA and the transaction manager share the wrapper.
+ */
+public class DeadlineQueryTimeoutBeanPostProcessor implements BeanPostProcessor {
+
+    static final String DATA_SOURCE_BEAN = "dataSource";
+
+    private final Clock clock;
+
+    public DeadlineQueryTimeoutBeanPostProcessor(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (DATA_SOURCE_BEAN.equals(beanName) && bean instanceof DataSource dataSource
+                && !(bean instanceof DeadlineQueryTimeoutDataSource)) {
+            return new DeadlineQueryTimeoutDataSource(dataSource, clock);
+        }
+        return bean;
+    }
+}
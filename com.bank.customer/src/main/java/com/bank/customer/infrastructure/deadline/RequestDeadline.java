@@ -0,0 +1,106 @@
+package com.bank.customer.infrastructure.deadline;
+
+import com.bank.customer.domain.exception.DeadlineExceededException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Absolute deadline of the inbound request ({@code X-Request-Deadline}, epoch milliseconds, UTC),
+ * carried in the Reactor context so repository adapters can skip queries for requests the caller
+ * has already given up on. While a query runs, the deadline is bound to its worker thread and
+ * {@link DeadlineQueryTimeoutDataSource} turns what is left of it into the statement's query timeout.
+ */
+public record RequestDeadline(long epochMillis) {
+
+    public static final String HEADER = "X-Request-Deadline";
+
+    private static final Object CONTEXT_KEY = RequestDeadline.class;
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Parses the header value. Returns empty for a missing or malformed header, so a bad value
+     * falls back to the local default budget instead of failing the request.
+     */
+    public static Optional<RequestDeadline> parse(String headerValue) {
+        if (headerValue == null || headerValue.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new RequestDeadline(Long.parseLong(headerValue.trim())));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    public static RequestDeadline after(Duration budget, Clock clock) {
+        return new RequestDeadline(clock.millis() + budget.toMillis());
+    }
+
+    public static Optional<RequestDeadline> from(ContextView context) {
+        return context.getOrEmpty(CONTEXT_KEY);
+    }
+
+    public Context writeTo(Context context) {
+        return context.put(CONTEXT_KEY, this);
+    }
+
+    /** Deadline bound to the current thread by {@link #beforeQuery(Mono, Clock)}, if any. */
+    public static Optional<RequestDeadline> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    public Duration remaining(Clock clock) {
+        return Duration.ofMillis(epochMillis - clock.millis());
+    }
+
+    public boolean isExpired(Clock clock) {
+        return epochMillis <= clock.millis();
+    }
+
+    public RequestDeadline earliest(RequestDeadline other) {
+        return other.epochMillis < epochMillis ? other : this;
+    }
+
+    /**
+     * Fails with {@link DeadlineExceededException} instead of subscribing to {@code query} when the
+     * deadline has passed, and otherwise binds the deadline to the subscribing thread while
+     * {@code query} runs. Apply it before {@code subscribeOn} so both happen on the worker thread,
+     * right before the blocking call and after any time spent waiting for that thread.
+     */
+    public static <T> Mono<T> beforeQuery(Mono<T> query, Clock clock) {
+        return Mono.deferContextual(context -> from(context)
+                .map(deadline -> deadline.isExpired(clock)
+                        ? Mono.<T>error(new DeadlineExceededException("Request deadline exceeded before querying the database"))
+                        : Mono.<T>from(subscriber -> deadline.runBound(() -> query.subscribe(subscriber))))
+                .orElse(query));
+    }
+
+    public static <T> Flux<T> beforeQueryMany(Flux<T> query, Clock clock) {
+        return Flux.deferContextual(context -> from(context)
+                .map(deadline -> deadline.isExpired(clock)
+                        ? Flux.<T>error(new DeadlineExceededException("Request deadline exceeded before querying the database"))
+                        : Flux.<T>from(subscriber -> deadline.runBound(() -> query.subscribe(subscriber))))
+                .orElse(query));
+    }
+
+    /** Runs {@code work} on the current thread with this deadline bound to it. */
+    public void runBound(Runnable work) {
+        RequestDeadline previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            work.run();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.bank.customer.infrastructure.exception;
 
+import com.bank.customer.domain.exception.DeadlineExceededException;
 import com.bank.customer.domain.exception.DuplicateResourceException;
 import com.bank.customer.domain.exception.ResourceNotFoundException;
 import org.springframework.http.HttpStatus;
@@ -79,4 +80,19 @@ public class GlobalExceptionHandler {
         );
         return Mono.just(new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT));
     }
+
+    /**
+     * Handles requests whose caller deadline passed before the database was queried.
+     * Returns an HTTP 504 (Gateway Timeout) status.
+     */
+    @ExceptionHandler(DeadlineExceededException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleDeadlineExceeded(DeadlineExceededException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.GATEWAY_TIMEOUT.value(),
+                "Gateway Timeout",
+                ex.getMessage()
+        );
+        return Mono.just(new ResponseEntity<>(errorResponse, HttpStatus.GATEWAY_TIMEOUT));
+    }
 }
\ No newline at end of file
@@ -23,6 +23,8 @@ import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/customers")
 @RequiredArgsConstructor
@@ -66,6 +68,18 @@ public class CustomerController {
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Get several customers by ID", description = "Returns the customers matching the given IDs in a single lookup. Unknown IDs are skipped.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Customers retrieved successfully.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = CustomerResponse.class))))
+    })
+    public Flux<CustomerResponse> findCustomersByIds(@RequestBody List<Long> ids) {
+        return customerUseCase.findCustomersByIds(ids)
+                .map(customerRestMapper::toResponse);
+    }
+
     @GetMapping
     @Operation(summary = "Get all customers", description = "Returns a list of all registered customers.")
     @ApiResponses(value = {
@@ -0,0 +1,115 @@
+package com.bank.customer.infrastructure.input.adapter.rest.filter;
+
+import com.bank.customer.infrastructure.deadline.RequestDeadline;
+import com.bank.customer.infrastructure.exception.ErrorResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Honours the caller's {@code X-Request-Deadline} (capped at {@code maxBudget}; requests without one
+ * get {@code defaultBudget}). Expired requests are answered with 504 before any work is done. Live
+ * requests carry the deadline in the Reactor context and are cancelled when it passes, which drops
+ * repository calls still waiting for a worker thread. Before cancelling, the exchange is marked
+ * (see {@link #isExpired(ServerWebExchange)}) so inner filters can tell an expiry from a client
+ * that went away.
+ */
+@Slf4j
+public class DeadlineWebFilter implements WebFilter, Ordered {
+
+    private static final String API_PATH = "/api/";
+    private static final String EXPIRED_ATTRIBUTE = DeadlineWebFilter.class.getName() + ".EXPIRED";
+
+    private final Duration defaultBudget;
+    private final Duration maxBudget;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final Counter expiredOnArrival;
+    private final Counter expiredInFlight;
+
+    public DeadlineWebFilter(Duration defaultBudget, Duration maxBudget, ObjectMapper objectMapper,
+                             Clock clock, MeterRegistry meterRegistry) {
+        this.defaultBudget = defaultBudget;
+        this.maxBudget = maxBudget;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.expiredOnArrival = expiredCounter(meterRegistry, "arrival");
+        this.expiredInFlight = expiredCounter(meterRegistry, "in-flight");
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!exchange.getRequest().getPath().pathWithinApplication().value().startsWith(API_PATH)) {
+            return chain.filter(exchange);
+        }
+
+        RequestDeadline deadline = RequestDeadline.parse(exchange.getRequest().getHeaders().getFirst(RequestDeadline.HEADER))
+                .map(inbound -> inbound.earliest(RequestDeadline.after(maxBudget, clock)))
+                .orElseGet(() -> RequestDeadline.after(defaultBudget, clock));
+
+        if (deadline.isExpired(clock)) {
+            expiredOnArrival.increment();
+            return writeGatewayTimeout(exchange, "Request deadline already exceeded.");
+        }
+
+        // La marca se pone antes de que timeout cancele la cadena, así los filtros internos la ven al terminar
+        Mono<Long> expiry = Mono.delay(deadline.remaining(clock))
+                .doOnNext(tick -> exchange.getAttributes().put(EXPIRED_ATTRIBUTE, Boolean.TRUE));
+        return chain.filter(exchange)
+                .contextWrite(deadline::writeTo)
+                .timeout(expiry, Mono.defer(() -> onDeadlineExceeded(exchange)));
+    }
+
+    /** Whether the request was cut off because its deadline passed while it was in flight. */
+    public static boolean isExpired(ServerWebExchange exchange) {
+        return exchange.getAttributes().containsKey(EXPIRED_ATTRIBUTE);
+    }
+
+    @Override
+    public int getOrder() {
+        // Antes que Spring Security: una petición caducada no debe hacer ningún trabajo
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    private Mono<Void> onDeadlineExceeded(ServerWebExchange exchange) {
+        expiredInFlight.increment();
+        log.warn("Request deadline exceeded for {} {}", exchange.getRequest().getMethod(), exchange.getRequest().getPath());
+        if (exchange.getResponse().isCommitted()) {
+            return Mono.empty();
+        }
+        return writeGatewayTimeout(exchange, "Request deadline exceeded.");
+    }
+
+    private Mono<Void> writeGatewayTimeout(ServerWebExchange exchange, String message) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.GATEWAY_TIMEOUT);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        ErrorResponse body = new ErrorResponse(LocalDateTime.now(), HttpStatus.GATEWAY_TIMEOUT.value(), "Gateway Timeout", message);
+        try {
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(objectMapper.writeValueAsBytes(body))));
+        } catch (JsonProcessingException e) {
+            return response.setComplete();
+        }
+    }
+
+    private static Counter expiredCounter(MeterRegistry meterRegistry, String stage) {
+        return Counter.builder("bank.http.deadline.expired")
+                .description("Requests whose deadline expired before or while being processed")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+}
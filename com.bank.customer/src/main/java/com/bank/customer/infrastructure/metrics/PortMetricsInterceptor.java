@@ -0,0 +1,90 @@
+package com.bank.customer.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Times port calls. Reactive results are timed from subscription until they complete, fail or are
+ * cancelled, so the measurement covers the work the publisher does rather than its assembly.
+ */
+@RequiredArgsConstructor
+class PortMetricsInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    // Los beans que implementan el mismo puerto comparten medidores
+    private final Map<PortMetricsAdvisor.PortMethod, PortMethodMetrics> metricsByPortMethod = new ConcurrentHashMap<>();
+    private final Map<Method, PortMethodMetrics> metricsByMethod = new ConcurrentHashMap<>();
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        PortMethodMetrics methodMetrics = metricsFor(invocation);
+        if (methodMetrics == null) {
+            return invocation.proceed();
+        }
+
+        Class<?> returnType = invocation.getMethod().getReturnType();
+        if (returnType == Mono.class) {
+            Mono<?> result = (Mono<?>) proceedOrError(invocation, Mono::error);
+            return Mono.defer(() -> {
+                long start = methodMetrics.start();
+                return result
+                        .doOnError(methodMetrics::error)
+                        .doFinally(signal -> methodMetrics.stop(start));
+            });
+        }
+        if (returnType == Flux.class) {
+            Flux<?> result = (Flux<?>) proceedOrError(invocation, Flux::error);
+            return Flux.defer(() -> {
+                long start = methodMetrics.start();
+                return result
+                        .doOnError(methodMetrics::error)
+                        .doFinally(signal -> methodMetrics.stop(start));
+            });
+        }
+
+        long start = methodMetrics.start();
+        try {
+            return invocation.proceed();
+        } catch (Throwable error) {
+            methodMetrics.error(error);
+            throw error;
+        } finally {
+            methodMetrics.stop(start);
+        }
+    }
+
+    private PortMethodMetrics metricsFor(MethodInvocation invocation) {
+        Method method = invocation.getMethod();
+        PortMethodMetrics cached = metricsByMethod.get(method);
+        if (cached != null) {
+            return cached;
+        }
+        PortMetricsAdvisor.PortMethod portMethod =
+                PortMetricsAdvisor.portMethod(method, AopUtils.getTargetClass(invocation.getThis()));
+        if (portMethod == null) {
+            return null;
+        }
+        return metricsByMethod.computeIfAbsent(method, key -> metricsByPortMethod.computeIfAbsent(portMethod,
+                tags -> new PortMethodMetrics(meterRegistry, tags.direction(), tags.port(), tags.method())));
+    }
+
+    // Un error al montar el publisher se entrega como error del publisher, y se mide como tal al suscribirse
+    private static Object proceedOrError(MethodInvocation invocation, Function<Throwable, Object> onError) {
+        try {
+            return invocation.proceed();
+        } catch (Throwable error) {
+            return onError.apply(error);
+        }
+    }
+}
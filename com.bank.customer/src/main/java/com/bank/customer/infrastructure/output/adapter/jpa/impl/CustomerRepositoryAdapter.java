@@ -2,6 +2,7 @@ package com.bank.customer.infrastructure.output.adapter.jpa.impl;
 
 import com.bank.customer.application.output.port.CustomerRepositoryPort;
 import com.bank.customer.domain.model.Customer;
+import com.bank.customer.infrastructure.deadline.RequestDeadline;
 import com.bank.customer.infrastructure.output.adapter.jpa.entity.CustomerEntity;
 import com.bank.customer.infrastructure.output.adapter.jpa.mapper.CustomerJpaMapper;
 import com.bank.customer.infrastructure.output.adapter.jpa.repository.CustomerSpringRepository;
@@ -11,19 +12,24 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import java.time.Clock;
+import java.util.Collection;
+
 @Component
 @RequiredArgsConstructor
 public class CustomerRepositoryAdapter implements CustomerRepositoryPort {
 
     private final CustomerSpringRepository customerRepository;
     private final CustomerJpaMapper customerMapper;
+    private final Clock clock;
 
     @Override
     public Mono<Customer> saveCustomer(Customer customer) {
         return Mono.fromCallable(() -> {
             CustomerEntity customerEntity = customerMapper.toEntity(customer);
             return customerMapper.toDomain(customerRepository.save(customerEntity));
-        }).subscribeOn(Schedulers.boundedElastic());
+        }).transform(query -> RequestDeadline.beforeQuery(query, clock))
+                .subscribeOn(Schedulers.boundedElastic());
     }
 
     @Override
@@ -31,6 +37,16 @@ public class CustomerRepositoryAdapter implements CustomerRepositoryPort {
         return Mono.fromCallable(() -> customerRepository.findById(customerId)
                         .map(customerMapper::toDomain))
                 .flatMap(Mono::justOrEmpty)
+                .transform(query -> RequestDeadline.beforeQuery(query, clock))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Flux<Customer> findCustomersByIds(Collection<Long> customerIds) {
+        return Mono.fromCallable(() -> customerRepository.findAllById(customerIds))
+                .flatMapMany(Flux::fromIterable)
+                .map(customerMapper::toDomain)
+                .transform(query -> RequestDeadline.beforeQueryMany(query, clock))
                 .subscribeOn(Schedulers.boundedElastic());
     }
 
@@ -39,12 +55,14 @@ public class CustomerRepositoryAdapter implements CustomerRepositoryPort {
         return Mono.fromCallable(() -> customerRepository.findByIdentification(identification)
                         .map(customerMapper::toDomain))
                 .flatMap(Mono::justOrEmpty)
+                .transform(query -> RequestDeadline.beforeQuery(query, clock))
                 .subscribeOn(Schedulers.boundedElastic());
     }
 
     @Override
     public Mono<Void> deleteCustomerById(Long id) {
         return Mono.fromRunnable(() -> customerRepository.deleteById(id))
+                .transform(query -> RequestDeadline.beforeQuery(query, clock))
                 .subscribeOn(Schedulers.boundedElastic())
                 .then();
     }
@@ -54,13 +72,16 @@ public class CustomerRepositoryAdapter implements CustomerRepositoryPort {
         return Mono.fromCallable(() -> customerRepository.findByIdentificationAndCustomerIdNot(identification, customerId)
                         .map(customerMapper::toDomain))
                 .flatMap(Mono::justOrEmpty)
+                .transform(query -> RequestDeadline.beforeQuery(query, clock))
                 .subscribeOn(Schedulers.boundedElastic());
     }
 
     @Override
     public Flux<Customer> findAll() {
-        return Flux.fromIterable(customerRepository.findAllByStatusIsTrue())
+        return Mono.fromCallable(() -> customerRepository.findAllByStatusIsTrue())
+                .flatMapMany(Flux::fromIterable)
                 .map(customerMapper::toDomain)
+                .transform(query -> RequestDeadline.beforeQueryMany(query, clock))
                 .subscribeOn(Schedulers.boundedElastic());
     }
 }
\ No newline at end of file
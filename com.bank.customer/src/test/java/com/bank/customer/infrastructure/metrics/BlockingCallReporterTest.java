@@ -0,0 +1,48 @@
+package com.bank.customer.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.blockhound.BlockingOperationError;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The tests run with BlockHound already installed by blockhound-junit-platform, whose callback
+ * throws; the detected method is handed to the reporter as the runtime mode would.
+ */
+@DisplayName("Blocking Call Reporter Unit Tests")
+class BlockingCallReporterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BlockingCallReporter reporter = new BlockingCallReporter(meterRegistry);
+
+    @Test
+    @DisplayName("should count Thread.sleep on a parallel thread by blocking method")
+    void sleepOnParallelThread_IsReported() {
+        // Arrange
+        Mono<Boolean> sleepOnParallel = Mono.fromCallable(() -> {
+            Thread.sleep(1);
+            return true;
+        }).subscribeOn(Schedulers.parallel());
+
+        // Act
+        StepVerifier.create(sleepOnParallel)
+                .expectErrorSatisfies(error -> reporter.accept(
+                        assertInstanceOf(BlockingOperationError.class, error).getMethod()))
+                .verify(Duration.ofSeconds(5));
+
+        // Assert: en JDK 21 el método nativo es Thread.sleep0
+        Counter counter = meterRegistry.get("bank.reactor.blocking.calls").counter();
+        assertTrue(counter.getId().getTag("method").startsWith("java.lang.Thread.sleep"));
+        assertEquals(1.0, counter.count());
+    }
+}
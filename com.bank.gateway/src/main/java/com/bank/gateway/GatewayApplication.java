@@ -0,0 +1,17 @@
+package com.bank.gateway;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Main application class for the account gateway.
+ * Routes every request about an account to the same account-service instance, so the
+ * per-instance caches and per-account sequencing of that instance see all of its traffic.
+ */
+@SpringBootApplication
+public class GatewayApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(GatewayApplication.class, args);
+    }
+}
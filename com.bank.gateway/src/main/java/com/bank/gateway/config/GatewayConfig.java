@@ -0,0 +1,73 @@
+package com.bank.gateway.config;
+
+import com.bank.gateway.proxy.AccountServiceProxy;
+import com.bank.gateway.proxy.NodeLoadMetrics;
+import com.bank.gateway.ring.RingEndpoint;
+import com.bank.gateway.ring.RingMembership;
+import com.bank.gateway.routing.RoutingKeyResolver;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.netty.http.client.HttpClient;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+public class GatewayConfig {
+
+    // Un único cliente para el proxy y las sondas: comparten el pool de conexiones por instancia
+    @Bean
+    public WebClient accountServiceWebClient(WebClient.Builder builder,
+                                             @Value("${gateway.connect-timeout}") Duration connectTimeout,
+                                             @Value("${gateway.response-timeout}") Duration responseTimeout) {
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout);
+        return builder.clientConnector(new ReactorClientHttpConnector(httpClient)).build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public RingMembership ringMembership(@Value("${gateway.account-service.instances}") List<String> instances,
+                                         @Value("${gateway.ring.allowed-instances}") List<String> allowedInstances,
+                                         @Value("${gateway.ring.virtual-nodes}") int virtualNodes,
+                                         @Value("${gateway.health.path}") String healthPath,
+                                         @Value("${gateway.health.interval}") Duration interval,
+                                         @Value("${gateway.health.timeout}") Duration timeout,
+                                         WebClient accountServiceWebClient, MeterRegistry meterRegistry) {
+        RingMembership membership = new RingMembership(instances, allowedInstances, virtualNodes, meterRegistry);
+        membership.startProbing(accountServiceWebClient, healthPath, interval, timeout);
+        return membership;
+    }
+
+    @Bean
+    public RingEndpoint ringEndpoint(RingMembership ringMembership) {
+        return new RingEndpoint(ringMembership);
+    }
+
+    @Bean
+    public AccountServiceProxy accountServiceProxy(WebClient accountServiceWebClient, RingMembership ringMembership,
+                                                   ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                                   @Value("${gateway.max-attempts}") int maxAttempts,
+                                                   @Value("${gateway.max-buffered-body}") DataSize maxBufferedBody) {
+        return new AccountServiceProxy(accountServiceWebClient, ringMembership,
+                new RoutingKeyResolver(objectMapper.getFactory()), new NodeLoadMetrics(meterRegistry),
+                maxAttempts, (int) maxBufferedBody.toBytes());
+    }
+
+    // Los endpoints de actuator tienen su propio mapping con más prioridad: solo /api/** llega al proxy
+    @Bean
+    public RouterFunction<ServerResponse> accountServiceRoute(AccountServiceProxy accountServiceProxy) {
+        return RouterFunctions.route(RequestPredicates.path("/api/**"), accountServiceProxy::forward);
+    }
+}
@@ -0,0 +1,214 @@
+package com.bank.gateway.proxy;
+
+import com.bank.gateway.ring.RingMembership;
+import com.bank.gateway.routing.RoutingKeyResolver;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Forwards {@code /api/**} to account-service. A request with an account key (see
+ * {@link RoutingKeyResolver}) goes to the key's owner on the ring; one without goes to the next
+ * instance in turn.
+ *
+ * When the chosen instance refuses the connection, or answers 503, the request moves to the next
+ * instance of its preference list, up to {@code maxAttempts} instances. A connection failure also
+ * takes the instance off the ring until its health probe succeeds. A 503 is retried only for an
+ * idempotent method, or when it carries {@value #NOT_PROCESSED_HEADER} (account-service sets it
+ * when its concurrency limiter shed the request before running it): a POST answered 503 by a
+ * saturated database may already have written. Requests that may already have been processed (a
+ * non-idempotent method whose connection broke after sending) are not retried either, and neither
+ * are request bodies streamed through without buffering, which can only be sent once.
+ */
+@Slf4j
+public class AccountServiceProxy {
+
+    static final String NOT_PROCESSED_HEADER = "X-Request-Not-Processed";
+
+    private static final Set<String> HOP_BY_HOP = Set.of("connection", "keep-alive", "proxy-authenticate",
+            "proxy-authorization", "proxy-connection", "te", "trailer", "transfer-encoding", "upgrade");
+    // Host y Content-Length los pone el cliente HTTP para la petición saliente
+    private static final Set<String> NOT_FORWARDED = Set.of("host", "content-length",
+            "x-forwarded-for", "x-forwarded-host", "x-forwarded-proto");
+    private static final Set<HttpMethod> IDEMPOTENT = Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS,
+            HttpMethod.PUT, HttpMethod.DELETE);
+    private static final Set<HttpMethod> WITHOUT_BODY = Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS,
+            HttpMethod.DELETE);
+
+    private final WebClient webClient;
+    private final RingMembership membership;
+    private final RoutingKeyResolver keyResolver;
+    private final NodeLoadMetrics metrics;
+    private final int maxAttempts;
+    private final int maxBufferedBody;
+
+    public AccountServiceProxy(WebClient webClient, RingMembership membership, RoutingKeyResolver keyResolver,
+                               NodeLoadMetrics metrics, int maxAttempts, int maxBufferedBody) {
+        this.webClient = webClient;
+        this.membership = membership;
+        this.keyResolver = keyResolver;
+        this.metrics = metrics;
+        this.maxAttempts = maxAttempts;
+        this.maxBufferedBody = maxBufferedBody;
+    }
+
+    public Mono<ServerResponse> forward(ServerRequest request) {
+        String urlKey = keyResolver.keyFromUrl(request.path(), request.queryParams());
+        String keyField = urlKey == null ? keyResolver.keyField(request.method(), request.path()) : null;
+        if (keyField != null) {
+            // La clave va en el cuerpo: se lee entero (es pequeño) y el mismo se reenvía, también en un reintento
+            return DataBufferUtils.join(request.bodyToFlux(DataBuffer.class), maxBufferedBody)
+                    .map(AccountServiceProxy::toBytes)
+                    .defaultIfEmpty(new byte[0])
+                    .flatMap(body -> route(request, keyResolver.keyFromBody(keyField, body), new OutboundBody(body, false)))
+                    .onErrorResume(DataBufferLimitException.class,
+                            e -> ServerResponse.status(HttpStatus.PAYLOAD_TOO_LARGE).build());
+        }
+        OutboundBody body = WITHOUT_BODY.contains(request.method())
+                ? new OutboundBody(new byte[0], false)
+                : new OutboundBody(null, true);
+        return route(request, urlKey, body);
+    }
+
+    private Mono<ServerResponse> route(ServerRequest request, String key, OutboundBody body) {
+        metrics.routed(key);
+        List<String> nodes = key != null ? membership.preferenceList(key) : membership.anyOrder();
+        if (nodes.isEmpty()) {
+            return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        int attempts = body.streamed() ? 1 : Math.min(maxAttempts, nodes.size());
+        return attempt(request, body, nodes.subList(0, attempts), 0);
+    }
+
+    private Mono<ServerResponse> attempt(ServerRequest request, OutboundBody body, List<String> nodes, int index) {
+        String node = nodes.get(index);
+        boolean last = index == nodes.size() - 1;
+        Timer.Sample sample = metrics.start(node);
+        AtomicReference<String> outcome = new AtomicReference<>("cancelled");
+
+        return send(request, body, node)
+                .retrieve()
+                // 503 que se puede repetir en otra instancia, si queda alguna; si no, se devuelve tal cual
+                .onStatus(status -> status.value() == HttpStatus.SERVICE_UNAVAILABLE.value() && !last,
+                        response -> canRetryUnavailable(request.method(), response.headers().asHttpHeaders())
+                                ? response.releaseBody().then(Mono.error(new InstanceUnavailableException(node)))
+                                : Mono.empty())
+                // El resto de errores HTTP son la respuesta de account-service: se devuelven tal cual
+                .onStatus(HttpStatusCode::isError, response -> Mono.empty())
+                .toEntityFlux(DataBuffer.class)
+                .doOnNext(entity -> outcome.set(entity.getStatusCode().value() / 100 + "xx"))
+                .doOnError(e -> outcome.set(e instanceof InstanceUnavailableException ? "unavailable" : "error"))
+                .doFinally(signal -> metrics.stop(node, sample, outcome.get()))
+                .flatMap(entity -> ServerResponse.status(entity.getStatusCode())
+                        .headers(headers -> copyResponseHeaders(entity.getHeaders(), headers))
+                        .body(BodyInserters.fromDataBuffers(entity.getBody())))
+                .onErrorResume(e -> !last && canFallback(request.method(), e), e -> {
+                    if (isConnectFailure(e)) {
+                        membership.markDown(node, e.getMessage());
+                    }
+                    log.debug("Request {} {} moved from {}: {}", request.method(), request.path(), node, e.getMessage());
+                    metrics.fallback(node);
+                    return attempt(request, body, nodes, index + 1);
+                });
+    }
+
+    private WebClient.RequestHeadersSpec<?> send(ServerRequest request, OutboundBody body, String node) {
+        String rawQuery = request.uri().getRawQuery();
+        WebClient.RequestBodySpec spec = webClient.method(request.method())
+                .uri(URI.create(node + request.uri().getRawPath() + (rawQuery != null ? "?" + rawQuery : "")))
+                .headers(headers -> copyRequestHeaders(request, headers));
+        if (body.streamed()) {
+            return spec.body(BodyInserters.fromDataBuffers(request.bodyToFlux(DataBuffer.class)));
+        }
+        return body.buffered().length > 0 ? spec.bodyValue(body.buffered()) : spec;
+    }
+
+    private static void copyRequestHeaders(ServerRequest request, HttpHeaders target) {
+        request.headers().asHttpHeaders().forEach((name, values) -> {
+            String lowerCase = name.toLowerCase(Locale.ROOT);
+            if (!HOP_BY_HOP.contains(lowerCase) && !NOT_FORWARDED.contains(lowerCase)) {
+                target.addAll(name, values);
+            }
+        });
+        // El gateway es el borde: las cabeceras X-Forwarded-* entrantes se sustituyen, no se encadenan
+        request.remoteAddress()
+                .filter(address -> address.getAddress() != null)
+                .ifPresent(address -> target.set("X-Forwarded-For", address.getAddress().getHostAddress()));
+        String host = request.headers().firstHeader(HttpHeaders.HOST);
+        if (host != null) {
+            target.set("X-Forwarded-Host", host);
+        }
+        target.set("X-Forwarded-Proto", request.uri().getScheme());
+    }
+
+    private static void copyResponseHeaders(HttpHeaders source, HttpHeaders target) {
+        source.forEach((name, values) -> {
+            if (!HOP_BY_HOP.contains(name.toLowerCase(Locale.ROOT))) {
+                target.addAll(name, values);
+            }
+        });
+    }
+
+    private static boolean canRetryUnavailable(HttpMethod method, HttpHeaders responseHeaders) {
+        // Sin la marca, el 503 pudo llegar después de escribir (p. ej. pool de BD saturado a mitad)
+        return IDEMPOTENT.contains(method) || "true".equals(responseHeaders.getFirst(NOT_PROCESSED_HEADER));
+    }
+
+    private static boolean canFallback(HttpMethod method, Throwable error) {
+        if (error instanceof InstanceUnavailableException || isConnectFailure(error)) {
+            return true;
+        }
+        // Conexión cortada tras enviar: solo se repite lo que se puede repetir sin efectos dobles
+        return error instanceof WebClientRequestException && IDEMPOTENT.contains(method);
+    }
+
+    private static boolean isConnectFailure(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof UnknownHostException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] toBytes(DataBuffer buffer) {
+        try {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            return bytes;
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    /** Request body to send: {@code buffered} bytes, or the inbound body {@code streamed} through. */
+    private record OutboundBody(byte[] buffered, boolean streamed) {
+    }
+
+    private static final class InstanceUnavailableException extends RuntimeException {
+
+        InstanceUnavailableException(String node) {
+            super(node + " answered 503", null, false, false);
+        }
+    }
+}
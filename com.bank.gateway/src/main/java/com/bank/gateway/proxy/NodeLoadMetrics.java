@@ -0,0 +1,71 @@
+package com.bank.gateway.proxy;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-instance load as seen from the gateway:
+ * <ul>
+ *   <li>{@code bank.gateway.node.requests{node,outcome}}: time until the instance answered, by status
+ *       class ({@code 2xx}…{@code 5xx}), {@code unavailable} (503 retried elsewhere) or {@code error}
+ *       (no answer).</li>
+ *   <li>{@code bank.gateway.node.in_flight{node}}: requests sent and not yet answered.</li>
+ *   <li>{@code bank.gateway.node.fallbacks{node}}: requests moved from this instance to another one.</li>
+ *   <li>{@code bank.gateway.routed{by}}: requests by routing key ({@code account_id} or {@code none}).</li>
+ * </ul>
+ * Comparing the request rates per node shows how even the ring keeps the load; a hot account shows
+ * up as one node's rate standing out.
+ */
+public class NodeLoadMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counter> fallbacks = new ConcurrentHashMap<>();
+
+    public NodeLoadMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Timer.Sample start(String node) {
+        inFlight(node).incrementAndGet();
+        return Timer.start(meterRegistry);
+    }
+
+    public void stop(String node, Timer.Sample sample, String outcome) {
+        inFlight(node).decrementAndGet();
+        sample.stop(Timer.builder("bank.gateway.node.requests")
+                .description("Requests forwarded to an account-service instance, until its answer")
+                .tags("node", node, "outcome", outcome)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry));
+    }
+
+    public void fallback(String node) {
+        fallbacks.computeIfAbsent(node, key -> Counter.builder("bank.gateway.node.fallbacks")
+                        .description("Requests moved from this instance to another one")
+                        .tag("node", key)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    public void routed(String key) {
+        meterRegistry.counter("bank.gateway.routed", "by", key == null ? "none" : "account_id").increment();
+    }
+
+    private AtomicInteger inFlight(String node) {
+        return inFlight.computeIfAbsent(node, key -> {
+            AtomicInteger counter = new AtomicInteger();
+            Gauge.builder("bank.gateway.node.in_flight", counter, AtomicInteger::get)
+                    .description("Requests sent to the instance and not yet answered")
+                    .tag("node", key)
+                    .register(meterRegistry);
+            return counter;
+        });
+    }
+}
@@ -0,0 +1,133 @@
+package com.bank.gateway.ring;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable consistent-hash ring. Each node is placed at {@code virtualNodes} points of a 64-bit
+ * ring and a key belongs to the first point at or after its hash, wrapping around. Adding or
+ * removing a node only moves the keys of the arcs it gains or loses; every other key keeps its node.
+ *
+ * Points are kept in two parallel sorted arrays, so a lookup is a binary search without boxing.
+ */
+public final class HashRing {
+
+    private static final HashRing EMPTY = new HashRing(new long[0], new String[0], List.of());
+
+    private final long[] points;
+    private final String[] owners;
+    private final List<String> nodes;
+
+    private HashRing(long[] points, String[] owners, List<String> nodes) {
+        this.points = points;
+        this.owners = owners;
+        this.nodes = nodes;
+    }
+
+    public static HashRing of(Collection<String> nodes, int virtualNodes) {
+        if (nodes.isEmpty()) {
+            return EMPTY;
+        }
+        List<String> sortedNodes = nodes.stream().distinct().sorted().toList();
+        long[][] entries = new long[sortedNodes.size() * virtualNodes][];
+        int i = 0;
+        for (int node = 0; node < sortedNodes.size(); node++) {
+            for (int replica = 0; replica < virtualNodes; replica++) {
+                entries[i++] = new long[]{hash(sortedNodes.get(node) + "#" + replica), node};
+            }
+        }
+        // Empate de hash (improbable): decide el nodo, para que el anillo no dependa del orden de entrada
+        Arrays.sort(entries, (a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+        long[] points = new long[entries.length];
+        String[] owners = new String[entries.length];
+        for (int j = 0; j < entries.length; j++) {
+            points[j] = entries[j][0];
+            owners[j] = sortedNodes.get((int) entries[j][1]);
+        }
+        return new HashRing(points, owners, sortedNodes);
+    }
+
+    public boolean isEmpty() {
+        return nodes.isEmpty();
+    }
+
+    public List<String> nodes() {
+        return nodes;
+    }
+
+    /** Node owning {@code key}, or {@code null} when the ring is empty. */
+    public String nodeFor(String key) {
+        return isEmpty() ? null : owners[successor(hash(key))];
+    }
+
+    /**
+     * Every node in the order {@code key} falls back to them: its owner first, then the next
+     * distinct nodes clockwise. A failed owner's keys spread over the ring this way instead of all
+     * landing on one neighbour.
+     */
+    public List<String> preferenceList(String key) {
+        if (isEmpty()) {
+            return List.of();
+        }
+        Set<String> preference = new LinkedHashSet<>();
+        int start = successor(hash(key));
+        for (int i = 0; i < owners.length && preference.size() < nodes.size(); i++) {
+            preference.add(owners[(start + i) % owners.length]);
+        }
+        return new ArrayList<>(preference);
+    }
+
+    /** Fraction of the hash space owned by {@code node}, between 0 and 1. */
+    public double share(String node) {
+        if (isEmpty()) {
+            return 0.0;
+        }
+        double owned = 0.0;
+        for (int i = 0; i < points.length; i++) {
+            if (owners[i].equals(node)) {
+                // Arco (punto anterior, punto i]; el primero cierra la vuelta desde el último
+                long previous = points[i == 0 ? points.length - 1 : i - 1];
+                long arc = points[i] - previous;
+                owned += points.length == 1 ? 1.0 : unsignedFraction(arc);
+            }
+        }
+        return owned;
+    }
+
+    private int successor(long hash) {
+        int index = Arrays.binarySearch(points, hash);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return index == points.length ? 0 : index;
+    }
+
+    private static double unsignedFraction(long arc) {
+        // La resta desborda con el signo que toque: leída sin signo es la longitud del arco
+        double length = arc >= 0 ? arc : arc + 0x1p64;
+        return length / 0x1p64;
+    }
+
+    /**
+     * 64-bit FNV-1a over the UTF-8 bytes, finished with the MurmurHash3 mixer so that keys differing
+     * only in their last digits (consecutive account ids) still spread over the whole ring.
+     */
+    static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,49 @@
+package com.bank.gateway.ring;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code /actuator/ring}: GET lists the configured instances with their state and share of the
+ * keys; POST {@code {"nodes": "http://a:8081,http://b:8081"}} replaces them, e.g. after scaling
+ * account-service, without restarting the gateway.
+ *
+ * The endpoint is read-only unless the {@code ring-admin} profile is active, which also moves
+ * actuator to a management port that is not published; even then, only instances of
+ * {@code gateway.ring.allowed-instances} are accepted (see {@link RingMembership#setMembers}).
+ */
+@Endpoint(id = "ring")
+public class RingEndpoint {
+
+    private final RingMembership membership;
+
+    public RingEndpoint(RingMembership membership) {
+        this.membership = membership;
+    }
+
+    @ReadOperation
+    public Map<String, Map<String, Object>> ring() {
+        Map<String, Map<String, Object>> nodes = new LinkedHashMap<>();
+        for (String node : membership.members()) {
+            nodes.put(node, Map.of("up", membership.isUp(node), "share", membership.share(node)));
+        }
+        return nodes;
+    }
+
+    @WriteOperation
+    public Map<String, Map<String, Object>> setMembers(String nodes) {
+        try {
+            membership.setMembers(Arrays.asList(nodes.split(",")));
+        } catch (IllegalArgumentException e) {
+            // 400 en lugar de 500: el error es de la petición
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+        return ring();
+    }
+}
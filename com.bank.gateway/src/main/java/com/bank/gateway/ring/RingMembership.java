@@ -0,0 +1,197 @@
+package com.bank.gateway.ring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The account-service instances behind the gateway and the ring built from the ones that are up.
+ *
+ * An instance leaves the ring when a request cannot connect to it or its health probe fails, and
+ * rejoins when the probe succeeds again; each change rebuilds the ring, which moves only the keys
+ * of that instance. While no instance is up, keys are placed on the ring of every configured
+ * instance, so requests are still tried instead of failing at the gateway. Members can only be
+ * chosen among the allowed instances: the gateway never forwards requests, with their client
+ * headers, to an address it was not configured with.
+ *
+ * Publishes {@code bank.gateway.ring.members}, {@code bank.gateway.ring.changes} and, per node,
+ * {@code bank.gateway.node.up} and {@code bank.gateway.node.ring_share}.
+ */
+@Slf4j
+public class RingMembership implements AutoCloseable {
+
+    private final int virtualNodes;
+    private final MeterRegistry meterRegistry;
+    private final Counter changes;
+    private final AtomicInteger roundRobin = new AtomicInteger();
+    private final Set<String> registered = ConcurrentHashMap.newKeySet();
+    private final Set<String> allowed;
+
+    private volatile Set<String> members = Set.of();
+    private volatile Set<String> up = Set.of();
+    private volatile HashRing ring = HashRing.of(List.of(), 1);
+    private volatile HashRing fullRing = HashRing.of(List.of(), 1);
+
+    private Disposable probe;
+
+    public RingMembership(Collection<String> members, Collection<String> allowed, int virtualNodes,
+                          MeterRegistry meterRegistry) {
+        this.allowed = normalized(allowed);
+        this.virtualNodes = virtualNodes;
+        this.meterRegistry = meterRegistry;
+        this.changes = Counter.builder("bank.gateway.ring.changes")
+                .description("Ring rebuilds after an instance joined or left")
+                .register(meterRegistry);
+        Gauge.builder("bank.gateway.ring.members", this, membership -> membership.ring.nodes().size())
+                .description("Instances currently on the ring")
+                .register(meterRegistry);
+        setMembers(members);
+    }
+
+    /**
+     * Probes {@code healthPath} of every member each {@code interval}: a 2xx answer within
+     * {@code timeout} puts the instance (back) on the ring, anything else takes it off.
+     */
+    public void startProbing(WebClient webClient, String healthPath, Duration interval, Duration timeout) {
+        probe = Flux.interval(Duration.ZERO, interval)
+                .onBackpressureDrop()
+                .concatMap(tick -> Flux.fromIterable(members)
+                        .flatMap(node -> webClient.get()
+                                .uri(node + healthPath)
+                                .retrieve()
+                                .toBodilessEntity()
+                                .timeout(timeout)
+                                .map(response -> true)
+                                .onErrorReturn(false)
+                                .doOnNext(healthy -> {
+                                    if (healthy) {
+                                        markUp(node);
+                                    } else {
+                                        markDown(node, "health probe failed");
+                                    }
+                                }))
+                        .then())
+                .subscribe();
+    }
+
+    /**
+     * Replaces the configured instances; the new ones join as up until a probe or request says otherwise.
+     *
+     * @throws IllegalArgumentException if a node is not one of the allowed instances
+     */
+    public synchronized void setMembers(Collection<String> nodes) {
+        Set<String> newMembers = normalized(nodes);
+        Set<String> notAllowed = new LinkedHashSet<>(newMembers);
+        notAllowed.removeAll(allowed);
+        if (!notAllowed.isEmpty()) {
+            throw new IllegalArgumentException("Instances not allowed on the ring: " + notAllowed);
+        }
+        Set<String> newUp = new LinkedHashSet<>(newMembers);
+        // Las que ya estaban conservan su estado
+        newUp.removeIf(node -> members.contains(node) && !up.contains(node));
+        members = Set.copyOf(newMembers);
+        fullRing = HashRing.of(newMembers, virtualNodes);
+        newMembers.forEach(this::registerNodeGauges);
+        rebuild(newUp, "members set to " + newMembers);
+    }
+
+    public synchronized void markUp(String node) {
+        if (members.contains(node) && !up.contains(node)) {
+            Set<String> newUp = new LinkedHashSet<>(up);
+            newUp.add(node);
+            rebuild(newUp, node + " is up");
+        }
+    }
+
+    public synchronized void markDown(String node, String reason) {
+        if (up.contains(node)) {
+            Set<String> newUp = new LinkedHashSet<>(up);
+            newUp.remove(node);
+            rebuild(newUp, node + " is down (" + reason + ")");
+        }
+    }
+
+    /** Instances to try for {@code key}: its owner first, then the ones its keys fall back to. */
+    public List<String> preferenceList(String key) {
+        HashRing current = ring;
+        return current.isEmpty() ? fullRing.preferenceList(key) : current.preferenceList(key);
+    }
+
+    /** Instances to try for a request without an account key: every one, starting at the next in turn. */
+    public List<String> anyOrder() {
+        HashRing current = ring.isEmpty() ? fullRing : ring;
+        List<String> nodes = current.nodes();
+        if (nodes.isEmpty()) {
+            return List.of();
+        }
+        int start = Math.floorMod(roundRobin.getAndIncrement(), nodes.size());
+        List<String> order = new ArrayList<>(nodes.size());
+        for (int i = 0; i < nodes.size(); i++) {
+            order.add(nodes.get((start + i) % nodes.size()));
+        }
+        return order;
+    }
+
+    public Set<String> members() {
+        return members;
+    }
+
+    public boolean isUp(String node) {
+        return up.contains(node);
+    }
+
+    public double share(String node) {
+        return ring.share(node);
+    }
+
+    private void rebuild(Set<String> newUp, String reason) {
+        up = Set.copyOf(newUp);
+        ring = HashRing.of(newUp, virtualNodes);
+        changes.increment();
+        log.info("Account ring rebuilt, {}: {} of {} instances up", reason, newUp.size(), members.size());
+    }
+
+    private void registerNodeGauges(String node) {
+        if (registered.add(node)) {
+            Gauge.builder("bank.gateway.node.up", this, membership -> membership.isUp(node) ? 1 : 0)
+                    .description("Whether the instance is on the ring")
+                    .tag("node", node)
+                    .register(meterRegistry);
+            Gauge.builder("bank.gateway.node.ring_share", this, membership -> membership.share(node))
+                    .description("Fraction of the account keys owned by the instance")
+                    .tag("node", node)
+                    .register(meterRegistry);
+        }
+    }
+
+    private static Set<String> normalized(Collection<String> nodes) {
+        Set<String> result = new LinkedHashSet<>();
+        nodes.stream().map(RingMembership::normalize).filter(node -> !node.isEmpty()).forEach(result::add);
+        return result;
+    }
+
+    private static String normalize(String node) {
+        String trimmed = node.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+
+    @Override
+    public void close() {
+        if (probe != null) {
+            probe.dispose();
+        }
+    }
+}
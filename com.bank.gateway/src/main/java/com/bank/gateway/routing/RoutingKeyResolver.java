@@ -0,0 +1,92 @@
+package com.bank.gateway.routing;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.MultiValueMap;
+
+import java.io.IOException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the account a request to account-service is about, as the ring key {@code id:<accountId>}.
+ *
+ * <ul>
+ *   <li>{@code /api/v1/accounts/{id}} and its sub-resources: the path id.</li>
+ *   <li>{@code /api/v1/movements/by-account?accountId=}: the account id.</li>
+ *   <li>{@code POST /api/v1/movements} ({@code MovementRequest}): {@code accountId} of the body.</li>
+ *   <li>{@code POST /api/v1/transfers}: {@code sourceAccountId} of the body.</li>
+ * </ul>
+ *
+ * Any other request has no key and can go to any instance. That includes
+ * {@code /api/v1/accounts/search?accountNumber=}: the gateway cannot tell the id of an account
+ * number, and keying it by the number would place the same account on two owners.
+ */
+public class RoutingKeyResolver {
+
+    private static final Pattern ACCOUNT_PATH = Pattern.compile("^/api/v1/accounts/(\\d+)(/.*)?$");
+
+    private final JsonFactory jsonFactory;
+
+    public RoutingKeyResolver(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    /** Key carried by the path or query string, or {@code null}. */
+    public String keyFromUrl(String path, MultiValueMap<String, String> queryParams) {
+        Matcher accountPath = ACCOUNT_PATH.matcher(path);
+        if (accountPath.matches()) {
+            return accountIdKey(accountPath.group(1));
+        }
+        if (path.equals("/api/v1/movements/by-account")) {
+            String accountId = queryParams.getFirst("accountId");
+            return accountId == null ? null : accountIdKey(accountId);
+        }
+        return null;
+    }
+
+    /** Top-level JSON field of the body that carries the key, or {@code null} when the body has none. */
+    public String keyField(HttpMethod method, String path) {
+        if (!HttpMethod.POST.equals(method)) {
+            return null;
+        }
+        return switch (path) {
+            case "/api/v1/movements" -> "accountId";
+            case "/api/v1/transfers" -> "sourceAccountId";
+            default -> null;
+        };
+    }
+
+    /** Key read from {@code field} of a JSON body, or {@code null} when it is missing or not JSON. */
+    public String keyFromBody(String field, byte[] body) {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (name.equals(field) && value.isScalarValue() && value != JsonToken.VALUE_NULL) {
+                    return accountIdKey(parser.getText());
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            // Cuerpo inválido: account-service responderá el 400; aquí solo se pierde la afinidad
+            return null;
+        }
+    }
+
+    private static String accountIdKey(String accountId) {
+        String trimmed = accountId.trim();
+        // "007" y "7" son la misma cuenta
+        try {
+            return "id:" + Long.parseLong(trimmed);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.bank.gateway.proxy;
+
+import com.bank.gateway.ring.RingMembership;
+import com.bank.gateway.routing.RoutingKeyResolver;
+import com.fasterxml.jackson.core.JsonFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * The proxy in front of two account-service instances played by MockWebServer; each test finds an
+ * account owned by the instance it needs on the ring.
+ */
+@DisplayName("Account Service Proxy Unit Tests")
+class AccountServiceProxyTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MockWebServer first = new MockWebServer();
+    private final MockWebServer second = new MockWebServer();
+
+    private RingMembership membership;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        first.start();
+        second.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        membership.close();
+        first.shutdown();
+        second.shutdown();
+    }
+
+    @Test
+    @DisplayName("should send every request about an account to its owner, whether the id is in the path or the body")
+    void forward_AccountKey_GoesToOwner() throws InterruptedException {
+        // Arrange
+        WebTestClient client = gateway(List.of(node(first), node(second)));
+        long accountId = accountOwnedBy(node(second));
+        second.enqueue(json(200, "{\"id\": " + accountId + "}"));
+        second.enqueue(json(201, "{\"id\": 1}"));
+        String movement = "{\"amount\": 10, \"accountId\": " + accountId + "}";
+
+        // Act
+        client.get().uri("/api/v1/accounts/" + accountId).exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("{\"id\": " + accountId + "}");
+        client.post().uri("/api/v1/movements").contentType(MediaType.APPLICATION_JSON).bodyValue(movement).exchange()
+                .expectStatus().isCreated();
+
+        // Assert
+        assertEquals(0, first.getRequestCount());
+        assertEquals("/api/v1/accounts/" + accountId, take(second).getPath());
+        // El cuerpo leído para buscar la cuenta se reenvía intacto
+        assertEquals(movement, take(second).getBody().readUtf8());
+    }
+
+    @Test
+    @DisplayName("should move a request to the next instance when the owner refuses the connection, and take the owner off the ring")
+    void forward_OwnerRefusesConnection_FallsBack() throws IOException, InterruptedException {
+        // Arrange
+        String closed = closedNode();
+        WebTestClient client = gateway(List.of(closed, node(second)));
+        long accountId = accountOwnedBy(closed);
+        second.enqueue(json(201, "{\"id\": 1}"));
+
+        // Act: un POST se puede repetir si no llegó a conectar
+        client.post().uri("/api/v1/movements").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"amount\": 10, \"accountId\": " + accountId + "}").exchange()
+                .expectStatus().isCreated();
+
+        // Assert
+        assertEquals("/api/v1/movements", take(second).getPath());
+        assertFalse(membership.isUp(closed));
+        assertEquals(1.0, meterRegistry.get("bank.gateway.node.fallbacks").tag("node", closed).counter().count());
+    }
+
+    @Test
+    @DisplayName("should retry a 503 of an idempotent request on the next instance")
+    void forward_IdempotentRequest503_Retried() throws InterruptedException {
+        // Arrange
+        WebTestClient client = gateway(List.of(node(first), node(second)));
+        long accountId = accountOwnedBy(node(first));
+        first.enqueue(json(503, "{\"message\": \"Database is saturated\"}"));
+        second.enqueue(json(200, "{\"id\": " + accountId + "}"));
+
+        // Act
+        client.get().uri("/api/v1/accounts/" + accountId).exchange()
+                .expectStatus().isOk();
+
+        // Assert
+        assertEquals(1, first.getRequestCount());
+        assertEquals("/api/v1/accounts/" + accountId, take(second).getPath());
+    }
+
+    @Test
+    @DisplayName("should return the 503 of a POST without retrying it, since the instance may have written")
+    void forward_Post503WithoutMarker_NotRetried() {
+        // Arrange
+        WebTestClient client = gateway(List.of(node(first), node(second)));
+        long accountId = accountOwnedBy(node(first));
+        first.enqueue(json(503, "{\"message\": \"Database is saturated\"}"));
+
+        // Act
+        client.post().uri("/api/v1/movements").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"amount\": 10, \"accountId\": " + accountId + "}").exchange()
+                .expectStatus().isEqualTo(HttpStatus.SERVICE_UNAVAILABLE)
+                .expectBody(String.class).isEqualTo("{\"message\": \"Database is saturated\"}");
+
+        // Assert
+        assertEquals(1, first.getRequestCount());
+        assertEquals(0, second.getRequestCount());
+    }
+
+    @Test
+    @DisplayName("should retry the 503 of a POST that the instance shed before running it")
+    void forward_Post503NotProcessed_Retried() throws InterruptedException {
+        // Arrange
+        WebTestClient client = gateway(List.of(node(first), node(second)));
+        long accountId = accountOwnedBy(node(first));
+        first.enqueue(json(503, "{\"message\": \"Server is overloaded, please retry later.\"}")
+                .addHeader(AccountServiceProxy.NOT_PROCESSED_HEADER, "true"));
+        second.enqueue(json(201, "{\"id\": 1}"));
+
+        // Act
+        client.post().uri("/api/v1/movements").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"amount\": 10, \"accountId\": " + accountId + "}").exchange()
+                .expectStatus().isCreated();
+
+        // Assert
+        assertEquals(1, first.getRequestCount());
+        assertEquals("/api/v1/movements", take(second).getPath());
+        assertEquals(1.0, meterRegistry.get("bank.gateway.node.fallbacks").tag("node", node(first)).counter().count());
+    }
+
+    @Test
+    @DisplayName("should return the 503 of the last instance it can try")
+    void forward_Every503_ReturnsLast() {
+        // Arrange
+        WebTestClient client = gateway(List.of(node(first), node(second)));
+        long accountId = accountOwnedBy(node(first));
+        first.enqueue(json(503, "{}").addHeader(AccountServiceProxy.NOT_PROCESSED_HEADER, "true"));
+        second.enqueue(json(503, "{}").addHeader(AccountServiceProxy.NOT_PROCESSED_HEADER, "true"));
+
+        // Act & Assert
+        client.get().uri("/api/v1/accounts/" + accountId).exchange()
+                .expectStatus().isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertEquals(1, first.getRequestCount());
+        assertEquals(1, second.getRequestCount());
+    }
+
+    private WebTestClient gateway(List<String> nodes) {
+        membership = new RingMembership(nodes, nodes, 160, meterRegistry);
+        AccountServiceProxy proxy = new AccountServiceProxy(WebClient.create(), membership,
+                new RoutingKeyResolver(new JsonFactory()), new NodeLoadMetrics(meterRegistry), 3, 64 * 1024);
+        return WebTestClient.bindToRouterFunction(RouterFunctions.route(RequestPredicates.path("/api/**"), proxy::forward))
+                .build();
+    }
+
+    private long accountOwnedBy(String node) {
+        for (long accountId = 1; ; accountId++) {
+            if (membership.preferenceList("id:" + accountId).getFirst().equals(node)) {
+                return accountId;
+            }
+        }
+    }
+
+    private static String node(MockWebServer server) {
+        String url = server.url("/").toString();
+        return url.substring(0, url.length() - 1);
+    }
+
+    private static String closedNode() throws IOException {
+        // Puerto libre que nadie escucha: la conexión se rechaza
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return "http://localhost:" + socket.getLocalPort();
+        }
+    }
+
+    private static MockResponse json(int status, String body) {
+        return new MockResponse().setResponseCode(status)
+                .addHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .setBody(body);
+    }
+
+    private static RecordedRequest take(MockWebServer server) throws InterruptedException {
+        return server.takeRequest(5, TimeUnit.SECONDS);
+    }
+}
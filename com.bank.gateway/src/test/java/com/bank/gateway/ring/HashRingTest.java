@@ -0,0 +1,101 @@
+package com.bank.gateway.ring;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Hash Ring Unit Tests")
+class HashRingTest {
+
+    private static final List<String> NODES = List.of(
+            "http://account-1:8081", "http://account-2:8081", "http://account-3:8081", "http://account-4:8081");
+
+    @Test
+    @DisplayName("should spread consecutive account ids evenly over the nodes")
+    void nodeFor_ConsecutiveIds_SpreadEvenly() {
+        // Arrange
+        HashRing ring = HashRing.of(NODES, 160);
+        Map<String, Integer> keysPerNode = new HashMap<>();
+
+        // Act
+        for (int id = 1; id <= 100_000; id++) {
+            keysPerNode.merge(ring.nodeFor("id:" + id), 1, Integer::sum);
+        }
+
+        // Assert: 25.000 por nodo, con holgura para la varianza de 160 puntos por nodo
+        assertEquals(NODES.size(), keysPerNode.size());
+        keysPerNode.values().forEach(keys -> assertTrue(keys > 20_000 && keys < 30_000, "keys per node: " + keysPerNode));
+    }
+
+    @Test
+    @DisplayName("should move only the keys of a node that leaves the ring")
+    void nodeFor_NodeLeaves_OtherKeysStay() {
+        // Arrange
+        HashRing before = HashRing.of(NODES, 160);
+        HashRing after = HashRing.of(NODES.subList(0, 3), 160);
+
+        // Act & Assert
+        for (int id = 1; id <= 10_000; id++) {
+            String key = "id:" + id;
+            String owner = before.nodeFor(key);
+            if (!owner.equals(NODES.get(3))) {
+                assertEquals(owner, after.nodeFor(key));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("should not depend on the order the nodes are given in")
+    void of_NodeOrder_DoesNotMatter() {
+        // Arrange
+        HashRing ring = HashRing.of(NODES, 160);
+        HashRing reversed = HashRing.of(NODES.reversed(), 160);
+
+        // Act & Assert
+        for (int id = 1; id <= 1_000; id++) {
+            assertEquals(ring.nodeFor("id:" + id), reversed.nodeFor("id:" + id));
+        }
+    }
+
+    @Test
+    @DisplayName("should list every node once, starting at the key's owner")
+    void preferenceList_StartsAtOwner() {
+        // Arrange
+        HashRing ring = HashRing.of(NODES, 160);
+
+        // Act
+        List<String> preference = ring.preferenceList("id:478758");
+
+        // Assert
+        assertEquals(ring.nodeFor("id:478758"), preference.getFirst());
+        assertEquals(NODES.size(), preference.stream().distinct().count());
+    }
+
+    @Test
+    @DisplayName("should split the whole hash space between the nodes")
+    void share_AddsUpToOne() {
+        // Arrange
+        HashRing ring = HashRing.of(NODES, 160);
+
+        // Act
+        double total = NODES.stream().mapToDouble(ring::share).sum();
+
+        // Assert
+        assertEquals(1.0, total, 1e-9);
+    }
+
+    @Test
+    @DisplayName("should have no owner for any key when empty")
+    void nodeFor_EmptyRing_ReturnsNull() {
+        // Act & Assert
+        assertNull(HashRing.of(List.of(), 160).nodeFor("id:1"));
+        assertTrue(HashRing.of(List.of(), 160).preferenceList("id:1").isEmpty());
+    }
+}
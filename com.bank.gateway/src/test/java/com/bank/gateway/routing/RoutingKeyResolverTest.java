@@ -0,0 +1,88 @@
+package com.bank.gateway.routing;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DisplayName("Routing Key Resolver Unit Tests")
+class RoutingKeyResolverTest {
+
+    private final RoutingKeyResolver resolver = new RoutingKeyResolver(new JsonFactory());
+
+    @Test
+    @DisplayName("should key an account path and its sub-resources by the account id")
+    void keyFromUrl_AccountPath_UsesId() {
+        // Act & Assert
+        assertEquals("id:42", resolver.keyFromUrl("/api/v1/accounts/42", new LinkedMultiValueMap<>()));
+        assertEquals("id:42", resolver.keyFromUrl("/api/v1/accounts/42/balance", new LinkedMultiValueMap<>()));
+    }
+
+    @Test
+    @DisplayName("should key a movement listing by the account id")
+    void keyFromUrl_QueryParams_UsesAccountId() {
+        // Arrange
+        MultiValueMap<String, String> byAccount = new LinkedMultiValueMap<>();
+        byAccount.add("accountId", "007");
+
+        // Act & Assert
+        assertEquals("id:7", resolver.keyFromUrl("/api/v1/movements/by-account", byAccount));
+    }
+
+    @Test
+    @DisplayName("should leave a search by account number without a key, since only ids are keys")
+    void keyFromUrl_SearchByNumber_ReturnsNull() {
+        // Arrange
+        MultiValueMap<String, String> search = new LinkedMultiValueMap<>();
+        search.add("accountNumber", "478758");
+
+        // Act & Assert
+        assertNull(resolver.keyFromUrl("/api/v1/accounts/search", search));
+    }
+
+    @Test
+    @DisplayName("should leave requests about no single account without a key")
+    void keyFromUrl_NoAccount_ReturnsNull() {
+        // Act & Assert
+        assertNull(resolver.keyFromUrl("/api/v1/accounts", new LinkedMultiValueMap<>()));
+        assertNull(resolver.keyFromUrl("/api/v1/accounts/bulk", new LinkedMultiValueMap<>()));
+        assertNull(resolver.keyFromUrl("/api/v1/movements/all", new LinkedMultiValueMap<>()));
+    }
+
+    @Test
+    @DisplayName("should read the account id of a movement request body")
+    void keyFromBody_MovementRequest_UsesAccountId() {
+        // Arrange
+        String field = resolver.keyField(HttpMethod.POST, "/api/v1/movements");
+        byte[] body = """
+                {"amount": {"value": 10}, "accountId": 42}""".getBytes(StandardCharsets.UTF_8);
+
+        // Act & Assert
+        assertEquals("accountId", field);
+        assertEquals("id:42", resolver.keyFromBody(field, body));
+    }
+
+    @Test
+    @DisplayName("should route a transfer by its source account")
+    void keyField_Transfer_UsesSourceAccount() {
+        // Act & Assert
+        assertEquals("sourceAccountId", resolver.keyField(HttpMethod.POST, "/api/v1/transfers"));
+        assertNull(resolver.keyField(HttpMethod.GET, "/api/v1/movements"));
+    }
+
+    @Test
+    @DisplayName("should have no key for a body without the field or that is not JSON")
+    void keyFromBody_MissingOrInvalid_ReturnsNull() {
+        // Act & Assert
+        assertNull(resolver.keyFromBody("accountId", "{\"amount\": 10}".getBytes(StandardCharsets.UTF_8)));
+        assertNull(resolver.keyFromBody("accountId", "{\"accountId\": null}".getBytes(StandardCharsets.UTF_8)));
+        assertNull(resolver.keyFromBody("accountId", "not json".getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,105 @@
+package com.bank.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates customers and accounts through the public API so every run starts from a known data set.
+ * Account numbers carry a per-run prefix, so seeding also works against a persistent database.
+ */
+public final class DataSeeder {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+    private final LoadTestConfig config;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public DataSeeder(LoadTestConfig config, HttpClient httpClient) {
+        this.config = config;
+        this.httpClient = httpClient;
+    }
+
+    public TestData seed() throws IOException, InterruptedException {
+        String runPrefix = String.format("7%06d", System.currentTimeMillis() % 1_000_000);
+
+        List<Long> customerIds = new ArrayList<>();
+        for (int i = 0; i < config.seedCustomers(); i++) {
+            // The stub already knows customers 1..N
+            customerIds.add(config.customerStub() ? i + 1L : createCustomer(runPrefix, i));
+        }
+
+        ArrayNode accounts = objectMapper.createArrayNode();
+        for (int i = 0; i < config.seedAccounts(); i++) {
+            accounts.addObject()
+                    .put("accountNumber", runPrefix + String.format("%06d", i))
+                    .put("accountType", i % 2 == 0 ? "SAVINGS" : "CHECKING")
+                    .put("initialBalance", config.seedInitialBalance())
+                    .put("status", true)
+                    .put("customerId", customerIds.get(i % customerIds.size()));
+        }
+        post(config.accountUrl() + "/api/v1/accounts/bulk", accounts, 201);
+
+        List<TestData.SeededAccount> seeded = new ArrayList<>();
+        for (JsonNode account : get(config.accountUrl() + "/api/v1/accounts")) {
+            String accountNumber = account.path("accountNumber").asText();
+            if (accountNumber.startsWith(runPrefix)) {
+                seeded.add(new TestData.SeededAccount(
+                        account.path("id").asLong(), accountNumber, account.path("customerId").asLong()));
+            }
+        }
+        if (seeded.size() != config.seedAccounts()) {
+            throw new IllegalStateException("Expected " + config.seedAccounts() + " seeded accounts but found " + seeded.size());
+        }
+        System.out.printf("Seeded %d customers and %d accounts (prefix %s)%n", customerIds.size(), seeded.size(), runPrefix);
+        return new TestData(List.copyOf(seeded));
+    }
+
+    private long createCustomer(String runPrefix, int index) throws IOException, InterruptedException {
+        ObjectNode customer = objectMapper.createObjectNode()
+                .put("name", "Load Test Customer")
+                .put("gender", index % 2 == 0 ? "M" : "F")
+                .put("identification", runPrefix.substring(1) + String.format("%04d", index))
+                .put("address", "Load Test Street " + index)
+                .put("phone", "0999" + String.format("%06d", index))
+                .put("password", "LoadTest1!");
+        return post(config.customerUrl() + "/api/v1/customers", customer, 201).path("customerId").asLong();
+    }
+
+    private JsonNode post(String url, JsonNode body, int expectedStatus) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+        return send(request, expectedStatus);
+    }
+
+    private JsonNode get(String url) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(TIMEOUT)
+                .GET()
+                .build();
+        return send(request, 200);
+    }
+
+    private JsonNode send(HttpRequest request, int expectedStatus) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException(request.method() + " " + request.uri() + " returned "
+                    + response.statusCode() + ": " + new String(response.body()));
+        }
+        return objectMapper.readTree(response.body());
+    }
+}
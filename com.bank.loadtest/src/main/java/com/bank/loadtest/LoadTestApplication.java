@@ -0,0 +1,60 @@
+package com.bank.loadtest;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * Entry point of the load-test harness.
+ * <ol>
+ *   <li>Optionally starts customer-service (or its stub) and account-service with the {@code loadtest} profile (embedded H2).</li>
+ *   <li>Seeds customers and accounts through the API.</li>
+ *   <li>Runs an unrecorded warm-up, then the measured open-loop run.</li>
+ *   <li>Writes the results and exits with status 1 if any SLO is violated.</li>
+ * </ol>
+ * Usage: {@code ./gradlew run [-Dloadtest.rate=500] [--args=<override.properties>]}
+ */
+public final class LoadTestApplication {
+
+    private LoadTestApplication() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.load(args.length > 0 ? args[0] : null);
+        Path runDir = config.outputDir().resolve(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+        Files.createDirectories(runDir);
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        boolean passed;
+        try (ServiceLauncher launcher = new ServiceLauncher(config, runDir)) {
+            launcher.start();
+
+            TestData data = new DataSeeder(config, httpClient).seed();
+            OpenLoopDriver driver = new OpenLoopDriver(config, httpClient, new Workload(config, data));
+
+            if (!config.warmup().isZero()) {
+                System.out.printf("Warming up for %s at %.1f req/s%n", config.warmup(), config.rate());
+                driver.run(config.warmup(), null);
+            }
+
+            System.out.printf("Measuring for %s at %.1f req/s, mix %s%n", config.duration(), config.rate(), config.mix());
+            Map<Operation, OperationStats> stats;
+            try (ResultWriter writer = new ResultWriter(runDir)) {
+                stats = driver.run(config.duration(), writer);
+                writer.writeSummary(stats, config.rate(), config.duration().toSeconds());
+            }
+            passed = new SloChecker(config).check(stats, runDir);
+        }
+
+        System.out.println("\nResults written to " + runDir.toAbsolutePath());
+        System.exit(passed ? 0 : 1);
+    }
+}
@@ -0,0 +1,192 @@
+package com.bank.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Harness configuration. Values are layered: classpath defaults, then an optional
+ * properties file, then {@code -Dloadtest.*} system properties.
+ */
+public final class LoadTestConfig {
+
+    private static final String PREFIX = "loadtest.";
+
+    private final Properties properties;
+
+    private LoadTestConfig(Properties properties) {
+        this.properties = properties;
+    }
+
+    public static LoadTestConfig load(String overrideFile) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream defaults = LoadTestConfig.class.getResourceAsStream("/loadtest.properties")) {
+            if (defaults != null) {
+                properties.load(defaults);
+            }
+        }
+        if (overrideFile != null) {
+            try (Reader reader = Files.newBufferedReader(Path.of(overrideFile))) {
+                properties.load(reader);
+            }
+        }
+        System.getProperties().forEach((key, value) -> {
+            if (key.toString().startsWith(PREFIX)) {
+                properties.setProperty(key.toString(), value.toString());
+            }
+        });
+        return new LoadTestConfig(properties);
+    }
+
+    public boolean bootServices() {
+        return Boolean.parseBoolean(get("boot-services"));
+    }
+
+    public String serviceProfile() {
+        return get("service-profile");
+    }
+
+    public Path customerJar() {
+        return Path.of(get("customer.jar"));
+    }
+
+    public Path accountJar() {
+        return Path.of(get("account.jar"));
+    }
+
+    /**
+     * Whether account-service talks to the real customer-service or to the in-process stub.
+     */
+    public boolean customerStub() {
+        String mode = get("customer.mode");
+        if (!mode.equals("service") && !mode.equals("stub")) {
+            throw new IllegalArgumentException("loadtest.customer.mode must be 'service' or 'stub' but was: " + mode);
+        }
+        return mode.equals("stub");
+    }
+
+    /**
+     * Settings for the customer-service stub: every {@code loadtest.stub.*} key with the {@code loadtest.} prefix removed.
+     */
+    public Properties stubProperties() {
+        Properties stub = new Properties();
+        properties.stringPropertyNames().stream()
+                .filter(key -> key.startsWith(PREFIX + "stub."))
+                .forEach(key -> stub.setProperty(key.substring(PREFIX.length()), properties.getProperty(key)));
+        return stub;
+    }
+
+    public String customerUrl() {
+        return get("customer.url");
+    }
+
+    public String accountUrl() {
+        return get("account.url");
+    }
+
+    public Duration startupTimeout() {
+        return duration("startup-timeout");
+    }
+
+    public int seedCustomers() {
+        return Integer.parseInt(get("seed.customers"));
+    }
+
+    public int seedAccounts() {
+        return Integer.parseInt(get("seed.accounts"));
+    }
+
+    public BigDecimal seedInitialBalance() {
+        return new BigDecimal(get("seed.initial-balance"));
+    }
+
+    public long randomSeed() {
+        return Long.parseLong(get("random-seed"));
+    }
+
+    public double rate() {
+        return Double.parseDouble(get("rate"));
+    }
+
+    public Duration warmup() {
+        return duration("warmup");
+    }
+
+    public Duration duration() {
+        return duration("duration");
+    }
+
+    public Duration requestTimeout() {
+        return duration("request-timeout");
+    }
+
+    /**
+     * Transfers pick both accounts among the first N seeded accounts, so a small N concentrates them
+     * on a few rows to measure lock contention. 0 means any seeded account.
+     */
+    public int transferHotAccounts() {
+        return Integer.parseInt(get("transfer.hot-accounts"));
+    }
+
+    public Map<Operation, Integer> mix() {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            String weight = properties.getProperty(PREFIX + "mix." + operation.key());
+            if (weight != null && Integer.parseInt(weight.trim()) > 0) {
+                weights.put(operation, Integer.parseInt(weight.trim()));
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("At least one operation must have a positive weight in loadtest.mix.*");
+        }
+        return weights;
+    }
+
+    /**
+     * Returns the raw SLO value for an operation, or null when no SLO is configured.
+     */
+    public String slo(Operation operation, String key) {
+        String value = properties.getProperty(PREFIX + "slo." + operation.key() + "." + key);
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    public Path outputDir() {
+        return Path.of(get("output-dir"));
+    }
+
+    private String get(String key) {
+        String value = properties.getProperty(PREFIX + key);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing configuration property: " + PREFIX + key);
+        }
+        return value.trim();
+    }
+
+    private Duration duration(String key) {
+        return parseDuration(get(key));
+    }
+
+    /**
+     * Parses durations written as {@code 250ms}, {@code 15s} or {@code 2m}.
+     */
+    public static Duration parseDuration(String value) {
+        String trimmed = value.trim();
+        if (trimmed.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(trimmed.substring(0, trimmed.length() - 2)));
+        }
+        if (trimmed.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(trimmed.substring(0, trimmed.length() - 1)));
+        }
+        if (trimmed.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(trimmed.substring(0, trimmed.length() - 1)));
+        }
+        return Duration.ofMillis(Long.parseLong(trimmed));
+    }
+}
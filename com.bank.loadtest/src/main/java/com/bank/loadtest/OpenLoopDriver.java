@@ -0,0 +1,161 @@
+package com.bank.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends requests at a fixed rate regardless of how many are still outstanding (open loop).
+ * <p>
+ * Request {@code i} is due at {@code start + i / rate}. If the sender falls behind it catches up
+ * immediately instead of skipping, and latency is measured from the due time, so a stall in the
+ * system under test shows up as latency for every request that should have been sent during it.
+ */
+public final class OpenLoopDriver {
+
+    private static final Duration REPORT_INTERVAL = Duration.ofSeconds(1);
+    private static final long SENDER_LAG_WARNING_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long IN_FLIGHT_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final LoadTestConfig config;
+    private final Sender sender;
+    private final Ticker ticker;
+    private final Workload workload;
+
+    public OpenLoopDriver(LoadTestConfig config, HttpClient httpClient, Workload workload) {
+        this(config, request -> httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .thenApply(HttpResponse::statusCode), Ticker.SYSTEM, workload);
+    }
+
+    OpenLoopDriver(LoadTestConfig config, Sender sender, Ticker ticker, Workload workload) {
+        this.config = config;
+        this.sender = sender;
+        this.ticker = ticker;
+        this.workload = workload;
+    }
+
+    /**
+     * Sends a request asynchronously and completes with the response status.
+     */
+    @FunctionalInterface
+    interface Sender {
+        CompletableFuture<Integer> send(HttpRequest request);
+    }
+
+    /**
+     * Time source of the schedule and the latencies; tests replace it with a fake clock.
+     */
+    interface Ticker {
+
+        Ticker SYSTEM = new Ticker() {
+            @Override
+            public long nanoTime() {
+                return System.nanoTime();
+            }
+
+            @Override
+            public void parkNanos(long nanos) {
+                LockSupport.parkNanos(nanos);
+            }
+        };
+
+        long nanoTime();
+
+        void parkNanos(long nanos);
+    }
+
+    /**
+     * Runs the workload for the given duration.
+     *
+     * @param writer receives per-second intervals; {@code null} discards results (warm-up)
+     * @return stats per operation, with totals complete only when a writer was given
+     */
+    public Map<Operation, OperationStats> run(Duration duration, ResultWriter writer) throws InterruptedException {
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : config.mix().keySet()) {
+            stats.put(operation, new OperationStats(operation));
+        }
+
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "loadtest-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (writer != null) {
+            writer.start(stats.keySet());
+            reporter.scheduleAtFixedRate(() -> writer.writeInterval(stats),
+                    REPORT_INTERVAL.toMillis(), REPORT_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        AtomicLong inFlight = new AtomicLong();
+        long maxSenderLag = schedule(duration, stats, inFlight);
+        awaitInFlight(inFlight);
+
+        reporter.shutdown();
+        reporter.awaitTermination(5, TimeUnit.SECONDS);
+        if (writer != null) {
+            writer.writeInterval(stats);
+        }
+        if (maxSenderLag > SENDER_LAG_WARNING_NANOS) {
+            System.out.printf("WARNING: the load generator fell up to %.1f ms behind schedule; "
+                    + "results may understate latency at this rate%n", maxSenderLag / 1_000_000.0);
+        }
+        return Collections.unmodifiableMap(stats);
+    }
+
+    private long schedule(Duration duration, Map<Operation, OperationStats> stats, AtomicLong inFlight) {
+        double intervalNanos = 1_000_000_000.0 / config.rate();
+        long start = ticker.nanoTime();
+        long end = start + duration.toNanos();
+        long maxSenderLag = 0;
+
+        for (long i = 0; ; i++) {
+            long intended = start + (long) (i * intervalNanos);
+            if (intended >= end) {
+                return maxSenderLag;
+            }
+            long wait = intended - ticker.nanoTime();
+            if (wait > 0) {
+                ticker.parkNanos(wait);
+            }
+
+            Operation operation = workload.nextOperation();
+            HttpRequest request = workload.request(operation);
+            OperationStats operationStats = stats.get(operation);
+            long sent = ticker.nanoTime();
+            maxSenderLag = Math.max(maxSenderLag, sent - intended);
+
+            inFlight.incrementAndGet();
+            sender.send(request)
+                    .whenComplete((status, error) -> {
+                        long now = ticker.nanoTime();
+                        boolean failed = error != null || !operation.isSuccess(status);
+                        operationStats.record(now - intended, now - sent, failed);
+                        inFlight.decrementAndGet();
+                    });
+        }
+    }
+
+    private void awaitInFlight(AtomicLong inFlight) throws InterruptedException {
+        long deadline = ticker.nanoTime() + config.requestTimeout().plusSeconds(1).toNanos();
+        while (inFlight.get() > 0 && ticker.nanoTime() < deadline) {
+            ticker.parkNanos(IN_FLIGHT_POLL_NANOS);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+        if (inFlight.get() > 0) {
+            System.out.printf("WARNING: %d requests still in flight after the request timeout%n", inFlight.get());
+        }
+    }
+}
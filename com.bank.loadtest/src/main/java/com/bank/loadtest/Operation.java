@@ -0,0 +1,27 @@
+package com.bank.loadtest;
+
+/**
+ * Operations in the workload mix. The key is the name used in configuration and reports.
+ */
+public enum Operation {
+    MOVEMENT("movement", 201),
+    TRANSFER("transfer", 201),
+    ACCOUNT_SEARCH("account-search", 200),
+    REPORT("report", 200);
+
+    private final String key;
+    private final int expectedStatus;
+
+    Operation(String key, int expectedStatus) {
+        this.key = key;
+        this.expectedStatus = expectedStatus;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public boolean isSuccess(int status) {
+        return status == expectedStatus;
+    }
+}
@@ -0,0 +1,84 @@
+package com.bank.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and error counts for one operation. Values are recorded in microseconds.
+ * <p>
+ * Two latencies are kept per request: {@code corrected} is measured from the time the request was
+ * scheduled to be sent, so queueing caused by a slow system is charged to the system (coordinated
+ * omission correction); {@code service} is measured from the time it was actually sent and is only
+ * reported for comparison.
+ */
+public final class OperationStats {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Operation operation;
+    private final Recorder corrected = new Recorder(SIGNIFICANT_DIGITS);
+    private final Recorder service = new Recorder(SIGNIFICANT_DIGITS);
+    private final LongAdder intervalErrors = new LongAdder();
+
+    private final Histogram totalCorrected = new Histogram(SIGNIFICANT_DIGITS);
+    private final Histogram totalService = new Histogram(SIGNIFICANT_DIGITS);
+    private long totalErrors;
+
+    public OperationStats(Operation operation) {
+        this.operation = operation;
+    }
+
+    public void record(long correctedNanos, long serviceNanos, boolean error) {
+        corrected.recordValue(Math.max(1, correctedNanos / 1_000));
+        service.recordValue(Math.max(1, serviceNanos / 1_000));
+        if (error) {
+            intervalErrors.increment();
+        }
+    }
+
+    /**
+     * Takes the samples recorded since the previous call and folds them into the totals.
+     * Must be called from a single thread.
+     */
+    public Interval drainInterval() {
+        Histogram correctedInterval = corrected.getIntervalHistogram();
+        Histogram serviceInterval = service.getIntervalHistogram();
+        long errors = intervalErrors.sumThenReset();
+
+        correctedInterval.setTag(operation.key());
+        totalCorrected.add(correctedInterval);
+        totalService.add(serviceInterval);
+        totalErrors += errors;
+        return new Interval(correctedInterval, errors);
+    }
+
+    public Operation operation() {
+        return operation;
+    }
+
+    public Histogram totalCorrected() {
+        return totalCorrected;
+    }
+
+    public Histogram totalService() {
+        return totalService;
+    }
+
+    public long totalRequests() {
+        return totalCorrected.getTotalCount();
+    }
+
+    public long totalErrors() {
+        return totalErrors;
+    }
+
+    public double errorRate() {
+        long requests = totalRequests();
+        return requests == 0 ? 0.0 : (double) totalErrors / requests;
+    }
+
+    public record Interval(Histogram latency, long errors) {
+    }
+}
@@ -0,0 +1,122 @@
+package com.bank.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes the results of a run:
+ * <ul>
+ *   <li>{@code latency.hlog}: per-second interval histograms, one per operation (HdrHistogram log format)</li>
+ *   <li>{@code throughput.csv}: requests, errors and percentiles per second and operation</li>
+ *   <li>{@code <operation>.hgrm}: corrected percentile distribution over the whole run</li>
+ *   <li>{@code <operation>-uncorrected.hgrm}: the same, measured from the actual send time</li>
+ *   <li>{@code summary.txt}: the table printed at the end of the run</li>
+ * </ul>
+ * Latencies are stored in microseconds and reported in milliseconds.
+ */
+public final class ResultWriter implements AutoCloseable {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final Path runDir;
+    private PrintStream hlog;
+    private HistogramLogWriter hlogWriter;
+    private PrintStream throughput;
+    private long startMillis;
+
+    public ResultWriter(Path runDir) {
+        this.runDir = runDir;
+    }
+
+    void start(Collection<Operation> operations) {
+        try {
+            startMillis = System.currentTimeMillis();
+            hlog = new PrintStream(Files.newOutputStream(runDir.resolve("latency.hlog")), false);
+            hlogWriter = new HistogramLogWriter(hlog);
+            hlogWriter.outputLogFormatVersion();
+            hlogWriter.outputComment("operations: " + operations);
+            hlogWriter.outputStartTime(startMillis);
+            hlogWriter.setBaseTime(startMillis);
+            hlogWriter.outputBaseTime(startMillis);
+            hlogWriter.outputLegend();
+
+            throughput = new PrintStream(Files.newOutputStream(runDir.resolve("throughput.csv")), false);
+            throughput.println("elapsed_s,operation,requests,errors,p50_ms,p99_ms,max_ms");
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot create result files in " + runDir, e);
+        }
+    }
+
+    synchronized void writeInterval(Map<Operation, OperationStats> stats) {
+        long elapsedSeconds = Math.round((System.currentTimeMillis() - startMillis) / 1000.0);
+        for (OperationStats operationStats : stats.values()) {
+            OperationStats.Interval interval = operationStats.drainInterval();
+            Histogram latency = interval.latency();
+            hlogWriter.outputIntervalHistogram(latency);
+            throughput.printf(Locale.ROOT, "%d,%s,%d,%d,%.3f,%.3f,%.3f%n",
+                    elapsedSeconds,
+                    operationStats.operation().key(),
+                    latency.getTotalCount(),
+                    interval.errors(),
+                    latency.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                    latency.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                    latency.getMaxValue() / MICROS_PER_MILLI);
+        }
+        throughput.flush();
+        hlog.flush();
+    }
+
+    void writeSummary(Map<Operation, OperationStats> stats, double targetRate, long durationSeconds) throws IOException {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format(Locale.ROOT, "Target rate: %.1f req/s, measured for %d s%n%n", targetRate, durationSeconds));
+        summary.append(String.format(Locale.ROOT, "%-16s %10s %9s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "requests", "req/s", "errors", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "p99 raw"));
+
+        for (OperationStats operationStats : stats.values()) {
+            Histogram corrected = operationStats.totalCorrected();
+            Histogram uncorrected = operationStats.totalService();
+            summary.append(String.format(Locale.ROOT, "%-16s %10d %9.1f %8.2f%% %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    operationStats.operation().key(),
+                    operationStats.totalRequests(),
+                    (double) operationStats.totalRequests() / Math.max(1, durationSeconds),
+                    operationStats.errorRate() * 100,
+                    corrected.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                    corrected.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                    corrected.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                    corrected.getMaxValue() / MICROS_PER_MILLI,
+                    uncorrected.getValueAtPercentile(99) / MICROS_PER_MILLI));
+
+            writeDistribution(runDir.resolve(operationStats.operation().key() + ".hgrm"), corrected);
+            writeDistribution(runDir.resolve(operationStats.operation().key() + "-uncorrected.hgrm"), uncorrected);
+        }
+        summary.append("\n'p99 raw' is measured from the actual send time and ignores coordinated omission; shown for comparison only.\n");
+
+        Files.writeString(runDir.resolve("summary.txt"), summary);
+        System.out.println();
+        System.out.print(summary);
+    }
+
+    private static void writeDistribution(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), false)) {
+            histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (hlog != null) {
+            hlog.close();
+        }
+        if (throughput != null) {
+            throughput.close();
+        }
+    }
+}
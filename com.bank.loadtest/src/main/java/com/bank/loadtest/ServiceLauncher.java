@@ -0,0 +1,128 @@
+package com.bank.loadtest;
+
+import com.bank.loadtest.stub.CustomerServiceStub;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the services as child processes with the load-test profile and waits until they report healthy.
+ */
+public final class ServiceLauncher implements AutoCloseable {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(500);
+
+    private final LoadTestConfig config;
+    private final Path logDir;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+    private final List<Process> processes = new ArrayList<>();
+    private CustomerServiceStub customerStub;
+
+    public ServiceLauncher(LoadTestConfig config, Path logDir) {
+        this.config = config;
+        this.logDir = logDir;
+    }
+
+    /**
+     * Starts the customer-service stub when configured, and the service jars when {@code loadtest.boot-services} is true.
+     */
+    public void start() throws IOException, InterruptedException {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close));
+
+        if (config.customerStub()) {
+            customerStub = CustomerServiceStub.start(URI.create(config.customerUrl()).getPort(), config.stubProperties());
+        }
+        if (!config.bootServices()) {
+            return;
+        }
+        if (!config.customerStub()) {
+            start("customer-service", config.customerJar(), config.customerUrl());
+        }
+        awaitHealthy("customer-service", config.customerUrl());
+
+        start("account-service", config.accountJar(), config.accountUrl(),
+                "--services.customer.base-url=" + config.customerUrl());
+        awaitHealthy("account-service", config.accountUrl());
+    }
+
+    private void start(String name, Path jar, String url, String... extraArgs) throws IOException {
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException("Jar for " + name + " not found at " + jar.toAbsolutePath()
+                    + ". Build it with './gradlew bootJar -Ploadtest' in the service directory.");
+        }
+        List<String> command = new ArrayList<>(List.of(
+                javaExecutable(), "-jar", jar.toString(),
+                "--spring.profiles.active=" + config.serviceProfile(),
+                "--server.port=" + URI.create(url).getPort()));
+        command.addAll(List.of(extraArgs));
+
+        Path log = logDir.resolve(name + ".log");
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        processes.add(process);
+        System.out.printf("Started %s (pid %d), log: %s%n", name, process.pid(), log);
+    }
+
+    private void awaitHealthy(String name, String baseUrl) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health"))
+                .timeout(Duration.ofSeconds(2))
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + config.startupTimeout().toNanos();
+        while (System.nanoTime() < deadline) {
+            if (processes.stream().anyMatch(process -> !process.isAlive())) {
+                throw new IllegalStateException(name + " exited during startup, see " + logDir);
+            }
+            try {
+                if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    System.out.printf("%s is healthy at %s%n", name, baseUrl);
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(POLL_INTERVAL.toMillis());
+        }
+        throw new IllegalStateException(name + " did not become healthy within " + config.startupTimeout());
+    }
+
+    private static String javaExecutable() {
+        return ProcessHandle.current().info().command().orElse("java");
+    }
+
+    @Override
+    public void close() {
+        if (customerStub != null) {
+            customerStub.close();
+            customerStub = null;
+        }
+        for (int i = processes.size() - 1; i >= 0; i--) {
+            Process process = processes.get(i);
+            if (process.isAlive()) {
+                process.destroy();
+                try {
+                    if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                        process.destroyForcibly();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    process.destroyForcibly();
+                }
+            }
+        }
+        processes.clear();
+    }
+}
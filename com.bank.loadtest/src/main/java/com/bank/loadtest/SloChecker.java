@@ -0,0 +1,74 @@
+package com.bank.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares the corrected latency and error rate of each operation against the configured SLOs.
+ */
+public final class SloChecker {
+
+    private static final Map<String, Double> PERCENTILES = Map.of(
+            "p50", 50.0,
+            "p99", 99.0,
+            "p999", 99.9);
+
+    private final LoadTestConfig config;
+
+    public SloChecker(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * @return true when every configured SLO is met
+     */
+    public boolean check(Map<Operation, OperationStats> stats, Path runDir) throws IOException {
+        List<String> lines = new ArrayList<>();
+        boolean passed = true;
+
+        for (OperationStats operationStats : stats.values()) {
+            Operation operation = operationStats.operation();
+            Histogram latency = operationStats.totalCorrected();
+
+            for (Map.Entry<String, Double> percentile : PERCENTILES.entrySet()) {
+                String limit = config.slo(operation, percentile.getKey());
+                if (limit == null) {
+                    continue;
+                }
+                Duration threshold = LoadTestConfig.parseDuration(limit);
+                long actualMicros = latency.getValueAtPercentile(percentile.getValue());
+                double actualMillis = actualMicros / 1000.0;
+                // HdrHistogram reports the highest value of the sample's bucket: compare the lowest, so a
+                // latency exactly at the limit passes
+                boolean ok = operationStats.totalRequests() > 0
+                        && latency.lowestEquivalentValue(actualMicros) <= threshold.toNanos() / 1_000;
+                passed &= ok;
+                lines.add(String.format(Locale.ROOT, "%-4s %-16s %-15s actual %9.2f ms, limit %d ms",
+                        ok ? "PASS" : "FAIL", operation.key(), percentile.getKey(), actualMillis, threshold.toMillis()));
+            }
+
+            String maxErrorRate = config.slo(operation, "max-error-rate");
+            if (maxErrorRate != null) {
+                double limit = Double.parseDouble(maxErrorRate);
+                boolean ok = operationStats.totalRequests() > 0 && operationStats.errorRate() <= limit;
+                passed &= ok;
+                lines.add(String.format(Locale.ROOT, "%-4s %-16s %-15s actual %8.4f, limit %.4f",
+                        ok ? "PASS" : "FAIL", operation.key(), "error-rate", operationStats.errorRate(), limit));
+            }
+        }
+
+        lines.add(passed ? "SLOs met" : "SLOs violated");
+        Files.write(runDir.resolve("slo.txt"), lines);
+        System.out.println();
+        lines.forEach(System.out::println);
+        return passed;
+    }
+}
@@ -0,0 +1,12 @@
+package com.bank.loadtest;
+
+import java.util.List;
+
+/**
+ * Accounts created by {@link DataSeeder} that the workload operates on.
+ */
+public record TestData(List<SeededAccount> accounts) {
+
+    public record SeededAccount(long id, String accountNumber, long customerId) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.bank.loadtest;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Builds the next request of the mix. Seeded, so two runs with the same configuration issue the same sequence.
+ * Only called from the scheduling thread.
+ */
+public final class Workload {
+
+    private final LoadTestConfig config;
+    private final TestData data;
+    private final SplittableRandom random;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+    private final String reportWindow;
+
+    public Workload(LoadTestConfig config, TestData data) {
+        this.config = config;
+        this.data = data;
+        this.random = new SplittableRandom(config.randomSeed());
+
+        Map<Operation, Integer> mix = config.mix();
+        this.operations = mix.keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += mix.get(operations[i]);
+            cumulativeWeights[i] = sum;
+        }
+        this.totalWeight = sum;
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        this.reportWindow = "&startDate=" + now.minusDays(1) + "&endDate=" + now.plusDays(1);
+    }
+
+    public Operation nextOperation() {
+        int pick = random.nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    public HttpRequest request(Operation operation) {
+        TestData.SeededAccount account = data.accounts().get(random.nextInt(data.accounts().size()));
+        return switch (operation) {
+            case MOVEMENT -> {
+                // Credits outweigh debits so balances never run out during long runs
+                long cents = random.nextInt(1, 10_000) * (random.nextInt(3) == 0 ? -1L : 1L);
+                String body = "{\"accountId\":" + account.id()
+                        + ",\"amount\":" + BigDecimal.valueOf(cents, 2).toPlainString() + "}";
+                yield builder(config.accountUrl() + "/api/v1/movements")
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build();
+            }
+            case TRANSFER -> {
+                TestData.SeededAccount[] pair = transferPair();
+                long cents = random.nextInt(1, 10_000);
+                String body = "{\"sourceAccountId\":" + pair[0].id()
+                        + ",\"targetAccountId\":" + pair[1].id()
+                        + ",\"amount\":" + BigDecimal.valueOf(cents, 2).toPlainString() + "}";
+                yield builder(config.accountUrl() + "/api/v1/transfers")
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build();
+            }
+            case ACCOUNT_SEARCH -> builder(config.accountUrl() + "/api/v1/accounts/search?accountNumber="
+                    + URLEncoder.encode(account.accountNumber(), StandardCharsets.UTF_8))
+                    .GET()
+                    .build();
+            case REPORT -> builder(config.accountUrl() + "/api/v1/reports?accountNumber="
+                    + account.accountNumber() + reportWindow)
+                    .GET()
+                    .build();
+        };
+    }
+
+    /**
+     * Two distinct accounts among the hot set (or all seeded accounts), in random direction.
+     */
+    private TestData.SeededAccount[] transferPair() {
+        int hot = config.transferHotAccounts();
+        int candidates = hot > 0 ? Math.min(Math.max(2, hot), data.accounts().size()) : data.accounts().size();
+        int source = random.nextInt(candidates);
+        int target = (source + random.nextInt(1, candidates)) % candidates;
+        return new TestData.SeededAccount[]{data.accounts().get(source), data.accounts().get(target)};
+    }
+
+    private HttpRequest.Builder builder(String url) {
+        Duration timeout = config.requestTimeout();
+        return HttpRequest.newBuilder(URI.create(url)).timeout(timeout);
+    }
+}
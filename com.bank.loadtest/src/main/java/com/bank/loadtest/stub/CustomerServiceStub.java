@@ -0,0 +1,244 @@
+package com.bank.loadtest.stub;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Stand-in for customer-service implementing the contract used by account-service's
+ * {@code CustomerClientAdapter}:
+ * <ul>
+ *   <li>{@code GET  /api/v1/customers/{id}}</li>
+ *   <li>{@code POST /api/v1/customers/batch}</li>
+ *   <li>{@code GET  /actuator/health}</li>
+ * </ul>
+ * Latency, injected errors and brownouts follow a {@link StubProfile} that can be replaced at runtime:
+ * <ul>
+ *   <li>{@code GET /__stub/profile} returns the active settings</li>
+ *   <li>{@code PUT /__stub/profile} merges the {@code stub.*} properties in the request body</li>
+ *   <li>{@code GET /__stub/stats} returns request, error and brownout counters</li>
+ * </ul>
+ * Random draws come from a single seeded generator, so a run with the same seed and request
+ * order sees the same delays and failures. Each request is handled on its own virtual thread,
+ * so slow responses never limit the stub's concurrency.
+ */
+public final class CustomerServiceStub implements AutoCloseable {
+
+    private static final Pattern CUSTOMER_PATH = Pattern.compile("^/api/v1/customers/(\\d+)$");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final SplittableRandom random;
+    private final long startNanos = System.nanoTime();
+
+    private final Properties settings;
+    private volatile StubProfile profile;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder injectedErrors = new LongAdder();
+    private final LongAdder notFound = new LongAdder();
+    private final LongAdder brownoutRequests = new LongAdder();
+
+    private CustomerServiceStub(Properties settings, int port) throws IOException {
+        this.settings = settings;
+        this.profile = StubProfile.from(settings);
+        this.random = new SplittableRandom(Long.parseLong(settings.getProperty("stub.seed", "42").trim()));
+
+        this.server = HttpServer.create(new InetSocketAddress(port), 1024);
+        server.setExecutor(executor);
+        server.createContext("/api/v1/customers", this::handleCustomers);
+        server.createContext("/actuator/health", exchange -> respond(exchange, 200, "{\"status\":\"UP\"}"));
+        server.createContext("/__stub/profile", this::handleProfile);
+        server.createContext("/__stub/stats", this::handleStats);
+    }
+
+    /**
+     * Starts the stub on the given port with the defaults from {@code customer-stub.properties}
+     * overridden by {@code overrides}.
+     */
+    public static CustomerServiceStub start(int port, Properties overrides) throws IOException {
+        Properties settings = defaults();
+        settings.putAll(overrides);
+        CustomerServiceStub stub = new CustomerServiceStub(settings, port);
+        stub.server.start();
+        System.out.printf("Customer-service stub listening on port %d with %s%n", port, stub.profile);
+        return stub;
+    }
+
+    private void handleCustomers(HttpExchange exchange) throws IOException {
+        requests.increment();
+        String path = exchange.getRequestURI().getPath();
+        String method = exchange.getRequestMethod();
+
+        StubProfile current = profile;
+        SplittableRandom requestRandom = nextRandom();
+        boolean brownout = current.inBrownout(System.nanoTime() - startNanos);
+        if (brownout) {
+            brownoutRequests.increment();
+        }
+
+        sleepNanos((brownout ? current.brownoutLatency() : current.latency()).sampleNanos(requestRandom));
+        if (requestRandom.nextDouble() < (brownout ? current.brownoutErrorRate() : current.errorRate())) {
+            injectedErrors.increment();
+            respond(exchange, current.errorStatus(), "{\"message\":\"Injected failure\"}");
+            return;
+        }
+
+        Matcher matcher = CUSTOMER_PATH.matcher(path);
+        if ("GET".equals(method) && matcher.matches()) {
+            long id = Long.parseLong(matcher.group(1));
+            if (!exists(current, id)) {
+                notFound.increment();
+                respond(exchange, 404, "{\"message\":\"Customer not found with id: " + id + "\"}");
+                return;
+            }
+            respond(exchange, 200, objectMapper.writeValueAsString(customer(id)));
+        } else if ("POST".equals(method) && path.equals("/api/v1/customers/batch")) {
+            long[] ids;
+            try (InputStream body = exchange.getRequestBody()) {
+                ids = objectMapper.readValue(body, long[].class);
+            }
+            ArrayNode found = objectMapper.createArrayNode();
+            for (long id : ids) {
+                if (exists(current, id)) {
+                    found.add(customer(id));
+                }
+            }
+            respond(exchange, 200, objectMapper.writeValueAsString(found));
+        } else {
+            respond(exchange, 404, "{\"message\":\"Not supported by the stub: " + method + " " + path + "\"}");
+        }
+    }
+
+    private void handleProfile(HttpExchange exchange) throws IOException {
+        if ("PUT".equals(exchange.getRequestMethod())) {
+            Properties update = new Properties();
+            try (Reader body = new StringReader(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8))) {
+                update.load(body);
+            }
+            synchronized (settings) {
+                Properties merged = new Properties();
+                merged.putAll(settings);
+                merged.putAll(update);
+                try {
+                    profile = StubProfile.from(merged);
+                } catch (IllegalArgumentException e) {
+                    respond(exchange, 400, "{\"message\":\"" + e.getMessage().replace("\"", "'") + "\"}");
+                    return;
+                }
+                settings.putAll(update);
+            }
+            System.out.printf("Customer-service stub profile changed to %s%n", profile);
+        }
+        StringWriter current = new StringWriter();
+        synchronized (settings) {
+            settings.store(current, null);
+        }
+        exchange.getResponseHeaders().set("Content-Type", "text/plain");
+        byte[] body = current.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+
+    private void handleStats(HttpExchange exchange) throws IOException {
+        ObjectNode stats = objectMapper.createObjectNode()
+                .put("requests", requests.sum())
+                .put("injectedErrors", injectedErrors.sum())
+                .put("notFound", notFound.sum())
+                .put("brownoutRequests", brownoutRequests.sum());
+        respond(exchange, 200, objectMapper.writeValueAsString(stats));
+    }
+
+    private ObjectNode customer(long id) {
+        return objectMapper.createObjectNode()
+                .put("customerId", id)
+                .put("name", "Stub Customer " + id)
+                .put("status", true);
+    }
+
+    private static boolean exists(StubProfile profile, long id) {
+        return id >= 1 && id <= profile.customers();
+    }
+
+    private SplittableRandom nextRandom() {
+        synchronized (random) {
+            return random.split();
+        }
+    }
+
+    private static void sleepNanos(long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+
+    private static Properties defaults() throws IOException {
+        Properties properties = new Properties();
+        try (InputStream defaults = CustomerServiceStub.class.getResourceAsStream("/customer-stub.properties")) {
+            if (defaults != null) {
+                properties.load(defaults);
+            }
+        }
+        return properties;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Runs the stub standalone: {@code ./gradlew runCustomerStub [-Dstub.latency=...] [--args=<file.properties>]}.
+     */
+    public static void main(String[] args) throws IOException {
+        Properties overrides = new Properties();
+        if (args.length > 0) {
+            try (Reader reader = Files.newBufferedReader(Path.of(args[0]))) {
+                overrides.load(reader);
+            }
+        }
+        System.getProperties().forEach((key, value) -> {
+            if (key.toString().startsWith("stub.")) {
+                overrides.setProperty(key.toString(), value.toString());
+            }
+        });
+        int port = Integer.parseInt(overrides.getProperty("stub.port", defaults().getProperty("stub.port", "8080")).trim());
+        CustomerServiceStub stub = start(port, overrides);
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::close));
+    }
+}
@@ -0,0 +1,112 @@
+package com.bank.loadtest.stub;
+
+import com.bank.loadtest.LoadTestConfig;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Response delay of the stub. Written in configuration as {@code <type>:<param>=<value>,...}:
+ * <ul>
+ *   <li>{@code none}</li>
+ *   <li>{@code fixed:20ms}</li>
+ *   <li>{@code uniform:min=5ms,max=50ms}</li>
+ *   <li>{@code lognormal:median=20ms,sigma=0.8} - typical service latency with a long right tail</li>
+ *   <li>{@code pareto:scale=10ms,shape=1.5,max=10s} - heavy tail, occasional very slow calls</li>
+ * </ul>
+ */
+public sealed interface LatencyDistribution {
+
+    long sampleNanos(RandomGenerator random);
+
+    static LatencyDistribution parse(String spec) {
+        String trimmed = spec.trim();
+        int colon = trimmed.indexOf(':');
+        String type = colon < 0 ? trimmed : trimmed.substring(0, colon);
+        String args = colon < 0 ? "" : trimmed.substring(colon + 1);
+
+        return switch (type) {
+            case "none" -> new Fixed(0);
+            case "fixed" -> new Fixed(nanos(args));
+            case "uniform" -> {
+                Map<String, String> params = params(args);
+                yield new Uniform(nanos(required(params, "min", spec)), nanos(required(params, "max", spec)));
+            }
+            case "lognormal" -> {
+                Map<String, String> params = params(args);
+                yield new LogNormal(nanos(required(params, "median", spec)), Double.parseDouble(required(params, "sigma", spec)));
+            }
+            case "pareto" -> {
+                Map<String, String> params = params(args);
+                yield new Pareto(nanos(required(params, "scale", spec)), Double.parseDouble(required(params, "shape", spec)),
+                        nanos(params.getOrDefault("max", "30s")));
+            }
+            default -> throw new IllegalArgumentException("Unknown latency distribution: " + spec);
+        };
+    }
+
+    record Fixed(long nanos) implements LatencyDistribution {
+        @Override
+        public long sampleNanos(RandomGenerator random) {
+            return nanos;
+        }
+    }
+
+    record Uniform(long minNanos, long maxNanos) implements LatencyDistribution {
+        @Override
+        public long sampleNanos(RandomGenerator random) {
+            return maxNanos <= minNanos ? minNanos : random.nextLong(minNanos, maxNanos);
+        }
+    }
+
+    record LogNormal(long medianNanos, double sigma) implements LatencyDistribution {
+        public LogNormal {
+            if (!(sigma >= 0.0)) {
+                throw new IllegalArgumentException("lognormal sigma must not be negative but was: " + sigma);
+            }
+        }
+
+        @Override
+        public long sampleNanos(RandomGenerator random) {
+            return (long) (medianNanos * Math.exp(sigma * random.nextGaussian()));
+        }
+    }
+
+    record Pareto(long scaleNanos, double shape, long maxNanos) implements LatencyDistribution {
+        public Pareto {
+            if (!(shape > 0.0)) {
+                throw new IllegalArgumentException("pareto shape must be positive but was: " + shape);
+            }
+        }
+
+        @Override
+        public long sampleNanos(RandomGenerator random) {
+            double uniform = 1.0 - random.nextDouble();
+            return (long) Math.min(maxNanos, scaleNanos / Math.pow(uniform, 1.0 / shape));
+        }
+    }
+
+    private static Map<String, String> params(String args) {
+        Map<String, String> params = new HashMap<>();
+        for (String pair : args.split(",")) {
+            int equals = pair.indexOf('=');
+            if (equals > 0) {
+                params.put(pair.substring(0, equals).trim(), pair.substring(equals + 1).trim());
+            }
+        }
+        return params;
+    }
+
+    private static String required(Map<String, String> params, String name, String spec) {
+        String value = params.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing '" + name + "' in latency distribution: " + spec);
+        }
+        return value;
+    }
+
+    private static long nanos(String duration) {
+        return LoadTestConfig.parseDuration(duration).toNanos();
+    }
+}
@@ -0,0 +1,80 @@
+package com.bank.loadtest.stub;
+
+import com.bank.loadtest.LoadTestConfig;
+
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * Behaviour of the customer-service stub. All keys are optional and fall back to a fast, healthy stub.
+ *
+ * @param customers     ids {@code 1..customers} exist; any other id answers 404
+ * @param latency       delay applied to every response outside a brownout
+ * @param errorRate     share of requests answered with {@code errorStatus} outside a brownout
+ * @param errorStatus   HTTP status returned for injected errors
+ * @param brownoutEvery period of the brownout cycle
+ * @param brownoutFor   length of the brownout at the start of each cycle; zero disables brownouts
+ * @param brownoutLatency   delay applied during a brownout
+ * @param brownoutErrorRate share of requests failed during a brownout
+ */
+public record StubProfile(
+        long customers,
+        LatencyDistribution latency,
+        double errorRate,
+        int errorStatus,
+        Duration brownoutEvery,
+        Duration brownoutFor,
+        LatencyDistribution brownoutLatency,
+        double brownoutErrorRate) {
+
+    /**
+     * Rejects settings the stub cannot honour, at bind time instead of on the first request (also for
+     * profiles changed at runtime, which then answer 400 and keep the previous profile).
+     */
+    public StubProfile {
+        if (customers < 0) {
+            throw new IllegalArgumentException("stub.customers must not be negative but was: " + customers);
+        }
+        requireRate("stub.error-rate", errorRate);
+        requireRate("stub.brownout.error-rate", brownoutErrorRate);
+        if (errorStatus < 100 || errorStatus > 599) {
+            throw new IllegalArgumentException("stub.error-status must be an HTTP status but was: " + errorStatus);
+        }
+        if (brownoutFor.isNegative()) {
+            throw new IllegalArgumentException("stub.brownout.duration must not be negative but was: " + brownoutFor);
+        }
+        if (!brownoutFor.isZero() && (brownoutEvery.isZero() || brownoutEvery.isNegative())) {
+            throw new IllegalArgumentException("stub.brownout.every must be positive when brownouts are enabled but was: "
+                    + brownoutEvery);
+        }
+        if (!brownoutFor.isZero() && brownoutFor.compareTo(brownoutEvery) > 0) {
+            throw new IllegalArgumentException("stub.brownout.duration (" + brownoutFor
+                    + ") must not exceed stub.brownout.every (" + brownoutEvery + ")");
+        }
+    }
+
+    public static StubProfile from(Properties properties) {
+        return new StubProfile(
+                Long.parseLong(properties.getProperty("stub.customers", "1000000").trim()),
+                LatencyDistribution.parse(properties.getProperty("stub.latency", "none")),
+                Double.parseDouble(properties.getProperty("stub.error-rate", "0").trim()),
+                Integer.parseInt(properties.getProperty("stub.error-status", "503").trim()),
+                LoadTestConfig.parseDuration(properties.getProperty("stub.brownout.every", "60s")),
+                LoadTestConfig.parseDuration(properties.getProperty("stub.brownout.duration", "0s")),
+                LatencyDistribution.parse(properties.getProperty("stub.brownout.latency", "none")),
+                Double.parseDouble(properties.getProperty("stub.brownout.error-rate", "0").trim()));
+    }
+
+    /**
+     * Whether the given time since stub start falls inside a brownout window.
+     */
+    public boolean inBrownout(long elapsedNanos) {
+        return !brownoutFor.isZero() && elapsedNanos % brownoutEvery.toNanos() < brownoutFor.toNanos();
+    }
+
+    private static void requireRate(String key, double rate) {
+        if (!(rate >= 0.0 && rate <= 1.0)) {
+            throw new IllegalArgumentException(key + " must be between 0 and 1 but was: " + rate);
+        }
+    }
+}
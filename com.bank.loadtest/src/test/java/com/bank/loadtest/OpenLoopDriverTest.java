@@ -0,0 +1,151 @@
+package com.bank.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the driver on a fake clock: parking advances it, and the fake sender can complete a
+ * response later or stall the sending thread itself.
+ */
+@DisplayName("OpenLoopDriver Unit Tests")
+class OpenLoopDriverTest {
+
+    private static final long MS = Duration.ofMillis(1).toNanos();
+    private static final long US = 1_000;
+
+    @TempDir
+    Path dir;
+
+    private final FakeTicker ticker = new FakeTicker();
+
+    @Test
+    @DisplayName("Should keep sending on schedule while a response is stalled and charge the stall to that request")
+    void shouldKeepScheduleWhileResponseStalls() throws Exception {
+        // Arrange: 10 req/s for 1 s; the first response arrives after 500 ms, the rest at once
+        List<Long> sendTimes = new ArrayList<>();
+        CompletableFuture<Integer> stalled = new CompletableFuture<>();
+        ticker.at(500 * MS, () -> stalled.complete(201));
+        OpenLoopDriver driver = driver(request -> {
+            sendTimes.add(ticker.nanoTime());
+            return sendTimes.size() == 1 ? stalled : CompletableFuture.completedFuture(201);
+        });
+
+        // Act
+        Map<Operation, OperationStats> stats = driver.run(Duration.ofSeconds(1), null);
+
+        // Assert
+        assertEquals(List.of(0L, 100 * MS, 200 * MS, 300 * MS, 400 * MS, 500 * MS, 600 * MS, 700 * MS, 800 * MS, 900 * MS),
+                sendTimes);
+        OperationStats movement = stats.get(Operation.MOVEMENT);
+        movement.drainInterval();
+        assertEquals(10, movement.totalRequests());
+        assertEquals(0, movement.totalErrors());
+        assertEquals(500 * MS / US, movement.totalCorrected().getMaxValue(), tolerance(movement.totalCorrected()));
+        assertEquals(1, countAtLeast(movement.totalCorrected(), 100 * MS));
+    }
+
+    @Test
+    @DisplayName("Should measure latency from the intended send time when the sender itself stalls")
+    void shouldCorrectForCoordinatedOmission() throws Exception {
+        // Arrange: sending the first request blocks the sender for 500 ms; requests 1 to 4 go out late
+        List<Long> sendTimes = new ArrayList<>();
+        OpenLoopDriver driver = driver(request -> {
+            sendTimes.add(ticker.nanoTime());
+            if (sendTimes.size() == 1) {
+                ticker.parkNanos(500 * MS);
+            }
+            return CompletableFuture.completedFuture(201);
+        });
+
+        // Act
+        Map<Operation, OperationStats> stats = driver.run(Duration.ofSeconds(1), null);
+
+        // Assert
+        assertEquals(List.of(0L, 500 * MS, 500 * MS, 500 * MS, 500 * MS, 500 * MS, 600 * MS, 700 * MS, 800 * MS, 900 * MS),
+                sendTimes);
+        OperationStats movement = stats.get(Operation.MOVEMENT);
+        movement.drainInterval();
+        Histogram corrected = movement.totalCorrected();
+        Histogram service = movement.totalService();
+        // Corrected: 500, 400, 300, 200 and 100 ms; from the actual send time only the first one is slow
+        assertEquals(5, countAtLeast(corrected, 100 * MS));
+        assertEquals(1, countAtLeast(service, 100 * MS));
+        assertEquals(300 * MS / US, corrected.getValueAtPercentile(80), tolerance(corrected));
+        assertEquals(500 * MS / US, corrected.getMaxValue(), tolerance(corrected));
+    }
+
+    @Test
+    @DisplayName("Should count unexpected statuses and failed sends as errors")
+    void shouldCountErrors() throws Exception {
+        // Arrange: one 503, then the last of the 10 requests fails to send
+        List<Integer> statuses = new ArrayList<>(List.of(201, 503, 201, 201, 201, 201, 201, 201, 201));
+        OpenLoopDriver driver = driver(request -> statuses.isEmpty()
+                ? CompletableFuture.failedFuture(new IOException("connection reset"))
+                : CompletableFuture.completedFuture(statuses.removeFirst()));
+
+        // Act
+        Map<Operation, OperationStats> stats = driver.run(Duration.ofSeconds(1), null);
+
+        // Assert
+        OperationStats movement = stats.get(Operation.MOVEMENT);
+        movement.drainInterval();
+        assertEquals(10, movement.totalRequests());
+        assertEquals(2, movement.totalErrors());
+    }
+
+    private OpenLoopDriver driver(OpenLoopDriver.Sender sender) throws IOException {
+        LoadTestConfig config = TestConfigs.config(dir,
+                "loadtest.rate", "10",
+                "loadtest.mix.transfer", "0",
+                "loadtest.mix.account-search", "0",
+                "loadtest.mix.report", "0");
+        TestData data = new TestData(List.of(new TestData.SeededAccount(1, "LT-1", 1)));
+        return new OpenLoopDriver(config, sender, ticker, new Workload(config, data));
+    }
+
+    private static long countAtLeast(Histogram histogram, long nanos) {
+        return histogram.getCountBetweenValues(nanos / US, histogram.getMaxValue());
+    }
+
+    private static long tolerance(Histogram histogram) {
+        return histogram.sizeOfEquivalentValueRange(histogram.getMaxValue());
+    }
+
+    /**
+     * Clock that only moves when parked, running the actions that fall due on the way.
+     */
+    private static final class FakeTicker implements OpenLoopDriver.Ticker {
+
+        private final List<Map.Entry<Long, Runnable>> actions = new ArrayList<>();
+        private long now;
+
+        void at(long nanos, Runnable action) {
+            actions.add(Map.entry(nanos, action));
+        }
+
+        @Override
+        public long nanoTime() {
+            return now;
+        }
+
+        @Override
+        public void parkNanos(long nanos) {
+            now += nanos;
+            List<Map.Entry<Long, Runnable>> due = actions.stream().filter(action -> action.getKey() <= now).toList();
+            actions.removeAll(due);
+            due.forEach(action -> action.getValue().run());
+        }
+    }
+}
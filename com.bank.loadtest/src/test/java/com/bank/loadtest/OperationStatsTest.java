@@ -0,0 +1,73 @@
+package com.bank.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("OperationStats Unit Tests")
+class OperationStatsTest {
+
+    private static final long US = 1_000;
+
+    @Test
+    @DisplayName("Should record both latencies in microseconds and report their percentiles")
+    void shouldRecordPercentiles() {
+        // Arrange: 10 µs .. 1000 µs corrected, half of that from the actual send time
+        OperationStats stats = new OperationStats(Operation.MOVEMENT);
+        for (int i = 1; i <= 100; i++) {
+            stats.record(i * 10 * US, i * 5 * US, false);
+        }
+
+        // Act
+        OperationStats.Interval interval = stats.drainInterval();
+
+        // Assert
+        assertEquals(100, interval.latency().getTotalCount());
+        assertEquals(500, interval.latency().getValueAtPercentile(50));
+        assertEquals(990, stats.totalCorrected().getValueAtPercentile(99));
+        assertEquals(1000, stats.totalCorrected().getMaxValue());
+        assertEquals(495, stats.totalService().getValueAtPercentile(99));
+        assertEquals("movement", interval.latency().getTag());
+    }
+
+    @Test
+    @DisplayName("Should record sub-microsecond latencies as 1 µs")
+    void shouldClampToOneMicrosecond() {
+        // Arrange
+        OperationStats stats = new OperationStats(Operation.REPORT);
+        stats.record(0, 400, false);
+
+        // Act
+        stats.drainInterval();
+
+        // Assert
+        assertEquals(1, stats.totalCorrected().getMinValue());
+        assertEquals(1, stats.totalService().getMinValue());
+    }
+
+    @Test
+    @DisplayName("Should start each interval empty and keep adding to the totals")
+    void shouldFoldIntervalsIntoTotals() {
+        // Arrange
+        OperationStats stats = new OperationStats(Operation.TRANSFER);
+        stats.record(100 * US, 100 * US, true);
+        stats.record(200 * US, 200 * US, false);
+        stats.drainInterval();
+        stats.record(300 * US, 300 * US, true);
+        stats.record(400 * US, 400 * US, false);
+
+        // Act
+        OperationStats.Interval second = stats.drainInterval();
+        OperationStats.Interval third = stats.drainInterval();
+
+        // Assert
+        assertEquals(2, second.latency().getTotalCount());
+        assertEquals(1, second.errors());
+        assertEquals(0, third.latency().getTotalCount());
+        assertEquals(0, third.errors());
+        assertEquals(4, stats.totalRequests());
+        assertEquals(2, stats.totalErrors());
+        assertEquals(0.5, stats.errorRate());
+    }
+}
@@ -0,0 +1,81 @@
+package com.bank.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ResultWriter Unit Tests")
+class ResultWriterTest {
+
+    private static final long US = 1_000;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Should write one throughput row and one log histogram per operation and interval")
+    void shouldWriteIntervals() throws IOException {
+        // Arrange
+        Map<Operation, OperationStats> stats = Map.of(Operation.MOVEMENT, stats());
+
+        // Act
+        try (ResultWriter writer = new ResultWriter(dir)) {
+            writer.start(stats.keySet());
+            writer.writeInterval(stats);
+        }
+
+        // Assert: latencies from 10 µs to 1 ms, one error
+        List<String> rows = Files.readAllLines(dir.resolve("throughput.csv"));
+        assertEquals("elapsed_s,operation,requests,errors,p50_ms,p99_ms,max_ms", rows.getFirst());
+        assertEquals(2, rows.size());
+        assertTrue(rows.get(1).endsWith(",movement,100,1,0.500,0.990,1.000"), rows.get(1));
+        Histogram logged = (Histogram) new HistogramLogReader(dir.resolve("latency.hlog").toString()).nextIntervalHistogram();
+        assertEquals(100, logged.getTotalCount());
+        assertEquals("movement", logged.getTag());
+    }
+
+    @Test
+    @DisplayName("Should summarise rate, error share and percentiles over the whole run")
+    void shouldWriteSummary() throws IOException {
+        // Arrange
+        Map<Operation, OperationStats> stats = Map.of(Operation.MOVEMENT, stats());
+        stats.get(Operation.MOVEMENT).drainInterval();
+
+        // Act
+        try (ResultWriter writer = new ResultWriter(dir)) {
+            writer.writeSummary(stats, 10.0, 10);
+        }
+
+        // Assert
+        List<String> summary = Files.readAllLines(dir.resolve("summary.txt"));
+        assertEquals("Target rate: 10.0 req/s, measured for 10 s", summary.getFirst());
+        String row = summary.stream().filter(line -> line.startsWith("movement")).findFirst().orElseThrow();
+        // operation, requests, req/s, errors, p50, p99, p99.9, max, p99 raw
+        assertEquals(List.of("movement", "100", "10.0", "1.00%", "0.50", "0.99", "1.00", "1.00", "0.20"),
+                List.of(row.trim().split("\\s+")));
+        assertTrue(Files.readString(dir.resolve("movement.hgrm")).contains("#[Max     =        1.000"));
+        assertTrue(Files.readString(dir.resolve("movement-uncorrected.hgrm")).contains("#[Max     =        0.200"));
+    }
+
+    /**
+     * 100 requests from 10 µs to 1 ms (2 µs to 200 µs from the actual send time), one failed.
+     */
+    private static OperationStats stats() {
+        OperationStats stats = new OperationStats(Operation.MOVEMENT);
+        for (int i = 1; i <= 100; i++) {
+            stats.record(i * 10 * US, i * 2 * US, i == 1);
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,92 @@
+package com.bank.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("SloChecker Unit Tests")
+class SloCheckerTest {
+
+    private static final long MS = Duration.ofMillis(1).toNanos();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Should pass a latency exactly at the limit")
+    void shouldPassLatencyAtLimit() throws IOException {
+        // Arrange
+        OperationStats stats = stats(100 * MS, 0);
+
+        // Act
+        boolean passed = checker().check(Map.of(Operation.MOVEMENT, stats), dir);
+
+        // Assert
+        assertTrue(passed);
+        assertTrue(Files.readAllLines(dir.resolve("slo.txt")).getFirst().startsWith("PASS movement         p99"));
+    }
+
+    @Test
+    @DisplayName("Should fail a latency just above the limit")
+    void shouldFailLatencyAboveLimit() throws IOException {
+        // Arrange
+        OperationStats stats = stats(101 * MS, 0);
+
+        // Act
+        boolean passed = checker().check(Map.of(Operation.MOVEMENT, stats), dir);
+
+        // Assert
+        assertFalse(passed);
+        List<String> lines = Files.readAllLines(dir.resolve("slo.txt"));
+        assertTrue(lines.getFirst().startsWith("FAIL movement         p99"));
+        assertEquals("SLOs violated", lines.getLast());
+    }
+
+    @Test
+    @DisplayName("Should pass an error rate equal to the limit and fail one above it")
+    void shouldCheckErrorRateAtLimit() throws IOException {
+        // Act & Assert: 1 and 2 errors out of 100 against a 1% limit
+        assertTrue(checker().check(Map.of(Operation.MOVEMENT, stats(10 * MS, 1)), dir));
+        assertFalse(checker().check(Map.of(Operation.MOVEMENT, stats(10 * MS, 2)), dir));
+    }
+
+    @Test
+    @DisplayName("Should fail an operation with an SLO but no requests")
+    void shouldFailWithoutRequests() throws IOException {
+        // Arrange
+        OperationStats stats = new OperationStats(Operation.MOVEMENT);
+        stats.drainInterval();
+
+        // Act & Assert
+        assertFalse(checker().check(Map.of(Operation.MOVEMENT, stats), dir));
+    }
+
+    private SloChecker checker() throws IOException {
+        return new SloChecker(TestConfigs.config(dir,
+                "loadtest.slo.movement.p99", "100ms",
+                "loadtest.slo.movement.max-error-rate", "0.01"));
+    }
+
+    /**
+     * 100 requests of the same latency, the first {@code errors} of them failed.
+     */
+    private static OperationStats stats(long latencyNanos, int errors) {
+        OperationStats stats = new OperationStats(Operation.MOVEMENT);
+        for (int i = 0; i < 100; i++) {
+            stats.record(latencyNanos, latencyNanos, i < errors);
+        }
+        stats.drainInterval();
+        return stats;
+    }
+}
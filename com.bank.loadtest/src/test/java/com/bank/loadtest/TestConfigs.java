@@ -0,0 +1,29 @@
+package com.bank.loadtest;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * Builds a {@link LoadTestConfig} from the classpath defaults plus the given overrides, through a
+ * properties file as the harness reads them.
+ */
+final class TestConfigs {
+
+    private TestConfigs() {
+    }
+
+    static LoadTestConfig config(Path dir, String... keyValues) throws IOException {
+        Properties overrides = new Properties();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            overrides.setProperty(keyValues[i], keyValues[i + 1]);
+        }
+        Path file = Files.createTempFile(dir, "loadtest", ".properties");
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            overrides.store(writer, null);
+        }
+        return LoadTestConfig.load(file.toString());
+    }
+}
@@ -0,0 +1,92 @@
+package com.bank.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@DisplayName("Workload Unit Tests")
+class WorkloadTest {
+
+    private static final int DRAWS = 100_000;
+
+    @TempDir
+    Path dir;
+
+    private final TestData data = new TestData(List.of(
+            new TestData.SeededAccount(1, "LT-1", 1),
+            new TestData.SeededAccount(2, "LT-2", 1),
+            new TestData.SeededAccount(3, "LT-3", 2)));
+
+    @Test
+    @DisplayName("Should draw each operation in proportion to its weight")
+    void shouldFollowMixProportions() throws IOException {
+        // Arrange: default mix, movement=70 transfer=10 account-search=15 report=5
+        Workload workload = new Workload(TestConfigs.config(dir), data);
+        Map<Operation, Integer> counts = new EnumMap<>(Operation.class);
+
+        // Act
+        for (int i = 0; i < DRAWS; i++) {
+            counts.merge(workload.nextOperation(), 1, Integer::sum);
+        }
+
+        // Assert: within one percentage point of the weight
+        assertEquals(0.70, share(counts, Operation.MOVEMENT), 0.01);
+        assertEquals(0.10, share(counts, Operation.TRANSFER), 0.01);
+        assertEquals(0.15, share(counts, Operation.ACCOUNT_SEARCH), 0.01);
+        assertEquals(0.05, share(counts, Operation.REPORT), 0.01);
+    }
+
+    @Test
+    @DisplayName("Should never draw an operation with weight 0")
+    void shouldSkipDisabledOperations() throws IOException {
+        // Arrange
+        Workload workload = new Workload(TestConfigs.config(dir,
+                "loadtest.mix.movement", "1",
+                "loadtest.mix.transfer", "0",
+                "loadtest.mix.account-search", "1",
+                "loadtest.mix.report", "0"), data);
+
+        // Act
+        List<Operation> drawn = IntStream.range(0, DRAWS).mapToObj(i -> workload.nextOperation()).toList();
+
+        // Assert
+        assertFalse(drawn.contains(Operation.TRANSFER));
+        assertFalse(drawn.contains(Operation.REPORT));
+        assertEquals(0.5, drawn.stream().filter(Operation.MOVEMENT::equals).count() / (double) DRAWS, 0.01);
+    }
+
+    @Test
+    @DisplayName("Should issue the same sequence for the same seed")
+    void shouldRepeatSequenceForSeed() throws IOException {
+        // Arrange
+        LoadTestConfig config = TestConfigs.config(dir);
+        Workload first = new Workload(config, data);
+        Workload second = new Workload(config, data);
+
+        // Act & Assert
+        for (int i = 0; i < 1_000; i++) {
+            Operation operation = first.nextOperation();
+            assertEquals(operation, second.nextOperation());
+            if (operation != Operation.REPORT) {
+                // The report window comes from the clock when the workload is built
+                assertEquals(first.request(operation).uri(), second.request(operation).uri());
+            } else {
+                assertEquals(first.request(operation).uri().getPath(), second.request(operation).uri().getPath());
+            }
+        }
+    }
+
+    private static double share(Map<Operation, Integer> counts, Operation operation) {
+        return counts.getOrDefault(operation, 0) / (double) DRAWS;
+    }
+}
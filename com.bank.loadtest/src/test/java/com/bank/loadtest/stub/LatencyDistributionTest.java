@@ -0,0 +1,124 @@
+package com.bank.loadtest.stub;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("LatencyDistribution Unit Tests")
+class LatencyDistributionTest {
+
+    private static final int SAMPLES = 20_000;
+    private static final long MS = Duration.ofMillis(1).toNanos();
+
+    @Test
+    @DisplayName("Should parse every supported distribution")
+    void shouldParseSpecs() {
+        assertEquals(new LatencyDistribution.Fixed(0), LatencyDistribution.parse("none"));
+        assertEquals(new LatencyDistribution.Fixed(20 * MS), LatencyDistribution.parse(" fixed:20ms "));
+        assertEquals(new LatencyDistribution.Uniform(5 * MS, 50 * MS),
+                LatencyDistribution.parse("uniform:min=5ms, max=50ms"));
+        assertEquals(new LatencyDistribution.LogNormal(20 * MS, 0.8),
+                LatencyDistribution.parse("lognormal:median=20ms,sigma=0.8"));
+        assertEquals(new LatencyDistribution.Pareto(10 * MS, 1.5, Duration.ofSeconds(10).toNanos()),
+                LatencyDistribution.parse("pareto:scale=10ms,shape=1.5,max=10s"));
+        assertEquals(new LatencyDistribution.Pareto(10 * MS, 1.5, Duration.ofSeconds(30).toNanos()),
+                LatencyDistribution.parse("pareto:scale=10ms,shape=1.5"));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown types, missing parameters and invalid shapes")
+    void shouldRejectInvalidSpecs() {
+        assertThrows(IllegalArgumentException.class, () -> LatencyDistribution.parse("gamma:k=2"));
+        assertThrows(IllegalArgumentException.class, () -> LatencyDistribution.parse("uniform:min=5ms"));
+        assertThrows(IllegalArgumentException.class, () -> LatencyDistribution.parse("lognormal:median=20ms"));
+        assertThrows(IllegalArgumentException.class, () -> LatencyDistribution.parse("lognormal:median=20ms,sigma=-1"));
+        assertThrows(IllegalArgumentException.class, () -> LatencyDistribution.parse("pareto:scale=10ms,shape=0"));
+    }
+
+    @Test
+    @DisplayName("Should always return the fixed delay")
+    void shouldSampleFixed() {
+        // Arrange
+        LatencyDistribution fixed = LatencyDistribution.parse("fixed:20ms");
+        RandomGenerator random = new SplittableRandom(42);
+
+        // Act & Assert
+        for (int i = 0; i < 100; i++) {
+            assertEquals(20 * MS, fixed.sampleNanos(random));
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep uniform samples within [min, max)")
+    void shouldSampleUniformWithinBounds() {
+        // Arrange
+        LatencyDistribution uniform = LatencyDistribution.parse("uniform:min=5ms,max=50ms");
+
+        // Act
+        long[] samples = sample(uniform);
+
+        // Assert
+        assertTrue(samples[0] >= 5 * MS, "min sample " + samples[0]);
+        assertTrue(samples[SAMPLES - 1] < 50 * MS, "max sample " + samples[SAMPLES - 1]);
+        assertNear(27.5 * MS, mean(samples), 0.05);
+    }
+
+    @Test
+    @DisplayName("Should center lognormal samples on the median with a long right tail")
+    void shouldSampleLogNormalAroundMedian() {
+        // Arrange
+        LatencyDistribution logNormal = LatencyDistribution.parse("lognormal:median=20ms,sigma=0.8");
+
+        // Act
+        long[] samples = sample(logNormal);
+
+        // Assert
+        assertNear(20 * MS, samples[SAMPLES / 2], 0.05);
+        // p99 de una lognormal: mediana * e^(2.326 * sigma) = unas 6.4 veces la mediana
+        assertNear(20 * MS * Math.exp(2.326 * 0.8), samples[(int) (SAMPLES * 0.99)], 0.15);
+        assertTrue(mean(samples) > samples[SAMPLES / 2], "mean must exceed the median");
+    }
+
+    @Test
+    @DisplayName("Should keep pareto samples between the scale and the cap")
+    void shouldSampleParetoWithinScaleAndCap() {
+        // Arrange
+        LatencyDistribution pareto = LatencyDistribution.parse("pareto:scale=10ms,shape=1.5,max=200ms");
+
+        // Act
+        long[] samples = sample(pareto);
+
+        // Assert
+        assertTrue(samples[0] >= 10 * MS, "min sample " + samples[0]);
+        assertEquals(200 * MS, samples[SAMPLES - 1]);
+        // Mediana de Pareto: scale * 2^(1/shape)
+        assertNear(10 * MS * Math.pow(2, 1 / 1.5), samples[SAMPLES / 2], 0.05);
+    }
+
+    private static long[] sample(LatencyDistribution distribution) {
+        RandomGenerator random = new SplittableRandom(42);
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = distribution.sampleNanos(random);
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private static double mean(long[] samples) {
+        return Arrays.stream(samples).average().orElseThrow();
+    }
+
+    private static void assertNear(double expected, double actual, double tolerance) {
+        assertTrue(Math.abs(actual - expected) <= expected * tolerance,
+                "expected " + expected + " within " + (tolerance * 100) + "% but was " + actual);
+    }
+}
@@ -0,0 +1,119 @@
+package com.bank.loadtest.stub;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("StubProfile Unit Tests")
+class StubProfileTest {
+
+    @Test
+    @DisplayName("Should fall back to a fast, healthy stub without properties")
+    void shouldUseDefaults() {
+        // Act
+        StubProfile profile = StubProfile.from(new Properties());
+
+        // Assert
+        assertEquals(1_000_000L, profile.customers());
+        assertEquals(new LatencyDistribution.Fixed(0), profile.latency());
+        assertEquals(0.0, profile.errorRate());
+        assertEquals(503, profile.errorStatus());
+        assertFalse(profile.inBrownout(0));
+        assertFalse(profile.inBrownout(Duration.ofMinutes(5).toNanos()));
+    }
+
+    @Test
+    @DisplayName("Should be in brownout during the first part of every cycle")
+    void shouldTimeBrownoutWindows() {
+        // Arrange
+        StubProfile profile = StubProfile.from(properties(
+                "stub.brownout.every", "60s",
+                "stub.brownout.duration", "10s",
+                "stub.brownout.latency", "fixed:2s"));
+
+        // Act & Assert
+        assertTrue(profile.inBrownout(0));
+        assertTrue(profile.inBrownout(Duration.ofSeconds(5).toNanos()));
+        assertFalse(profile.inBrownout(Duration.ofSeconds(10).toNanos()));
+        assertFalse(profile.inBrownout(Duration.ofSeconds(59).toNanos()));
+        assertTrue(profile.inBrownout(Duration.ofSeconds(65).toNanos()));
+        assertFalse(profile.inBrownout(Duration.ofSeconds(75).toNanos()));
+        assertInstanceOf(LatencyDistribution.Fixed.class, profile.brownoutLatency());
+    }
+
+    @Test
+    @DisplayName("Should be in brownout all the time when the brownout lasts the whole cycle")
+    void shouldAllowBrownoutCoveringTheCycle() {
+        // Arrange
+        StubProfile profile = StubProfile.from(properties(
+                "stub.brownout.every", "10s",
+                "stub.brownout.duration", "10s"));
+
+        // Act & Assert
+        assertTrue(profile.inBrownout(Duration.ofSeconds(9).toNanos()));
+        assertTrue(profile.inBrownout(Duration.ofSeconds(10).toNanos()));
+    }
+
+    @Test
+    @DisplayName("Should accept a zero period while brownouts are disabled")
+    void shouldAcceptZeroPeriodWithoutBrownouts() {
+        // Act
+        StubProfile profile = StubProfile.from(properties("stub.brownout.every", "0s"));
+
+        // Assert
+        assertFalse(profile.inBrownout(Duration.ofSeconds(1).toNanos()));
+    }
+
+    @Test
+    @DisplayName("Should reject a zero brownout period at bind time")
+    void shouldRejectZeroBrownoutPeriod() {
+        // Arrange
+        Properties properties = properties(
+                "stub.brownout.every", "0s",
+                "stub.brownout.duration", "5s");
+
+        // Act & Assert
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> StubProfile.from(properties));
+        assertTrue(error.getMessage().contains("stub.brownout.every"));
+    }
+
+    @Test
+    @DisplayName("Should reject a brownout longer than its cycle")
+    void shouldRejectBrownoutLongerThanCycle() {
+        assertThrows(IllegalArgumentException.class, () -> StubProfile.from(properties(
+                "stub.brownout.every", "10s",
+                "stub.brownout.duration", "20s")));
+    }
+
+    @Test
+    @DisplayName("Should reject error rates outside [0, 1] and unknown HTTP statuses")
+    void shouldRejectInvalidErrorSettings() {
+        assertThrows(IllegalArgumentException.class,
+                () -> StubProfile.from(properties("stub.error-rate", "1.5")));
+        assertThrows(IllegalArgumentException.class,
+                () -> StubProfile.from(properties("stub.brownout.error-rate", "-0.1")));
+        assertThrows(IllegalArgumentException.class,
+                () -> StubProfile.from(properties("stub.error-rate", "NaN")));
+        assertThrows(IllegalArgumentException.class,
+                () -> StubProfile.from(properties("stub.error-status", "42")));
+        assertThrows(IllegalArgumentException.class,
+                () -> StubProfile.from(properties("stub.customers", "-1")));
+    }
+
+    private static Properties properties(String... keyValues) {
+        Properties properties = new Properties();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            properties.setProperty(keyValues[i], keyValues[i + 1]);
+        }
+        return properties;
+    }
+}
@@ -32,12 +32,28 @@ CREATE TABLE IF NOT EXISTS accounts (
     account_type VARCHAR(20) NOT NULL,
     initial_balance NUMERIC(10, 2) NOT NULL,
     status BOOLEAN NOT NULL,
-    customer_id BIGINT NOT NULL
+    customer_id BIGINT NOT NULL,
+    -- Filas de account_balance_slots en las que se reparte el saldo (1 = sin repartir)
+    balance_slots INTEGER NOT NULL DEFAULT 1
 );
 
 -- Índices
 CREATE INDEX IF NOT EXISTS idx_account_customer_id ON accounts(customer_id);
 
+-- 1.1 Saldo repartido de cuentas con muchos créditos concurrentes
+-- Saldo de la cuenta = accounts.initial_balance + SUM(balance) de sus slots
+CREATE TABLE IF NOT EXISTS account_balance_slots (
+    account_id BIGINT NOT NULL,
+    slot INTEGER NOT NULL,
+    balance NUMERIC(10, 2) NOT NULL,
+    PRIMARY KEY (account_id, slot),
+
+    CONSTRAINT fk_balance_slot_account
+        FOREIGN KEY(account_id)
+        REFERENCES accounts(id)
+        ON DELETE CASCADE
+);
+
 ---
 
 -- 2. Tabla de Movimientos
@@ -66,6 +82,7 @@ CREATE TABLE IF NOT EXISTS ledger_entries (
     id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
     timestamp TIMESTAMP NOT NULL,
     movement_id BIGINT NOT NULL,
+    transfer_id VARCHAR(36),
     account_id BIGINT NOT NULL,
     entry_type VARCHAR(10) NOT NULL,
     amount NUMERIC(10, 2) NOT NULL,
@@ -77,4 +94,5 @@ CREATE TABLE IF NOT EXISTS ledger_entries (
 
 -- Índices optimizados para reportes (como se definen en la entidad)
 CREATE INDEX IF NOT EXISTS idx_ledger_account_timestamp ON ledger_entries(account_id, timestamp);
-CREATE INDEX IF NOT EXISTS idx_ledger_movement ON ledger_entries(movement_id);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS idx_ledger_movement ON ledger_entries(movement_id);
+CREATE INDEX IF NOT EXISTS idx_ledger_transfer ON ledger_entries(transfer_id);
@@ -0,0 +1,4 @@
+#!/bin/sh
+# Permite conexiones de replicación (pg_basebackup y streaming) desde la red de docker
+set -e
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"